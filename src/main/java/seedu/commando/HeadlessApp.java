@@ -0,0 +1,187 @@
+package seedu.commando;
+
+import com.google.common.eventbus.Subscribe;
+import seedu.commando.commons.core.Config;
+import seedu.commando.commons.core.EventsCenter;
+import seedu.commando.commons.core.LogsCenter;
+import seedu.commando.commons.events.logic.ExitAppRequestEvent;
+import seedu.commando.commons.exceptions.DataConversionException;
+import seedu.commando.commons.util.StringUtil;
+import seedu.commando.logic.Logic;
+import seedu.commando.logic.LogicManager;
+import seedu.commando.logic.commands.CommandResult;
+import seedu.commando.model.ModelManager;
+import seedu.commando.model.UserPrefs;
+import seedu.commando.model.todo.ReadOnlyToDoList;
+import seedu.commando.model.todo.ToDoList;
+import seedu.commando.storage.CheckpointedToDoListStorage;
+import seedu.commando.storage.JournaledToDoListStorage;
+import seedu.commando.storage.JsonUserPrefsStorage;
+import seedu.commando.storage.Storage;
+import seedu.commando.storage.StorageManager;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+//@@author A0139697H
+
+/**
+ * Entry point to run commands without the UI or JavaFX, e.g. from scripts and cron jobs.
+ * Reads one command per line from a script file, or from standard input if none is given,
+ * and prints the feedback of each command. Blank lines and lines starting with {@code #} are skipped.
+ *
+ * The to-do list is saved once at the end, and every {@code --checkpoint} commands if given,
+ * instead of after every command. Exits with status 1 if any command failed or the to-do list
+ * could not be read or saved.
+ */
+public class HeadlessApp {
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    static final String USAGE = "Usage: HeadlessApp [--checkpoint <commands between saves>] [script file]";
+    private static final String CHECKPOINT_OPTION = "--checkpoint";
+    private static final String COMMENT_PREFIX = "#";
+
+    private final Logic logic;
+    private final CheckpointedToDoListStorage toDoListStorage;
+    private final int checkpointInterval;
+
+    private boolean isExitRequested;
+
+    /**
+     * @param checkpointInterval number of commands between saves of the to-do list, or 0 to only save at the end
+     */
+    HeadlessApp(Logic logic, CheckpointedToDoListStorage toDoListStorage, int checkpointInterval) {
+        assert logic != null && toDoListStorage != null && checkpointInterval >= 0;
+
+        this.logic = logic;
+        this.toDoListStorage = toDoListStorage;
+        this.checkpointInterval = checkpointInterval;
+
+        EventsCenter.getInstance().registerHandler(this);
+    }
+
+    /**
+     * Runs the commands read from {@param reader} until it ends or an exit command,
+     * printing each command and its feedback to {@param out}, then saves the to-do list.
+     *
+     * @return number of commands with errors
+     * @throws IOException if there was any problem reading the commands or saving the to-do list
+     */
+    int run(BufferedReader reader, PrintStream out) throws IOException {
+        int commandsCount = 0;
+        int errorsCount = 0;
+
+        try {
+            String line;
+            while (!isExitRequested && (line = reader.readLine()) != null) {
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                CommandResult result = logic.execute(commandText);
+                commandsCount++;
+
+                out.println(">> " + commandText);
+                out.println(result.getFeedback());
+                if (result.hasError()) {
+                    errorsCount++;
+                }
+
+                if (checkpointInterval > 0 && commandsCount % checkpointInterval == 0) {
+                    toDoListStorage.checkpoint();
+                }
+            }
+        } finally {
+            logic.stop();
+            toDoListStorage.checkpoint();
+        }
+
+        logger.info("Ran " + commandsCount + " commands, " + errorsCount + " with errors");
+        return errorsCount;
+    }
+
+    @Subscribe
+    public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        isExitRequested = true;
+    }
+
+    public static void main(String[] args) {
+        int checkpointInterval = 0;
+        String scriptFilePath = null;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals(CHECKPOINT_OPTION) && i + 1 < args.length) {
+                    checkpointInterval = Integer.parseInt(args[++i]);
+                } else if (scriptFilePath == null && !args[i].startsWith("--")) {
+                    scriptFilePath = args[i];
+                } else {
+                    throw new IllegalArgumentException(args[i]);
+                }
+            }
+
+            if (checkpointInterval < 0) {
+                throw new IllegalArgumentException(String.valueOf(checkpointInterval));
+            }
+        } catch (IllegalArgumentException exception) {
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+
+        LogsCenter.init(Config.LogLevel);
+
+        CheckpointedToDoListStorage toDoListStorage =
+            new CheckpointedToDoListStorage(new JournaledToDoListStorage(Config.DefaultToDoListFilePath));
+        Storage storage = new StorageManager(toDoListStorage, new JsonUserPrefsStorage(Config.UserPrefsFilePath));
+
+        try (BufferedReader reader = scriptFilePath != null
+            ? Files.newBufferedReader(Paths.get(scriptFilePath), StandardCharsets.UTF_8)
+            : new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))) {
+
+            UserPrefs userPrefs = readUserPrefs(storage);
+            storage.setToDoListFilePath(userPrefs.getToDoListFilePath().getValue());
+
+            ModelManager model = new ModelManager(readToDoList(storage));
+            Logic logic = new LogicManager(model, storage, userPrefs);
+            int errorsCount = new HeadlessApp(logic, toDoListStorage, checkpointInterval).run(reader, System.out);
+
+            // The to-do list file path could have been changed
+            storage.saveUserPrefs(userPrefs);
+            System.exit(errorsCount > 0 ? 1 : 0);
+        } catch (IOException | DataConversionException exception) {
+            System.err.println("Failed: " + exception.getMessage());
+            logger.severe(StringUtil.getDetails(exception));
+            System.exit(1);
+        }
+    }
+
+    private static UserPrefs readUserPrefs(Storage storage) {
+        try {
+            return storage.readUserPrefs().orElse(new UserPrefs());
+        } catch (DataConversionException | IOException exception) {
+            logger.warning("Could not read user prefs file, using default user prefs: " + exception.getMessage());
+            return new UserPrefs();
+        }
+    }
+
+    /**
+     * Unlike when starting the UI, an unreadable to-do list file fails the run,
+     * as the to-do list saved at the end would overwrite it unattended.
+     */
+    private static ReadOnlyToDoList readToDoList(Storage storage) throws DataConversionException, IOException {
+        Optional<ReadOnlyToDoList> toDoList = storage.readToDoList();
+        if (!toDoList.isPresent()) {
+            logger.info("Data file not found. Will be starting with an empty to-do list");
+        }
+        return toDoList.orElse(new ToDoList());
+    }
+}
@@ -1,19 +1,24 @@
 package seedu.commando;
 
 import com.google.common.eventbus.Subscribe;
+import javafx.animation.AnimationTimer;
 import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.stage.Stage;
+import seedu.commando.api.HttpApi;
 import seedu.commando.commons.core.Config;
 import seedu.commando.commons.core.EventsCenter;
 import seedu.commando.commons.core.LogsCenter;
 import seedu.commando.commons.core.Version;
 import seedu.commando.commons.events.logic.ExitAppRequestEvent;
 import seedu.commando.commons.exceptions.DataConversionException;
+import seedu.commando.commons.util.FxViewUtil;
 import seedu.commando.commons.util.StringUtil;
 import seedu.commando.logic.Logic;
 import seedu.commando.logic.LogicManager;
 import seedu.commando.model.*;
+import seedu.commando.model.todo.ImmutableToDoList;
+import seedu.commando.model.todo.ReadOnlyToDo;
 import seedu.commando.model.todo.ReadOnlyToDoList;
 import seedu.commando.model.todo.ToDoList;
 import seedu.commando.storage.Storage;
@@ -21,9 +26,21 @@ import seedu.commando.storage.StorageManager;
 import seedu.commando.ui.Ui;
 import seedu.commando.ui.UiManager;
 
+import java.io.File;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 /**
  * The main entry point to the application.
@@ -31,6 +48,8 @@ import java.util.logging.Logger;
 public class MainApp extends Application {
     protected static final Logger logger = LogsCenter.getLogger(MainApp.class);
     private static final Version VERSION = new Version(1, 0, 0, true);
+    private static final String UNREADABLE_FILE_EXTENSION = ".unreadable";
+    private static final String API_PORT_PARAMETER = "api-port";
 
     protected String userPrefsFilePath = Config.UserPrefsFilePath;
 
@@ -39,6 +58,7 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected UserPrefs userPrefs;
+    protected HttpApi api;
 
     public MainApp() {}
 
@@ -54,16 +74,61 @@ public class MainApp extends Application {
 
         initLogging();
 
-        model = initModelManager(storage, userPrefs);
-
-        logic = new LogicManager(model, storage, userPrefs);
+        //@@author A0139697H
+        if (isLoadingProgressively()) {
+            // The to-do list is loaded in the background once the window is shown
+            model = new ModelManager();
+            logic = new LogicManager(model, storage, userPrefs, true, true);
+        } else {
+            model = initModelManager(storage, userPrefs);
+            logic = new LogicManager(model, storage, userPrefs, true);
+        }
+        //@@author
 
         ui = new UiManager(logic, userPrefs);
 
+        initApi();
         initEventsCenter();
     }
 
+    //@@author A0139697H
+    /**
+     * Starts the HTTP API if a port is given with {@code --api-port=<port>},
+     * writing the token requests need to {@link Config#ApiTokenFilePath}.
+     */
+    private void initApi() {
+        String port = getParameters() == null ? null : getParameters().getNamed().get(API_PORT_PARAMETER);
+        if (port == null) {
+            return;
+        }
+
+        try {
+            api = new HttpApi(logic, Integer.parseInt(port));
+            api.writeToken(new File(Config.ApiTokenFilePath));
+            api.start();
+            logger.info("HTTP API token written to " + Config.ApiTokenFilePath);
+        } catch (IOException | NumberFormatException exception) {
+            logger.warning("Failed to start HTTP API on port " + port + ": " + StringUtil.getDetails(exception));
+            if (api != null) {
+                api.stop();
+                api = null;
+            }
+        }
+    }
+
+    /**
+     * Returns whether the window is shown before the to-do list is loaded, see {@link #loadToDoListInBackground()}.
+     */
+    protected boolean isLoadingProgressively() {
+        return true;
+    }
+
     protected Model initModelManager(Storage storage, UserPrefs userPrefs) {
+        return new ModelManager(readInitialToDoList(storage, userPrefs));
+    }
+
+    //@@author
+    private ReadOnlyToDoList readInitialToDoList(Storage storage, UserPrefs userPrefs) {
         // Set to-do list storage file path to user pref's
         logger.info("Using to-do list file: " + userPrefs.getToDoListFilePath().getValue());
         storage.setToDoListFilePath(userPrefs.getToDoListFilePath().getValue());
@@ -79,13 +144,107 @@ public class MainApp extends Application {
             }
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty to-do list");
+            keepUnreadableToDoListFile(storage.getToDoListFilePath());
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty to-do list");
         }
 
-        return new ModelManager(initialToDoList);
+        return initialToDoList;
     }
 
+    //@@author A0139697H
+    /**
+     * Reads the to-do list on a background thread, then adds the to-dos shown in the default view to the model,
+     * so they are shown first, then the rest of them in batches of {@link Config#LoadBatchSize}.
+     * Each batch is added on the logic thread, waiting for the previous batch to be added.
+     * Commands entered meanwhile run once all to-dos are added.
+     * If any batch fails to be added, the to-do list partly loaded is not saved, and the file is kept aside.
+     */
+    private void loadToDoListInBackground() {
+        Thread loader = new Thread(() -> {
+            long startTime = System.nanoTime();
+            ReadOnlyToDoList toDoList = new ToDoList();
+            boolean isLoaded = false;
+
+            try {
+                toDoList = readInitialToDoList(storage, userPrefs);
+
+                // Same to-dos as shown in the default UNFINISHED filter mode
+                LocalDate today = LocalDate.now();
+                Map<Boolean, List<ReadOnlyToDo>> isShownToToDos = toDoList.getToDos().stream()
+                    .collect(Collectors.partitioningBy(toDo -> !toDo.isFinished()
+                        || toDo.getDateFinished().get().toLocalDate().isEqual(today)));
+
+                addLoadedToDosAndWait(isShownToToDos.get(true));
+                String upcomingToDos = isShownToToDos.get(true).size() + " upcoming to-dos";
+                Platform.runLater(() -> logTimeToRender(upcomingToDos));
+
+                List<ReadOnlyToDo> rest = isShownToToDos.get(false);
+                for (int i = 0; i < rest.size(); i += Config.LoadBatchSize) {
+                    addLoadedToDosAndWait(rest.subList(i, Math.min(rest.size(), i + Config.LoadBatchSize)));
+                }
+
+                isLoaded = true;
+            } catch (InterruptedException exception) {
+                logger.severe("Loading of to-do list interrupted");
+            } catch (RuntimeException exception) {
+                logger.severe("Failed to load to-do list: " + StringUtil.getDetails(exception));
+            } finally {
+                // Only a fully loaded to-do list is saved, otherwise the file is kept aside before it is changed
+                if (isLoaded) {
+                    logic.finishLoading();
+                    logger.info("Loaded " + toDoList.getToDos().size() + " to-dos in "
+                        + (System.nanoTime() - startTime) / 1000000 + "ms");
+                } else {
+                    keepUnreadableToDoListFile(storage.getToDoListFilePath());
+                    logic.abortLoading();
+                }
+            }
+        }, "To-do list loader");
+
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    private void addLoadedToDosAndWait(List<ReadOnlyToDo> toDos) throws InterruptedException {
+        try {
+            logic.addLoadedToDos(ImmutableToDoList.wrap(new ArrayList<>(toDos))).get();
+        } catch (ExecutionException exception) {
+            throw new RuntimeException(exception.getCause());
+        }
+    }
+
+    /**
+     * Logs the time since the application was launched, when the next frame is rendered.
+     */
+    private void logTimeToRender(String description) {
+        new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                stop();
+                long launchTime = ManagementFactory.getRuntimeMXBean().getStartTime();
+                logger.info("Time to first render of " + description + ": "
+                    + (System.currentTimeMillis() - launchTime) + "ms");
+            }
+        }.start();
+    }
+
+    /**
+     * Copies the to-do list file that could not be read or loaded aside, before it is overwritten
+     * by the empty or partly loaded to-do list.
+     */
+    private void keepUnreadableToDoListFile(String filePath) {
+        Path unreadableFile = Paths.get(filePath + UNREADABLE_FILE_EXTENSION);
+
+        try {
+            Files.copy(Paths.get(filePath), unreadableFile, StandardCopyOption.REPLACE_EXISTING);
+            logger.warning("Unreadable data file kept at " + unreadableFile);
+        } catch (IOException exception) {
+            logger.warning("Failed to keep unreadable data file: " + StringUtil.getDetails(exception));
+        }
+    }
+
+    //@@author
     protected void initLogging() {
         LogsCenter.init(Config.LogLevel);
     }
@@ -123,6 +282,14 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting " + Config.ApplicationTitle + " " + MainApp.VERSION);
         ui.start(primaryStage);
+
+        //@@author A0139697H
+        logTimeToRender("window");
+
+        if (isLoadingProgressively()) {
+            loadToDoListInBackground();
+        }
+        //@@author
     }
 
     public void saveUserPrefs() {
@@ -137,6 +304,12 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping " + Config.ApplicationTitle + " ] =============================");
         ui.stop();
+        //@@author A0139697H
+        if (api != null) {
+            api.stop();
+        }
+        //@@author
+        logic.stop();
         saveUserPrefs();
         Platform.exit();
         System.exit(0);
@@ -145,7 +318,8 @@ public class MainApp extends Application {
     @Subscribe
     public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        this.stop();
+        // Exit commands run on the logic thread, which stopping waits for
+        FxViewUtil.runOnFxThread(this::stop);
     }
 
     public static void main(String[] args) {
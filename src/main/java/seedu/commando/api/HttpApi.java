@@ -0,0 +1,358 @@
+package seedu.commando.api;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.google.common.io.BaseEncoding;
+import com.google.common.io.ByteStreams;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import seedu.commando.commons.core.LogsCenter;
+import seedu.commando.commons.util.FileUtil;
+import seedu.commando.commons.util.StringUtil;
+import seedu.commando.logic.Logic;
+import seedu.commando.logic.commands.CommandResult;
+import seedu.commando.model.ModelSnapshot;
+import seedu.commando.model.ui.UiToDo;
+import seedu.commando.storage.JsonToDoListExporter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+//@@author A0139697H
+
+/**
+ * HTTP API to a running instance, for scripts and tools, bound to the loopback address only.
+ * Responses are JSON, with the to-dos as in exported JSON files:
+ *
+ * - {@code POST /commands} with a command as the body runs it after the commands before it,
+ *   as if entered in the command box, e.g. {@code {"feedback": "...", "hasError": false}}
+ * - {@code GET /ui-todos?offset=0&limit=100} lists the UI to-dos shown, events then tasks, by their indices
+ * - {@code GET /todos} gets the whole to-do list
+ *
+ * Reads are from the latest {@link ModelSnapshot}, on the server's threads, concurrently with each other
+ * and with commands running. Each read response has the version of its snapshot as its {@code ETag}.
+ *
+ * Every request must have the random token of this launch as {@code Authorization: Bearer <token>},
+ * see {@link #writeToken(File)}. As binding to the loopback address does not stop web pages in a browser
+ * from sending requests, e.g. cross-origin {@code POST}s or through DNS rebinding, requests are also rejected
+ * if their {@code Host} is not the loopback address with the port, or if they have an {@code Origin}.
+ */
+public class HttpApi {
+    private static final Logger logger = LogsCenter.getLogger(HttpApi.class);
+
+    static final int THREADS_COUNT = 4;
+    static final int DEFAULT_LIMIT = 100;
+    static final int MAX_LIMIT = 1000;
+    static final String AUTHORIZATION_SCHEME = "Bearer ";
+    private static final int TOKEN_BYTES = 32;
+
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    private final Logic logic;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final String token;
+
+    // File the token was written to, deleted when stopped, null if not written
+    private File tokenFile;
+
+    /**
+     * Creates the server, without starting it.
+     *
+     * @param port port to listen on, or 0 for any free port, see {@link #getPort()}
+     * @throws IOException if the port cannot be bound
+     */
+    public HttpApi(Logic logic, int port) throws IOException {
+        assert logic != null;
+
+        this.logic = logic;
+        token = generateToken();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        executor = Executors.newFixedThreadPool(THREADS_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, "HTTP API");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        server.setExecutor(executor);
+        server.createContext("/commands", exchange -> handle(exchange, "POST", this::handleCommand));
+        server.createContext("/ui-todos", exchange -> handle(exchange, "GET", this::handleUiToDos));
+        server.createContext("/todos", exchange -> handle(exchange, "GET", this::handleToDos));
+    }
+
+    public void start() {
+        server.start();
+        logger.info("HTTP API listening on " + server.getAddress());
+    }
+
+    /**
+     * Stops the server, without waiting for requests being handled, e.g. commands still running,
+     * and deletes the file the token was written to, if any.
+     */
+    public void stop() {
+        server.stop(0);
+        executor.shutdown();
+
+        if (tokenFile != null && !tokenFile.delete()) {
+            logger.warning("Failed to delete HTTP API token file " + tokenFile);
+        }
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Gets the token requests must have, generated randomly for each instance.
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Writes the token to {@param file}, which only the user can read, for scripts and tools to use.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public void writeToken(File file) throws IOException {
+        FileUtil.createOwnerOnlyFile(file);
+        FileUtil.writeToFile(file, token);
+        tokenFile = file;
+    }
+
+    private static String generateToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(bytes);
+        return BaseEncoding.base16().lowerCase().encode(bytes);
+    }
+
+    private void handleCommand(HttpExchange exchange) throws IOException, HttpException {
+        String commandText = new String(ByteStreams.toByteArray(exchange.getRequestBody()), StandardCharsets.UTF_8)
+            .trim();
+
+        CommandResult result;
+        try {
+            result = logic.submit(commandText).get();
+        } catch (ExecutionException exception) {
+            throw new HttpException(500, "Command failed: " + exception.getCause());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new HttpException(503, "Interrupted while running command");
+        }
+
+        sendJson(exchange, json -> {
+            json.writeStartObject();
+            json.writeStringField("command", commandText);
+            json.writeStringField("feedback", result.getFeedback());
+            json.writeBooleanField("hasError", result.hasError());
+            json.writeEndObject();
+        });
+    }
+
+    private void handleUiToDos(HttpExchange exchange) throws IOException, HttpException {
+        Map<String, String> parameters = parseQuery(exchange.getRequestURI().getRawQuery());
+        int offset = parseIntParameter(parameters, "offset", 0, Integer.MAX_VALUE);
+        int limit = parseIntParameter(parameters, "limit", DEFAULT_LIMIT, MAX_LIMIT);
+
+        ModelSnapshot snapshot = logic.getSnapshot();
+        int total = snapshot.getUiToDosCount();
+        int end = (int) Math.min(total, (long) offset + limit);
+
+        exchange.getResponseHeaders().set("ETag", "\"" + snapshot.version + "\"");
+        sendJson(exchange, json -> {
+            json.writeStartObject();
+            json.writeNumberField("total", total);
+            json.writeNumberField("offset", offset);
+            json.writeArrayFieldStart("uiToDos");
+            for (int index = offset + 1; index <= end; index++) {
+                writeUiToDo(json, snapshot.getUiToDoAtIndex(index));
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+        });
+    }
+
+    private void handleToDos(HttpExchange exchange) throws IOException {
+        ModelSnapshot snapshot = logic.getSnapshot();
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        new JsonToDoListExporter().export(snapshot.toDoList, body);
+
+        exchange.getResponseHeaders().set("ETag", "\"" + snapshot.version + "\"");
+        sendJson(exchange, 200, body);
+    }
+
+    private static void writeUiToDo(JsonGenerator json, UiToDo uiToDo) throws IOException {
+        json.writeStartObject();
+        json.writeNumberField("index", uiToDo.getIndex());
+        json.writeBooleanField("isEvent", uiToDo.isEvent());
+        json.writeBooleanField("isNew", uiToDo.isNew());
+        json.writeFieldName("toDo");
+        JsonToDoListExporter.writeToDo(json, uiToDo);
+        json.writeEndObject();
+    }
+
+    //================================================================================
+    //  Requests and responses
+    //================================================================================
+
+    /**
+     * Handles a request to a context with {@param handler}, only for its exact path and {@param method},
+     * responding with the status and message of any {@link HttpException} thrown instead.
+     */
+    private void handle(HttpExchange exchange, String method, Handler handler) throws IOException {
+        try {
+            checkAccess(exchange);
+
+            if (!exchange.getRequestURI().getPath().equals(exchange.getHttpContext().getPath())) {
+                throw new HttpException(404, "Not found: " + exchange.getRequestURI().getPath());
+            }
+            if (!exchange.getRequestMethod().equals(method)) {
+                exchange.getResponseHeaders().set("Allow", method);
+                throw new HttpException(405, "Method not allowed: " + exchange.getRequestMethod());
+            }
+
+            handler.handle(exchange);
+        } catch (HttpException exception) {
+            sendJson(exchange, exception.status, json -> {
+                json.writeStartObject();
+                json.writeStringField("error", exception.getMessage());
+                json.writeEndObject();
+            });
+        } catch (IOException | RuntimeException exception) {
+            logger.warning("Failed to handle " + exchange.getRequestMethod() + " " + exchange.getRequestURI()
+                + ": " + StringUtil.getDetails(exception));
+            throw exception;
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Checks that a request is from a script or tool with the token, and not from a web page in a browser.
+     */
+    private void checkAccess(HttpExchange exchange) throws HttpException {
+        Headers headers = exchange.getRequestHeaders();
+
+        String host = headers.getFirst("Host");
+        int port = getPort();
+        if (host == null
+            || !(host.equals("127.0.0.1:" + port) || host.equals("localhost:" + port) || host.equals("[::1]:" + port))) {
+            throw new HttpException(403, "Host not allowed: " + host);
+        }
+
+        if (headers.containsKey("Origin")) {
+            throw new HttpException(403, "Requests from web pages are not allowed");
+        }
+
+        String authorization = headers.getFirst("Authorization");
+        byte[] expected = (AUTHORIZATION_SCHEME + token).getBytes(StandardCharsets.UTF_8);
+        if (authorization == null
+            || !MessageDigest.isEqual(authorization.getBytes(StandardCharsets.UTF_8), expected)) {
+            exchange.getResponseHeaders().set("WWW-Authenticate", AUTHORIZATION_SCHEME.trim());
+            throw new HttpException(401, "Missing or invalid token");
+        }
+    }
+
+    private static void sendJson(HttpExchange exchange, JsonWriter writer) throws IOException {
+        sendJson(exchange, 200, writer);
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, JsonWriter writer) throws IOException {
+        // Written fully first, so the length is known and any failure is before the response is sent
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        JsonGenerator json = jsonFactory.createGenerator(body, JsonEncoding.UTF8);
+        writer.write(json);
+        json.close();
+
+        sendJson(exchange, status, body);
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, ByteArrayOutputStream body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.size());
+        try (OutputStream out = exchange.getResponseBody()) {
+            body.writeTo(out);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) throws HttpException {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+
+        try {
+            for (String parameter : rawQuery.split("&")) {
+                int equalsIndex = parameter.indexOf('=');
+                String name = equalsIndex < 0 ? parameter : parameter.substring(0, equalsIndex);
+                String value = equalsIndex < 0 ? "" : parameter.substring(equalsIndex + 1);
+                parameters.put(URLDecoder.decode(name, "UTF-8"), URLDecoder.decode(value, "UTF-8"));
+            }
+        } catch (IllegalArgumentException exception) {
+            throw new HttpException(400, "Invalid query: " + rawQuery);
+        } catch (UnsupportedEncodingException exception) {
+            throw new AssertionError("UTF-8 should be supported", exception);
+        }
+
+        return parameters;
+    }
+
+    private static int parseIntParameter(Map<String, String> parameters, String name, int defaultValue, int max)
+        throws HttpException {
+        String value = parameters.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed >= 0 && parsed <= max) {
+                return parsed;
+            }
+        } catch (NumberFormatException exception) {
+            // Reported below
+        }
+
+        throw new HttpException(400, "Invalid " + name + ", should be from 0 to " + max + ": " + value);
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        void handle(HttpExchange exchange) throws IOException, HttpException;
+    }
+
+    @FunctionalInterface
+    private interface JsonWriter {
+        void write(JsonGenerator json) throws IOException;
+    }
+
+    /**
+     * Signals that a request is to be responded to with an error status and message.
+     */
+    private static class HttpException extends Exception {
+        final int status;
+
+        HttpException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+}
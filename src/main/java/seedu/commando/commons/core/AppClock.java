@@ -0,0 +1,38 @@
+package seedu.commando.commons.core;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+//@@author A0139697H
+
+/**
+ * The current time for the model, e.g. for when events are over and recurring to-dos advance,
+ * which tests can move with {@link #setClock(Clock)}.
+ */
+public class AppClock {
+    private static volatile Clock clock = Clock.systemDefaultZone();
+
+    public static LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    public static LocalDate today() {
+        return LocalDate.now(clock);
+    }
+
+    /**
+     * Sets the clock the current time is read from, e.g. a fixed clock in tests.
+     */
+    public static void setClock(Clock clock) {
+        assert clock != null;
+        AppClock.clock = clock;
+    }
+
+    /**
+     * Sets the clock back to the system clock.
+     */
+    public static void reset() {
+        clock = Clock.systemDefaultZone();
+    }
+}
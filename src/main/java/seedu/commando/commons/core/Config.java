@@ -17,6 +17,15 @@ public class Config {
     public static final String DefaultToDoListFilePath = "data/todos.xml";
     public static final double DefaultWindowWidth = 1200;
     public static final double DefaultWindowHeight = 750;
+    public static final int HistoryMaxChangesInMemory = 100;
+    public static final long HistoryMaxBytesInMemory = 8 * 1024 * 1024; // 8MB
+    public static final String HistoryJournalDirectory = "data/history";
+    public static final int JournalCompactionThreshold = 100; // no. of changes
+    public static final int JournalMinToDos = 200; // no. of to-dos
+    public static final long SaveDelay = 300; // ms
+    public static final long SaveMaxLatency = 2000; // ms
+    public static final int LoadBatchSize = 2000; // no. of to-dos
+    public static final String ApiTokenFilePath = "data/api-token";
     public static String UserGuideUrl = "/userguide/user.html";
     public static String AboutUsUrl = "https://github.com/CS2103AUG2016-W13-C3/main/blob/master/docs/AboutUs.md";
     private static Map<String, String> CommandWordsToUserGuideAnchors = new HashMap<String, String>() {{
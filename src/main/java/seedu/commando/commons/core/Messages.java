@@ -17,7 +17,7 @@ public class Messages {
 
     //@@author A0139080J
     public static final String STORE_COMMAND_FORMAT = ">> store <file path> [override]";
-    public static final String IMPORT_COMMAND_FORMAT = ">> import <file path>";
+    public static final String IMPORT_COMMAND_FORMAT = ">> import <file path> [merge]";
     public static final String EXPORT_COMMAND_FORMAT = ">> export <file path>";
     public static final String ADD_COMMAND_FORMAT = ">> add <description of task> #<tag1> #<tag2>...\n" +
         ">> add <description of task> by <due datetime> <recurrence> #<tag1> #<tag2>...\n" +
@@ -74,11 +74,13 @@ public class Messages {
     public static final String REDO_COMMAND_FAIL = "Nothing more to redo!";
     public static final String STORE_COMMAND = "Changed the storage path to: %1$s.";
     public static final String STORE_COMMAND_FILE_EXIST = "Failed to store the storage file to %1$s: destination file exists. Add `override` behind command to force a file override.";
-    public static final String EXPORT_COMMAND = "Export the storage file to: %1$s.";
+    public static final String EXPORT_COMMAND = "Exporting the storage file to: %1$s.";
     public static final String EXPORT_COMMAND_FILE_EXIST = "Failed to export the storage file to %1$s: destination file exists. Add `override` behind command to force a file override.";
     public static final String IMPORT_COMMAND = "Import the storage file from: %1$s.";
     public static final String IMPORT_COMMAND_FILE_NOT_EXIST = "Failed to import file from %1$s: the file does not exist.";
     public static final String IMPORT_COMMAND_INVALID_DATA = "Failed to import file from %1$s: the file is of an invalid format.";
+    public static final String IMPORT_COMMAND_MERGED = "Merged %2$d new to-dos from: %1$s, skipped %3$d already in the to-do list.";
+    public static final String IMPORT_COMMAND_INVALID_ENTRIES = "Skipped %1$d entries that are not valid to-dos:\n%2$s";
     public static final String ADD_COMMAND = "Added: %1$s.";
     public static final String ADD_COMMAND_EVENT_OVER_WARNING = "Warning: event added is already over!\n" +
         "Use `recall` to find the to-do.";
@@ -105,6 +107,7 @@ public class Messages {
     public static final String HELP_COMMAND_TOPIC = "Opened help window for topic '%1$s'.";
     public static final String HELP_COMMAND_INVALID_TOPIC = "Invalid topic for `help`.\n"
                                                         + HELP_COMMAND_FORMAT;
+    public static final String COMMAND_QUEUED_WHILE_LOADING = "Still loading to-dos, '%1$s' will run when done.";
 
     /**
      * Returns an additional invalid command format message to be appended
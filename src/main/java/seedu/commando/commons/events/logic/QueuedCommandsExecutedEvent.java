@@ -0,0 +1,29 @@
+package seedu.commando.commons.events.logic;
+
+import seedu.commando.commons.events.BaseEvent;
+import seedu.commando.logic.commands.CommandResult;
+
+import java.util.List;
+
+//@@author A0139697H
+
+/**
+ * Indicates that the commands entered while the to-do list was loading have been executed
+ */
+public class QueuedCommandsExecutedEvent extends BaseEvent {
+
+    public final List<String> commandTexts;
+    public final List<CommandResult> results;
+
+    public QueuedCommandsExecutedEvent(List<String> commandTexts, List<CommandResult> results) {
+        assert commandTexts.size() == results.size();
+
+        this.commandTexts = commandTexts;
+        this.results = results;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " for commands: " + commandTexts;
+    }
+}
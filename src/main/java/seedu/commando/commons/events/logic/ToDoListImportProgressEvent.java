@@ -0,0 +1,27 @@
+package seedu.commando.commons.events.logic;
+
+import seedu.commando.commons.events.BaseEvent;
+
+//@@author A0139697H
+
+/**
+ * Indicates how far an import of to-dos from a file has progressed
+ */
+public class ToDoListImportProgressEvent extends BaseEvent {
+
+    public final String filePath;
+    public final int toDosRead;
+    public final double progress; // fraction of the file read, from 0 to 1
+
+    public ToDoListImportProgressEvent(String filePath, int toDosRead, double progress) {
+        this.filePath = filePath;
+        this.toDosRead = toDosRead;
+        this.progress = progress;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + ": " + toDosRead + " to-dos read from " + filePath
+            + " (" + Math.round(progress * 100) + "%)";
+    }
+}
@@ -2,6 +2,9 @@ package seedu.commando.commons.events.model;
 
 import seedu.commando.commons.events.BaseEvent;
 import seedu.commando.model.todo.ReadOnlyToDoList;
+import seedu.commando.model.todo.ToDoListChange;
+
+import java.util.Optional;
 
 /**
  * Indicates to-do list in the model has changed
@@ -9,9 +12,18 @@ import seedu.commando.model.todo.ReadOnlyToDoList;
 public class ToDoListChangedEvent extends BaseEvent {
 
     public final ReadOnlyToDoList toDoList;
+    public final Optional<ToDoListChange> change;
 
     public ToDoListChangedEvent(ReadOnlyToDoList toDoList){
+        this(toDoList, null);
+    }
+
+    /**
+     * @param change the change that was applied to {@param toDoList}, null if unknown
+     */
+    public ToDoListChangedEvent(ReadOnlyToDoList toDoList, ToDoListChange change) {
         this.toDoList = toDoList;
+        this.change = Optional.ofNullable(change);
     }
 
     @Override
@@ -0,0 +1,24 @@
+package seedu.commando.commons.events.storage;
+
+import seedu.commando.commons.events.BaseEvent;
+
+//@@author A0139697H
+
+/**
+ * Indicates that exporting the to-do list to a file failed, after the export command had returned
+ */
+public class ToDoListExportFailedEvent extends BaseEvent {
+
+    public final String filePath;
+    public final Exception exception;
+
+    public ToDoListExportFailedEvent(String filePath, Exception exception) {
+        this.filePath = filePath;
+        this.exception = exception;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + ": to " + filePath + " with exception: " + exception;
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.commando.commons.events.storage;
+
+import seedu.commando.commons.events.BaseEvent;
+
+//@@author A0139697H
+
+/**
+ * Indicates that the to-do list has been exported to a file
+ */
+public class ToDoListExportedEvent extends BaseEvent {
+
+    public final String filePath;
+    public final int toDosCount;
+    public final long duration; // ms
+
+    public ToDoListExportedEvent(String filePath, int toDosCount, long duration) {
+        this.filePath = filePath;
+        this.toDosCount = toDosCount;
+        this.duration = duration;
+    }
+
+    /**
+     * Returns the number of to-dos exported per second.
+     */
+    public long getThroughput() {
+        return toDosCount * 1000L / Math.max(1, duration);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + ": " + toDosCount + " to-dos to " + filePath + " in " + duration + "ms";
+    }
+}
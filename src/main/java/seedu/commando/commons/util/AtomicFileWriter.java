@@ -0,0 +1,217 @@
+package seedu.commando.commons.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+//@@author A0139697H
+
+/**
+ * Replaces the content of a file atomically, so a crash while writing leaves either the previous or the new content.
+ *
+ * The content is written to a temporary file next to the file and forced to disk, the current file is kept
+ * as a backup (the previous generation), then the temporary file is renamed over the file.
+ *
+ * Writes from different threads are group-committed: while a write is being committed, later writes wait,
+ * and only the latest of them is committed next, with one force to disk for all of them.
+ */
+public class AtomicFileWriter {
+    public static final String TEMP_FILE_EXTENSION = ".tmp";
+    public static final String BACKUP_FILE_EXTENSION = ".bak";
+
+    private static final Map<Path, AtomicFileWriter> writers = new ConcurrentHashMap<>();
+
+    private final Path path;
+    private final Path tempPath;
+    private final Path backupPath;
+
+    // Latest content written and not committed yet, and the commit it is to be committed in
+    private byte[] pendingContent;
+    private Commit nextCommit;
+    private boolean isCommitting;
+
+    /**
+     * Creates a writer for {@param file}.
+     * Writes are only group-committed with writes through the same writer, see {@link #forFile(File)}.
+     */
+    protected AtomicFileWriter(File file) {
+        assert file != null;
+
+        path = file.toPath().toAbsolutePath();
+        tempPath = getTempFile(file).toPath().toAbsolutePath();
+        backupPath = getBackupFile(file).toPath().toAbsolutePath();
+    }
+
+    /**
+     * Gets the writer for {@param file}, shared by all writes to that file.
+     */
+    public static AtomicFileWriter forFile(File file) {
+        assert file != null;
+
+        return writers.computeIfAbsent(file.toPath().toAbsolutePath(), key -> new AtomicFileWriter(key.toFile()));
+    }
+
+    /**
+     * Gets the file where the previous content of {@param file} is kept.
+     */
+    public static File getBackupFile(File file) {
+        return new File(file.getPath() + BACKUP_FILE_EXTENSION);
+    }
+
+    /**
+     * Gets the file where the new content of {@param file} is written before it replaces the file.
+     */
+    public static File getTempFile(File file) {
+        return new File(file.getPath() + TEMP_FILE_EXTENSION);
+    }
+
+    /**
+     * Replaces the content of the file with {@param content}, creating the file and its parent directories
+     * if they are missing. Returns once {@param content}, or content written after it, is on disk.
+     *
+     * @throws IOException if there was any problem writing to the file
+     */
+    public void write(byte[] content) throws IOException {
+        assert content != null;
+
+        Commit commit;
+
+        synchronized (this) {
+            pendingContent = content;
+            if (nextCommit == null) {
+                nextCommit = new Commit();
+            }
+            commit = nextCommit;
+            onWriteQueued();
+
+            // Wait for any commit in progress, after which the first waiting writer commits for the others
+            try {
+                while (isCommitting && !commit.isDone) {
+                    wait();
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting to write " + path);
+            }
+
+            if (commit.isDone) {
+                commit.throwIfFailed();
+                return;
+            }
+
+            content = pendingContent;
+            pendingContent = null;
+            nextCommit = null;
+            isCommitting = true;
+        }
+
+        try {
+            commit(content);
+        } catch (IOException | RuntimeException exception) {
+            commit.failure = exception;
+        } finally {
+            synchronized (this) {
+                commit.isDone = true;
+                isCommitting = false;
+                notifyAll();
+            }
+        }
+
+        commit.throwIfFailed();
+    }
+
+    private void commit(byte[] content) throws IOException {
+        FileUtil.createParentDirsOfFile(path.toFile());
+
+        writeTempFile(tempPath, content);
+
+        if (Files.exists(path)) {
+            backUp(path, backupPath);
+        }
+
+        replace(tempPath, path);
+        forceDirectory(path.getParent());
+    }
+
+    /**
+     * Called by each write once its content is queued to be committed, before it waits for any commit in progress.
+     */
+    protected void onWriteQueued() {
+    }
+
+    /**
+     * Writes {@param content} to {@param tempPath} and forces it to disk.
+     */
+    protected void writeTempFile(Path tempPath, byte[] content) throws IOException {
+        try (FileChannel channel = FileChannel.open(tempPath,
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Keeps the current content at {@param path} at {@param backupPath}, leaving {@param path} in place.
+     */
+    protected void backUp(Path path, Path backupPath) throws IOException {
+        Files.deleteIfExists(backupPath);
+
+        // A hard link keeps the current content without copying it, if the file system supports it
+        try {
+            Files.createLink(backupPath, path);
+        } catch (IOException | UnsupportedOperationException exception) {
+            Files.copy(path, backupPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Renames {@param tempPath} over {@param path}, atomically if the file system supports it.
+     */
+    protected void replace(Path tempPath, Path path) throws IOException {
+        try {
+            Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException exception) {
+            Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the rename in {@param directory} to disk, where the platform allows opening directories.
+     */
+    private void forceDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException exception) {
+            // Not supported on some platforms, e.g. Windows, where the rename is durable once it returns
+        }
+    }
+
+    private static class Commit {
+        boolean isDone;
+        Exception failure;
+
+        void throwIfFailed() throws IOException {
+            if (failure instanceof IOException) {
+                throw (IOException) failure;
+            } else if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+        }
+    }
+}
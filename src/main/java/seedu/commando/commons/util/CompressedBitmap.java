@@ -0,0 +1,405 @@
+package seedu.commando.commons.util;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+//@@author A0139697H
+
+/**
+ * A compressed set of non-negative integers, in the style of Roaring bitmaps.
+ *
+ * Integers are split by their upper 16 bits into chunks of 65536. Each chunk is stored as a sorted array
+ * while it has at most {@link #ARRAY_CONTAINER_MAX_SIZE} integers, and as a plain bitmap otherwise,
+ * so both sparse and dense sets stay compact, and intersections work chunk by chunk.
+ */
+public class CompressedBitmap {
+    private static final int ARRAY_CONTAINER_MAX_SIZE = 4096;
+
+    // Upper 16 bits of the chunks, sorted, with the container of each chunk at the same position
+    private char[] keys = new char[4];
+    private Container[] containers = new Container[4];
+    private int containersCount;
+    private int cardinality;
+
+    /**
+     * Adds an integer, asserted to be non-negative.
+     *
+     * @return true if the integer was not already in the bitmap
+     */
+    public boolean add(int value) {
+        assert value >= 0;
+
+        char key = (char) (value >>> 16);
+        int position = findContainer(key);
+
+        if (position < 0) {
+            position = -position - 1;
+            insertContainer(position, key, new ArrayContainer());
+        }
+
+        Container container = containers[position];
+        int oldCardinality = container.getCardinality();
+        containers[position] = container.add((char) value);
+
+        if (containers[position].getCardinality() == oldCardinality) {
+            return false;
+        }
+
+        cardinality++;
+        return true;
+    }
+
+    /**
+     * Removes an integer.
+     *
+     * @return true if the integer was in the bitmap
+     */
+    public boolean remove(int value) {
+        int position = findContainer((char) (value >>> 16));
+
+        if (value < 0 || position < 0) {
+            return false;
+        }
+
+        Container container = containers[position];
+        int oldCardinality = container.getCardinality();
+        containers[position] = container.remove((char) value);
+
+        if (containers[position].getCardinality() == oldCardinality) {
+            return false;
+        }
+
+        cardinality--;
+        if (containers[position].getCardinality() == 0) {
+            removeContainer(position);
+        }
+
+        return true;
+    }
+
+    public boolean contains(int value) {
+        int position = findContainer((char) (value >>> 16));
+        return value >= 0 && position >= 0 && containers[position].contains((char) value);
+    }
+
+    /**
+     * @return number of integers in the bitmap, in constant time
+     */
+    public int getCardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    /**
+     * Gets the intersection of this and {@param other}, as a new bitmap.
+     */
+    public CompressedBitmap and(CompressedBitmap other) {
+        assert other != null;
+
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+
+        while (i < containersCount && j < other.containersCount) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                Container container = containers[i].and(other.containers[j]);
+                if (container.getCardinality() > 0) {
+                    result.insertContainer(result.containersCount, keys[i], container);
+                    result.cardinality += container.getCardinality();
+                }
+                i++;
+                j++;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Calls {@param consumer} with each integer in the bitmap, in ascending order.
+     */
+    public void forEach(IntConsumer consumer) {
+        for (int i = 0; i < containersCount; i++) {
+            containers[i].forEach(keys[i] << 16, consumer);
+        }
+    }
+
+    /**
+     * @return integers in the bitmap, in ascending order
+     */
+    public int[] toArray() {
+        int[] values = new int[cardinality];
+        int[] index = new int[1];
+        forEach(value -> values[index[0]++] = value);
+        return values;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // short circuit if same object
+        // instanceof handles nulls
+        return other == this
+            || (other instanceof CompressedBitmap
+            && Arrays.equals(toArray(), ((CompressedBitmap) other).toArray()));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private int findContainer(char key) {
+        return Arrays.binarySearch(keys, 0, containersCount, key);
+    }
+
+    private void insertContainer(int position, char key, Container container) {
+        if (containersCount == keys.length) {
+            keys = Arrays.copyOf(keys, keys.length * 2);
+            containers = Arrays.copyOf(containers, containers.length * 2);
+        }
+
+        System.arraycopy(keys, position, keys, position + 1, containersCount - position);
+        System.arraycopy(containers, position, containers, position + 1, containersCount - position);
+        keys[position] = key;
+        containers[position] = container;
+        containersCount++;
+    }
+
+    private void removeContainer(int position) {
+        System.arraycopy(keys, position + 1, keys, position, containersCount - position - 1);
+        System.arraycopy(containers, position + 1, containers, position, containersCount - position - 1);
+        containersCount--;
+        containers[containersCount] = null;
+    }
+
+    /**
+     * A set of the lower 16 bits of the integers in a chunk.
+     * Operations return the container to use after it, which might be of another type.
+     */
+    private interface Container {
+        Container add(char value);
+
+        Container remove(char value);
+
+        boolean contains(char value);
+
+        int getCardinality();
+
+        Container and(Container other);
+
+        void forEach(int high, IntConsumer consumer);
+    }
+
+    /**
+     * A sparse chunk, as a sorted array of values.
+     */
+    private static class ArrayContainer implements Container {
+        private char[] values;
+        private int size;
+
+        ArrayContainer() {
+            this(new char[4], 0);
+        }
+
+        ArrayContainer(char[] values, int size) {
+            this.values = values;
+            this.size = size;
+        }
+
+        @Override
+        public Container add(char value) {
+            int position = Arrays.binarySearch(values, 0, size, value);
+            if (position >= 0) {
+                return this;
+            }
+
+            if (size >= ARRAY_CONTAINER_MAX_SIZE) {
+                return toBitmapContainer().add(value);
+            }
+
+            position = -position - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(values.length * 2, ARRAY_CONTAINER_MAX_SIZE));
+            }
+
+            System.arraycopy(values, position, values, position + 1, size - position);
+            values[position] = value;
+            size++;
+
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            int position = Arrays.binarySearch(values, 0, size, value);
+            if (position < 0) {
+                return this;
+            }
+
+            System.arraycopy(values, position + 1, values, position, size - position - 1);
+            size--;
+
+            return this;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+
+        @Override
+        public int getCardinality() {
+            return size;
+        }
+
+        @Override
+        public Container and(Container other) {
+            char[] result = new char[size];
+            int resultSize = 0;
+
+            if (other instanceof ArrayContainer) {
+                // Merge the two sorted arrays
+                ArrayContainer otherArray = (ArrayContainer) other;
+                int i = 0;
+                int j = 0;
+                while (i < size && j < otherArray.size) {
+                    if (values[i] < otherArray.values[j]) {
+                        i++;
+                    } else if (values[i] > otherArray.values[j]) {
+                        j++;
+                    } else {
+                        result[resultSize++] = values[i];
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < size; i++) {
+                    if (other.contains(values[i])) {
+                        result[resultSize++] = values[i];
+                    }
+                }
+            }
+
+            return new ArrayContainer(result, resultSize);
+        }
+
+        @Override
+        public void forEach(int high, IntConsumer consumer) {
+            for (int i = 0; i < size; i++) {
+                consumer.accept(high | values[i]);
+            }
+        }
+
+        private BitmapContainer toBitmapContainer() {
+            BitmapContainer container = new BitmapContainer();
+            for (int i = 0; i < size; i++) {
+                container.add(values[i]);
+            }
+            return container;
+        }
+    }
+
+    /**
+     * A dense chunk, as a bitmap of all 65536 possible values.
+     */
+    private static class BitmapContainer implements Container {
+        private final long[] words;
+        private int cardinality;
+
+        BitmapContainer() {
+            this(new long[1 << 10], 0);
+        }
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        public Container add(char value) {
+            long word = words[value >>> 6];
+            long bit = 1L << value;
+
+            if ((word & bit) == 0) {
+                words[value >>> 6] = word | bit;
+                cardinality++;
+            }
+
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            long word = words[value >>> 6];
+            long bit = 1L << value;
+
+            if ((word & bit) == 0) {
+                return this;
+            }
+
+            words[value >>> 6] = word & ~bit;
+            cardinality--;
+
+            return cardinality <= ARRAY_CONTAINER_MAX_SIZE ? toArrayContainer() : this;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        public int getCardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public Container and(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.and(this);
+            }
+
+            long[] otherWords = ((BitmapContainer) other).words;
+            long[] result = new long[words.length];
+            int resultCardinality = 0;
+            for (int i = 0; i < words.length; i++) {
+                result[i] = words[i] & otherWords[i];
+                resultCardinality += Long.bitCount(result[i]);
+            }
+
+            BitmapContainer container = new BitmapContainer(result, resultCardinality);
+            return resultCardinality <= ARRAY_CONTAINER_MAX_SIZE ? container.toArrayContainer() : container;
+        }
+
+        @Override
+        public void forEach(int high, IntConsumer consumer) {
+            for (int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    consumer.accept(high | (i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        private ArrayContainer toArrayContainer() {
+            char[] values = new char[cardinality];
+            int[] size = new int[1];
+            forEach(0, value -> values[size[0]++] = (char) value);
+            return new ArrayContainer(values, cardinality);
+        }
+    }
+}
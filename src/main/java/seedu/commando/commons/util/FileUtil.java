@@ -2,7 +2,10 @@ package seedu.commando.commons.util;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
 
 /**
  * Writes and reads file
@@ -58,6 +61,30 @@ public class FileUtil {
         }
     }
 
+    //@@author A0139697H
+    /**
+     * Creates an empty file that only its owner can read and write, along with its missing parent directories,
+     * replacing any file there, so its contents can be private to the user.
+     */
+    public static void createOwnerOnlyFile(File file) throws IOException {
+        createParentDirsOfFile(file);
+
+        Path path = file.toPath();
+        Files.deleteIfExists(path);
+
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            Files.createFile(path, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        } else {
+            Files.createFile(path);
+            boolean isRestricted = file.setReadable(false, false) && file.setReadable(true, true)
+                && file.setWritable(false, false) && file.setWritable(true, true);
+            if (!isRestricted) {
+                throw new IOException("Failed to restrict permissions of " + file.getName());
+            }
+        }
+    }
+
+    //@@author
     /**
      * Assumes file exists
      */
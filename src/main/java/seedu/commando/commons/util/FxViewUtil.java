@@ -1,5 +1,6 @@
 package seedu.commando.commons.util;
 
+import javafx.application.Platform;
 import javafx.scene.Node;
 import javafx.scene.layout.AnchorPane;
 
@@ -14,4 +15,17 @@ public class FxViewUtil {
         AnchorPane.setRightAnchor(node, right);
         AnchorPane.setTopAnchor(node, top);
     }
+
+    //@@author A0139697H
+    /**
+     * Runs {@param runnable} on the JavaFX thread: immediately if called on it, otherwise later.
+     * For event handlers updating the UI, as events can be raised on the logic or writer threads.
+     */
+    public static void runOnFxThread(Runnable runnable) {
+        if (Platform.isFxApplicationThread()) {
+            runnable.run();
+        } else {
+            Platform.runLater(runnable);
+        }
+    }
 }
@@ -4,14 +4,28 @@ import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Helps with reading from and writing to XML files.
  */
 public class XmlUtil {
 
+    //@@author A0139697H
+    // Creating a JAXB context is expensive and contexts are thread-safe, so there is one per class, shared.
+    // Marshallers and unmarshallers are not thread-safe, so they are reused per thread instead
+    private static final ConcurrentMap<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Map<Class<?>, Marshaller>> marshallers = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<Class<?>, Unmarshaller>> unmarshallers =
+        ThreadLocal.withInitial(HashMap::new);
+    //@@author
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -33,8 +47,7 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found: " + file.getAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
+        Unmarshaller um = getUnmarshaller(classToConvert);
 
         return ((T) um.unmarshal(file));
     }
@@ -57,11 +70,67 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
-        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        Marshaller m = getMarshaller(data.getClass());
 
         m.marshal(data, file);
     }
 
+    //@@author A0139697H
+    /**
+     * Returns the data in xml format, as {@link #saveDataToFile(File, Object)} would save it.
+     *
+     * @param data Cannot be null.
+     * @throws JAXBException Thrown if there is an error during converting the data into xml.
+     */
+    public static <T> byte[] convertDataToXml(T data) throws JAXBException {
+        assert data != null;
+
+        Marshaller m = getMarshaller(data.getClass());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        m.marshal(data, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Returns the JAXB context for {@param type}, creating it on first use.
+     */
+    public static JAXBContext getContext(Class<?> type) throws JAXBException {
+        JAXBContext context = contexts.get(type);
+        if (context == null) {
+            // Two threads might both create one, but only the first is kept
+            JAXBContext created = JAXBContext.newInstance(type);
+            JAXBContext previous = contexts.putIfAbsent(type, created);
+            context = previous != null ? previous : created;
+        }
+        return context;
+    }
+
+    /**
+     * Returns this thread's marshaller for {@param type}, which formats its output.
+     */
+    private static Marshaller getMarshaller(Class<?> type) throws JAXBException {
+        Map<Class<?>, Marshaller> threadMarshallers = marshallers.get();
+        Marshaller marshaller = threadMarshallers.get(type);
+        if (marshaller == null) {
+            marshaller = getContext(type).createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+            threadMarshallers.put(type, marshaller);
+        }
+        return marshaller;
+    }
+
+    /**
+     * Returns this thread's unmarshaller for {@param type}.
+     */
+    private static Unmarshaller getUnmarshaller(Class<?> type) throws JAXBException {
+        Map<Class<?>, Unmarshaller> threadUnmarshallers = unmarshallers.get();
+        Unmarshaller unmarshaller = threadUnmarshallers.get(type);
+        if (unmarshaller == null) {
+            unmarshaller = getContext(type).createUnmarshaller();
+            threadUnmarshallers.put(type, unmarshaller);
+        }
+        return unmarshaller;
+    }
+
 }
@@ -2,9 +2,12 @@ package seedu.commando.logic;
 
 import seedu.commando.commons.core.UnmodifiableObservableList;
 import seedu.commando.logic.commands.CommandResult;
+import seedu.commando.model.ModelSnapshot;
 import seedu.commando.model.todo.ReadOnlyToDoList;
 import seedu.commando.model.ui.UiToDo;
 
+import java.util.concurrent.CompletableFuture;
+
 //@@author A0139697H
 
 /**
@@ -20,10 +23,27 @@ public interface Logic {
      */
     CommandResult execute(String commandText);
 
+    /**
+     * Submits an input string to be executed as a command, after the commands submitted before it.
+     * Depending on the implementation, it may run on another thread, off the JavaFX thread.
+     *
+     * @param commandText input string as entered by the user to be parsed as a command
+     * @return result of the command, completed once the UI to-dos it changed are published,
+     *         see {@link #getUiEvents()}
+     */
+    CompletableFuture<CommandResult> submit(String commandText);
+
+    /**
+     * Returns the latest snapshot of the model's to-do list and UI to-dos, which can be read on any thread
+     * while later commands run, without waiting for them.
+     */
+    ModelSnapshot getSnapshot();
+
     /**
      * Returns observable read-only list of UI to-dos considered as events by {@link UiToDo#isEvent()}
      * to be displayed on the UI.
      * The ordering of the list is to be respected.
+     * If commands are submitted to another thread, it only changes on the JavaFX thread.
      *
      * @return an observable read-only list of {@link UiToDo} that are events
      */
@@ -33,6 +53,7 @@ public interface Logic {
      * Returns observable read-only list of UI to-dos considered as tasks by {@link UiToDo#isTask()}
      * to be displayed on the UI.
      * The ordering of the list is to be respected.
+     * If commands are submitted to another thread, it only changes on the JavaFX thread.
      *
      * @return an observable read-only list of {@link UiToDo} that are tasks
      */
@@ -44,4 +65,33 @@ public interface Logic {
      * @return the full list of to-dos, read-only
      */
     ReadOnlyToDoList getToDoList();
+
+    /**
+     * Adds to-dos loaded from storage to the model, while the to-do list is loading,
+     * on the same thread as commands submitted.
+     *
+     * @return completed once the to-dos are added and the UI to-dos published, or completed exceptionally
+     *         with an {@link seedu.commando.commons.exceptions.IllegalValueException} if any already exist
+     */
+    CompletableFuture<Void> addLoadedToDos(ReadOnlyToDoList toDos);
+
+    /**
+     * Marks the to-do list as fully loaded into the model, if it was still loading when this was created,
+     * saves it, then runs the commands entered while it was loading, in order,
+     * on the same thread as commands submitted.
+     */
+    void finishLoading();
+
+    /**
+     * Like {@link #finishLoading()}, but for when some of the to-dos failed to be loaded into the model,
+     * so the to-do list partly loaded is not saved over the file it was loaded from.
+     */
+    void abortLoading();
+
+    /**
+     * Waits for the commands submitted to run, then saves any changes to the to-do list that are still pending,
+     * waiting for them to be saved, then closes the model.
+     * To be called before the application exits, not on the thread commands are submitted to.
+     */
+    void stop();
 }
@@ -3,24 +3,37 @@ package seedu.commando.logic;
 import com.google.common.eventbus.Subscribe;
 import javafx.application.Platform;
 import seedu.commando.commons.core.ComponentManager;
+import seedu.commando.commons.core.Config;
 import seedu.commando.commons.core.LogsCenter;
 import seedu.commando.commons.core.Messages;
 import seedu.commando.commons.core.UnmodifiableObservableList;
+import seedu.commando.commons.events.logic.QueuedCommandsExecutedEvent;
 import seedu.commando.commons.events.logic.ToDoListFilePathChangeRequestEvent;
 import seedu.commando.commons.events.model.ToDoListChangedEvent;
 import seedu.commando.commons.events.storage.DataSavingExceptionEvent;
+import seedu.commando.commons.exceptions.IllegalValueException;
 import seedu.commando.commons.util.StringUtil;
 import seedu.commando.logic.commands.Command;
 import seedu.commando.logic.commands.CommandFactory;
 import seedu.commando.logic.commands.CommandResult;
 import seedu.commando.model.Model;
+import seedu.commando.model.ModelSnapshot;
 import seedu.commando.model.UserPrefs;
+import seedu.commando.model.todo.ImmutableToDoList;
 import seedu.commando.model.todo.ReadOnlyToDoList;
 import seedu.commando.model.ui.UiToDo;
 import seedu.commando.storage.Storage;
 
-import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 //@@author A0139697H
@@ -28,6 +41,9 @@ import java.util.logging.Logger;
 /**
  * Concrete implementation of {@link Logic} for the Logic component.
  * Executes commands from the UI, using the API provided by Model and Storage.
+ *
+ * When running in background, commands submitted run on a dedicated logic thread, which is then the only
+ * thread the model is accessed on, and the UI to-dos are copies published to the JavaFX thread after each command.
  */
 public class LogicManager extends ComponentManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
@@ -36,19 +52,196 @@ public class LogicManager extends ComponentManager implements Logic {
     private final Storage storage;
     private final UserPrefs userPrefs;
     private final CommandFactory commandFactory = new CommandFactory();
+    private final ToDoListSaver saver;
+    private final Executor backgroundExecutor;
+    private final Executor commandExecutor;
 
+    // Copies of the model's UI to-dos for the JavaFX thread, null unless running in background
+    private final PublishedUiToDoList publishedEvents;
+    private final PublishedUiToDoList publishedTasks;
+
+    // Commands entered while the to-do list is loading, null once it is loaded
+    private List<String> queuedCommandTexts;
+
+    /**
+     * Creates a logic manager that saves the to-do list on the thread it changes in,
+     * and finishes commands on the thread they are executed in.
+     */
     public LogicManager(Model model, Storage storage, UserPrefs userPrefs) {
+        this(model, storage, userPrefs, false);
+    }
+
+    /**
+     * @param isSavingInBackground whether the to-do list is saved on a dedicated writer thread,
+     *                             coalescing changes within {@link Config#SaveDelay}, commands submitted
+     *                             run on a dedicated logic thread, and commands finish their work
+     *                             after returning on a background thread, e.g. exports
+     */
+    public LogicManager(Model model, Storage storage, UserPrefs userPrefs, boolean isSavingInBackground) {
+        this(model, storage, userPrefs, isSavingInBackground, false);
+    }
+
+    /**
+     * @param isLoading whether the to-do list is still loading into the model, e.g. in the background at startup.
+     *                  If so, it is not saved and commands are queued until {@link #finishLoading()}
+     */
+    public LogicManager(Model model, Storage storage, UserPrefs userPrefs, boolean isSavingInBackground,
+                        boolean isLoading) {
         this.model = model;
         this.storage = storage;
         this.userPrefs = userPrefs;
 
-        saveToDoListToStorage(model.getToDoList());
+        saver = isSavingInBackground
+            ? new ToDoListSaver(storage, this::handleSavingException, Config.SaveDelay, Config.SaveMaxLatency)
+            : new ToDoListSaver(storage, this::handleSavingException);
+
+        backgroundExecutor = isSavingInBackground ? createThreadExecutor("Background commands") : Runnable::run;
+        commandExecutor = isSavingInBackground ? createThreadExecutor("Logic") : Runnable::run;
+
+        if (isSavingInBackground) {
+            publishedEvents = new PublishedUiToDoList(model.getUiEvents());
+            publishedTasks = new PublishedUiToDoList(model.getUiTasks());
+        } else {
+            publishedEvents = null;
+            publishedTasks = null;
+        }
+
+        if (isLoading) {
+            queuedCommandTexts = new ArrayList<>();
+        } else {
+            saveToDoListToStorage(model.getToDoList());
+        }
     }
 
     @Override
     public CommandResult execute(String commandText) {
         logger.info("User command: " + commandText + "");
 
+        // Commands could refer to to-dos not loaded yet, so they wait for the whole to-do list
+        if (queuedCommandTexts != null) {
+            queuedCommandTexts.add(commandText);
+            return new CommandResult(String.format(Messages.COMMAND_QUEUED_WHILE_LOADING, commandText));
+        }
+
+        return executeNow(commandText);
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> submit(String commandText) {
+        return runOnCommandThread(() -> execute(commandText));
+    }
+
+    @Override
+    public ModelSnapshot getSnapshot() {
+        return model.getSnapshot();
+    }
+
+    @Override
+    public CompletableFuture<Void> addLoadedToDos(ReadOnlyToDoList toDos) {
+        return runOnCommandThread(() -> {
+            try {
+                model.addLoadedToDos(toDos);
+            } catch (IllegalValueException exception) {
+                throw new CompletionException(exception);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void finishLoading() {
+        finishLoading(true);
+    }
+
+    @Override
+    public void abortLoading() {
+        finishLoading(false);
+    }
+
+    private void finishLoading(boolean isLoaded) {
+        runOnCommandThread(() -> {
+            finishLoadingNow(isLoaded);
+            return null;
+        }).exceptionally(exception -> {
+            logger.severe("Failed to finish loading: " + StringUtil.getDetails(exception));
+            return null;
+        });
+    }
+
+    private void finishLoadingNow(boolean isLoaded) {
+        if (queuedCommandTexts == null) {
+            return;
+        }
+
+        List<String> commandTexts = queuedCommandTexts;
+        queuedCommandTexts = null;
+        logger.info("To-do list " + (isLoaded ? "loaded" : "partly loaded") + ", running "
+            + commandTexts.size() + " queued commands");
+
+        // Save the loaded to-do list, as it would have been when created with it
+        if (isLoaded) {
+            saveToDoListToStorage(model.getToDoList());
+        }
+
+        if (!commandTexts.isEmpty()) {
+            List<CommandResult> results = new ArrayList<>();
+            for (String commandText : commandTexts) {
+                results.add(executeNow(commandText));
+            }
+
+            // The results refer to the UI to-dos after the commands
+            publishUiToDos();
+            raise(new QueuedCommandsExecutedEvent(commandTexts, results));
+        }
+    }
+
+    /**
+     * Runs {@param task} on the logic thread if running in background, publishing the UI to-dos after it,
+     * otherwise on the calling thread.
+     * The future is completed after the UI to-dos are submitted to be published on the JavaFX thread,
+     * so anything submitted to the JavaFX thread once it is completed sees them.
+     */
+    private <T> CompletableFuture<T> runOnCommandThread(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return task.get();
+            } finally {
+                publishUiToDos();
+            }
+        }, commandExecutor);
+    }
+
+    /**
+     * Publishes the changes to the model's UI to-dos to the JavaFX thread, in one batch, if running in background.
+     */
+    private void publishUiToDos() {
+        if (publishedEvents == null) {
+            return;
+        }
+
+        Runnable publishEvents = publishedEvents.takeChanges();
+        Runnable publishTasks = publishedTasks.takeChanges();
+        Runnable publish = () -> {
+            publishEvents.run();
+            publishTasks.run();
+        };
+
+        try {
+            Platform.runLater(publish);
+        } catch (IllegalStateException exception) {
+            publish.run();
+        }
+    }
+
+    private static ExecutorService createThreadExecutor(String threadName) {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private CommandResult executeNow(String commandText) {
         try {
             return executeCommand(commandText);
         } catch (CommandFactory.InvalidCommandFormatException e) {
@@ -62,12 +255,12 @@ public class LogicManager extends ComponentManager implements Logic {
 
     @Override
     public UnmodifiableObservableList<UiToDo> getUiEvents() {
-        return model.getUiEvents();
+        return publishedEvents != null ? new UnmodifiableObservableList<>(publishedEvents) : model.getUiEvents();
     }
 
     @Override
     public UnmodifiableObservableList<UiToDo> getUiTasks() {
-        return model.getUiTasks();
+        return publishedTasks != null ? new UnmodifiableObservableList<>(publishedTasks) : model.getUiTasks();
     }
 
     @Override
@@ -75,35 +268,49 @@ public class LogicManager extends ComponentManager implements Logic {
         return model.getToDoList();
     }
 
+    @Override
+    public void stop() {
+        // Commands submitted are run before the last save
+        if (commandExecutor instanceof ExecutorService) {
+            ExecutorService executor = (ExecutorService) commandExecutor;
+            executor.shutdown();
+
+            try {
+                executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        saver.stop();
+        model.close();
+    }
+
     /**
-     * Saves the to-do list to the file system with Storage.
+     * Saves the to-do list to the file system with Storage, on the writer thread if saving in background.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      *
      * @param toDoList to-do list to save
      */
     public void saveToDoListToStorage(ReadOnlyToDoList toDoList) {
-        try {
-            storage.saveToDoList(toDoList);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
-        }
+        saver.submitToDoList(getToDoListToSave(toDoList));
     }
 
     /**
      * Called upon an event that the Model's to-do list has changed.
      *
-     * In a separate thread, it saves the current version of the to-do list to the hard disk
+     * It submits the change, or the whole to-do list if the change is unknown, to be saved to the hard disk
      * at the default to-do list filepath with Storage.
      */
     @Subscribe
     public void handleToDoListChangedEvent(ToDoListChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
 
-        // Try to run on JavaFX UI thread to prevent lag. If not, just run on current thread.
-        try {
-            Platform.runLater(() -> saveToDoListToStorage(event.toDoList));
-        } catch (IllegalStateException e) {
-           saveToDoListToStorage(event.toDoList);
+        // Only the change needs to be saved, if it is known
+        if (event.change.isPresent()) {
+            saver.submitChange(event.change.get(), getToDoListToSave(event.toDoList));
+        } else {
+            saveToDoListToStorage(event.toDoList);
         }
     }
 
@@ -117,14 +324,37 @@ public class LogicManager extends ComponentManager implements Logic {
     public void handleToDoListFilePathRequestEvent(ToDoListFilePathChangeRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
 
+        // Pending saves are for the previous file path
+        saver.flush();
+
         storage.setToDoListFilePath(event.path);
         userPrefs.setToDoListFilePath(event.path);
 
-        // Try to run on JavaFX UI thread to prevent lag. If not, just run on current thread.
+        saveToDoListToStorage(model.getToDoList());
+    }
+
+    /**
+     * Gets the version of {@param toDoList} to submit to the saver.
+     * If saving in background, it is saved later on the writer thread, so it must not change after this:
+     * the model's to-do list is saved from its latest snapshot, sharing the copies of to-dos that did not change.
+     */
+    private ReadOnlyToDoList getToDoListToSave(ReadOnlyToDoList toDoList) {
+        if (!saver.isInBackground()) {
+            return toDoList;
+        }
+
+        return toDoList == model.getToDoList() ? model.getSnapshot().toDoList : ImmutableToDoList.of(toDoList);
+    }
+
+    /**
+     * Raises {@link DataSavingExceptionEvent}, on the JavaFX UI thread if possible,
+     * as saving may be on the writer thread.
+     */
+    private void handleSavingException(Exception exception) {
         try {
-            Platform.runLater(() -> saveToDoListToStorage(model.getToDoList()));
+            Platform.runLater(() -> raise(new DataSavingExceptionEvent(exception)));
         } catch (IllegalStateException e) {
-            saveToDoListToStorage(model.getToDoList());
+            raise(new DataSavingExceptionEvent(exception));
         }
     }
 
@@ -148,6 +378,7 @@ public class LogicManager extends ComponentManager implements Logic {
 
         command.setEventsCenter(eventsCenter);
         command.setModel(model);
+        command.setBackgroundExecutor(backgroundExecutor);
 
         try {
             return command.execute();
@@ -0,0 +1,140 @@
+package seedu.commando.logic;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ModifiableObservableListBase;
+import javafx.collections.ObservableList;
+import seedu.commando.model.todo.ToDo;
+import seedu.commando.model.ui.UiToDo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+//@@author A0139697H
+
+/**
+ * Copy of a list of UI to-dos of the model for the JavaFX thread, while the model changes on the logic thread.
+ *
+ * Changes to the model's list are recorded on the logic thread as they happen, and taken with
+ * {@link #takeChanges()} once a command is done, to be published on the JavaFX thread in one batch,
+ * as a single list change. The to-dos published are copies, taken when the changes are taken,
+ * so the JavaFX thread never reads to-dos the logic thread is changing.
+ */
+class PublishedUiToDoList extends ModifiableObservableListBase<UiToDo> {
+    // Only accessed on the JavaFX thread, apart from the initial copy
+    private final List<UiToDo> uiToDos = new ArrayList<>();
+
+    // Only accessed on the logic thread
+    private List<RecordedChange> recordedChanges = new ArrayList<>();
+
+    /**
+     * Copies {@param source}, and starts recording its changes.
+     * To be called on the logic thread, before the copy is shown.
+     */
+    PublishedUiToDoList(ObservableList<UiToDo> source) {
+        source.forEach(uiToDo -> uiToDos.add(copy(uiToDo)));
+        source.addListener(this::recordChange);
+    }
+
+    /**
+     * Takes the changes to the source list since the last call, with copies of the UI to-dos added.
+     * To be called on the logic thread.
+     *
+     * @return applies the changes to this list as a single list change, to be run on the JavaFX thread
+     */
+    Runnable takeChanges() {
+        List<RecordedChange> changes = recordedChanges;
+        recordedChanges = new ArrayList<>();
+
+        for (RecordedChange change : changes) {
+            change.copyAdded();
+        }
+
+        return () -> {
+            if (changes.isEmpty()) {
+                return;
+            }
+
+            beginChange();
+            try {
+                changes.forEach(RecordedChange::apply);
+            } finally {
+                endChange();
+            }
+        };
+    }
+
+    /**
+     * Records the sub-changes of {@param change}, which can be applied in order to a copy of the list.
+     */
+    private void recordChange(ListChangeListener.Change<? extends UiToDo> change) {
+        while (change.next()) {
+            // Moved and updated UI to-dos are replaced, as UI to-dos are replaced whenever they change anyway
+            if (change.wasPermutated() || change.wasUpdated()) {
+                recordedChanges.add(new RecordedChange(change.getFrom(), change.getTo() - change.getFrom(),
+                    new ArrayList<>(change.getList().subList(change.getFrom(), change.getTo()))));
+            } else {
+                recordedChanges.add(new RecordedChange(change.getFrom(), change.getRemovedSize(),
+                    new ArrayList<>(change.getAddedSubList())));
+            }
+        }
+    }
+
+    private static UiToDo copy(UiToDo uiToDo) {
+        return new UiToDo(new ToDo(uiToDo), uiToDo.getIndex(), uiToDo.isNew());
+    }
+
+    @Override
+    public UiToDo get(int index) {
+        return uiToDos.get(index);
+    }
+
+    @Override
+    public int size() {
+        return uiToDos.size();
+    }
+
+    @Override
+    protected void doAdd(int index, UiToDo element) {
+        uiToDos.add(index, element);
+    }
+
+    @Override
+    protected UiToDo doSet(int index, UiToDo element) {
+        return uiToDos.set(index, element);
+    }
+
+    @Override
+    protected UiToDo doRemove(int index) {
+        return uiToDos.remove(index);
+    }
+
+    /**
+     * Replacement of {@link #removedCount} UI to-dos from {@link #from} with the UI to-dos {@link #added}.
+     */
+    private class RecordedChange {
+        final int from;
+        final int removedCount;
+        List<UiToDo> added;
+
+        RecordedChange(int from, int removedCount, List<UiToDo> added) {
+            this.from = from;
+            this.removedCount = removedCount;
+            this.added = added;
+        }
+
+        void copyAdded() {
+            List<UiToDo> copies = new ArrayList<>(added.size());
+            added.forEach(uiToDo -> copies.add(copy(uiToDo)));
+            added = copies;
+        }
+
+        void apply() {
+            if (removedCount > 0) {
+                removeRange(from, from + removedCount);
+            }
+            if (!added.isEmpty()) {
+                addAll(from, added);
+            }
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package seedu.commando.logic;
+
+import seedu.commando.commons.core.LogsCenter;
+import seedu.commando.model.todo.ReadOnlyToDoList;
+import seedu.commando.model.todo.ToDoListChange;
+import seedu.commando.storage.Storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+//@@author A0139697H
+
+/**
+ * Saves the to-do list to {@link Storage}, either on the thread submitting it, or on a dedicated writer thread.
+ *
+ * On the writer thread, saves are delayed until no save has been submitted for a while, but not longer than
+ * a maximum latency, and the saves submitted in the meantime are coalesced into one write:
+ * changes submitted are saved together, and if any save of the whole to-do list was submitted,
+ * only the latest to-do list is saved.
+ */
+class ToDoListSaver {
+    private static final Logger logger = LogsCenter.getLogger(ToDoListSaver.class);
+
+    private final Storage storage;
+    private final Consumer<Exception> errorHandler;
+    private final long delay;
+    private final long maxLatency;
+    private final Thread writer;
+
+    // Saves submitted and not taken by the writer yet
+    private final List<ToDoListChange> pendingChanges = new ArrayList<>();
+    private ReadOnlyToDoList pendingToDoList;
+    private boolean isFullSavePending;
+    private long firstSubmitTime;
+    private long lastSubmitTime;
+
+    private boolean isSaving;
+    private int flushesCount;
+    private boolean isStopped;
+
+    /**
+     * Creates a saver that saves on the thread submitting the save.
+     *
+     * @param errorHandler called with any exception thrown while saving
+     */
+    ToDoListSaver(Storage storage, Consumer<Exception> errorHandler) {
+        assert storage != null && errorHandler != null;
+
+        this.storage = storage;
+        this.errorHandler = errorHandler;
+        this.delay = 0;
+        this.maxLatency = 0;
+        this.writer = null;
+    }
+
+    /**
+     * Creates a saver that saves on a dedicated writer thread.
+     * To-do lists submitted must not be modified afterwards.
+     *
+     * @param errorHandler called on the writer thread with any exception thrown while saving,
+     *                     after which the writer thread keeps saving
+     * @param delay        milliseconds without any save submitted before saving, asserted non-negative
+     * @param maxLatency   maximum milliseconds from a save submitted to saving, asserted non-negative
+     */
+    ToDoListSaver(Storage storage, Consumer<Exception> errorHandler, long delay, long maxLatency) {
+        assert storage != null && errorHandler != null && delay >= 0 && maxLatency >= 0;
+
+        this.storage = storage;
+        this.errorHandler = errorHandler;
+        this.delay = TimeUnit.MILLISECONDS.toNanos(delay);
+        this.maxLatency = TimeUnit.MILLISECONDS.toNanos(maxLatency);
+
+        writer = new Thread(this::runWriter, "To-do list writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Returns whether saves are done on the writer thread, where to-do lists submitted must be immutable.
+     */
+    boolean isInBackground() {
+        return writer != null;
+    }
+
+    /**
+     * Submits a change to the to-do list to be saved, where {@param toDoList} is the to-do list after the change.
+     */
+    void submitChange(ToDoListChange change, ReadOnlyToDoList toDoList) {
+        assert change != null && toDoList != null;
+
+        if (!isInBackground()) {
+            List<ToDoListChange> changes = new ArrayList<>();
+            changes.add(change);
+            save(changes, toDoList, false);
+            return;
+        }
+
+        synchronized (this) {
+            pendingChanges.add(change);
+            setPendingToDoList(toDoList);
+        }
+    }
+
+    /**
+     * Submits the whole to-do list to be saved.
+     */
+    void submitToDoList(ReadOnlyToDoList toDoList) {
+        assert toDoList != null;
+
+        if (!isInBackground()) {
+            save(new ArrayList<>(), toDoList, true);
+            return;
+        }
+
+        synchronized (this) {
+            isFullSavePending = true;
+            setPendingToDoList(toDoList);
+        }
+    }
+
+    /**
+     * Saves all submitted saves without any delay, and waits for them to be saved.
+     */
+    synchronized void flush() {
+        if (!isInBackground()) {
+            return;
+        }
+
+        flushesCount++;
+        notifyAll();
+
+        try {
+            while (pendingToDoList != null || isSaving) {
+                wait();
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } finally {
+            flushesCount--;
+        }
+    }
+
+    /**
+     * Flushes all submitted saves, then stops the writer thread.
+     */
+    void stop() {
+        flush();
+
+        synchronized (this) {
+            isStopped = true;
+            notifyAll();
+        }
+    }
+
+    private void setPendingToDoList(ReadOnlyToDoList toDoList) {
+        assert !isStopped : "Saver should not be used after it is stopped";
+
+        lastSubmitTime = System.nanoTime();
+        if (pendingToDoList == null) {
+            firstSubmitTime = lastSubmitTime;
+        }
+
+        pendingToDoList = toDoList;
+        notifyAll();
+    }
+
+    private void runWriter() {
+        while (true) {
+            List<ToDoListChange> changes;
+            ReadOnlyToDoList toDoList;
+            boolean isFullSave;
+
+            synchronized (this) {
+                try {
+                    while (pendingToDoList == null && !isStopped) {
+                        wait();
+                    }
+
+                    if (pendingToDoList == null) {
+                        return;
+                    }
+
+                    // Wait for submits to stop for the delay, but not longer than the max latency, unless flushing
+                    while (flushesCount == 0 && !isStopped) {
+                        long saveTime = Math.min(lastSubmitTime + delay, firstSubmitTime + maxLatency);
+                        long waitTime = saveTime - System.nanoTime();
+
+                        if (waitTime <= 0) {
+                            break;
+                        }
+
+                        TimeUnit.NANOSECONDS.timedWait(this, waitTime);
+                    }
+                } catch (InterruptedException exception) {
+                    logger.warning("To-do list writer interrupted with unsaved changes");
+                    return;
+                }
+
+                changes = new ArrayList<>(pendingChanges);
+                toDoList = pendingToDoList;
+                isFullSave = isFullSavePending;
+
+                pendingChanges.clear();
+                pendingToDoList = null;
+                isFullSavePending = false;
+                isSaving = true;
+            }
+
+            try {
+                save(changes, toDoList, isFullSave);
+            } finally {
+                synchronized (this) {
+                    isSaving = false;
+                    notifyAll();
+                }
+            }
+        }
+    }
+
+    private void save(List<ToDoListChange> changes, ReadOnlyToDoList toDoList, boolean isFullSave) {
+        try {
+            if (isFullSave) {
+                storage.saveToDoList(toDoList);
+            } else {
+                storage.saveToDoListChanges(changes, toDoList);
+            }
+        } catch (IOException | RuntimeException exception) {
+            // Unchecked exceptions are handled too, so the writer thread never dies with saves pending
+            errorHandler.accept(exception);
+        }
+    }
+}
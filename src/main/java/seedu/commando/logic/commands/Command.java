@@ -3,6 +3,8 @@ package seedu.commando.logic.commands;
 import seedu.commando.commons.core.EventsCenter;
 import seedu.commando.model.Model;
 
+import java.util.concurrent.Executor;
+
 //@@author A0139697H
 
 /**
@@ -12,6 +14,7 @@ public abstract class Command {
 
     private EventsCenter eventsCenter;
     private Model model;
+    private Executor backgroundExecutor = Runnable::run;
 
     /**
      * Sets the EventsCenter for the command.
@@ -33,6 +36,17 @@ public abstract class Command {
         this.model = model;
     }
 
+    /**
+     * Sets the executor for work the command can finish after it returns, e.g. writing a file.
+     * Without it, the work is done on the thread executing the command.
+     * {@param backgroundExecutor} must be non-null.
+     */
+    public void setBackgroundExecutor(Executor backgroundExecutor) {
+        assert backgroundExecutor != null;
+
+        this.backgroundExecutor = backgroundExecutor;
+    }
+
     public static class NoEventsCenterException extends Exception {
     }
 
@@ -67,6 +81,13 @@ public abstract class Command {
         return model;
     }
 
+    /**
+     * Gets the executor set by {@link #setBackgroundExecutor(Executor)}.
+     */
+    protected Executor getBackgroundExecutor() {
+        return backgroundExecutor;
+    }
+
     /**
      * Executes the command.
      *
@@ -114,13 +114,16 @@ public class CommandFactory {
 
     //@@author A0142230B
     private Command buildImportCommand() throws IllegalValueException {
+        //@@author A0139697H
+        boolean isMerging = commandParser.isMergeThenExtract();
+        //@@author A0142230B
         // Extract the file path
         String path = commandParser.extractText()
             .orElseThrow(
                 () -> new IllegalValueException(Messages.MISSING_IMPORT_PATH)
             );
 
-        return new ImportCommand(path);
+        return new ImportCommand(path, isMerging);
     }
 
     //@@author A0142230B
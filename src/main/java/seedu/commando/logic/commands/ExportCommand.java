@@ -1,20 +1,41 @@
 package seedu.commando.logic.commands;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.logging.Logger;
 
+import javafx.application.Platform;
+import seedu.commando.commons.core.EventsCenter;
+import seedu.commando.commons.core.LogsCenter;
 import seedu.commando.commons.core.Messages;
+import seedu.commando.commons.events.BaseEvent;
+import seedu.commando.commons.events.storage.ToDoListExportFailedEvent;
+import seedu.commando.commons.events.storage.ToDoListExportedEvent;
+import seedu.commando.commons.util.AtomicFileWriter;
 import seedu.commando.model.Model;
-import seedu.commando.storage.XmlToDoListStorage;
+import seedu.commando.model.todo.ReadOnlyToDoList;
+import seedu.commando.storage.ToDoListExporter;
+import seedu.commando.storage.ToDoListExporters;
 
 //@@author A0142230B
 /**
- * Exports the to-do list to a destination file path.
+ * Exports the to-do list to a destination file path, in the format for its extension, see {@link ToDoListExporters}.
+ * The file is written in the background, and {@link ToDoListExportedEvent} or {@link ToDoListExportFailedEvent}
+ * is raised when it is done.
  */
 public class ExportCommand extends Command {
 
     public static final String COMMAND_WORD = "export";
 
+    //@@author A0139697H
+    private static final Logger logger = LogsCenter.getLogger(ExportCommand.class);
+
+    //@@author A0142230B
+
     private String path;
 	private Boolean isOverride;
 
@@ -33,7 +54,7 @@ public class ExportCommand extends Command {
      * Asserts that {@code model} are non-null
      */
 	@Override
-	public CommandResult execute() throws NoModelException {
+	public CommandResult execute() throws NoModelException, NoEventsCenterException {
 		Model model = getModel();
 
 		File file = new File(path);
@@ -48,15 +69,64 @@ public class ExportCommand extends Command {
 			return new CommandResult(String.format(Messages.EXPORT_COMMAND_FILE_EXIST, path), true);
 		} 		
 		else {
-			XmlToDoListStorage export = new XmlToDoListStorage(path);
+			//@@author A0139697H
+			// Export the model's snapshot, so the to-do list can keep changing while it is written in the background
+			ReadOnlyToDoList snapshot = model.getSnapshot().toDoList;
+			ToDoListExporter exporter = ToDoListExporters.forFilePath(path);
+			EventsCenter eventsCenter = getEventsCenter();
+
+			CompletableFuture<Void> export = CompletableFuture.runAsync(
+				() -> exportToFile(eventsCenter, exporter, snapshot, file), getBackgroundExecutor());
 
 			try {
-				export.saveToDoList(model.getToDoList(), path);
-			} catch (IOException e) {
-				return new CommandResult(e.getMessage(), true);
+				export.getNow(null);
+			} catch (CompletionException e) {
+				return new CommandResult(e.getCause().getMessage(), true);
 			}
 
+			// Failures after the command has returned are raised as events instead
+			export.exceptionally(e -> {
+				Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+				raiseOnUiThread(eventsCenter, new ToDoListExportFailedEvent(path, cause instanceof UncheckedIOException
+					? ((UncheckedIOException) cause).getCause() : new IOException(cause)));
+				return null;
+			});
+
+			//@@author A0142230B
 			return new CommandResult(String.format(Messages.EXPORT_COMMAND, path));
 		}
 	}
+
+	//@@author A0139697H
+	private void exportToFile(EventsCenter eventsCenter, ToDoListExporter exporter, ReadOnlyToDoList toDoList,
+							  File file) {
+		long startTime = System.nanoTime();
+
+		// Written in full before it replaces the file, so a failed export leaves any file there as it was
+		try {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			exporter.export(toDoList, out);
+			AtomicFileWriter.forFile(file).write(out.toByteArray());
+		} catch (IOException exception) {
+			logger.warning("Failed to export to-do list to " + path + ": " + exception);
+			throw new UncheckedIOException(exception.getMessage(), exception);
+		}
+
+		ToDoListExportedEvent event = new ToDoListExportedEvent(path, toDoList.getToDos().size(),
+			(System.nanoTime() - startTime) / 1000000);
+		logger.info("Exported " + event.toDosCount + " to-dos to " + path + " in " + event.duration + "ms ("
+			+ event.getThroughput() + " to-dos/s)");
+		raiseOnUiThread(eventsCenter, event);
+	}
+
+	/**
+	 * Raises {@param event} on the JavaFX UI thread if possible, as exporting may be on a background thread.
+	 */
+	private static void raiseOnUiThread(EventsCenter eventsCenter, BaseEvent event) {
+		try {
+			Platform.runLater(() -> eventsCenter.post(event));
+		} catch (IllegalStateException e) {
+			eventsCenter.post(event);
+		}
+	}
 }
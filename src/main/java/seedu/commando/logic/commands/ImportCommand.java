@@ -1,15 +1,24 @@
 package seedu.commando.logic.commands;
 
+import seedu.commando.commons.core.EventsCenter;
+import seedu.commando.commons.core.LogsCenter;
 import seedu.commando.commons.core.Messages;
+import seedu.commando.commons.events.logic.ToDoListImportProgressEvent;
 import seedu.commando.commons.exceptions.DataConversionException;
 import seedu.commando.commons.exceptions.IllegalValueException;
 import seedu.commando.model.Model;
+import seedu.commando.model.todo.ReadOnlyToDoList;
+import seedu.commando.model.todo.ToDoList;
 import seedu.commando.model.todo.ToDoListChange;
+import seedu.commando.storage.ICalendarFileReader;
+import seedu.commando.storage.ToDoHandler;
 import seedu.commando.storage.XmlFileStorage;
-import seedu.commando.storage.XmlSerializableToDoList;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
 
 //@@author A0142230B
 
@@ -20,22 +29,31 @@ public class ImportCommand extends Command {
 
 	public static final String COMMAND_WORD = "import";
 
+	//@@author A0139697H
+	private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
+	private static final int TODOS_PER_PROGRESS_REPORT = 1000;
+	private static final int MAX_REPORTED_ENTRIES = 5;
+
+	//@@author A0142230B
 	private String path;
+	private boolean isMerging;
 
   /**
    * Initializes a import command.
    * @param inputPath file path of source data, non-null
+   * @param isMerging whether to add the to-dos in the file to the to-do list, instead of replacing it
    */
-	public ImportCommand(String inputPath) {
+	public ImportCommand(String inputPath, boolean isMerging) {
 		assert inputPath != null;
 		this.path = inputPath;
+		this.isMerging = isMerging;
 	}
 
 	/**
 	 * Asserts that {@code model} are non-null
 	 */
 	@Override
-	public CommandResult execute() throws NoModelException {
+	public CommandResult execute() throws NoModelException, NoEventsCenterException {
 		Model model = getModel();
 
 		File file = new File(path);
@@ -53,8 +71,15 @@ public class ImportCommand extends Command {
 		else {
 			// Read the toDoList from the import path
 			try {
-				XmlSerializableToDoList newXmlToDoList = XmlFileStorage.loadDataFromSaveFile(file);
-				updateToDoList(model, newXmlToDoList);
+				//@@author A0139697H
+				// Calendars are always merged into the to-do list
+				if (isMerging || ICalendarFileReader.isICalendarFile(path)) {
+					return mergeToDoList(model, file);
+				}
+
+				//@@author A0142230B
+				ReadOnlyToDoList newToDoList = XmlFileStorage.loadDataFromSaveFile(file);
+				updateToDoList(model, newToDoList);
 			} catch (FileNotFoundException e) {
 				return new CommandResult(String.format(Messages.IMPORT_COMMAND_FILE_NOT_EXIST, path), true);
 			} catch (DataConversionException e) {
@@ -67,8 +92,62 @@ public class ImportCommand extends Command {
 		}
 	}
 
-	private void updateToDoList(Model model, XmlSerializableToDoList newXmlToDoList) throws IllegalValueException {
-		model.changeToDoList(new ToDoListChange(newXmlToDoList.getToDos(), model.getToDoList()));
+	private void updateToDoList(Model model, ReadOnlyToDoList newToDoList) throws IllegalValueException {
+		model.changeToDoList(new ToDoListChange(newToDoList, model.getToDoList()));
+	}
+
+	//@@author A0139697H
+	/**
+	 * Streams the to-dos from {@param file}, in XML or iCalendar, adding those not similar to any to-do
+	 * in the to-do list or earlier in the file, as a single change. Similar to-dos are found through
+	 * the similarity index of the to-do lists, so this takes time linear in the sizes of the file and
+	 * the to-do list, and only the to-dos added are kept in memory.
+	 * Entries in iCalendar that are not valid to-dos are skipped and reported.
+	 */
+	private CommandResult mergeToDoList(Model model, File file)
+		throws FileNotFoundException, DataConversionException, IllegalValueException, NoEventsCenterException {
+		EventsCenter eventsCenter = getEventsCenter();
+		ReadOnlyToDoList toDoList = model.getToDoList();
+		ToDoList addedToDos = new ToDoList();
+		int[] toDosRead = { 0 };
+		List<String> invalidEntries = new ArrayList<>();
+
+		ToDoHandler handler = (toDo, progress) -> {
+			if (!toDoList.contains(toDo) && !addedToDos.contains(toDo)) {
+				addedToDos.add(toDo);
+			}
+
+			toDosRead[0]++;
+			if (toDosRead[0] % TODOS_PER_PROGRESS_REPORT == 0) {
+				eventsCenter.post(new ToDoListImportProgressEvent(path, toDosRead[0], progress));
+			}
+		};
+
+		if (ICalendarFileReader.isICalendarFile(path)) {
+			ICalendarFileReader.streamDataFromFile(file, handler, invalidEntries::add);
+		} else {
+			XmlFileStorage.streamDataFromSaveFile(file, handler);
+		}
+		eventsCenter.post(new ToDoListImportProgressEvent(path, toDosRead[0], 1));
+
+		int addedCount = addedToDos.getToDos().size();
+		logger.info("Merging " + addedCount + " of " + toDosRead[0] + " to-dos from " + path);
+
+		if (addedCount > 0) {
+			model.changeToDoList(new ToDoListChange(addedToDos, new ToDoList()));
+		}
+
+		String feedback = String.format(Messages.IMPORT_COMMAND_MERGED, path, addedCount, toDosRead[0] - addedCount);
+
+		if (!invalidEntries.isEmpty()) {
+			logger.warning("Skipped " + invalidEntries.size() + " invalid entries in " + path);
+			List<String> reported = invalidEntries.subList(0, Math.min(invalidEntries.size(), MAX_REPORTED_ENTRIES));
+			feedback += "\n" + String.format(Messages.IMPORT_COMMAND_INVALID_ENTRIES, invalidEntries.size(),
+				String.join("\n", reported)
+					+ (invalidEntries.size() > reported.size() ? "\n..." : ""));
+		}
+
+		return new CommandResult(feedback);
 	}
 
 }
@@ -33,6 +33,7 @@ public class CommandParser {
     public static final String TAG_PREFIX = "#";
     public static final String QUOTE_CHARACTER = "`";
     public static final String KEYWORD_OVERRIDE = "override";
+    public static final String KEYWORD_MERGE = "merge";
 
     // Pattern for "from ... to ... (recurrence)?"
     private static final Pattern DATERANGE_TWO_SIDED_PATTERN = Pattern.compile(
@@ -70,6 +71,12 @@ public class CommandParser {
         Pattern.CASE_INSENSITIVE
     );
 
+    // Pattern for "path (merge)?"
+    private static final Pattern MERGE_PATTERN = Pattern.compile(
+        "^(?<path>.*)\\s(" + KEYWORD_MERGE + ")$",
+        Pattern.CASE_INSENSITIVE
+    );
+
     private static final Pattern DUEDATE_PATTERN = Pattern.compile(
         "(?<left>.*)(^|\\s)" + KEYWORD_DUEDATE + "\\s+" + "(?<date>.+?)"
             + "(?<recurrence>(\\s+" + RECURRENCE_REGEX + ")?)$",
@@ -443,6 +450,22 @@ public class CommandParser {
         	return false;
         }
     }
+
+    //@@author A0139697H
+    /**
+     * Extract the keyword 'merge' from the end of input
+     * @return true if 'merge' found
+     */
+    public boolean isMergeThenExtract() {
+        final Matcher matcher = MERGE_PATTERN.matcher(input.trim());
+
+        if (matcher.find()) {
+            input = matcher.group("path").trim();
+            return true;
+        } else {
+            return false;
+        }
+    }
     
     
 
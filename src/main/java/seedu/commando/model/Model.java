@@ -8,6 +8,7 @@ import seedu.commando.model.todo.Tag;
 import seedu.commando.model.todo.ToDoListChange;
 import seedu.commando.model.ui.UiToDo;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -32,6 +33,28 @@ public interface Model {
      */
     void changeToDoList(ToDoListChange change) throws IllegalValueException;
 
+    /**
+     * Adds to-dos loaded from storage to its to-do list, e.g. as they are loaded in the background at startup.
+     * Unlike {@link #changeToDoList(ToDoListChange)}, this cannot be undone and does not need to be saved.
+     *
+     * @throws IllegalValueException if any of the to-dos is already in the to-do list
+     */
+    void addLoadedToDos(ReadOnlyToDoList toDos) throws IllegalValueException;
+
+    /**
+     * Gets the snapshot of the to-do list and UI to-dos after the latest change, which unlike the
+     * to-do list and UI to-dos themselves, can be read on any thread while the model changes.
+     *
+     * @return the latest snapshot, without locking
+     */
+    ModelSnapshot getSnapshot();
+
+    /**
+     * Releases the resources of the model, deleting the undo and redo history spilled to disk.
+     * To be called when the model is no longer used, e.g. when the app stops.
+     */
+    void close();
+
     /**
      * Undos the last successful change to its to-do list.
      *
@@ -72,6 +95,13 @@ public interface Model {
      */
     Optional<UiToDo> getUiToDoAtIndex(int index);
 
+    /**
+     * Returns the number of to-dos in the to-do list with each tag, ignoring case.
+     *
+     * @return map of case-folded tags to their number of to-dos, sorted by tag
+     */
+    Map<String, Integer> getTagCounts();
+
     /**
      * Clears any keywords, tags or daterange filters on the UI to-dos
      * and sets the filter mode.
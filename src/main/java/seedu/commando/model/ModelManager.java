@@ -13,8 +13,11 @@ import seedu.commando.model.todo.ToDoListChange;
 import seedu.commando.model.ui.UiModel;
 import seedu.commando.model.ui.UiToDo;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -23,6 +26,9 @@ import java.util.stream.Collectors;
 /**
  * Concrete implementation of {@link Model} for the Model component.
  * Defines how data is represented and holds the data of the application in-memory.
+ *
+ * Changes are serialized by a writer lock, and after each change, an immutable {@link ModelSnapshot}
+ * is published for readers on other threads, which read it without locking.
  */
 public class ModelManager extends ComponentManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
@@ -30,6 +36,13 @@ public class ModelManager extends ComponentManager implements Model {
     private final ToDoListManager toDoListManager;
     private final UiModel uiModel;
 
+    //@@author A0139697H
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ModelSnapshotter snapshotter;
+    private volatile ModelSnapshot latestSnapshot;
+    private long version;
+    //@@author A0122001M
+
     /**
      * Initializes a ModelManager with the given to-do list.
      * Asserts parameters to be non-null.
@@ -44,6 +57,8 @@ public class ModelManager extends ComponentManager implements Model {
 
         toDoListManager = new ToDoListManager(toDoList);
         uiModel = new UiModel(toDoListManager);
+        snapshotter = new ModelSnapshotter(this);
+        latestSnapshot = snapshotter.take(version);
 
         logUiToDoList();
     }
@@ -66,16 +81,91 @@ public class ModelManager extends ComponentManager implements Model {
      * @throws IllegalValueException if the change was invalid
      */
     @Override
-    public synchronized void changeToDoList(ToDoListChange change) throws IllegalValueException {
-        logger.info("Applying change to to-do list: " + change);
-        toDoListManager.changeToDoList(change);
+    public void changeToDoList(ToDoListChange change) throws IllegalValueException {
+        writeLock.lock();
+        try {
+            logger.info("Applying change to to-do list: " + change);
 
-        // if to-do list has changed, reset any find or history filter
-        clearUiToDoListFilter(FILTER_MODE.UNFINISHED);
-        indicateToDoListChanged();
-        logUiToDoList();
+            // if to-do list has changed, reset any find or history filter, along with the change
+            uiModel.changeToDoList(() -> {
+                toDoListManager.changeToDoList(change);
+                return null;
+            }, FILTER_MODE.UNFINISHED);
+            indicateToDoListChanged();
+            logUiToDoList();
+        } finally {
+            finishWrite();
+        }
     }
     
+    //@@author A0139697H
+    @Override
+    public void addLoadedToDos(ReadOnlyToDoList toDos) throws IllegalValueException {
+        writeLock.lock();
+        try {
+            logger.info("Adding " + toDos.getToDos().size() + " loaded to-dos to to-do list");
+            toDoListManager.addLoadedToDos(toDos);
+        } finally {
+            finishWrite();
+        }
+    }
+
+    @Override
+    public ModelSnapshot getSnapshot() {
+        return latestSnapshot;
+    }
+
+    @Override
+    public void close() {
+        writeLock.lock();
+        try {
+            logger.info("Closing model, deleting history spilled to disk");
+            toDoListManager.close();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Publishes a snapshot of the model if it has changed since the last one.
+     * To be called with the writer lock held.
+     */
+    private void publishSnapshot() {
+        assert writeLock.isHeldByCurrentThread();
+
+        if (snapshotter.hasChanged()) {
+            latestSnapshot = snapshotter.take(++version);
+        }
+    }
+
+    /**
+     * Publishes a snapshot if the model has changed, when the outermost change is done,
+     * so there is one snapshot for each change, then releases the writer lock.
+     */
+    private void finishWrite() {
+        try {
+            if (writeLock.getHoldCount() == 1) {
+                publishSnapshot();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Undos or redos the to-do list with {@param undoOrRedo}, resetting any find or history filter
+     * along with the change, if there was one.
+     */
+    private boolean changeUiModelToDoList(BooleanSupplier undoOrRedo) {
+        try {
+            return uiModel.changeToDoList(undoOrRedo::getAsBoolean, FILTER_MODE.UNFINISHED);
+        } catch (IllegalValueException exception) {
+            assert false : "Undos and redos should not fail";
+            return false;
+        }
+    }
+
+    //@@author A0122001M
     /**
      * Undos the last successful change to its to-do list.
      *
@@ -83,16 +173,20 @@ public class ModelManager extends ComponentManager implements Model {
      */
     @Override
     public boolean undoToDoList() {
-        logger.info("Undoing to-do list...");
-        boolean hasChanged = toDoListManager.undoToDoList();
+        writeLock.lock();
+        try {
+            logger.info("Undoing to-do list...");
+            boolean hasChanged = changeUiModelToDoList(toDoListManager::undoToDoList);
 
-        if (hasChanged) {
-            clearUiToDoListFilter(FILTER_MODE.UNFINISHED);
-            indicateToDoListChanged();
-            logUiToDoList();
-        }
+            if (hasChanged) {
+                indicateToDoListChanged();
+                logUiToDoList();
+            }
 
-        return hasChanged;
+            return hasChanged;
+        } finally {
+            finishWrite();
+        }
     }
 
     /**
@@ -102,16 +196,20 @@ public class ModelManager extends ComponentManager implements Model {
      */
     @Override
     public boolean redoToDoList() {
-        logger.info("Redoing to-do list...");
-        boolean hasChanged = toDoListManager.redoToDoList();
+        writeLock.lock();
+        try {
+            logger.info("Redoing to-do list...");
+            boolean hasChanged = changeUiModelToDoList(toDoListManager::redoToDoList);
 
-        if (hasChanged) {
-            clearUiToDoListFilter(FILTER_MODE.UNFINISHED);
-            indicateToDoListChanged();
-            logUiToDoList();
-        }
+            if (hasChanged) {
+                indicateToDoListChanged();
+                logUiToDoList();
+            }
 
-        return hasChanged;
+            return hasChanged;
+        } finally {
+            finishWrite();
+        }
     }
      
     /**
@@ -148,6 +246,11 @@ public class ModelManager extends ComponentManager implements Model {
     public Optional<UiToDo> getUiToDoAtIndex(int index) {
         return uiModel.getToDoAtIndex(index);
     }
+
+    @Override
+    public Map<String, Integer> getTagCounts() {
+        return uiModel.getTagCounts();
+    }
     
     /**
      * Clears any keywords, tags or daterange filters on the UI to-dos
@@ -156,10 +259,15 @@ public class ModelManager extends ComponentManager implements Model {
      */
     @Override
     public void clearUiToDoListFilter(FILTER_MODE filterMode) {
-        logger.info("Clearing filter on UI to-dos with filter mode: " + filterMode);
+        writeLock.lock();
+        try {
+            logger.info("Clearing filter on UI to-dos with filter mode: " + filterMode);
 
-        uiModel.clearToDoListFilter(filterMode);
-        logUiToDoList();
+            uiModel.clearToDoListFilter(filterMode);
+            logUiToDoList();
+        } finally {
+            finishWrite();
+        }
     }
 
     
@@ -175,19 +283,27 @@ public class ModelManager extends ComponentManager implements Model {
      */
     @Override
     public void setUiToDoListFilter(Set<String> keywords, Set<Tag> tags, FILTER_MODE filterMode) {
-        logger.info("Filtering UI to-dos by keywords " + keywords + " and tags " + tags
-            + " with filter mode: " + filterMode);
+        writeLock.lock();
+        try {
+            logger.info("Filtering UI to-dos by keywords " + keywords + " and tags " + tags
+                + " with filter mode: " + filterMode);
 
-        uiModel.setToDoListFilter(keywords, tags, filterMode);
+            uiModel.setToDoListFilter(keywords, tags, filterMode);
 
-        logUiToDoList();
+            logUiToDoList();
+        } finally {
+            finishWrite();
+        }
     }
 
     /**
      * Raises an event to indicate the model has changed.
      */
     private void indicateToDoListChanged() {
-        raise(new ToDoListChangedEvent(toDoListManager.getToDoList()));
+        // Handlers, e.g. saving, can read the snapshot with the change
+        publishSnapshot();
+        raise(new ToDoListChangedEvent(toDoListManager.getToDoList(),
+            toDoListManager.getLastToDoListChange().orElse(null)));
     }
     
     /**
@@ -199,15 +315,25 @@ public class ModelManager extends ComponentManager implements Model {
 
         logger.info("Tasks: " + uiModel.getTasks().stream().map(uiToDo -> uiToDo.getIndex() + ") " + uiToDo.getTitle())
             .collect(Collectors.joining(", ")));
+
+        logger.fine("History: " + toDoListManager.getUndoHistorySize() + " undo, "
+            + toDoListManager.getRedoHistorySize() + " redo, "
+            + toDoListManager.getHistorySpilledCount() + " spilled to disk, ~"
+            + toDoListManager.getHistoryMemoryUsage() + " bytes in memory");
     }
 
     //@@author A0142230B
     @Override
     public void setUiToDoListFilter(DateRange dateRange) {
-        logger.info("Filtering UI to-dos from " + dateRange.startDate.toString() + " to " + dateRange.endDate.toString());
+        writeLock.lock();
+        try {
+            logger.info("Filtering UI to-dos from " + dateRange.startDate.toString() + " to " + dateRange.endDate.toString());
 
-        uiModel.setToDoListFilter(dateRange);
+            uiModel.setToDoListFilter(dateRange);
 
-        logUiToDoList();
+            logUiToDoList();
+        } finally {
+            finishWrite();
+        }
     }
 }
@@ -0,0 +1,42 @@
+package seedu.commando.model;
+
+import seedu.commando.model.todo.ImmutableToDoList;
+import seedu.commando.model.ui.UiToDo;
+
+import java.util.Collections;
+import java.util.List;
+
+//@@author A0139697H
+
+/**
+ * Immutable snapshot of the to-do list and the UI to-dos of a model, published by the model after each change,
+ * which can be read on any thread without locking, and does not change as the model changes after it.
+ */
+public class ModelSnapshot {
+    /**
+     * Number of changes to the model before the snapshot, increasing with each snapshot published.
+     */
+    public final long version;
+    public final ImmutableToDoList toDoList;
+    public final List<UiToDo> uiEvents;
+    public final List<UiToDo> uiTasks;
+
+    ModelSnapshot(long version, ImmutableToDoList toDoList, List<UiToDo> uiEvents, List<UiToDo> uiTasks) {
+        this.version = version;
+        this.toDoList = toDoList;
+        this.uiEvents = Collections.unmodifiableList(uiEvents);
+        this.uiTasks = Collections.unmodifiableList(uiTasks);
+    }
+
+    /**
+     * Returns the UI to-do with the index {@param index}, as shown on the UI, events then tasks.
+     */
+    public UiToDo getUiToDoAtIndex(int index) {
+        assert index >= 1 && index <= getUiToDosCount();
+        return index <= uiEvents.size() ? uiEvents.get(index - 1) : uiTasks.get(index - 1 - uiEvents.size());
+    }
+
+    public int getUiToDosCount() {
+        return uiEvents.size() + uiTasks.size();
+    }
+}
@@ -0,0 +1,319 @@
+package seedu.commando.model;
+
+import javafx.collections.ListChangeListener;
+import seedu.commando.model.todo.ImmutableToDo;
+import seedu.commando.model.todo.ImmutableToDoList;
+import seedu.commando.model.todo.ReadOnlyToDo;
+import seedu.commando.model.ui.UiToDo;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+//@@author A0139697H
+
+/**
+ * Takes {@link ModelSnapshot}s of a model, on the thread changing the model.
+ *
+ * Each to-do is copied once when it is added or changed, and the copy is shared by the snapshots after,
+ * so a snapshot only copies references to the to-dos, instead of the to-dos themselves.
+ * The copies are {@link ImmutableToDo}s, with recurring dates advanced once as they are copied,
+ * so threads reading snapshots never change them.
+ *
+ * The to-do list is mirrored in chunks of to-dos as it changes, and a snapshot shares the copies of the
+ * chunks that have not changed since the previous snapshot, so it copies a reference per chunk
+ * and the to-dos of the changed chunks, instead of a reference per to-do.
+ * The UI to-dos of the previous snapshot are reused if they have not changed since.
+ */
+class ModelSnapshotter {
+    // Chunks are split when larger than this, and merged with the next chunk when less than a quarter of it
+    private static final int MAX_CHUNK_SIZE = 128;
+    private static final int MIN_CHUNK_SIZE = MAX_CHUNK_SIZE / 4;
+
+    private final Model model;
+
+    // Copies of the to-dos in the model's to-do list, by to-do object
+    private final Map<ReadOnlyToDo, ImmutableToDo> copies = new IdentityHashMap<>();
+
+    // The model's to-do list, in order
+    private final List<Chunk> chunks = new ArrayList<>();
+
+    private ModelSnapshot lastSnapshot;
+    private boolean hasToDoListChanged = true;
+    private boolean haveUiToDosChanged = true;
+
+    /**
+     * Consecutive to-dos in the model's to-do list, with their copies as of the last snapshot.
+     */
+    private static class Chunk {
+        final List<ReadOnlyToDo> toDos;
+
+        // Shared with the snapshots, so it is replaced instead of changed; null if the chunk changed since
+        ReadOnlyToDo[] copies;
+
+        Chunk(List<ReadOnlyToDo> toDos) {
+            this.toDos = new ArrayList<>(toDos);
+        }
+    }
+
+    /**
+     * The to-dos of a snapshot, read from the copies of its chunks.
+     */
+    private static class ChunkedList extends AbstractList<ReadOnlyToDo> implements RandomAccess {
+        private final ReadOnlyToDo[][] chunks;
+
+        // Index in the list after the last to-do of each chunk
+        private final int[] chunkEnds;
+
+        ChunkedList(ReadOnlyToDo[][] chunks, int[] chunkEnds) {
+            this.chunks = chunks;
+            this.chunkEnds = chunkEnds;
+        }
+
+        @Override
+        public ReadOnlyToDo get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+
+            int chunkIndex = Arrays.binarySearch(chunkEnds, index);
+            // Found if the index is right after a chunk, i.e. the first to-do of the next chunk
+            chunkIndex = chunkIndex >= 0 ? chunkIndex + 1 : -chunkIndex - 1;
+            int chunkStart = chunkIndex == 0 ? 0 : chunkEnds[chunkIndex - 1];
+            return chunks[chunkIndex][index - chunkStart];
+        }
+
+        @Override
+        public int size() {
+            return chunkEnds.length == 0 ? 0 : chunkEnds[chunkEnds.length - 1];
+        }
+    }
+
+    ModelSnapshotter(Model model) {
+        this.model = model;
+
+        insertToDos(0, model.getToDoList().getToDos());
+
+        model.getToDoList().getToDos().addListener(this::recordToDoListChange);
+        model.getUiEvents().addListener((ListChangeListener<UiToDo>) change -> haveUiToDosChanged = true);
+        model.getUiTasks().addListener((ListChangeListener<UiToDo>) change -> haveUiToDosChanged = true);
+    }
+
+    /**
+     * Returns whether the model has changed since the last snapshot.
+     */
+    boolean hasChanged() {
+        return hasToDoListChanged || haveUiToDosChanged;
+    }
+
+    /**
+     * Takes a snapshot of the model as it is now.
+     */
+    ModelSnapshot take(long version) {
+        ImmutableToDoList toDoList = hasToDoListChanged ? copyToDoList() : lastSnapshot.toDoList;
+        List<UiToDo> uiEvents = lastSnapshot == null ? Collections.emptyList() : lastSnapshot.uiEvents;
+        List<UiToDo> uiTasks = lastSnapshot == null ? Collections.emptyList() : lastSnapshot.uiTasks;
+
+        if (haveUiToDosChanged) {
+            uiEvents = copyUiToDos(model.getUiEvents(), uiEvents);
+            uiTasks = copyUiToDos(model.getUiTasks(), uiTasks);
+        }
+
+        hasToDoListChanged = false;
+        haveUiToDosChanged = false;
+        lastSnapshot = new ModelSnapshot(version, toDoList, uiEvents, uiTasks);
+        return lastSnapshot;
+    }
+
+    private ImmutableToDoList copyToDoList() {
+        ReadOnlyToDo[][] chunkCopies = new ReadOnlyToDo[chunks.size()][];
+        int[] chunkEnds = new int[chunks.size()];
+        int size = 0;
+
+        for (int i = 0; i < chunks.size(); i++) {
+            Chunk chunk = chunks.get(i);
+
+            if (chunk.copies == null) {
+                ReadOnlyToDo[] toDoCopies = new ReadOnlyToDo[chunk.toDos.size()];
+                for (int j = 0; j < toDoCopies.length; j++) {
+                    toDoCopies[j] = getCopy(chunk.toDos.get(j));
+                }
+                // Set after copying, as copying can advance recurring dates, which marks the chunk changed
+                chunk.copies = toDoCopies;
+            }
+
+            size += chunk.copies.length;
+            chunkCopies[i] = chunk.copies;
+            chunkEnds[i] = size;
+        }
+
+        return ImmutableToDoList.wrap(new ChunkedList(chunkCopies, chunkEnds));
+    }
+
+    /**
+     * Copies {@param uiToDos}, reusing the UI to-dos in {@param lastUiToDos}
+     * that are at the same positions and have not changed.
+     */
+    private List<UiToDo> copyUiToDos(List<UiToDo> uiToDos, List<UiToDo> lastUiToDos) {
+        List<UiToDo> uiToDoCopies = new ArrayList<>(uiToDos.size());
+
+        for (int i = 0; i < uiToDos.size(); i++) {
+            UiToDo uiToDo = uiToDos.get(i);
+            ImmutableToDo copy = getCopy(uiToDo.getToDo());
+            UiToDo lastUiToDo = i < lastUiToDos.size() ? lastUiToDos.get(i) : null;
+
+            if (lastUiToDo != null && lastUiToDo.getToDo() == copy
+                && lastUiToDo.getIndex() == uiToDo.getIndex() && lastUiToDo.isNew() == uiToDo.isNew()) {
+                uiToDoCopies.add(lastUiToDo);
+            } else {
+                uiToDoCopies.add(new UiToDo(copy, uiToDo.getIndex(), uiToDo.isNew()));
+            }
+        }
+
+        return uiToDoCopies;
+    }
+
+    private ImmutableToDo getCopy(ReadOnlyToDo toDo) {
+        // Copied now if it changed since its last copy
+        ImmutableToDo copy = copies.get(toDo);
+        if (copy == null) {
+            // Copying can advance the to-do's recurring dates, which removes any copy of it, so put after
+            copy = ImmutableToDo.of(toDo);
+            copies.put(toDo, copy);
+        }
+        return copy;
+    }
+
+    private void recordToDoListChange(ListChangeListener.Change<? extends ReadOnlyToDo> change) {
+        hasToDoListChanged = true;
+
+        // The UI to-dos of a changed to-do refer to its copy, which is replaced
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                removeToDos(change.getFrom(), change.getTo() - change.getFrom());
+                insertToDos(change.getFrom(), change.getList().subList(change.getFrom(), change.getTo()));
+            } else if (change.wasUpdated()) {
+                haveUiToDosChanged = true;
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    ReadOnlyToDo toDo = change.getList().get(i);
+                    copies.remove(toDo);
+                    findChunk(i).copies = null;
+                }
+            } else {
+                change.getRemoved().forEach(copies::remove);
+                change.getAddedSubList().forEach(copies::remove);
+                removeToDos(change.getFrom(), change.getRemovedSize());
+                insertToDos(change.getFrom(), change.getAddedSubList());
+            }
+        }
+    }
+
+    /**
+     * Gets the chunk with the to-do at {@param index} in the model's to-do list.
+     */
+    private Chunk findChunk(int index) {
+        for (Chunk chunk : chunks) {
+            if (index < chunk.toDos.size()) {
+                return chunk;
+            }
+            index -= chunk.toDos.size();
+        }
+
+        throw new IndexOutOfBoundsException("No to-do at index in to-do list mirrored");
+    }
+
+    /**
+     * Removes {@param count} to-dos from index {@param from}, as they were removed from the model's to-do list.
+     */
+    private void removeToDos(int from, int count) {
+        int chunkIndex = 0;
+        while (count > 0) {
+            Chunk chunk = chunks.get(chunkIndex);
+
+            if (from >= chunk.toDos.size()) {
+                from -= chunk.toDos.size();
+                chunkIndex++;
+                continue;
+            }
+
+            int removedCount = Math.min(count, chunk.toDos.size() - from);
+            chunk.toDos.subList(from, from + removedCount).clear();
+            chunk.copies = null;
+            count -= removedCount;
+
+            if (chunk.toDos.isEmpty()) {
+                chunks.remove(chunkIndex);
+            } else {
+                from = 0;
+                chunkIndex++;
+            }
+        }
+
+        // Keeps chunks from getting small, so there are few chunks to copy
+        if (chunkIndex < chunks.size() && chunks.get(chunkIndex).toDos.size() < MIN_CHUNK_SIZE) {
+            mergeWithNext(chunkIndex);
+        }
+        if (chunkIndex > 0 && chunks.get(chunkIndex - 1).toDos.size() < MIN_CHUNK_SIZE) {
+            mergeWithNext(chunkIndex - 1);
+        }
+    }
+
+    /**
+     * Inserts {@param toDos} at index {@param from}, as they were added to the model's to-do list.
+     */
+    private void insertToDos(int from, List<? extends ReadOnlyToDo> toDos) {
+        if (toDos.isEmpty()) {
+            return;
+        }
+
+        int chunkIndex = 0;
+        while (chunkIndex < chunks.size() && from > chunks.get(chunkIndex).toDos.size()) {
+            from -= chunks.get(chunkIndex).toDos.size();
+            chunkIndex++;
+        }
+
+        if (chunkIndex == chunks.size()) {
+            chunks.add(new Chunk(Collections.emptyList()));
+        }
+
+        Chunk chunk = chunks.get(chunkIndex);
+        chunk.toDos.addAll(from, toDos);
+        chunk.copies = null;
+
+        splitIfLarge(chunkIndex);
+    }
+
+    private void mergeWithNext(int chunkIndex) {
+        if (chunkIndex + 1 >= chunks.size()) {
+            return;
+        }
+
+        Chunk chunk = chunks.get(chunkIndex);
+        chunk.toDos.addAll(chunks.remove(chunkIndex + 1).toDos);
+        chunk.copies = null;
+
+        splitIfLarge(chunkIndex);
+    }
+
+    private void splitIfLarge(int chunkIndex) {
+        Chunk chunk = chunks.get(chunkIndex);
+        if (chunk.toDos.size() <= MAX_CHUNK_SIZE) {
+            return;
+        }
+
+        // Split into chunks of half the maximum size, so they can grow before they are split again
+        List<Chunk> splitChunks = new ArrayList<>();
+        for (int from = 0; from < chunk.toDos.size(); from += MAX_CHUNK_SIZE / 2) {
+            int to = Math.min(from + MAX_CHUNK_SIZE / 2, chunk.toDos.size());
+            splitChunks.add(new Chunk(chunk.toDos.subList(from, to)));
+        }
+
+        chunks.remove(chunkIndex);
+        chunks.addAll(chunkIndex, splitChunks);
+    }
+}
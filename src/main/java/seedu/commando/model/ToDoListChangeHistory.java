@@ -0,0 +1,305 @@
+package seedu.commando.model;
+
+import seedu.commando.commons.core.LogsCenter;
+import seedu.commando.commons.util.FileUtil;
+import seedu.commando.model.todo.BinaryToDoCodec;
+import seedu.commando.model.todo.ToDoListChange;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Logger;
+
+//@@author A0139697H
+
+/**
+ * A stack of {@link ToDoListChange}s with a bounded in-memory footprint.
+ *
+ * The most recent changes are kept in memory, up to a maximum number of changes and
+ * an estimated number of bytes. Older changes are spilled to an on-disk journal instead of
+ * being dropped, and are read back lazily when the stack is popped far enough.
+ *
+ * The journal is a file only the user can read in a journal directory, locked while it is in use,
+ * and deleted by {@link #close()}. Journals left behind by a crash are deleted with
+ * {@link #deleteLeftoverJournals(File)}.
+ */
+class ToDoListChangeHistory {
+    private static final Logger logger = LogsCenter.getLogger(ToDoListChangeHistory.class);
+
+    private static final String JOURNAL_PREFIX = "history-";
+    private static final String JOURNAL_SUFFIX = ".journal";
+
+    private final int maxChangesInMemory;
+    private final long maxBytesInMemory;
+    private final File journalDirectory;
+
+    // Changes in memory, most recent last
+    private final Deque<Entry> entries = new ArrayDeque<>();
+    private long bytesInMemory;
+
+    // Offsets of the changes spilled to the journal, most recent last
+    private final ArrayList<Long> journalOffsets = new ArrayList<>();
+    private File journalFile;
+    private RandomAccessFile journal;
+
+    /**
+     * Asserts {@param maxChangesInMemory} and {@param maxBytesInMemory} to be positive.
+     *
+     * @param maxChangesInMemory maximum number of changes kept in memory
+     * @param maxBytesInMemory   maximum estimated number of bytes of changes kept in memory,
+     *                           though the most recent change is always kept in memory
+     * @param journalDirectory   directory to create the journal in, when changes are first spilled
+     */
+    ToDoListChangeHistory(int maxChangesInMemory, long maxBytesInMemory, File journalDirectory) {
+        assert maxChangesInMemory > 0 && maxBytesInMemory > 0 && journalDirectory != null;
+
+        this.maxChangesInMemory = maxChangesInMemory;
+        this.maxBytesInMemory = maxBytesInMemory;
+        this.journalDirectory = journalDirectory;
+    }
+
+    /**
+     * Deletes the journals in {@param journalDirectory} that are not in use, left behind by a crash.
+     *
+     * @return number of journals deleted
+     */
+    static int deleteLeftoverJournals(File journalDirectory) {
+        File[] files = journalDirectory.listFiles((directory, name) ->
+            name.startsWith(JOURNAL_PREFIX) && name.endsWith(JOURNAL_SUFFIX));
+        if (files == null) {
+            return 0;
+        }
+
+        int deletedCount = 0;
+        for (File file : files) {
+            if (isInUse(file)) {
+                continue;
+            }
+
+            if (file.delete()) {
+                deletedCount++;
+            } else {
+                logger.warning("Unable to delete leftover history journal " + file);
+            }
+        }
+
+        if (deletedCount > 0) {
+            logger.info("Deleted " + deletedCount + " leftover history journals in " + journalDirectory);
+        }
+        return deletedCount;
+    }
+
+    private static boolean isInUse(File file) {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE)) {
+            FileLock lock = channel.tryLock();
+            if (lock == null) {
+                return true;
+            }
+            lock.release();
+            return false;
+        } catch (OverlappingFileLockException exception) {
+            // Locked by a history in this process
+            return true;
+        } catch (IOException exception) {
+            // e.g. open by another process on Windows
+            return true;
+        }
+    }
+
+    /**
+     * Pushes a change as the most recent change, spilling the oldest changes in memory to disk if needed.
+     */
+    void push(ToDoListChange change) {
+        assert change != null;
+
+        Entry entry = new Entry(change);
+        entries.addLast(entry);
+        bytesInMemory += entry.bytes;
+
+        while (entries.size() > maxChangesInMemory
+            || (bytesInMemory > maxBytesInMemory && entries.size() > 1)) {
+            spillOldestEntry();
+        }
+    }
+
+    /**
+     * Removes and returns the most recent change, reading it back from disk if it was spilled.
+     *
+     * @return an optional of the most recent change, empty if there are none
+     */
+    Optional<ToDoListChange> pop() {
+        if (!entries.isEmpty()) {
+            Entry entry = entries.removeLast();
+            bytesInMemory -= entry.bytes;
+            return Optional.of(entry.change);
+        }
+
+        if (!journalOffsets.isEmpty()) {
+            return readMostRecentSpilledChange();
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Removes all changes, in memory and on disk.
+     */
+    void clear() {
+        entries.clear();
+        bytesInMemory = 0;
+
+        if (!journalOffsets.isEmpty()) {
+            journalOffsets.clear();
+            try {
+                journal.setLength(0);
+            } catch (IOException exception) {
+                logger.warning("Unable to truncate history journal: " + exception.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Removes all changes, then closes and deletes the journal, if any.
+     * Changes can still be pushed after, to a new journal.
+     */
+    void close() {
+        entries.clear();
+        bytesInMemory = 0;
+        journalOffsets.clear();
+
+        if (journal == null) {
+            return;
+        }
+
+        try {
+            // Also releases the lock
+            journal.close();
+        } catch (IOException exception) {
+            logger.warning("Unable to close history journal: " + exception.getMessage());
+        }
+
+        if (!journalFile.delete()) {
+            logger.warning("Unable to delete history journal " + journalFile);
+        }
+
+        journal = null;
+        journalFile = null;
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @return total number of changes, in memory and on disk
+     */
+    int size() {
+        return entries.size() + journalOffsets.size();
+    }
+
+    /**
+     * @return number of changes spilled to disk
+     */
+    int getSpilledCount() {
+        return journalOffsets.size();
+    }
+
+    /**
+     * @return estimated number of bytes the changes in memory take up
+     */
+    long getMemoryUsage() {
+        return bytesInMemory;
+    }
+
+    private void spillOldestEntry() {
+        Entry entry = entries.removeFirst();
+        bytesInMemory -= entry.bytes;
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            BinaryToDoCodec.writeToDoListChange(new DataOutputStream(bytes), entry.change);
+
+            RandomAccessFile journal = getJournal();
+            long offset = journal.length();
+            journal.seek(offset);
+            journal.writeInt(bytes.size());
+            journal.write(bytes.toByteArray());
+
+            journalOffsets.add(offset);
+        } catch (IOException exception) {
+            // Spilled changes are below the dropped change, so they can't be reached anymore
+            logger.warning("Unable to spill change to history journal, dropping the "
+                + (journalOffsets.size() + 1) + " oldest changes: " + exception.getMessage());
+            journalOffsets.clear();
+        }
+    }
+
+    private Optional<ToDoListChange> readMostRecentSpilledChange() {
+        long offset = journalOffsets.remove(journalOffsets.size() - 1);
+
+        try {
+            journal.seek(offset);
+            byte[] bytes = new byte[journal.readInt()];
+            journal.readFully(bytes);
+            journal.setLength(offset);
+
+            return Optional.of(BinaryToDoCodec.readToDoListChange(
+                new DataInputStream(new ByteArrayInputStream(bytes))
+            ));
+        } catch (IOException exception) {
+            logger.warning("Unable to read change from history journal, dropping the "
+                + (journalOffsets.size() + 1) + " oldest changes: " + exception.getMessage());
+            journalOffsets.clear();
+            return Optional.empty();
+        }
+    }
+
+    private RandomAccessFile getJournal() throws IOException {
+        if (journal == null) {
+            File file = new File(journalDirectory,
+                JOURNAL_PREFIX + Long.toHexString(ThreadLocalRandom.current().nextLong()) + JOURNAL_SUFFIX);
+            FileUtil.createOwnerOnlyFile(file);
+
+            RandomAccessFile journal = new RandomAccessFile(file, "rw");
+            try {
+                // Marks the journal as in use, so it is not deleted as a leftover
+                if (journal.getChannel().tryLock() == null) {
+                    throw new IOException("Unable to lock history journal " + file);
+                }
+            } catch (IOException | RuntimeException exception) {
+                journal.close();
+                file.delete();
+                throw exception;
+            }
+
+            this.journal = journal;
+            journalFile = file;
+            logger.info("Spilling older history to " + journalFile);
+        }
+
+        return journal;
+    }
+
+    private static class Entry {
+        final ToDoListChange change;
+        final long bytes;
+
+        Entry(ToDoListChange change) {
+            this.change = change;
+            this.bytes = BinaryToDoCodec.estimateMemoryUsage(change);
+        }
+    }
+}
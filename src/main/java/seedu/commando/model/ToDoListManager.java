@@ -1,11 +1,12 @@
 package seedu.commando.model;
 
+import seedu.commando.commons.core.Config;
 import seedu.commando.commons.exceptions.IllegalValueException;
 import seedu.commando.model.todo.ReadOnlyToDoList;
 import seedu.commando.model.todo.ToDoList;
 import seedu.commando.model.todo.ToDoListChange;
 
-import java.util.ArrayList;
+import java.io.File;
 import java.util.Optional;
 
 //@@author A0139697H
@@ -17,23 +18,54 @@ public class ToDoListManager {
     private final ToDoList toDoList;
 
     // changes that can be undone
-    private final ArrayList<ToDoListChange> toDoListChanges = new ArrayList<>();
+    private final ToDoListChangeHistory toDoListChanges;
 
     // changes that can be redone
-    private final ArrayList<ToDoListChange> toDoListUndoChanges = new ArrayList<>();
+    private final ToDoListChangeHistory toDoListUndoChanges;
 
     private ToDoListChange lastToDoListChange;
 
     /**
-     * Initializes with the given to-do list, which is managed internally.
+     * Initializes with the given to-do list, which is managed internally,
+     * keeping the default number of changes in memory for undo and redo.
      * Asserts parameters are non-null.
      *
      * @param toDoList the internal to-do list will be a deep copy of this
      */
     public ToDoListManager(ReadOnlyToDoList toDoList) {
-        assert toDoList != null;
+        this(toDoList, Config.HistoryMaxChangesInMemory, Config.HistoryMaxBytesInMemory,
+            new File(Config.HistoryJournalDirectory));
+    }
+
+    /**
+     * Initializes with the given to-do list, which is managed internally.
+     * Changes beyond {@param maxChangesInMemory} or {@param maxBytesInMemory} are spilled to disk,
+     * so the number of changes that can be undone is not limited.
+     * Journals in {@param journalDirectory} left behind by a crash are deleted.
+     * Asserts parameters are non-null.
+     *
+     * @param toDoList           the internal to-do list will be a deep copy of this
+     * @param maxChangesInMemory maximum number of changes kept in memory for undo, and for redo
+     * @param maxBytesInMemory   maximum estimated number of bytes of changes kept in memory for undo, and for redo
+     * @param journalDirectory   directory to spill changes to, only readable by the user
+     */
+    public ToDoListManager(ReadOnlyToDoList toDoList, int maxChangesInMemory, long maxBytesInMemory,
+                           File journalDirectory) {
+        assert toDoList != null && journalDirectory != null;
 
         this.toDoList = new ToDoList(toDoList);
+        ToDoListChangeHistory.deleteLeftoverJournals(journalDirectory);
+        toDoListChanges = new ToDoListChangeHistory(maxChangesInMemory, maxBytesInMemory, journalDirectory);
+        toDoListUndoChanges = new ToDoListChangeHistory(maxChangesInMemory, maxBytesInMemory, journalDirectory);
+    }
+
+    /**
+     * Clears the history of changes, deleting any changes spilled to disk.
+     * To be called when the to-do list manager is no longer used.
+     */
+    public void close() {
+        toDoListChanges.close();
+        toDoListUndoChanges.close();
     }
 
     /**
@@ -47,35 +79,44 @@ public class ToDoListManager {
      * @see Model#changeToDoList(ToDoListChange)
      */
     public void changeToDoList(ToDoListChange change) throws IllegalValueException {
-        applyToDoListChange(change);
-        toDoListChanges.add(change);
+        // Kept with the to-dos actually added, so undo, redo and listeners see the same IDs as the list
+        ToDoListChange changeWithUniqueIds = toDoList.withUniqueIds(change);
+
+        applyToDoListChange(changeWithUniqueIds);
+        toDoListChanges.push(changeWithUniqueIds);
 
         // Reset undo list upon a change
         toDoListUndoChanges.clear();
     }
 
+    /**
+     * @see Model#addLoadedToDos(ReadOnlyToDoList)
+     */
+    public void addLoadedToDos(ReadOnlyToDoList toDos) throws IllegalValueException {
+        toDoList.add(toDos);
+    }
+
     /**
      * @see Model#undoToDoList()
      */
     public boolean undoToDoList() {
         // Nothing else to undo if the list of changes is empty
-        if (toDoListChanges.isEmpty()) {
+        Optional<ToDoListChange> change = toDoListChanges.pop();
+        if (!change.isPresent()) {
             return false;
         }
 
-        ToDoListChange change = toDoListChanges.get(toDoListChanges.size() - 1);
-
         try {
-            applyToDoListChange(change.getReverseChange());
+            applyToDoListChange(change.get().getReverseChange());
         } catch (IllegalValueException exception) {
             // undo should always work
             assert false;
+            toDoListChanges.push(change.get());
             return false;
         }
 
-        // move changes from change list to to undo change list
-        toDoListUndoChanges.add(change);
-        toDoListChanges.remove(toDoListChanges.size() - 1);
+        // move change from change list to undo change list
+        toDoListUndoChanges.push(change.get());
 
         return true;
     }
@@ -85,44 +126,41 @@ public class ToDoListManager {
      */
     public boolean redoToDoList() {
         // Check if there are any undos to redo
-        if (toDoListUndoChanges.isEmpty()) {
+        Optional<ToDoListChange> change = toDoListUndoChanges.pop();
+        if (!change.isPresent()) {
             return false;
         }
 
-        ToDoListChange change = toDoListUndoChanges.get(toDoListUndoChanges.size() - 1);
-
         try {
-            applyToDoListChange(change);
+            applyToDoListChange(change.get());
         } catch (IllegalValueException exception) {
             // Redo should always work
             assert false;
+            toDoListUndoChanges.push(change.get());
             return false;
         }
 
-        // move changes from undo change list to change list
-        toDoListChanges.add(change);
-        toDoListUndoChanges.remove(toDoListUndoChanges.size() - 1);
+        // move change from undo change list to change list
+        toDoListChanges.push(change.get());
 
         return true;
     }
 
     /**
-     * Tries to apply a change to the to-do list.
+     * Tries to apply a change to the to-do list, as a single change to its list of to-dos.
+     * The to-do list is unchanged if it fails.
      * @throws IllegalValueException if there were duplicate to-dos added or
      *   there were non-existent to-dos deleted.
      */
     private void applyToDoListChange(ToDoListChange change) throws IllegalValueException {
+        // Listeners of the to-do list can get the change while it is applied
+        ToDoListChange previousToDoListChange = lastToDoListChange;
         lastToDoListChange = change;
 
-        toDoList.remove(change.getDeletedToDos());
-
         try {
-            toDoList.add(change.getAddedToDos());
+            toDoList.change(change.getDeletedToDos(), change.getAddedToDos());
         } catch (IllegalValueException exception) {
-            // there were duplicate to-dos
-            // revert removal of to-dos
-            toDoList.add(change.getDeletedToDos());
-            lastToDoListChange = null;
+            lastToDoListChange = previousToDoListChange;
             throw exception;
         }
     }
@@ -135,4 +173,32 @@ public class ToDoListManager {
     public Optional<ToDoListChange> getLastToDoListChange() {
         return Optional.ofNullable(lastToDoListChange);
     }
+
+    /**
+     * @return number of changes that can be undone
+     */
+    public int getUndoHistorySize() {
+        return toDoListChanges.size();
+    }
+
+    /**
+     * @return number of changes that can be redone
+     */
+    public int getRedoHistorySize() {
+        return toDoListUndoChanges.size();
+    }
+
+    /**
+     * @return number of changes for undo and redo that are spilled to disk
+     */
+    public int getHistorySpilledCount() {
+        return toDoListChanges.getSpilledCount() + toDoListUndoChanges.getSpilledCount();
+    }
+
+    /**
+     * @return estimated number of bytes the changes for undo and redo take up in memory
+     */
+    public long getHistoryMemoryUsage() {
+        return toDoListChanges.getMemoryUsage() + toDoListUndoChanges.getMemoryUsage();
+    }
 }
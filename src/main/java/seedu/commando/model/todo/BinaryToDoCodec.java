@@ -0,0 +1,249 @@
+package seedu.commando.model.todo;
+
+import seedu.commando.commons.exceptions.IllegalValueException;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+//@@author A0139697H
+
+/**
+ * Encodes and decodes to-dos, to-do lists and to-do list changes in a compact binary format.
+ * Datetimes are written as epoch seconds and nanos, strings as length-prefixed UTF-8.
+ */
+public class BinaryToDoCodec {
+    private static final int FLAG_DUE_DATE = 1;
+    private static final int FLAG_DATE_RANGE = 1 << 1;
+    private static final int FLAG_DATE_FINISHED = 1 << 2;
+
+    // Set for to-dos written with their IDs, which those written before to-dos had IDs are not
+    private static final int FLAG_ID = 1 << 3;
+
+    // Rough number of bytes a to-do takes in memory, excluding its strings
+    private static final int TODO_MEMORY_OVERHEAD = 400;
+    private static final int TAG_MEMORY_OVERHEAD = 80;
+
+    private static final Recurrence[] recurrences = Recurrence.values();
+
+    /**
+     * Writes a to-do to {@param out}.
+     */
+    public static void writeToDo(DataOutput out, ReadOnlyToDo toDo) throws IOException {
+        assert toDo != null;
+
+        int flags = (toDo.getDueDate().isPresent() ? FLAG_DUE_DATE : 0)
+            | (toDo.getDateRange().isPresent() ? FLAG_DATE_RANGE : 0)
+            | (toDo.getDateFinished().isPresent() ? FLAG_DATE_FINISHED : 0)
+            | FLAG_ID;
+        out.writeByte(flags);
+
+        out.writeLong(toDo.getId());
+        writeString(out, toDo.getTitle().value);
+        writeDateTime(out, toDo.getDateCreated());
+
+        if (toDo.getDueDate().isPresent()) {
+            DueDate dueDate = toDo.getDueDate().get();
+            writeDateTime(out, dueDate.value);
+            out.writeByte(dueDate.recurrence.ordinal());
+        }
+
+        if (toDo.getDateRange().isPresent()) {
+            DateRange dateRange = toDo.getDateRange().get();
+            writeDateTime(out, dateRange.startDate);
+            writeDateTime(out, dateRange.endDate);
+            out.writeByte(dateRange.recurrence.ordinal());
+        }
+
+        if (toDo.getDateFinished().isPresent()) {
+            writeDateTime(out, toDo.getDateFinished().get());
+        }
+
+        Set<Tag> tags = toDo.getTags();
+        out.writeShort(tags.size());
+        for (Tag tag : tags) {
+            writeString(out, tag.value);
+        }
+    }
+
+    /**
+     * Reads a to-do written by {@link #writeToDo(DataOutput, ReadOnlyToDo)} from {@param in}.
+     *
+     * @throws IOException if the data could not be read or is not a valid to-do
+     */
+    public static ToDo readToDo(DataInput in) throws IOException {
+        int flags = in.readUnsignedByte();
+
+        // To-dos written without IDs keep the new IDs they are created with
+        Long id = (flags & FLAG_ID) != 0 ? in.readLong() : null;
+
+        Title title = new Title(readString(in));
+        ToDo toDo = id != null ? new ToDo(title, id) : new ToDo(title);
+        LocalDateTime dateCreated = readDateTime(in);
+
+        DueDate dueDate = null;
+        if ((flags & FLAG_DUE_DATE) != 0) {
+            dueDate = new DueDate(readDateTime(in), readRecurrence(in));
+        }
+
+        DateRange dateRange = null;
+        if ((flags & FLAG_DATE_RANGE) != 0) {
+            try {
+                dateRange = new DateRange(readDateTime(in), readDateTime(in), readRecurrence(in));
+            } catch (IllegalValueException exception) {
+                throw new IOException("Invalid date range: " + exception.getMessage());
+            }
+        }
+
+        LocalDateTime dateFinished = null;
+        if ((flags & FLAG_DATE_FINISHED) != 0) {
+            dateFinished = readDateTime(in);
+        }
+
+        int tagsCount = in.readUnsignedShort();
+        if (tagsCount > 0) {
+            Set<Tag> tags = new HashSet<>();
+            for (int i = 0; i < tagsCount; i++) {
+                tags.add(new Tag(readString(in)));
+            }
+            toDo.setTags(tags);
+        }
+
+        // Same order of setting fields as when reading from XML
+        if (dueDate != null) {
+            toDo.setDueDate(dueDate);
+        }
+
+        if (dateRange != null) {
+            toDo.setDateRange(dateRange);
+        }
+
+        if (dateFinished != null) {
+            toDo.setDateFinished(dateFinished);
+        }
+
+        toDo.setDateCreated(dateCreated);
+
+        return toDo;
+    }
+
+    /**
+     * Writes the to-dos of a to-do list to {@param out}, in order.
+     */
+    public static void writeToDoList(DataOutput out, ReadOnlyToDoList toDoList) throws IOException {
+        assert toDoList != null;
+
+        out.writeInt(toDoList.getToDos().size());
+        for (ReadOnlyToDo toDo : toDoList.getToDos()) {
+            writeToDo(out, toDo);
+        }
+    }
+
+    /**
+     * Reads a to-do list written by {@link #writeToDoList(DataOutput, ReadOnlyToDoList)} from {@param in}.
+     *
+     * @throws IOException if the data could not be read or is not a valid to-do list
+     */
+    public static ImmutableToDoList readToDoList(DataInput in) throws IOException {
+        int size = in.readInt();
+        if (size < 0) {
+            throw new IOException("Invalid to-do list size: " + size);
+        }
+
+        List<ReadOnlyToDo> toDos = new ArrayList<>(Math.min(size, 1024));
+        for (int i = 0; i < size; i++) {
+            toDos.add(readToDo(in));
+        }
+
+        return ImmutableToDoList.wrap(toDos);
+    }
+
+    /**
+     * Writes a to-do list change to {@param out}.
+     */
+    public static void writeToDoListChange(DataOutput out, ToDoListChange change) throws IOException {
+        assert change != null;
+
+        writeToDoList(out, change.getAddedToDos());
+        writeToDoList(out, change.getDeletedToDos());
+    }
+
+    /**
+     * Reads a to-do list change written by {@link #writeToDoListChange(DataOutput, ToDoListChange)}.
+     *
+     * @throws IOException if the data could not be read or is not a valid change
+     */
+    public static ToDoListChange readToDoListChange(DataInput in) throws IOException {
+        ImmutableToDoList addedToDos = readToDoList(in);
+        ImmutableToDoList deletedToDos = readToDoList(in);
+
+        return new ToDoListChange(addedToDos, deletedToDos);
+    }
+
+    /**
+     * Estimates the number of bytes the to-dos of a change take up in memory.
+     */
+    public static long estimateMemoryUsage(ToDoListChange change) {
+        return estimateMemoryUsage(change.getAddedToDos()) + estimateMemoryUsage(change.getDeletedToDos());
+    }
+
+    private static long estimateMemoryUsage(ReadOnlyToDoList toDoList) {
+        long bytes = 0;
+        for (ReadOnlyToDo toDo : toDoList.getToDos()) {
+            bytes += TODO_MEMORY_OVERHEAD + 2 * toDo.getTitle().value.length();
+            for (Tag tag : toDo.getTags()) {
+                bytes += TAG_MEMORY_OVERHEAD + 2 * tag.value.length();
+            }
+        }
+        return bytes;
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("Invalid string length: " + length);
+        }
+
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeDateTime(DataOutput out, LocalDateTime dateTime) throws IOException {
+        out.writeLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(dateTime.getNano());
+    }
+
+    private static LocalDateTime readDateTime(DataInput in) throws IOException {
+        long epochSecond = in.readLong();
+        int nano = in.readInt();
+
+        try {
+            return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+        } catch (RuntimeException exception) {
+            throw new IOException("Invalid datetime: " + epochSecond + "." + nano);
+        }
+    }
+
+    private static Recurrence readRecurrence(DataInput in) throws IOException {
+        int ordinal = in.readUnsignedByte();
+        if (ordinal >= recurrences.length) {
+            throw new IOException("Invalid recurrence: " + ordinal);
+        }
+
+        return recurrences[ordinal];
+    }
+}
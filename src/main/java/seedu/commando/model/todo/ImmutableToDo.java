@@ -0,0 +1,120 @@
+package seedu.commando.model.todo;
+
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.beans.value.ObservableStringValue;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+//@@author A0139697H
+
+/**
+ * An immutable copy of a to-do, frozen as of when it was copied, which can be read on any thread.
+ *
+ * Unlike {@link ToDo}, its getters never advance recurring dates, so reads never change it,
+ * and its dates finished are as they were when it was copied.
+ */
+public final class ImmutableToDo implements ReadOnlyToDo {
+    private final Title title;
+    private final DueDate dueDate;
+    private final DateRange dateRange;
+    private final Set<Tag> tags;
+    private final LocalDateTime dateCreated;
+    private final LocalDateTime dateFinished;
+    private final long id;
+    private final ObservableStringValue value;
+
+    private ImmutableToDo(ReadOnlyToDo toDo) {
+        // Read once each, as the getters of a to-do can advance its recurring dates
+        title = toDo.getTitle();
+        dateRange = toDo.getDateRange().orElse(null);
+        dueDate = toDo.getDueDate().orElse(null);
+        tags = Collections.unmodifiableSet(new TreeSet<>(toDo.getTags()));
+        dateCreated = toDo.getDateCreated();
+        dateFinished = toDo.getDateFinished().orElse(null);
+        id = toDo.getId();
+        value = new ReadOnlyStringWrapper(getText()).getReadOnlyProperty();
+    }
+
+    /**
+     * Gets an immutable copy of {@param toDo}, with its recurring dates advanced to the current time.
+     * If it is already immutable, it is returned as is.
+     * Asserts parameters to be non-null.
+     */
+    public static ImmutableToDo of(ReadOnlyToDo toDo) {
+        assert toDo != null;
+
+        if (toDo instanceof ImmutableToDo) {
+            return (ImmutableToDo) toDo;
+        }
+
+        return new ImmutableToDo(toDo);
+    }
+
+    @Override
+    public Title getTitle() {
+        return title;
+    }
+
+    @Override
+    public Optional<DateRange> getDateRange() {
+        return Optional.ofNullable(dateRange);
+    }
+
+    @Override
+    public Optional<DueDate> getDueDate() {
+        return Optional.ofNullable(dueDate);
+    }
+
+    @Override
+    public Set<Tag> getTags() {
+        return tags;
+    }
+
+    @Override
+    public LocalDateTime getDateCreated() {
+        return dateCreated;
+    }
+
+    @Override
+    public long getId() {
+        return id;
+    }
+
+    @Override
+    public Optional<LocalDateTime> getDateFinished() {
+        return Optional.ofNullable(dateFinished);
+    }
+
+    /**
+     * Never changes, as the to-do never changes.
+     */
+    @Override
+    public ObservableStringValue getObservableValue() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+            || (other instanceof ReadOnlyToDo
+            && isSameStateAs((ReadOnlyToDo) other));
+    }
+
+    /**
+     * Same as {@link ToDo#hashCode()}, so equal to-dos of either class hash the same.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(title, dueDate, dateRange, tags);
+    }
+
+    @Override
+    public String toString() {
+        return value.getValue();
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.commando.model.todo;
+
+import javafx.collections.FXCollections;
+import seedu.commando.commons.core.UnmodifiableObservableList;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+//@@author A0139697H
+
+/**
+ * An immutable list of to-dos, which can be shared freely without copying,
+ * e.g. between a {@link ToDoListChange}, its reverse and the undo history.
+ */
+public class ImmutableToDoList implements ReadOnlyToDoList {
+    private static final ImmutableToDoList EMPTY = new ImmutableToDoList(Collections.emptyList());
+
+    private final List<ReadOnlyToDo> toDos;
+    private final UnmodifiableObservableList<ReadOnlyToDo> protectedToDos;
+
+    // Built on the first call to {@link #contains(ReadOnlyToDo)}
+    private SimilarityIndex similarityIndex;
+
+    private ImmutableToDoList(List<ReadOnlyToDo> toDos) {
+        this.toDos = Collections.unmodifiableList(toDos);
+        protectedToDos = new UnmodifiableObservableList<>(FXCollections.observableList(this.toDos));
+    }
+
+    /**
+     * Gets an empty immutable to-do list.
+     */
+    public static ImmutableToDoList empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Gets an immutable version of {@param toDoList}.
+     * If it is already immutable, it is returned as is. Otherwise, its to-dos are deep copied once.
+     * Asserts parameters to be non-null.
+     */
+    public static ImmutableToDoList of(ReadOnlyToDoList toDoList) {
+        assert toDoList != null;
+
+        if (toDoList instanceof ImmutableToDoList) {
+            return (ImmutableToDoList) toDoList;
+        }
+
+        if (toDoList.getToDos().isEmpty()) {
+            return EMPTY;
+        }
+
+        List<ReadOnlyToDo> toDos = new ArrayList<>(toDoList.getToDos().size());
+        toDoList.getToDos().forEach(toDo -> toDos.add(new ToDo(toDo)));
+
+        return new ImmutableToDoList(toDos);
+    }
+
+    /**
+     * Wraps a list of to-dos that is not referenced anywhere else, without copying.
+     */
+    public static ImmutableToDoList wrap(List<ReadOnlyToDo> toDos) {
+        return toDos.isEmpty() ? EMPTY : new ImmutableToDoList(toDos);
+    }
+
+    /**
+     * @return number of to-dos in the list
+     */
+    public int size() {
+        return toDos.size();
+    }
+
+    @Override
+    public UnmodifiableObservableList<ReadOnlyToDo> getToDos() {
+        return protectedToDos;
+    }
+
+    @Override
+    public synchronized boolean contains(ReadOnlyToDo toDo) {
+        if (similarityIndex == null) {
+            similarityIndex = new SimilarityIndex();
+            toDos.forEach(similarityIndex::add);
+        }
+
+        return similarityIndex.findSimilar(toDo).isPresent();
+    }
+
+    @Override
+    public boolean isSimilar(ReadOnlyToDoList toDoList) {
+        return toDos.size() == toDoList.getToDos().size()
+            && toDos.stream().allMatch(toDoList::contains);
+    }
+
+    @Override
+    public String toString() {
+        return getText();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // short circuit if same object
+        // instanceof handles nulls
+        return other == this
+            || (other instanceof ImmutableToDoList
+            && toDos.equals(((ImmutableToDoList) other).toDos));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(toDos);
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.commando.model.todo;
 
+import seedu.commando.commons.core.AppClock;
+
 import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.Set;
@@ -50,6 +52,17 @@ public interface ReadOnlyToDo {
      */
     LocalDateTime getDateCreated();
 
+    //@@author A0139697H
+    /**
+     * Gets the ID of the to-do, which stays the same as it is edited, copied, saved and loaded,
+     * and is unique in a to-do list. It is not compared in {@link #isSameStateAs(ReadOnlyToDo)}.
+     *
+     * @return ID of the to-do
+     */
+    long getId();
+
+    //@@author A0122001M
+
     /**
      * Returns true if to-do contains either a date range or a due date.
      *
@@ -76,7 +89,7 @@ public interface ReadOnlyToDo {
      * @return whether to-do is considered finished
      */
     default boolean isFinished() {
-        return getDateFinished().isPresent() && LocalDateTime.now().isAfter(getDateFinished().get());
+        return getDateFinished().isPresent() && AppClock.now().isAfter(getDateFinished().get());
     }
 
     /**
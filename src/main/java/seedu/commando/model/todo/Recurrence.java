@@ -1,6 +1,9 @@
 package seedu.commando.model.todo;
 
 import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.temporal.ChronoUnit;
 
 //@@author A0139697H
 
@@ -36,4 +39,100 @@ public enum Recurrence {
 
         return date;
     }
+
+    /**
+     * Gets the datetime after {@param count} recurrences from a starting datetime, in constant time.
+     * Same as calling {@link #getNextDate(LocalDateTime)} {@param count} times, including how
+     * a day of month clamped to the end of a shorter month stays clamped for later months.
+     *
+     * @param date starting datetime for the recurrence
+     * @param count number of recurrences, at least 0
+     */
+    public LocalDateTime getNextDate(LocalDateTime date, long count) {
+        assert count >= 0;
+
+        if (count == 0) {
+            return date;
+        }
+
+        switch (this) {
+            case Daily:
+                return date.plusDays(count);
+            case Weekly:
+                return date.plusWeeks(count);
+            case Monthly:
+                int dayOfMonth = Math.min(date.getDayOfMonth(),
+                    getShortestMonthLength(date.getYear(), date.getMonth(), count));
+                return date.withDayOfMonth(1).plusMonths(count).withDayOfMonth(dayOfMonth);
+            case Yearly:
+                // Only 29 Feb is clamped, to 28 Feb in the next year, and stays there
+                if (date.getMonth() == Month.FEBRUARY && date.getDayOfMonth() == 29) {
+                    return date.withDayOfMonth(28).plusYears(count);
+                }
+                return date.plusYears(count);
+            case None:
+                return date;
+        }
+
+        return date;
+    }
+
+    /**
+     * Gets the number of recurrences from a starting datetime until its first datetime after {@param dateUntil},
+     * such that {@code getNextDate(date, count)} is the first datetime after {@param dateUntil}.
+     * Should not be called for {@link #None}, which never recurs.
+     *
+     * @param date starting datetime for the recurrence
+     * @return 0 if {@param date} is already after {@param dateUntil}
+     */
+    public long getCountUntilAfter(LocalDateTime date, LocalDateTime dateUntil) {
+        assert this != None;
+
+        if (date.isAfter(dateUntil)) {
+            return 0;
+        }
+
+        // Whole units between is a lower bound, as clamping only moves dates earlier,
+        // and at most a couple more recurrences are needed for the dates clamped
+        long count = getUnit().between(date, dateUntil);
+        while (!getNextDate(date, count).isAfter(dateUntil)) {
+            count++;
+        }
+
+        return count;
+    }
+
+    private ChronoUnit getUnit() {
+        switch (this) {
+            case Daily:
+                return ChronoUnit.DAYS;
+            case Weekly:
+                return ChronoUnit.WEEKS;
+            case Monthly:
+                return ChronoUnit.MONTHS;
+            case Yearly:
+                return ChronoUnit.YEARS;
+            default:
+                throw new UnsupportedOperationException("No unit for " + this);
+        }
+    }
+
+    /**
+     * Gets the length of the shortest of the {@param count} months after a month.
+     */
+    private static int getShortestMonthLength(int year, Month month, long count) {
+        // Any 24 consecutive months have 2 Februaries, of which at most 1 is in a leap year
+        if (count >= 24) {
+            return 28;
+        }
+
+        int shortestLength = 31;
+        for (int i = 1; i <= count; i++) {
+            int monthIndex = month.ordinal() + i;
+            int length = Month.of(monthIndex % 12 + 1).length(Year.isLeap(year + monthIndex / 12));
+            shortestLength = Math.min(shortestLength, length);
+        }
+
+        return shortestLength;
+    }
 }
\ No newline at end of file
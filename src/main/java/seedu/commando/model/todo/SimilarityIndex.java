@@ -0,0 +1,172 @@
+package seedu.commando.model.todo;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+//@@author A0139697H
+
+/**
+ * A hash index over a collection of to-dos, keyed by the fields compared in
+ * {@link ReadOnlyToDo#isSimilar(ReadOnlyToDo)}, for looking up similar to-dos in expected constant time.
+ *
+ * Recurring date ranges advance lazily (see {@link ToDo#getDateRange()}), so only their recurrence
+ * is part of the key. Lookups always verify candidates with {@link ReadOnlyToDo#isSimilar(ReadOnlyToDo)}.
+ */
+class SimilarityIndex {
+    private final Map<Key, List<ReadOnlyToDo>> buckets = new HashMap<>();
+
+    // key each to-do was last indexed with, so it can be found again after it changes
+    private final Map<ReadOnlyToDo, Key> keys = new IdentityHashMap<>();
+
+    /**
+     * Indexes a to-do. Has no effect if the same to-do object is already indexed.
+     */
+    void add(ReadOnlyToDo toDo) {
+        assert toDo != null;
+
+        if (keys.containsKey(toDo)) {
+            return;
+        }
+
+        Key key = new Key(toDo);
+        keys.put(toDo, key);
+        buckets.computeIfAbsent(key, k -> new ArrayList<>(1)).add(toDo);
+    }
+
+    /**
+     * Removes a to-do object from the index. Has no effect if it is not indexed.
+     */
+    void remove(ReadOnlyToDo toDo) {
+        Key key = keys.remove(toDo);
+
+        if (key == null) {
+            return;
+        }
+
+        List<ReadOnlyToDo> bucket = buckets.get(key);
+        bucket.removeIf(indexedToDo -> indexedToDo == toDo);
+        if (bucket.isEmpty()) {
+            buckets.remove(key);
+        }
+    }
+
+    /**
+     * Re-indexes a to-do object whose fields might have changed since it was indexed.
+     * Has no effect if it is not indexed.
+     */
+    void update(ReadOnlyToDo toDo) {
+        Key oldKey = keys.get(toDo);
+
+        if (oldKey == null || oldKey.equals(new Key(toDo))) {
+            return;
+        }
+
+        remove(toDo);
+        add(toDo);
+    }
+
+    void clear() {
+        buckets.clear();
+        keys.clear();
+    }
+
+    /**
+     * Gets an indexed to-do that is considered similar to {@param toDo}.
+     *
+     * @return an optional of a similar to-do, empty if there is none
+     */
+    Optional<ReadOnlyToDo> findSimilar(ReadOnlyToDo toDo) {
+        List<ReadOnlyToDo> bucket = buckets.get(new Key(toDo));
+
+        if (bucket == null) {
+            return Optional.empty();
+        }
+
+        return bucket.stream().filter(indexedToDo -> indexedToDo.isSimilar(toDo)).findFirst();
+    }
+
+    /**
+     * Gets an indexed to-do that is considered similar to {@param toDo}, other than the to-do objects
+     * in {@param excludedToDos}, e.g. those about to be removed.
+     *
+     * @return an optional of a similar to-do, empty if there is none
+     */
+    Optional<ReadOnlyToDo> findSimilar(ReadOnlyToDo toDo, Set<ReadOnlyToDo> excludedToDos) {
+        List<ReadOnlyToDo> bucket = buckets.get(new Key(toDo));
+
+        if (bucket == null) {
+            return Optional.empty();
+        }
+
+        return bucket.stream()
+            .filter(indexedToDo -> !excludedToDos.contains(indexedToDo) && indexedToDo.isSimilar(toDo))
+            .findFirst();
+    }
+
+    /**
+     * Gets all indexed to-dos that are equal to {@param toDo}, based on {@link ReadOnlyToDo#equals(Object)}.
+     *
+     * @return list of indexed to-dos equal to {@param toDo}
+     */
+    List<ReadOnlyToDo> findEqual(ReadOnlyToDo toDo) {
+        List<ReadOnlyToDo> equalToDos = new ArrayList<>(1);
+        List<ReadOnlyToDo> bucket = buckets.get(new Key(toDo));
+
+        if (bucket != null) {
+            bucket.stream().filter(toDo::equals).forEach(equalToDos::add);
+        }
+
+        return equalToDos;
+    }
+
+    /**
+     * Precomputed hash key over the fields of a to-do compared in {@link ReadOnlyToDo#isSimilar(ReadOnlyToDo)}.
+     */
+    private static class Key {
+        private final String title;
+        private final DueDate dueDate;
+        private final Object dateRange;
+        private final Set<Tag> tags;
+        private final int hash;
+
+        Key(ReadOnlyToDo toDo) {
+            title = toDo.getTitle().value;
+            dueDate = toDo.getDueDate().orElse(null);
+            tags = toDo.getTags();
+
+            // A recurring date range can move forward by itself, so only key its recurrence
+            DateRange range = toDo.getDateRange().orElse(null);
+            if (range != null && range.recurrence != Recurrence.None) {
+                dateRange = range.recurrence;
+            } else {
+                dateRange = range;
+            }
+
+            hash = Objects.hash(title, dueDate, dateRange, tags);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            // short circuit if same object
+            // instanceof handles nulls
+            return other == this
+                || (other instanceof Key
+                && hash == ((Key) other).hash
+                && title.equals(((Key) other).title)
+                && Objects.equals(dueDate, ((Key) other).dueDate)
+                && Objects.equals(dateRange, ((Key) other).dateRange)
+                && tags.equals(((Key) other).tags));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
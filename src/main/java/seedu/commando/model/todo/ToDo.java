@@ -3,10 +3,12 @@ package seedu.commando.model.todo;
 import javafx.beans.property.ReadOnlyStringWrapper;
 import javafx.beans.property.StringProperty;
 import javafx.beans.value.ObservableStringValue;
+import seedu.commando.commons.core.AppClock;
 import seedu.commando.commons.exceptions.IllegalValueException;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 //@@author A0122001M
@@ -20,6 +22,7 @@ public class ToDo implements ReadOnlyToDo {
     private DateRange dateRange;
     private Set<Tag> tags;
     private LocalDateTime dateCreated;
+    private final long id;
     private StringProperty value = new ReadOnlyStringWrapper();
 
     // null if to-do is not finished
@@ -30,21 +33,42 @@ public class ToDo implements ReadOnlyToDo {
      * Asserts that title is non-null.
      */
     public ToDo(Title title) {
+        this(title, generateId());
+    }
+
+    //@@author A0139697H
+    /**
+     * Constructs a to-do with title of {@param title} and ID of {@param id}, e.g. as it was saved.
+     * Asserts that title is non-null.
+     */
+    public ToDo(Title title, long id) {
         assert title != null;
 
         this.title = title;
-        dateCreated = LocalDateTime.now();
+        dateCreated = AppClock.now();
+        this.id = id;
         updateValue();
     }
 
+    //@@author A0122001M
     /**
      * Copy constructor
      */
     public ToDo(ReadOnlyToDo toDo) {
+        this(toDo, toDo.getId());
+    }
+
+    //@@author A0139697H
+    /**
+     * Copies {@param toDo}, with ID of {@param id} instead of its ID.
+     */
+    ToDo(ReadOnlyToDo toDo, long id) {
+        //@@author A0122001M
         assert toDo != null;
 
         this.title = new Title(toDo.getTitle());
         this.dateCreated = toDo.getDateCreated();
+        this.id = id;
 
         if (toDo.getDueDate().isPresent()) {
             this.dueDate = new DueDate(toDo.getDueDate().get());
@@ -187,7 +211,7 @@ public class ToDo implements ReadOnlyToDo {
             if (dueDate != null && dueDate.recurrence != Recurrence.None) {
                 setDateFinished(dueDate.value);
             } else {
-                setDateFinished(LocalDateTime.now());
+                setDateFinished(AppClock.now());
             }
         } else {
             // remove date finished if unfinish
@@ -213,6 +237,17 @@ public class ToDo implements ReadOnlyToDo {
         return this;
     }
 
+    //@@author A0139697H
+    /**
+     * Generates a random ID for a new to-do.
+     * With 64 random bits, IDs generated anywhere, e.g. in other to-do lists being imported, are expected
+     * to be unique, without keeping track of the IDs used.
+     */
+    public static long generateId() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+
+    //@@author A0122001M
     @Override
     public Optional<DueDate> getDueDate() {
         return Optional.ofNullable(dueDate);
@@ -221,7 +256,7 @@ public class ToDo implements ReadOnlyToDo {
     @Override
     public Optional<DateRange> getDateRange() {
         // advance based on recurring date range, if applicable
-        advanceDateRange(LocalDateTime.now());
+        advanceDateRange(AppClock.now());
 
         return Optional.ofNullable(dateRange);
     }
@@ -242,11 +277,11 @@ public class ToDo implements ReadOnlyToDo {
             return Optional.of(dateFinished);
         } else if (dateRange != null) {
             // we need to use the latest date range which considers recurrence
-            advanceDateRange(LocalDateTime.now());
+            advanceDateRange(AppClock.now());
 
             // If date range is after its end date
             // return its end date as date finished automatically
-            if (LocalDateTime.now().isAfter(dateRange.endDate)) {
+            if (AppClock.now().isAfter(dateRange.endDate)) {
                 return Optional.of(dateRange.endDate);
             }
         }
@@ -259,6 +294,13 @@ public class ToDo implements ReadOnlyToDo {
         return dateCreated;
     }
 
+    //@@author A0139697H
+    @Override
+    public long getId() {
+        return id;
+    }
+
+    //@@author A0122001M
     @Override
     public ObservableStringValue getObservableValue() {
         return value;
@@ -313,14 +355,11 @@ public class ToDo implements ReadOnlyToDo {
         // The initial if-else should cover this
         assert dateRange != null && dateRange.recurrence != Recurrence.None;
 
-        // Keep moving date forward based on recurrence interval
-        // until it is not before the current date
-        LocalDateTime startDate = dateRange.startDate;
-        LocalDateTime endDate = dateRange.endDate;
-        while (!endDate.isAfter(dateUntil)) {
-            startDate = dateRange.recurrence.getNextDate(startDate);
-            endDate = dateRange.recurrence.getNextDate(endDate);
-        }
+        // Move dates forward by as many recurrence intervals as it takes
+        // for the end date to be after the current date
+        long count = dateRange.recurrence.getCountUntilAfter(dateRange.endDate, dateUntil);
+        LocalDateTime startDate = dateRange.recurrence.getNextDate(dateRange.startDate, count);
+        LocalDateTime endDate = dateRange.recurrence.getNextDate(dateRange.endDate, count);
         try {
             dateRange = new DateRange(startDate, endDate, dateRange.recurrence);
         } catch (IllegalValueException exception) {
@@ -345,12 +384,10 @@ public class ToDo implements ReadOnlyToDo {
         // The initial if-else should cover this
         assert dueDate != null && dueDate.recurrence != Recurrence.None;
 
-        // Keep moving date forward based on recurrence interval
-        // until it is not before the current date
-        LocalDateTime date = dueDate.value;
-        while (!date.isAfter(dateUntil)) {
-            date = dueDate.recurrence.getNextDate(date);
-        }
+        // Move date forward by as many recurrence intervals as it takes
+        // for it to be after the current date
+        long count = dueDate.recurrence.getCountUntilAfter(dueDate.value, dateUntil);
+        LocalDateTime date = dueDate.recurrence.getNextDate(dueDate.value, count);
         dueDate = new DueDate(date, dueDate.recurrence);
 
         updateValue();
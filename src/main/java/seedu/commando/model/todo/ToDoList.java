@@ -1,15 +1,22 @@
 package seedu.commando.model.todo;
 
-import javafx.beans.Observable;
-import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.commando.commons.core.Messages;
 import seedu.commando.commons.core.UnmodifiableObservableList;
 import seedu.commando.commons.exceptions.IllegalValueException;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 //@@author A0122001M
 
@@ -17,14 +24,18 @@ import java.util.Objects;
  * Represents a list of to-dos.
  */
 public class ToDoList implements ReadOnlyToDoList {
-    private final ObservableList<ReadOnlyToDo> list;
+    private final ToDoObservableList list;
     private final UnmodifiableObservableList<ReadOnlyToDo> protectedList;
+    private final SimilarityIndex similarityIndex = new SimilarityIndex();
+    private final Map<Long, ReadOnlyToDo> idIndex = new HashMap<>();
     {
         // Initializes an observable list to store to-dos, which
         // calls its listeners when any of its to-dos change
-        list = FXCollections.observableArrayList(toDo -> new Observable[]{
-            toDo.getObservableValue()
-        });
+        list = new ToDoObservableList();
+
+        // Keeps the similarity and ID indexes in sync with the list
+        // Registered first so that they are updated before any other listener is called
+        list.addListener(this::updateIndexes);
 
         // Initializes a read-only wrapper around the list of to-dos
         protectedList = new UnmodifiableObservableList<>(list);
@@ -51,7 +62,7 @@ public class ToDoList implements ReadOnlyToDoList {
             throw new IllegalValueException(Messages.TODO_ALREADY_EXISTS);
         }
 
-        list.add(toDo);
+        list.addAll(copyWithUniqueIds(Collections.singletonList(toDo), Collections.emptySet()));
 
         return this;
     }
@@ -64,7 +75,7 @@ public class ToDoList implements ReadOnlyToDoList {
             throw new IllegalValueException(Messages.TODO_NOT_FOUND);
         }
 
-        list.remove(toDo);
+        list.removeAll(getEqualToDos(Collections.singletonList(toDo)));
 
         return this;
     }
@@ -85,7 +96,7 @@ public class ToDoList implements ReadOnlyToDoList {
             }
         }
 
-        list.addAll(toDoList.getToDos());
+        list.addAll(copyWithUniqueIds(toDoList.getToDos(), Collections.emptySet()));
 
         return this;
     }
@@ -106,20 +117,83 @@ public class ToDoList implements ReadOnlyToDoList {
             }
         }
 
-        list.removeAll(toDoList.getToDos());
+        list.removeAll(getEqualToDos(toDoList.getToDos()));
 
         return this;
     }
 
+    //@@author A0139697H
+
+    /**
+     * Removes every to-do in {@param toDosToRemove}, then adds all to-dos in {@param toDosToAdd}, as a single
+     * change to the list, so its listeners are called once for both. Nothing is changed if either fails.
+     *
+     * @throws IllegalValueException if any to-do in {@param toDosToRemove} was not found for deletion, or
+     *                               any to-do in {@param toDosToAdd} would already exist after the deletions
+     * @see #remove(ReadOnlyToDoList)
+     * @see #add(ReadOnlyToDoList)
+     */
+    public ToDoList change(ReadOnlyToDoList toDosToRemove, ReadOnlyToDoList toDosToAdd)
+        throws IllegalValueException {
+        assert toDosToRemove != null && toDosToAdd != null;
+
+        for (ReadOnlyToDo toDoToRemove : toDosToRemove.getToDos()) {
+            if (!contains(toDoToRemove)) {
+                throw new IllegalValueException(Messages.TODO_NOT_FOUND);
+            }
+        }
+
+        Set<ReadOnlyToDo> equalToDos = getEqualToDos(toDosToRemove.getToDos());
+
+        for (ReadOnlyToDo toDo : toDosToAdd.getToDos()) {
+            if (similarityIndex.findSimilar(toDo, equalToDos).isPresent()) {
+                throw new IllegalValueException(Messages.TODO_ALREADY_EXISTS);
+            }
+        }
+
+        list.replace(equalToDos, copyWithUniqueIds(toDosToAdd.getToDos(), equalToDos));
+
+        return this;
+    }
+
+    /**
+     * Gets {@param change} with each to-do it adds whose ID is already used replaced by a copy with a new ID,
+     * as {@link #change(ReadOnlyToDoList, ReadOnlyToDoList)} would add it, so a change kept after it is
+     * applied, e.g. for undo, has the to-dos that are actually in the list.
+     *
+     * @return {@param change} itself if none of the IDs of the to-dos it adds are used
+     */
+    public ToDoListChange withUniqueIds(ToDoListChange change) {
+        assert change != null;
+
+        List<ReadOnlyToDo> toDosToAdd = change.getAddedToDos().getToDos();
+        Set<ReadOnlyToDo> equalToDos = getEqualToDos(change.getDeletedToDos().getToDos());
+        List<ReadOnlyToDo> toDos = copyWithUniqueIds(toDosToAdd, equalToDos);
+
+        if (toDos == toDosToAdd) {
+            return change;
+        }
+
+        return new ToDoListChange(ImmutableToDoList.wrap(toDos), change.getDeletedToDos());
+    }
+
+    //@@author A0122001M
+
     /**
      * Clears the list and sets it to a deep copy of a new to-do list
      *
      * @param newToDos the new to-do list to reset to
      */
     public void reset(List<ReadOnlyToDo> newToDos) {
-        List<ToDo> toDos = new LinkedList<>();
+        List<ReadOnlyToDo> toDos = new LinkedList<>();
         newToDos.forEach(toDo -> toDos.add(new ToDo(toDo)));
-        list.setAll(toDos);
+
+        //@@author A0139697H
+        Set<ReadOnlyToDo> removedToDos = Collections.newSetFromMap(new IdentityHashMap<>());
+        removedToDos.addAll(list);
+
+        //@@author A0122001M
+        list.setAll(copyWithUniqueIds(toDos, removedToDos));
     }
 
     @Override
@@ -134,13 +208,128 @@ public class ToDoList implements ReadOnlyToDoList {
 
     @Override
     public boolean contains(ReadOnlyToDo toDo) {
-        return list.filtered(x -> x.isSimilar(toDo)).size() > 0;
+        return findSimilar(toDo).isPresent();
+    }
+
+    /**
+     * Gets the to-do in the list that is considered similar to {@param toDo}, in expected constant time.
+     * See {@link ReadOnlyToDo#isSimilar(ReadOnlyToDo)}.
+     *
+     * @return an optional of the similar to-do in the list, empty if there is none
+     */
+    public Optional<ReadOnlyToDo> findSimilar(ReadOnlyToDo toDo) {
+        return similarityIndex.findSimilar(toDo);
+    }
+
+    //@@author A0139697H
+    /**
+     * Gets the to-do in the list with the ID {@param id}, in expected constant time.
+     * See {@link ReadOnlyToDo#getId()}.
+     *
+     * @return an optional of the to-do with the ID in the list, empty if there is none
+     */
+    public Optional<ReadOnlyToDo> findById(long id) {
+        return Optional.ofNullable(idIndex.get(id));
     }
 
+    //@@author A0122001M
     @Override
     public boolean isSimilar(ReadOnlyToDoList toDoList) {
         return list.size() == toDoList.getToDos().size()
-            && list.filtered(toDoList::contains).size() == list.size();
+            && list.stream().allMatch(toDoList::contains);
+    }
+
+    //@@author A0139697H
+    /**
+     * Gets {@param toDos} with each to-do whose ID is already used, by a to-do in the list other than
+     * {@param removedToDos}, or by an earlier to-do in {@param toDos}, replaced by a copy with a new ID,
+     * so IDs stay unique in the list, e.g. when the same to-do is imported again after it was edited.
+     * The to-dos themselves are never changed, as they can be shared, e.g. with the undo history.
+     *
+     * @return {@param toDos} itself if none of their IDs are used
+     */
+    private List<ReadOnlyToDo> copyWithUniqueIds(List<ReadOnlyToDo> toDos, Set<ReadOnlyToDo> removedToDos) {
+        Set<Long> ids = new HashSet<>();
+        List<ReadOnlyToDo> copiedToDos = null;
+
+        // Iterated in order, as the list can be linked
+        int index = 0;
+        for (ReadOnlyToDo toDo : toDos) {
+            ReadOnlyToDo toDoWithId = idIndex.get(toDo.getId());
+            boolean isIdUsed = (toDoWithId != null && !removedToDos.contains(toDoWithId))
+                || ids.contains(toDo.getId());
+
+            if (isIdUsed) {
+                long id;
+                do {
+                    id = ToDo.generateId();
+                } while (idIndex.containsKey(id) || ids.contains(id));
+
+                if (copiedToDos == null) {
+                    copiedToDos = new ArrayList<>(toDos);
+                }
+                toDo = new ToDo(toDo, id);
+                copiedToDos.set(index, toDo);
+            }
+
+            ids.add(toDo.getId());
+            index++;
+        }
+
+        return copiedToDos == null ? toDos : copiedToDos;
+    }
+
+    //@@author A0122001M
+    /**
+     * Gets the set of to-do objects in the list that are equal to any of {@param toDos},
+     * using the similarity index instead of scanning the list for each to-do.
+     * The set is identity-based so that {@link ObservableList#removeAll(java.util.Collection)}
+     * can remove them in a single pass.
+     */
+    private Set<ReadOnlyToDo> getEqualToDos(List<ReadOnlyToDo> toDos) {
+        Set<ReadOnlyToDo> equalToDos = Collections.newSetFromMap(new IdentityHashMap<>());
+        //@@author A0139697H
+        for (ReadOnlyToDo toDo : toDos) {
+            // Usually the to-do in the list with the same ID, unless it was changed since
+            ReadOnlyToDo toDoWithId = idIndex.get(toDo.getId());
+
+            if (toDoWithId != null && toDoWithId.isSameStateAs(toDo)) {
+                equalToDos.add(toDoWithId);
+            } else {
+                equalToDos.addAll(similarityIndex.findEqual(toDo));
+            }
+        }
+        //@@author A0122001M
+        return equalToDos;
+    }
+
+    /**
+     * Applies a change in the list to the similarity and ID indexes.
+     */
+    private void updateIndexes(ListChangeListener.Change<? extends ReadOnlyToDo> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+
+            if (change.wasUpdated()) {
+                // Fields of the to-dos might have changed, re-index them
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    similarityIndex.update(list.get(i));
+                }
+                continue;
+            }
+
+            change.getRemoved().forEach(similarityIndex::remove);
+            change.getAddedSubList().forEach(similarityIndex::add);
+
+            // A to-do added can have the ID of one removed, e.g. when it is edited
+            change.getRemoved().forEach(toDo -> idIndex.remove(toDo.getId(), toDo));
+            for (ReadOnlyToDo toDo : change.getAddedSubList()) {
+                ReadOnlyToDo toDoWithId = idIndex.put(toDo.getId(), toDo);
+                assert toDoWithId == null : "Duplicate ID in to-do list: " + toDo.getId();
+            }
+        }
     }
 
     @Override
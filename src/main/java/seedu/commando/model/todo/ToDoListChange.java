@@ -5,20 +5,25 @@ import java.util.Objects;
 //@@author A0139697H
 /**
  * An immutable representation of a change in {@link ReadOnlyToDoList}
+ * Its lists of to-dos are {@link ImmutableToDoList}s, shared with its reverse change.
  */
 public class ToDoListChange {
-    private final ReadOnlyToDoList addedToDos;
-    private final ReadOnlyToDoList deletedToDos;
+    private final ImmutableToDoList addedToDos;
+    private final ImmutableToDoList deletedToDos;
 
     /**
      * Constructor for a to-do list change.
      *
-     * @param addedToDos   list of to-dos to be added, which is deep copied
-     * @param deletedToDos list of to-dos to be deleted, which is deep copied
+     * @param addedToDos   list of to-dos to be added, which is deep copied unless it is immutable
+     * @param deletedToDos list of to-dos to be deleted, which is deep copied unless it is immutable
      */
     public ToDoListChange(ReadOnlyToDoList addedToDos, ReadOnlyToDoList deletedToDos) {
-        this.addedToDos = new ToDoList(addedToDos);
-        this.deletedToDos = new ToDoList(deletedToDos);
+        this(ImmutableToDoList.of(addedToDos), ImmutableToDoList.of(deletedToDos));
+    }
+
+    private ToDoListChange(ImmutableToDoList addedToDos, ImmutableToDoList deletedToDos) {
+        this.addedToDos = addedToDos;
+        this.deletedToDos = deletedToDos;
     }
 
     /**
@@ -40,7 +45,7 @@ public class ToDoListChange {
     }
 
     /**
-     * Gets the reverse of the current change.
+     * Gets the reverse of the current change, in constant time.
      *
      * @return reverse of this change
      */
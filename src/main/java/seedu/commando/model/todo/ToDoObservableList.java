@@ -0,0 +1,117 @@
+package seedu.commando.model.todo;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.collections.ModifiableObservableListBase;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+//@@author A0139697H
+
+/**
+ * Observable list of to-dos, which calls its listeners when any of its to-dos change,
+ * as a list from {@link javafx.collections.FXCollections#observableArrayList(javafx.util.Callback)} would,
+ * but which can also remove and add to-dos as a single change, with {@link #replace(Collection, Collection)}.
+ */
+class ToDoObservableList extends ModifiableObservableListBase<ReadOnlyToDo> {
+    private final List<ReadOnlyToDo> toDos = new ArrayList<>();
+
+    // Listeners on the observable values of the to-dos in the list, by to-do object
+    private final Map<ReadOnlyToDo, ToDoObserver> observers = new IdentityHashMap<>();
+
+    /**
+     * Removes the to-do objects in {@param toDosToRemove}, then adds {@param toDosToAdd} to the end of the list,
+     * calling its listeners once, with a change that has both the removals and additions.
+     *
+     * @param toDosToRemove to-do objects to remove, checked with {@link Collection#contains(Object)}
+     */
+    void replace(Collection<? extends ReadOnlyToDo> toDosToRemove, Collection<? extends ReadOnlyToDo> toDosToAdd) {
+        beginChange();
+        try {
+            if (!toDosToRemove.isEmpty()) {
+                removeAll(toDosToRemove);
+            }
+            addAll(toDosToAdd);
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public ReadOnlyToDo get(int index) {
+        return toDos.get(index);
+    }
+
+    @Override
+    public int size() {
+        return toDos.size();
+    }
+
+    @Override
+    protected void doAdd(int index, ReadOnlyToDo element) {
+        toDos.add(index, element);
+        observe(element);
+    }
+
+    @Override
+    protected ReadOnlyToDo doSet(int index, ReadOnlyToDo element) {
+        ReadOnlyToDo removed = toDos.set(index, element);
+        unobserve(removed);
+        observe(element);
+        return removed;
+    }
+
+    @Override
+    protected ReadOnlyToDo doRemove(int index) {
+        ReadOnlyToDo removed = toDos.remove(index);
+        unobserve(removed);
+        return removed;
+    }
+
+    private void observe(ReadOnlyToDo toDo) {
+        ToDoObserver observer = observers.computeIfAbsent(toDo, ToDoObserver::new);
+        if (observer.count++ == 0) {
+            toDo.getObservableValue().addListener(observer);
+        }
+    }
+
+    private void unobserve(ReadOnlyToDo toDo) {
+        ToDoObserver observer = observers.get(toDo);
+        if (--observer.count == 0) {
+            toDo.getObservableValue().removeListener(observer);
+            observers.remove(toDo);
+        }
+    }
+
+    /**
+     * Calls the listeners of the list with an update of every position of a to-do object when it changes.
+     */
+    private class ToDoObserver implements InvalidationListener {
+        final ReadOnlyToDo toDo;
+
+        // Number of times the to-do object is in the list
+        int count;
+
+        ToDoObserver(ReadOnlyToDo toDo) {
+            this.toDo = toDo;
+        }
+
+        @Override
+        public void invalidated(Observable observable) {
+            beginChange();
+            try {
+                for (int i = 0; i < toDos.size(); i++) {
+                    if (toDos.get(i) == toDo) {
+                        nextUpdate(i);
+                    }
+                }
+            } finally {
+                endChange();
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.commando.model.ui;
+
+import seedu.commando.model.todo.DateRange;
+import seedu.commando.model.todo.DueDate;
+import seedu.commando.model.todo.ReadOnlyToDo;
+import seedu.commando.model.todo.Recurrence;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+//@@author A0139697H
+
+/**
+ * Indexes to-dos by time, for finding the events and tasks within a date range
+ * in O(log n + k) time, for n to-dos and k to-dos found.
+ *
+ * Events are indexed by their date ranges in an {@link IntervalTree}, tasks by their due dates in a sorted map.
+ * Recurring date ranges advance lazily when read, so they are read again before each search.
+ */
+class DateIndex extends ToDoListIndex {
+    private final IntervalTree<ReadOnlyToDo> eventsByDateRange = new IntervalTree<>();
+    private final Set<ReadOnlyToDo> recurringEvents = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private final NavigableMap<LocalDateTime, List<ReadOnlyToDo>> tasksByDueDate = new TreeMap<>();
+    private final Map<ReadOnlyToDo, LocalDateTime> dueDates = new IdentityHashMap<>();
+
+    @Override
+    void add(ReadOnlyToDo toDo) {
+        // Reading the date range might advance it, which re-indexes the to-do before this continues
+        Optional<DateRange> dateRange = toDo.getDateRange();
+
+        if (dateRange.isPresent()
+            && eventsByDateRange.add(toDo, dateRange.get().startDate, dateRange.get().endDate)
+            && dateRange.get().recurrence != Recurrence.None) {
+            recurringEvents.add(toDo);
+        }
+
+        Optional<DueDate> dueDate = toDo.getDueDate();
+
+        if (dueDate.isPresent() && !dueDates.containsKey(toDo)) {
+            dueDates.put(toDo, dueDate.get().value);
+            tasksByDueDate.computeIfAbsent(dueDate.get().value, date -> new ArrayList<>(1)).add(toDo);
+        }
+    }
+
+    @Override
+    void remove(ReadOnlyToDo toDo) {
+        eventsByDateRange.remove(toDo);
+        recurringEvents.remove(toDo);
+
+        LocalDateTime dueDate = dueDates.remove(toDo);
+
+        if (dueDate != null) {
+            List<ReadOnlyToDo> toDos = tasksByDueDate.get(dueDate);
+            toDos.removeIf(indexedToDo -> indexedToDo == toDo);
+            if (toDos.isEmpty()) {
+                tasksByDueDate.remove(dueDate);
+            }
+        }
+    }
+
+    /**
+     * Finds to-dos with date ranges that overlap {@param dateRange}, inclusive of its start and end.
+     *
+     * @return the to-dos found, ordered by the start of their date ranges
+     */
+    List<ReadOnlyToDo> findEvents(DateRange dateRange) {
+        assert dateRange != null;
+
+        // Advance recurring date ranges that are over, which re-indexes them
+        new ArrayList<>(recurringEvents).forEach(ReadOnlyToDo::getDateRange);
+
+        return eventsByDateRange.findOverlapping(dateRange.startDate, dateRange.endDate);
+    }
+
+    /**
+     * Finds to-dos with due dates within {@param dateRange}, inclusive of its start and end.
+     *
+     * @return the to-dos found, ordered by their due dates
+     */
+    List<ReadOnlyToDo> findTasks(DateRange dateRange) {
+        assert dateRange != null;
+
+        List<ReadOnlyToDo> toDos = new ArrayList<>();
+        tasksByDueDate.subMap(dateRange.startDate, true, dateRange.endDate, true).values()
+            .forEach(toDos::addAll);
+
+        return toDos;
+    }
+}
@@ -0,0 +1,224 @@
+package seedu.commando.model.ui;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+//@@author A0139697H
+
+/**
+ * A set of objects, each with an inclusive interval of datetimes, that finds the objects whose intervals
+ * overlap a given interval in O(log n + k) expected time, for n objects and k objects found.
+ *
+ * Implemented as a treap ordered by interval start, with each node holding the latest interval end
+ * in its subtree, so subtrees that end before the query interval are skipped.
+ */
+class IntervalTree<T> {
+    private final Map<T, Node<T>> nodes = new IdentityHashMap<>();
+    private final Random random = new Random();
+    private Node<T> root;
+
+    // Breaks ties between equal interval starts, so every node has a distinct position
+    private long nextSequence;
+
+    /**
+     * Adds an object with an interval, if the same object is not already in the tree.
+     * Asserts {@param start} to be not after {@param end}.
+     *
+     * @return true if the object was added
+     */
+    boolean add(T value, LocalDateTime start, LocalDateTime end) {
+        assert value != null && !start.isAfter(end);
+
+        if (nodes.containsKey(value)) {
+            return false;
+        }
+
+        Node<T> node = new Node<>(value, start, end, nextSequence++, random.nextInt());
+        nodes.put(value, node);
+        root = insert(root, node);
+
+        return true;
+    }
+
+    /**
+     * Removes an object, if it is in the tree.
+     *
+     * @return true if the object was removed
+     */
+    boolean remove(T value) {
+        Node<T> node = nodes.remove(value);
+
+        if (node == null) {
+            return false;
+        }
+
+        root = delete(root, node);
+
+        return true;
+    }
+
+    boolean contains(T value) {
+        return nodes.containsKey(value);
+    }
+
+    int size() {
+        return nodes.size();
+    }
+
+    void clear() {
+        nodes.clear();
+        root = null;
+    }
+
+    /**
+     * Finds the objects whose intervals overlap the inclusive interval from {@param from} to {@param to}.
+     *
+     * @return objects found, ordered by the start of their intervals
+     */
+    List<T> findOverlapping(LocalDateTime from, LocalDateTime to) {
+        List<T> values = new ArrayList<>();
+        collectOverlapping(root, from, to, values);
+        return values;
+    }
+
+    private void collectOverlapping(Node<T> node, LocalDateTime from, LocalDateTime to, List<T> values) {
+        // No interval in this subtree ends on or after the query interval starts
+        if (node == null || node.maxEnd.isBefore(from)) {
+            return;
+        }
+
+        collectOverlapping(node.left, from, to, values);
+
+        // Intervals of this node and its right subtree start after the query interval ends
+        if (node.start.isAfter(to)) {
+            return;
+        }
+
+        if (!node.end.isBefore(from)) {
+            values.add(node.value);
+        }
+
+        collectOverlapping(node.right, from, to, values);
+    }
+
+    private Node<T> insert(Node<T> node, Node<T> newNode) {
+        if (node == null) {
+            return newNode;
+        }
+
+        if (newNode.compareTo(node) < 0) {
+            node.left = insert(node.left, newNode);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, newNode);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+
+        node.updateMaxEnd();
+        return node;
+    }
+
+    private Node<T> delete(Node<T> node, Node<T> target) {
+        assert node != null : "Node to delete should be in the tree";
+
+        int comparison = target.compareTo(node);
+        if (comparison < 0) {
+            node.left = delete(node.left, target);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, target);
+        } else {
+            return merge(node.left, node.right);
+        }
+
+        node.updateMaxEnd();
+        return node;
+    }
+
+    /**
+     * Merges two treaps, where all nodes of {@param left} come before those of {@param right}.
+     */
+    private Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        } else if (right == null) {
+            return left;
+        }
+
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.updateMaxEnd();
+            return left;
+        } else {
+            right.left = merge(left, right.left);
+            right.updateMaxEnd();
+            return right;
+        }
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> left = node.left;
+        node.left = left.right;
+        left.right = node;
+
+        node.updateMaxEnd();
+        left.updateMaxEnd();
+        return left;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> right = node.right;
+        node.right = right.left;
+        right.left = node;
+
+        node.updateMaxEnd();
+        right.updateMaxEnd();
+        return right;
+    }
+
+    private static class Node<T> implements Comparable<Node<T>> {
+        final T value;
+        final LocalDateTime start;
+        final LocalDateTime end;
+        final long sequence;
+        final int priority;
+
+        LocalDateTime maxEnd;
+        Node<T> left;
+        Node<T> right;
+
+        Node(T value, LocalDateTime start, LocalDateTime end, long sequence, int priority) {
+            this.value = value;
+            this.start = start;
+            this.end = end;
+            this.sequence = sequence;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+
+        void updateMaxEnd() {
+            maxEnd = end;
+
+            if (left != null && left.maxEnd.isAfter(maxEnd)) {
+                maxEnd = left.maxEnd;
+            }
+
+            if (right != null && right.maxEnd.isAfter(maxEnd)) {
+                maxEnd = right.maxEnd;
+            }
+        }
+
+        @Override
+        public int compareTo(Node<T> other) {
+            int comparison = start.compareTo(other.start);
+            return comparison != 0 ? comparison : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package seedu.commando.model.ui;
+
+import seedu.commando.model.todo.ReadOnlyToDo;
+import seedu.commando.model.todo.Tag;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+//@@author A0139697H
+
+/**
+ * An inverted index from n-grams of the words in titles and tags of to-dos, case-folded,
+ * to the to-dos containing them, for finding to-dos that match keywords without scanning every to-do.
+ *
+ * A keyword matches a to-do if it is a substring of any word in its title or tags, ignoring case
+ * (see {@link seedu.commando.commons.util.StringUtil#substringIgnoreCase(String, String)}).
+ * Every substring of up to {@link #MAX_GRAM_LENGTH} characters of every word is indexed, so
+ * keywords that short are looked up directly, and longer keywords by intersecting their n-grams.
+ */
+class KeywordIndex extends ToDoListIndex {
+    static final int MAX_GRAM_LENGTH = 3;
+
+    private final Map<String, Set<ReadOnlyToDo>> postings = new HashMap<>();
+
+    // n-grams each to-do was indexed with, so it can be removed after it changes
+    private final Map<ReadOnlyToDo, Set<String>> grams = new IdentityHashMap<>();
+
+    @Override
+    void add(ReadOnlyToDo toDo) {
+        if (grams.containsKey(toDo)) {
+            return;
+        }
+
+        Set<String> toDoGrams = new HashSet<>();
+        addGrams(toDo.getTitle().value, toDoGrams);
+        for (Tag tag : toDo.getTags()) {
+            addGrams(tag.value, toDoGrams);
+        }
+
+        grams.put(toDo, toDoGrams);
+        for (String gram : toDoGrams) {
+            postings.computeIfAbsent(gram, key -> Collections.newSetFromMap(new IdentityHashMap<>())).add(toDo);
+        }
+    }
+
+    @Override
+    void remove(ReadOnlyToDo toDo) {
+        Set<String> toDoGrams = grams.remove(toDo);
+
+        if (toDoGrams == null) {
+            return;
+        }
+
+        for (String gram : toDoGrams) {
+            Set<ReadOnlyToDo> toDos = postings.get(gram);
+            toDos.remove(toDo);
+            if (toDos.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Finds the to-dos that might match all of {@param keywords}, which have to be verified
+     * if any keyword is longer than {@link #MAX_GRAM_LENGTH}.
+     *
+     * @return an optional of the candidate to-dos, empty if the keywords cannot be looked up
+     *   (e.g. they have whitespace) and every to-do is a candidate
+     */
+    Optional<Set<ReadOnlyToDo>> findCandidates(Set<String> keywords) {
+        assert keywords != null;
+
+        List<Set<ReadOnlyToDo>> postingLists = new ArrayList<>();
+
+        for (String keyword : keywords) {
+            String foldedKeyword = keyword.toLowerCase();
+
+            // Words never have whitespace, and every word has the empty string
+            if (!foldedKeyword.matches("\\S+")) {
+                return Optional.empty();
+            }
+
+            for (String gram : getKeywordGrams(foldedKeyword)) {
+                Set<ReadOnlyToDo> toDos = postings.get(gram);
+
+                // No to-do has this n-gram, so none match
+                if (toDos == null) {
+                    return Optional.of(Collections.emptySet());
+                }
+
+                postingLists.add(toDos);
+            }
+        }
+
+        if (postingLists.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // Intersect from the smallest posting list
+        postingLists.sort(Comparator.comparingInt(Set::size));
+
+        Set<ReadOnlyToDo> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        candidates.addAll(postingLists.get(0));
+        for (int i = 1; i < postingLists.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(postingLists.get(i));
+        }
+
+        return Optional.of(candidates);
+    }
+
+    /**
+     * Adds all substrings of up to {@link #MAX_GRAM_LENGTH} characters of each word in {@param text}, case-folded.
+     */
+    private void addGrams(String text, Set<String> grams) {
+        for (String word : text.toLowerCase().split("\\s+")) {
+            for (int start = 0; start < word.length(); start++) {
+                int maxEnd = Math.min(word.length(), start + MAX_GRAM_LENGTH);
+                for (int end = start + 1; end <= maxEnd; end++) {
+                    grams.add(word.substring(start, end));
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the n-grams a to-do must have for a case-folded keyword to be a substring of one of its words:
+     * the keyword itself if it is short enough, or else every substring of {@link #MAX_GRAM_LENGTH} characters.
+     */
+    private List<String> getKeywordGrams(String keyword) {
+        if (keyword.length() <= MAX_GRAM_LENGTH) {
+            return Collections.singletonList(keyword);
+        }
+
+        List<String> keywordGrams = new ArrayList<>();
+        for (int start = 0; start + MAX_GRAM_LENGTH <= keyword.length(); start++) {
+            keywordGrams.add(keyword.substring(start, start + MAX_GRAM_LENGTH));
+        }
+        return keywordGrams;
+    }
+}
@@ -0,0 +1,135 @@
+package seedu.commando.model.ui;
+
+import seedu.commando.commons.util.CompressedBitmap;
+import seedu.commando.model.todo.ReadOnlyToDo;
+import seedu.commando.model.todo.Tag;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+//@@author A0139697H
+
+/**
+ * Indexes to-dos by their tags, ignoring case, with a {@link CompressedBitmap} per tag over slots of to-dos.
+ * Finding to-dos with a set of tags is an intersection of bitmaps, and the number of to-dos
+ * with each tag is the cardinality of its bitmap.
+ *
+ * Each indexed to-do takes a slot, which is reused after the to-do is removed,
+ * so slots stay dense even though positions in the to-do list shift.
+ */
+class TagIndex extends ToDoListIndex {
+    private final Map<String, CompressedBitmap> bitmaps = new HashMap<>();
+
+    // Slot of each indexed to-do, the to-do at each slot, and slots free for reuse
+    private final Map<ReadOnlyToDo, Integer> slots = new IdentityHashMap<>();
+    private final List<ReadOnlyToDo> toDosAtSlots = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+
+    // Case-folded tags each to-do was indexed with, so it can be removed after it changes
+    private final Map<ReadOnlyToDo, Set<String>> tags = new IdentityHashMap<>();
+
+    @Override
+    void add(ReadOnlyToDo toDo) {
+        if (slots.containsKey(toDo)) {
+            return;
+        }
+
+        int slot;
+        if (freeSlots.isEmpty()) {
+            slot = toDosAtSlots.size();
+            toDosAtSlots.add(toDo);
+        } else {
+            slot = freeSlots.pop();
+            toDosAtSlots.set(slot, toDo);
+        }
+        slots.put(toDo, slot);
+
+        Set<String> toDoTags = new HashSet<>();
+        for (Tag tag : toDo.getTags()) {
+            toDoTags.add(foldCase(tag.value));
+        }
+        tags.put(toDo, toDoTags);
+
+        for (String tag : toDoTags) {
+            bitmaps.computeIfAbsent(tag, key -> new CompressedBitmap()).add(slot);
+        }
+    }
+
+    @Override
+    void remove(ReadOnlyToDo toDo) {
+        Integer slot = slots.remove(toDo);
+
+        if (slot == null) {
+            return;
+        }
+
+        for (String tag : tags.remove(toDo)) {
+            CompressedBitmap bitmap = bitmaps.get(tag);
+            bitmap.remove(slot);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(tag);
+            }
+        }
+
+        toDosAtSlots.set(slot, null);
+        freeSlots.push(slot);
+    }
+
+    /**
+     * Finds the to-dos that have all of {@param tags}, ignoring case.
+     * Asserts {@param tags} to be non-empty.
+     *
+     * @return the to-dos found
+     */
+    Set<ReadOnlyToDo> findToDos(Set<Tag> tags) {
+        assert tags != null && !tags.isEmpty();
+
+        List<CompressedBitmap> tagBitmaps = new ArrayList<>();
+        for (Tag tag : tags) {
+            CompressedBitmap bitmap = bitmaps.get(foldCase(tag.value));
+
+            // No to-do has this tag
+            if (bitmap == null) {
+                return Collections.emptySet();
+            }
+
+            tagBitmaps.add(bitmap);
+        }
+
+        // Intersect from the smallest bitmap
+        tagBitmaps.sort(Comparator.comparingInt(CompressedBitmap::getCardinality));
+        CompressedBitmap result = tagBitmaps.get(0);
+        for (int i = 1; i < tagBitmaps.size() && !result.isEmpty(); i++) {
+            result = result.and(tagBitmaps.get(i));
+        }
+
+        Set<ReadOnlyToDo> toDos = Collections.newSetFromMap(new IdentityHashMap<>());
+        result.forEach(slot -> toDos.add(toDosAtSlots.get(slot)));
+        return toDos;
+    }
+
+    /**
+     * Gets the number of to-dos with each tag, case-folded.
+     *
+     * @return number of to-dos by tag, sorted by tag
+     */
+    Map<String, Integer> getTagCounts() {
+        Map<String, Integer> tagCounts = new TreeMap<>();
+        bitmaps.forEach((tag, bitmap) -> tagCounts.put(tag, bitmap.getCardinality()));
+        return tagCounts;
+    }
+
+    private String foldCase(String tag) {
+        return tag.toLowerCase();
+    }
+}
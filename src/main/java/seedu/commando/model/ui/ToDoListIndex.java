@@ -0,0 +1,65 @@
+package seedu.commando.model.ui;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.commando.model.todo.ReadOnlyToDo;
+
+//@@author A0139697H
+
+/**
+ * An index over an observable list of to-dos, kept in sync with the list as to-dos are added,
+ * removed or changed (e.g. when a recurring date range advances).
+ *
+ * Reading the fields of a to-do can change it and update the list while the index is being updated,
+ * so {@link #add(ReadOnlyToDo)} and {@link #remove(ReadOnlyToDo)} should have no effect if
+ * the to-do object is already indexed or not indexed respectively.
+ */
+abstract class ToDoListIndex {
+
+    /**
+     * Indexes the to-dos in {@param toDos} and starts tracking changes to it.
+     */
+    void attach(ObservableList<? extends ReadOnlyToDo> toDos) {
+        assert toDos != null;
+
+        toDos.addListener(this::onChanged);
+        toDos.forEach(this::add);
+    }
+
+    /**
+     * Indexes a to-do object, if it is not already indexed.
+     */
+    abstract void add(ReadOnlyToDo toDo);
+
+    /**
+     * Removes a to-do object from the index, if it is indexed.
+     */
+    abstract void remove(ReadOnlyToDo toDo);
+
+    /**
+     * Re-indexes a to-do object whose fields might have changed.
+     */
+    void update(ReadOnlyToDo toDo) {
+        remove(toDo);
+        add(toDo);
+    }
+
+    private void onChanged(ListChangeListener.Change<? extends ReadOnlyToDo> change) {
+        while (change.next()) {
+            // The order of the list does not matter to the index
+            if (change.wasPermutated()) {
+                continue;
+            }
+
+            if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    update(change.getList().get(i));
+                }
+                continue;
+            }
+
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+}
@@ -3,7 +3,9 @@ package seedu.commando.model.ui;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.commando.commons.core.AppClock;
 import seedu.commando.commons.core.UnmodifiableObservableList;
+import seedu.commando.commons.exceptions.IllegalValueException;
 import seedu.commando.commons.util.CollectionUtil;
 import seedu.commando.commons.util.StringUtil;
 import seedu.commando.model.Model;
@@ -27,12 +29,51 @@ public class UiModel {
     private final ObservableList<UiToDo> tasks = FXCollections.observableArrayList();
     private final UnmodifiableObservableList<UiToDo> protectedEvents = new UnmodifiableObservableList<>(events);
     private final UnmodifiableObservableList<UiToDo> protectedTasks = new UnmodifiableObservableList<>(tasks);
-    private final ArrayList<UiToDo> toDoAtIndices = new ArrayList<>();
-    private int runningIndex;
+
+    // Indexes of the to-do list by time, for date range filters, by n-grams, for keyword filters,
+    // and by tags, for tag filters
+    private final DateIndex dateIndex = new DateIndex();
+    private final KeywordIndex keywordIndex = new KeywordIndex();
+    private final TagIndex tagIndex = new TagIndex();
+
+    // Sort keys of the UI to-dos, in the same order as {@link #events} and {@link #tasks}
+    private final ArrayList<SortKey> eventKeys = new ArrayList<>();
+    private final ArrayList<SortKey> taskKeys = new ArrayList<>();
+
+    // Sort keys of the to-dos shown, by to-do object
+    private final Map<ReadOnlyToDo, SortKey> shownKeys = new IdentityHashMap<>();
+
+    // To-dos shown as new, and the change they are new with respect to, with the IDs of the to-dos it added
+    private final Set<ReadOnlyToDo> newToDos = Collections.newSetFromMap(new IdentityHashMap<>());
+    private ToDoListChange newToDosChange;
+    private Set<Long> newToDoIds = Collections.emptySet();
+
+    // To-dos being inserted, which should not be inserted again on nested updates
+    private final Set<ReadOnlyToDo> pendingToDos = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    // Lowest positions in {@link #events} and {@link #tasks} whose indices might be outdated
+    private int eventsDirtyFrom = Integer.MAX_VALUE;
+    private int tasksDirtyFrom = Integer.MAX_VALUE;
 
     // Parameters for filtering
     private Model.FILTER_MODE filterMode = Model.FILTER_MODE.ALL;
 
+    // Whether there are no keywords, tags or date range filters, and the day the UI to-dos were filtered on
+    private boolean isFilterCleared;
+    private LocalDate dateFiltered;
+
+    // Earliest end date of the events not over when the UI to-dos were filtered, when that event is over
+    // or recurs, so which to-dos are finished and their order can change, LocalDateTime.MAX if none
+    private LocalDateTime nextEndDate = LocalDateTime.MAX;
+
+    // Whether changes to the to-do list are left for the UI to-dos to be filtered again after them,
+    // and whether there were any
+    private boolean isDeferringChanges;
+    private boolean hasDeferredChanges;
+
+    // Number of times the UI to-dos were filtered again or updated with a change to the to-do list
+    private int refreshesCount;
+
     /**
      * Predicate that filters to-dos based on filter mode.
      */
@@ -43,7 +84,7 @@ public class UiModel {
             case UNFINISHED:
                 // if unfinished mode but to-do is finished before the current day
                 return !toDo.isFinished()
-                    || (toDo.isFinished() && toDo.getDateFinished().get().toLocalDate().isEqual(LocalDate.now()));
+                    || (toDo.isFinished() && toDo.getDateFinished().get().toLocalDate().isEqual(AppClock.today()));
             case FINISHED:
                 // if finished mode but to-do is unfinished
                 return toDo.isFinished();
@@ -61,6 +102,11 @@ public class UiModel {
     public UiModel(ToDoListManager toDoListManager) {
         this.toDoListManager = toDoListManager;
 
+        // Indexes are updated before the UI to-dos whenever the to-do list changes
+        dateIndex.attach(toDoListManager.getToDoList().getToDos());
+        keywordIndex.attach(toDoListManager.getToDoList().getToDos());
+        tagIndex.attach(toDoListManager.getToDoList().getToDos());
+
         // Initialize the filter to show unfinished to-dos
         clearToDoListFilter(Model.FILTER_MODE.UNFINISHED);
 
@@ -68,7 +114,13 @@ public class UiModel {
         toDoListManager.getToDoList().getToDos().addListener(new ListChangeListener<ReadOnlyToDo>() {
             @Override
             public void onChanged(Change<? extends ReadOnlyToDo> change) {
-                clearToDoListFilter(filterMode);
+                if (isDeferringChanges) {
+                    hasDeferredChanges = true;
+                } else if (isFilterUpToDate(filterMode)) {
+                    applyToDoListChange(change);
+                } else {
+                    clearToDoListFilter(filterMode);
+                }
             }
         });
     }
@@ -77,10 +129,12 @@ public class UiModel {
      * @see Model#getUiToDoAtIndex(int)
      */
     public Optional<UiToDo> getToDoAtIndex(int index) {
-        if (index - 1 < 0 || index - 1 >= toDoAtIndices.size()) {
+        if (index - 1 < 0 || index - 1 >= events.size() + tasks.size()) {
             return Optional.empty();
+        } else if (index - 1 < events.size()) {
+            return Optional.of(events.get(index - 1));
         } else {
-            return Optional.of(toDoAtIndices.get(index - 1));
+            return Optional.of(tasks.get(index - 1 - events.size()));
         }
     }
 
@@ -89,9 +143,50 @@ public class UiModel {
      */
     public void clearToDoListFilter(Model.FILTER_MODE filterMode) {
         assert !CollectionUtil.isAnyNull(filterMode);
+
+        // UI to-dos are kept up to date with the to-do list while the filter is cleared
+        if (isFilterUpToDate(filterMode)) {
+            updateNewToDos();
+            updateIndices();
+            return;
+        }
+
         setToDoListFilter(Collections.emptySet(), Collections.emptySet(), filterMode);
     }
 
+    /**
+     * Changes the to-do list with {@param update}, then clears the filter with {@param filterMode},
+     * updating the UI to-dos once: with only the change if the filter is already cleared with {@param filterMode},
+     * otherwise by filtering the to-do list again after the change.
+     * The filter is kept if the to-do list does not change, e.g. if {@param update} fails.
+     *
+     * @return the result of {@param update}
+     * @throws IllegalValueException if {@param update} fails
+     */
+    public <T> T changeToDoList(ToDoListUpdate<T> update, Model.FILTER_MODE filterMode)
+        throws IllegalValueException {
+        assert update != null && filterMode != null;
+
+        if (isFilterUpToDate(filterMode)) {
+            return update.apply();
+        }
+
+        isDeferringChanges = true;
+        hasDeferredChanges = false;
+        T result;
+        try {
+            result = update.apply();
+        } finally {
+            isDeferringChanges = false;
+        }
+
+        if (hasDeferredChanges) {
+            setToDoListFilter(Collections.emptySet(), Collections.emptySet(), filterMode);
+        }
+
+        return result;
+    }
+
     /**
      * @see Model#setUiToDoListFilter(Set, Set, Model.FILTER_MODE)
      */
@@ -101,6 +196,10 @@ public class UiModel {
         this.filterMode = filterMode;
 
         updateEventsAndTasks(keywords, tags);
+
+        isFilterCleared = keywords.isEmpty() && tags.isEmpty();
+        dateFiltered = AppClock.today();
+        updateNextEndDate();
     }
 
     //@@author A0142230B
@@ -114,10 +213,27 @@ public class UiModel {
         this.filterMode = Model.FILTER_MODE.ALL;
 
         updateEventsAndTasksByTime(dateRange);
+
+        isFilterCleared = false;
     }
 
     //@@author A0139697H
 
+    /**
+     * @see Model#getTagCounts()
+     */
+    public Map<String, Integer> getTagCounts() {
+        return tagIndex.getTagCounts();
+    }
+
+    /**
+     * Returns the number of times the UI to-dos were refreshed, by filtering the to-do list again,
+     * or by updating them with a change to the to-do list.
+     */
+    public int getRefreshesCount() {
+        return refreshesCount;
+    }
+
     /**
      * @see Model#getUiEvents()
      */
@@ -137,9 +253,24 @@ public class UiModel {
      * the keywords and tags filter.
      */
     private void updateEventsAndTasks(Set<String> keywords, Set<Tag> tags) {
+        // Only to-dos with the n-grams of the keywords and with the tags can match them
+        Optional<Set<ReadOnlyToDo>> candidates = keywords.isEmpty()
+            ? Optional.empty() : keywordIndex.findCandidates(keywords);
+
+        if (!tags.isEmpty()) {
+            Set<ReadOnlyToDo> taggedToDos = tagIndex.findToDos(tags);
+            if (candidates.isPresent()) {
+                taggedToDos.retainAll(candidates.get());
+            }
+            candidates = Optional.of(taggedToDos);
+        }
+
+        List<ReadOnlyToDo> toDos = candidates.isPresent()
+            ? new ArrayList<>(candidates.get()) : toDoListManager.getToDoList().getToDos();
+
         // Sort and filter events and tasks for UI
-        List<ReadOnlyToDo> events = filterAndSortEvents(toDoListManager.getToDoList().getToDos(), keywords, tags);
-        List<ReadOnlyToDo> tasks = filterAndSortTasks(toDoListManager.getToDoList().getToDos(), keywords, tags);
+        List<SortKey> events = filterAndSortEvents(toDos, keywords, tags);
+        List<SortKey> tasks = filterAndSortTasks(toDos, keywords, tags);
 
         // Update its own lists of UI to-dos
         updateUiToDos(events, tasks);
@@ -152,8 +283,8 @@ public class UiModel {
      */
     private void updateEventsAndTasksByTime(DateRange filterDateRange) {
         // Sort and filter events and tasks for UI
-        List<ReadOnlyToDo> events = filterAndSortEventsByTime(toDoListManager.getToDoList().getToDos(), filterDateRange);
-        List<ReadOnlyToDo> tasks = filterAndSortTasksByTime(toDoListManager.getToDoList().getToDos(), filterDateRange);
+        List<SortKey> events = sortToDos(dateIndex.findEvents(filterDateRange), true);
+        List<SortKey> tasks = sortToDos(dateIndex.findTasks(filterDateRange), false);
         // Update its own lists of UI to-dos
         updateUiToDos(events, tasks);
     }
@@ -161,205 +292,428 @@ public class UiModel {
     //@@author A0139697H
 
     /**
-     * Populate its lists of UI to-dos based on supplied to-dos.
+     * Populate its lists of UI to-dos based on supplied sorted to-dos.
      */
-    private void updateUiToDos(List<ReadOnlyToDo> events, List<ReadOnlyToDo> tasks) {
-        toDoAtIndices.clear();
-        runningIndex = 0;
-
-        Optional<ToDoListChange> lastChange = toDoListManager.getLastToDoListChange();
-
-        ReadOnlyToDoList newToDos = lastChange.isPresent()
-            ? lastChange.get().getAddedToDos() : new ToDoList();
+    private void updateUiToDos(List<SortKey> events, List<SortKey> tasks) {
+        refreshesCount++;
+        shownKeys.clear();
+        newToDos.clear();
+        setNewToDosChange(toDoListManager.getLastToDoListChange().orElse(null));
 
         // Map each event to a UI to-do and add an index to each
         // Also check if the events are new with respect to last change
-        this.events.setAll(events.stream().map(
-            toDo -> new UiToDo(toDo, ++runningIndex, newToDos.contains(toDo))
-        ).collect(Collectors.toList()));
-        toDoAtIndices.addAll(this.events);
+        populateUiToDos(this.events, eventKeys, events, 1);
 
         // Then do the same for tasks
-        this.tasks.setAll(tasks.stream().map(
-            toDo -> new UiToDo(toDo, ++runningIndex, newToDos.contains(toDo))
-        ).collect(Collectors.toList()));
-        toDoAtIndices.addAll(this.tasks);
+        populateUiToDos(this.tasks, taskKeys, tasks, this.events.size() + 1);
 
-        // running index should be incremented by no. of to-dos
-        assert runningIndex == toDoAtIndices.size();
+        eventsDirtyFrom = Integer.MAX_VALUE;
+        tasksDirtyFrom = Integer.MAX_VALUE;
     }
-    //@@author A0142230B
+
+    private void populateUiToDos(ObservableList<UiToDo> uiToDos, List<SortKey> keys,
+                                 List<SortKey> sortedToDos, int firstIndex) {
+        List<UiToDo> newUiToDos = new ArrayList<>(sortedToDos.size());
+        keys.clear();
+        keys.addAll(sortedToDos);
+
+        for (SortKey key : sortedToDos) {
+            ReadOnlyToDo toDo = key.toDo;
+            boolean isNew = newToDoIds.contains(toDo.getId());
+            newUiToDos.add(new UiToDo(toDo, firstIndex + newUiToDos.size(), isNew));
+            shownKeys.put(toDo, key);
+
+            if (isNew) {
+                newToDos.add(toDo);
+            }
+        }
+
+        uiToDos.setAll(newUiToDos);
+    }
+
+    //================================================================================
+    //  Incremental updates of UI to-dos
+    //================================================================================
 
     /**
-     * Filter tasks which are within the filterDateRange from the given toDoList.
-     *
-     * @return a list of filtered tasks
+     * Returns whether the UI to-dos are those of a cleared filter with {@param filterMode},
+     * which {@link #applyToDoListChange(ListChangeListener.Change)} keeps up to date.
      */
-    private List<ReadOnlyToDo> filterAndSortTasksByTime(List<ReadOnlyToDo> toDos, DateRange filterDateRange) {
-        List<ReadOnlyToDo> tasks = new ArrayList<ReadOnlyToDo>();
-        for (ReadOnlyToDo toDo : toDos) {
-            if (isTaskInDateRange(toDo, filterDateRange)) {
-                tasks.add(toDo);
+    private boolean isFilterUpToDate(Model.FILTER_MODE filterMode) {
+        // Finished to-dos shown in unfinished mode depend on the current day,
+        // and which to-dos are finished on whether any event is over since
+        return isFilterCleared
+            && this.filterMode == filterMode
+            && AppClock.today().equals(dateFiltered)
+            && AppClock.now().isBefore(nextEndDate);
+    }
+
+    /**
+     * Finds the earliest end date of the events in the to-do list that are not over.
+     */
+    private void updateNextEndDate() {
+        nextEndDate = LocalDateTime.MAX;
+        toDoListManager.getToDoList().getToDos().forEach(this::includeEndDate);
+    }
+
+    /**
+     * Includes the end date of {@param toDo} in {@link #nextEndDate}, if it is an event not over.
+     */
+    private void includeEndDate(ReadOnlyToDo toDo) {
+        Optional<DateRange> dateRange = toDo.getDateRange();
+        if (dateRange.isPresent()
+            && dateRange.get().endDate.isBefore(nextEndDate)
+            && !dateRange.get().endDate.isBefore(AppClock.now())) {
+            nextEndDate = dateRange.get().endDate;
+        }
+    }
+
+    /**
+     * Updates the UI to-dos with a change to the to-do list, moving only the affected UI to-dos,
+     * instead of filtering and sorting the whole to-do list again.
+     */
+    private void applyToDoListChange(ListChangeListener.Change<? extends ReadOnlyToDo> change) {
+        refreshesCount++;
+        updateNewToDos();
+
+        while (change.next()) {
+            // The order of the to-do list does not affect the UI to-dos, so permutations are ignored
+            if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    updateToDo(change.getList().get(i));
+                    includeEndDate(change.getList().get(i));
+                }
+            } else {
+                change.getRemoved().forEach(this::removeToDo);
+                change.getAddedSubList().forEach(this::insertToDo);
+                change.getAddedSubList().forEach(this::includeEndDate);
             }
         }
-        // For tasks, sort by created date first (latest first)
-        tasks.sort((task1, task2) -> task2.getDateCreated().compareTo(task1.getDateCreated()));
 
-        // Then, by whether they have due date and that date (latest first)
-        tasks.sort((task1, task2) -> compareDueDates(task1, task2));
+        updateIndices();
+    }
+
+    /**
+     * Shows a to-do at its sorted position, if it passes the filter.
+     */
+    private void insertToDo(ReadOnlyToDo toDo) {
+        if (shownKeys.containsKey(toDo) || pendingToDos.contains(toDo)) {
+            return;
+        }
+
+        // Computing the sort key can advance a recurring to-do, which updates the to-do list
+        pendingToDos.add(toDo);
+        SortKey key = new SortKey(toDo);
+        boolean isShown = toDoFilterModePredicate.test(toDo);
+        pendingToDos.remove(toDo);
+
+        if (!isShown) {
+            return;
+        }
+
+        boolean isNew = newToDoIds.contains(toDo.getId());
+        if (isNew) {
+            newToDos.add(toDo);
+        }
 
-        // Then, by whether they are finished and finished date (latest first)
-        tasks.sort((task1, task2) -> compareDateFinished(task2, task1));
+        List<SortKey> keys = getKeys(key);
+        int position = findInsertionPosition(keys, key);
+        keys.add(position, key);
+        shownKeys.put(toDo, key);
 
-        return tasks;
+        if (key.isEvent) {
+            events.add(position, new UiToDo(toDo, position + 1, isNew));
+            eventsDirtyFrom = Math.min(eventsDirtyFrom, position);
+            tasksDirtyFrom = 0;
+        } else {
+            tasks.add(position, new UiToDo(toDo, events.size() + position + 1, isNew));
+            tasksDirtyFrom = Math.min(tasksDirtyFrom, position);
+        }
     }
 
     /**
-     * Check if a toDo is a task and it is in the filterDateRange
-     *
-     * @return true if the toDo is a task and it is in the filterDateRange
+     * Hides a to-do, if it is shown.
      */
-    private boolean isTaskInDateRange(ReadOnlyToDo toDo, DateRange filterDateRange) {
-        if (!toDo.getDueDate().isPresent()) {
-            return false;
+    private void removeToDo(ReadOnlyToDo toDo) {
+        SortKey key = shownKeys.remove(toDo);
+        if (key == null) {
+            return;
         }
-        LocalDateTime dueDate = toDo.getDueDate().get().value;
 
-        return isTimeInRange(dueDate, filterDateRange);
+        newToDos.remove(toDo);
+
+        List<SortKey> keys = getKeys(key);
+        int position = findPosition(keys, key);
+        keys.remove(position);
+
+        if (key.isEvent) {
+            events.remove(position);
+            eventsDirtyFrom = Math.min(eventsDirtyFrom, position);
+            tasksDirtyFrom = 0;
+        } else {
+            tasks.remove(position);
+            tasksDirtyFrom = Math.min(tasksDirtyFrom, position);
+        }
     }
 
     /**
-     * Filter events which are within the filterDateRange from the given toDoList.
-     *
-     * @return a list of filtered events
+     * Moves a to-do whose fields might have changed to its new sorted position,
+     * or refreshes its UI to-do if its position is unchanged.
      */
-    private List<ReadOnlyToDo> filterAndSortEventsByTime(List<ReadOnlyToDo> toDos, DateRange filterDateRange) {
-        List<ReadOnlyToDo> events = new ArrayList<ReadOnlyToDo>();
-        for (ReadOnlyToDo toDo : toDos) {
-            if (isEventInDateRange(toDo, filterDateRange)) {
-                events.add(toDo);
-            }
+    private void updateToDo(ReadOnlyToDo toDo) {
+        SortKey oldKey = shownKeys.get(toDo);
+        if (oldKey == null) {
+            insertToDo(toDo);
+            return;
         }
 
-        // For events, sort by created date first (latest first)
-        events.sort((event1, event2) -> event2.getDateCreated().compareTo(event1.getDateCreated()));
+        pendingToDos.add(toDo);
+        SortKey newKey = new SortKey(toDo);
+        pendingToDos.remove(toDo);
 
-        // Then, by start dates (earlier first)
-        events.sort((event1, event2) -> compareDateRangeStarts(event1, event2));
+        // Might have been moved by a nested update while computing the sort key
+        if (shownKeys.get(toDo) != oldKey) {
+            return;
+        }
 
-        // Then, by whether they are finished and finished date (latest first)
-        events.sort((event1, event2) -> compareDateFinished(event2, event1));
+        if (newKey.isEvent == oldKey.isEvent && newKey.compareTo(oldKey) == 0) {
+            List<SortKey> keys = getKeys(oldKey);
+            int position = findPosition(keys, oldKey);
+            keys.set(position, newKey);
+            shownKeys.put(toDo, newKey);
 
-        return events;
+            ObservableList<UiToDo> uiToDos = newKey.isEvent ? events : tasks;
+            UiToDo uiToDo = uiToDos.get(position);
+            uiToDos.set(position, new UiToDo(toDo, uiToDo.getIndex(), uiToDo.isNew()));
+        } else {
+            removeToDo(toDo);
+            insertToDo(toDo);
+        }
     }
 
     /**
-     * Check if a toDo is a event and it is in the filterDateRange
-     *
-     * @return true if the toDo is a event and it is in the filterDateRange
+     * Unmarks the to-dos shown as new if there has been a change to the to-do list since they were marked.
+     */
+    private void updateNewToDos() {
+        ToDoListChange lastChange = toDoListManager.getLastToDoListChange().orElse(null);
+        if (lastChange == newToDosChange) {
+            return;
+        }
+
+        for (ReadOnlyToDo toDo : newToDos) {
+            SortKey key = shownKeys.get(toDo);
+            int position = findPosition(getKeys(key), key);
+
+            ObservableList<UiToDo> uiToDos = key.isEvent ? events : tasks;
+            uiToDos.set(position, new UiToDo(toDo, uiToDos.get(position).getIndex(), false));
+        }
+
+        newToDos.clear();
+        setNewToDosChange(lastChange);
+    }
+
+    /**
+     * Sets the change that to-dos are shown as new with respect to, indexing the IDs of the to-dos it added,
+     * so whether a to-do is new is looked up by its ID, instead of comparing its fields.
      */
-    private boolean isEventInDateRange(ReadOnlyToDo toDo, DateRange filterDateRange) {
-        if (!toDo.getDateRange().isPresent()) {
-            return false;
+    private void setNewToDosChange(ToDoListChange change) {
+        newToDosChange = change;
+
+        if (change == null) {
+            newToDoIds = Collections.emptySet();
+        } else {
+            newToDoIds = change.getAddedToDos().getToDos().stream()
+                .map(ReadOnlyToDo::getId)
+                .collect(Collectors.toSet());
         }
-        LocalDateTime startTime = toDo.getDateRange().get().startDate;
-        LocalDateTime endTime = toDo.getDateRange().get().endDate;
+    }
 
-        // Case 1: start time is in the range
-        if (isTimeInRange(startTime, filterDateRange)) {
-            return true;
+    /**
+     * Replaces the UI to-dos whose positions have changed with ones of the right indices.
+     */
+    private void updateIndices() {
+        for (int i = Math.max(eventsDirtyFrom, 0); i < events.size(); i++) {
+            updateIndex(events, i, i + 1);
         }
-        // Case 2:end time is in the range
-        if (isTimeInRange(endTime, filterDateRange)) {
-            return true;
+
+        for (int i = Math.max(tasksDirtyFrom, 0); i < tasks.size(); i++) {
+            updateIndex(tasks, i, events.size() + i + 1);
         }
 
-        // Case 3: filterDateRange is in the range between startTime and endTime
-        if (startTime.isBefore(filterDateRange.startDate) && endTime.isAfter(filterDateRange.endDate)) {
-            return true;
+        eventsDirtyFrom = Integer.MAX_VALUE;
+        tasksDirtyFrom = Integer.MAX_VALUE;
+    }
+
+    private void updateIndex(ObservableList<UiToDo> uiToDos, int position, int index) {
+        UiToDo uiToDo = uiToDos.get(position);
+        if (uiToDo.getIndex() != index) {
+            uiToDos.set(position, new UiToDo(uiToDo.getToDo(), index, uiToDo.isNew()));
         }
+    }
 
-        return false;
+    private List<SortKey> getKeys(SortKey key) {
+        return key.isEvent ? eventKeys : taskKeys;
     }
 
     /**
-     * Check if a LocalDateTime is within a dateRange
-     *
-     * @return true if the time is in the dateRange
+     * Finds the position to insert a key at, after the keys that are equal to it,
+     * so that ties are in the order the to-dos were added, as with a stable sort.
+     */
+    private int findInsertionPosition(List<SortKey> keys, SortKey key) {
+        int low = 0;
+        int high = keys.size();
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys.get(middle).compareTo(key) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Finds the position of a key object in a sorted list of keys containing it.
      */
-    private boolean isTimeInRange(LocalDateTime time, DateRange dateRange) {
-        return (time.isAfter(dateRange.startDate) || time.isEqual(dateRange.startDate))
-            && (time.isBefore(dateRange.endDate) || time.isEqual(dateRange.endDate));
+    private int findPosition(List<SortKey> keys, SortKey key) {
+        int low = 0;
+        int high = keys.size();
+
+        // Find the first key that is equal to it
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys.get(middle).compareTo(key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        // Then find the key object among the keys that are equal to it
+        for (int i = low; i < keys.size(); i++) {
+            if (keys.get(i) == key) {
+                return i;
+            }
+        }
+
+        assert false : "Shown to-do should have its key in the list of keys";
+        return -1;
     }
 
     //@@author A0139697H
-    private List<ReadOnlyToDo> filterAndSortTasks(List<ReadOnlyToDo> toDos,
-                                                  Set<String> keywords, Set<Tag> tags) {
+    private List<SortKey> filterAndSortTasks(List<ReadOnlyToDo> toDos,
+                                             Set<String> keywords, Set<Tag> tags) {
         List<ReadOnlyToDo> tasks = toDos.stream()
             .filter(toDoFilterModePredicate)
             .filter(toDo -> ifMatchesKeywordsAndTags(toDo, keywords, tags))
             .filter(UiToDo::isTask)
             .collect(Collectors.toList());
 
-        // For tasks, sort by created date first (latest first)
-        tasks.sort((task1, task2) -> task2.getDateCreated().compareTo(task1.getDateCreated()));
-
-        // Then, by whether they have due date and that date (latest first)
-        tasks.sort((task1, task2) -> compareDueDates(task1, task2));
-
-        // Then, by whether they are finished and finished date (latest first)
-        tasks.sort((task1, task2) -> compareDateFinished(task2, task1));
-
-        return tasks;
+        return sortToDos(tasks, false);
     }
 
-    private List<ReadOnlyToDo> filterAndSortEvents(List<ReadOnlyToDo> toDos,
-                                                   Set<String> keywords, Set<Tag> tags) {
+    private List<SortKey> filterAndSortEvents(List<ReadOnlyToDo> toDos,
+                                              Set<String> keywords, Set<Tag> tags) {
         List<ReadOnlyToDo> events = toDos.stream()
             .filter(toDoFilterModePredicate)
             .filter(toDo -> ifMatchesKeywordsAndTags(toDo, keywords, tags))
             .filter(UiToDo::isEvent)
             .collect(Collectors.toList());
 
-        // For events, sort by created date first (latest first)
-        events.sort((event1, event2) -> event2.getDateCreated().compareTo(event1.getDateCreated()));
-
-        // Then, by start dates (earlier first)
-        events.sort((event1, event2) -> compareDateRangeStarts(event1, event2));
-
-        // Then, by whether they are finished and finished date (latest first)
-        events.sort((event1, event2) -> compareDateFinished(event2, event1));
-
-        return events;
+        return sortToDos(events, true);
     }
 
     //================================================================================
     //  Utility methods for sorting and filtering
     //================================================================================
 
-    private int compareDateFinished(ReadOnlyToDo toDo1, ReadOnlyToDo toDo2) {
-        LocalDateTime date1 = toDo1.getDateFinished().orElse(LocalDateTime.MAX);
-        LocalDateTime date2 = toDo2.getDateFinished().orElse(LocalDateTime.MAX);
+    /**
+     * Sorts to-dos in the order of UI to-dos, in a single pass over sort keys computed once per to-do.
+     * No two to-dos have equal keys, so the order does not depend on the order of {@param toDos},
+     * e.g. unordered sets of to-dos found by an index.
+     *
+     * @param isEvent whether the to-dos are to be sorted as events, by start date, or as tasks, by due date
+     * @return sort keys of the to-dos, in sorted order
+     */
+    static List<SortKey> sortToDos(List<ReadOnlyToDo> toDos, boolean isEvent) {
+        List<SortKey> keys = new ArrayList<>(toDos.size());
+        for (ReadOnlyToDo toDo : toDos) {
+            keys.add(new SortKey(toDo, isEvent));
+        }
 
-        return date1.compareTo(date2);
+        keys.sort(null);
+        return keys;
     }
 
-    private int compareDueDates(ReadOnlyToDo toDo1, ReadOnlyToDo toDo2) {
-        LocalDateTime date1 = toDo1.getDueDate().isPresent() ?
-            toDo1.getDueDate().get().value : LocalDateTime.MAX;
-        LocalDateTime date2 = toDo2.getDueDate().isPresent() ?
-            toDo2.getDueDate().get().value : LocalDateTime.MAX;
+    /**
+     * Snapshot of the fields of a to-do that UI to-dos are sorted by.
+     * Ordered as the UI to-dos are sorted: by finished date (unfinished first, then latest first),
+     * then by due date for tasks or start date for events (earliest first), then by created date (latest first),
+     * then by ID, so to-dos that are otherwise equal are in the same order however they were found.
+     */
+    static class SortKey implements Comparable<SortKey> {
+        final ReadOnlyToDo toDo;
+        final boolean isEvent;
+        final LocalDateTime dateFinished;
+        final LocalDateTime date;
+        final LocalDateTime dateCreated;
+        final long id;
+
+        SortKey(ReadOnlyToDo toDo) {
+            this(toDo, UiToDo.isEvent(toDo));
+        }
+
+        /**
+         * @param isEvent whether to sort the to-do as an event, by start date, or as a task, by due date
+         */
+        SortKey(ReadOnlyToDo toDo, boolean isEvent) {
+            this.toDo = toDo;
+            this.isEvent = isEvent;
+
+            dateFinished = toDo.getDateFinished().orElse(LocalDateTime.MAX);
+
+            if (isEvent) {
+                Optional<DateRange> dateRange = toDo.getDateRange();
+                date = dateRange.isPresent() ? dateRange.get().startDate : LocalDateTime.MAX;
+            } else {
+                Optional<DueDate> dueDate = toDo.getDueDate();
+                date = dueDate.isPresent() ? dueDate.get().value : LocalDateTime.MAX;
+            }
 
-        return date1.compareTo(date2);
-    }
+            dateCreated = toDo.getDateCreated();
+            id = toDo.getId();
+        }
 
-    private int compareDateRangeStarts(ReadOnlyToDo toDo1, ReadOnlyToDo toDo2) {
-        LocalDateTime date1 = toDo1.getDateRange().isPresent() ?
-            toDo1.getDateRange().get().startDate : LocalDateTime.MAX;
-        LocalDateTime date2 = toDo2.getDateRange().isPresent() ?
-            toDo2.getDateRange().get().startDate : LocalDateTime.MAX;
+        @Override
+        public int compareTo(SortKey other) {
+            int result = other.dateFinished.compareTo(dateFinished);
+            if (result != 0) {
+                return result;
+            }
 
-        return date1.compareTo(date2);
+            result = date.compareTo(other.date);
+            if (result != 0) {
+                return result;
+            }
+
+            result = other.dateCreated.compareTo(dateCreated);
+            if (result != 0) {
+                return result;
+            }
+
+            return Long.compare(id, other.id);
+        }
+    }
+
+    /**
+     * Update to the to-do list, which can fail.
+     */
+    @FunctionalInterface
+    public interface ToDoListUpdate<T> {
+        T apply() throws IllegalValueException;
     }
 
     private boolean checkForKeyword(ReadOnlyToDo toDo, String keyword) {
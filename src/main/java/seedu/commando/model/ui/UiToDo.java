@@ -74,11 +74,23 @@ public class UiToDo implements ReadOnlyToDo {
         return toDo.getDateCreated();
     }
 
+    @Override
+    public long getId() {
+        return toDo.getId();
+    }
+
     @Override
     public ObservableValue getObservableValue() {
         return toDo.getObservableValue();
     }
 
+    /**
+     * @return the to-do this UI to-do represents
+     */
+    public ReadOnlyToDo getToDo() {
+        return toDo;
+    }
+
     /**
      * @return index of the to-do on the UI.
      */
@@ -0,0 +1,342 @@
+package seedu.commando.storage;
+
+import seedu.commando.commons.exceptions.DataConversionException;
+import seedu.commando.commons.exceptions.IllegalValueException;
+import seedu.commando.commons.util.AtomicFileWriter;
+import seedu.commando.model.todo.DateRange;
+import seedu.commando.model.todo.DueDate;
+import seedu.commando.model.todo.ReadOnlyToDo;
+import seedu.commando.model.todo.ReadOnlyToDoList;
+import seedu.commando.model.todo.Recurrence;
+import seedu.commando.model.todo.Tag;
+import seedu.commando.model.todo.Title;
+import seedu.commando.model.todo.ToDo;
+import seedu.commando.model.todo.ToDoList;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+//@@author A0139697H
+
+/**
+ * Stores ToDoList data in a compact binary file, which is faster to load than XML for large to-do lists.
+ *
+ * The file is, in order:
+ * - {@link #MAGIC} and the format {@link #VERSION}
+ * - the tag dictionary: the number of distinct tags, then each tag
+ * - the number of to-dos, then each to-do: its flags, ID, title and date created, its due date and recurrence,
+ *   date range and recurrence, and date finished if present, then the number of tags and their indexes
+ *   in the tag dictionary
+ * - a CRC32 checksum of everything before it
+ *
+ * Datetimes are written as epoch seconds, the same precision as in XML, and strings as length-prefixed UTF-8.
+ * The file is read into a heap buffer in one pass through a {@link FileChannel}. It is not memory-mapped,
+ * as a file with a live mapping cannot be replaced on Windows, which would fail every save after loading it.
+ * XML stays the format for importing and exporting, see {@link ToDoListFileConverter}.
+ *
+ * Files of version 1, written before to-dos had IDs, are still read, with new IDs for their to-dos.
+ */
+public class BinaryFileStorage {
+    public static final String FILE_EXTENSION = ".bin";
+
+    static final int MAGIC = 0x434D444F; // "CMDO"
+    static final short VERSION = 2;
+    static final short VERSION_WITHOUT_IDS = 1;
+
+    private static final int FLAG_DUE_DATE = 1;
+    private static final int FLAG_DATE_RANGE = 1 << 1;
+    private static final int FLAG_DATE_FINISHED = 1 << 2;
+    private static final int CHECKSUM_LENGTH = 4;
+
+    private static final Recurrence[] recurrences = Recurrence.values();
+
+    /**
+     * Returns true if the to-do list at {@param filePath} should be stored in the binary format.
+     */
+    public static boolean isBinaryFile(String filePath) {
+        return filePath.toLowerCase().endsWith(FILE_EXTENSION);
+    }
+
+    /**
+     * Saves the given toDoList data to the specified file.
+     */
+    public static void saveDataToFile(File file, ReadOnlyToDoList toDoList) throws IOException {
+        // Replace the file atomically, so a crash while saving does not corrupt it
+        AtomicFileWriter.forFile(file).write(convertDataToBinary(toDoList));
+    }
+
+    /**
+     * Returns the toDoList data in the binary format, as it would be saved to a file.
+     */
+    public static byte[] convertDataToBinary(ReadOnlyToDoList toDoList) throws IOException {
+        assert toDoList != null;
+
+        // Intern the tags, so each distinct tag is written once
+        Map<String, Integer> tagIndexes = new LinkedHashMap<>();
+        for (ReadOnlyToDo toDo : toDoList.getToDos()) {
+            for (Tag tag : toDo.getTags()) {
+                tagIndexes.putIfAbsent(tag.value, tagIndexes.size());
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+
+        out.writeInt(tagIndexes.size());
+        for (String tag : tagIndexes.keySet()) {
+            writeString(out, tag);
+        }
+
+        out.writeInt(toDoList.getToDos().size());
+        for (ReadOnlyToDo toDo : toDoList.getToDos()) {
+            writeToDo(out, toDo, tagIndexes);
+        }
+
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes.toByteArray());
+        out.writeInt((int) checksum.getValue());
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Returns toDoList in the file, reading it whole into a heap buffer first.
+     *
+     * @throws DataConversionException if the file is not in the correct format
+     * @throws IllegalValueException   if the to-dos in the file are not a valid to-do list
+     */
+    public static ToDoList loadDataFromSaveFile(File file)
+        throws DataConversionException, IllegalValueException, FileNotFoundException {
+        if (!file.isFile()) {
+            throw new FileNotFoundException("File not found: " + file.getAbsolutePath());
+        }
+
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File too large: " + size + " bytes");
+            }
+
+            buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Read until the buffer is full or the end of the file
+            }
+        } catch (IOException exception) {
+            throw new DataConversionException(exception);
+        }
+
+        buffer.flip();
+        return readData(buffer);
+    }
+
+    /**
+     * Reads a to-do list in the binary format from {@param buffer}, from its position to its limit.
+     *
+     * @throws DataConversionException if the data is not in the correct format
+     * @throws IllegalValueException   if the to-dos read are not a valid to-do list
+     */
+    static ToDoList readData(ByteBuffer buffer) throws DataConversionException, IllegalValueException {
+        try {
+            verifyChecksum(buffer);
+
+            if (buffer.getInt() != MAGIC) {
+                throw new DataConversionException(new IllegalValueException("Not a to-do list binary file"));
+            }
+
+            short version = buffer.getShort();
+            if (version != VERSION && version != VERSION_WITHOUT_IDS) {
+                throw new DataConversionException(
+                    new IllegalValueException("Unsupported to-do list binary file version: " + version));
+            }
+
+            int tagsCount = readCount(buffer);
+            Tag[] tags = new Tag[tagsCount];
+            for (int i = 0; i < tagsCount; i++) {
+                tags[i] = new Tag(readString(buffer));
+            }
+
+            ToDoList toDoList = new ToDoList();
+            int toDosCount = readCount(buffer);
+            for (int i = 0; i < toDosCount; i++) {
+                toDoList.add(readToDo(buffer, tags, version != VERSION_WITHOUT_IDS));
+            }
+
+            if (buffer.remaining() != CHECKSUM_LENGTH) {
+                throw new DataConversionException(new IllegalValueException("Unexpected data after to-dos"));
+            }
+
+            return toDoList;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | DateTimeException exception) {
+            throw new DataConversionException(exception);
+        }
+    }
+
+    private static void writeToDo(DataOutputStream out, ReadOnlyToDo toDo, Map<String, Integer> tagIndexes)
+        throws IOException {
+        int flags = (toDo.getDueDate().isPresent() ? FLAG_DUE_DATE : 0)
+            | (toDo.getDateRange().isPresent() ? FLAG_DATE_RANGE : 0)
+            | (toDo.getDateFinished().isPresent() ? FLAG_DATE_FINISHED : 0);
+        out.writeByte(flags);
+
+        out.writeLong(toDo.getId());
+        writeString(out, toDo.getTitle().value);
+        writeDateTime(out, toDo.getDateCreated());
+
+        if (toDo.getDueDate().isPresent()) {
+            DueDate dueDate = toDo.getDueDate().get();
+            writeDateTime(out, dueDate.value);
+            out.writeByte(dueDate.recurrence.ordinal());
+        }
+
+        if (toDo.getDateRange().isPresent()) {
+            DateRange dateRange = toDo.getDateRange().get();
+            writeDateTime(out, dateRange.startDate);
+            writeDateTime(out, dateRange.endDate);
+            out.writeByte(dateRange.recurrence.ordinal());
+        }
+
+        if (toDo.getDateFinished().isPresent()) {
+            writeDateTime(out, toDo.getDateFinished().get());
+        }
+
+        out.writeInt(toDo.getTags().size());
+        for (Tag tag : toDo.getTags()) {
+            out.writeInt(tagIndexes.get(tag.value));
+        }
+    }
+
+    /**
+     * @param hasId whether the to-do was written with its ID, otherwise it keeps the new ID it is created with
+     */
+    private static ToDo readToDo(ByteBuffer buffer, Tag[] tags, boolean hasId) throws DataConversionException {
+        int flags = buffer.get() & 0xFF;
+
+        Long id = hasId ? buffer.getLong() : null;
+
+        Title title = new Title(readString(buffer));
+        ToDo toDo = id != null ? new ToDo(title, id) : new ToDo(title);
+        LocalDateTime dateCreated = readDateTime(buffer);
+
+        DueDate dueDate = null;
+        if ((flags & FLAG_DUE_DATE) != 0) {
+            dueDate = new DueDate(readDateTime(buffer), readRecurrence(buffer));
+        }
+
+        DateRange dateRange = null;
+        if ((flags & FLAG_DATE_RANGE) != 0) {
+            try {
+                dateRange = new DateRange(readDateTime(buffer), readDateTime(buffer), readRecurrence(buffer));
+            } catch (IllegalValueException exception) {
+                throw new DataConversionException(exception);
+            }
+        }
+
+        LocalDateTime dateFinished = null;
+        if ((flags & FLAG_DATE_FINISHED) != 0) {
+            dateFinished = readDateTime(buffer);
+        }
+
+        int tagsCount = readCount(buffer);
+        if (tagsCount > 0) {
+            // Tags are immutable, so to-dos share the tags in the dictionary
+            Set<Tag> toDoTags = new HashSet<>();
+            for (int i = 0; i < tagsCount; i++) {
+                toDoTags.add(tags[buffer.getInt()]);
+            }
+            toDo.setTags(toDoTags);
+        }
+
+        // Same order of setting fields as when reading from XML
+        if (dueDate != null) {
+            toDo.setDueDate(dueDate);
+        }
+
+        if (dateRange != null) {
+            toDo.setDateRange(dateRange);
+        }
+
+        if (dateFinished != null) {
+            toDo.setDateFinished(dateFinished);
+        }
+
+        toDo.setDateCreated(dateCreated);
+
+        return toDo;
+    }
+
+    private static void verifyChecksum(ByteBuffer buffer) throws DataConversionException {
+        if (buffer.remaining() < CHECKSUM_LENGTH) {
+            throw new DataConversionException(new IllegalValueException("File too short"));
+        }
+
+        int dataEnd = buffer.limit() - CHECKSUM_LENGTH;
+        ByteBuffer data = buffer.duplicate();
+        data.limit(dataEnd);
+
+        CRC32 checksum = new CRC32();
+        checksum.update(data);
+
+        if ((int) checksum.getValue() != buffer.getInt(dataEnd)) {
+            throw new DataConversionException(new IllegalValueException("Checksum does not match"));
+        }
+    }
+
+    /**
+     * Reads a count, which cannot be more than the bytes left as each item takes at least a byte.
+     */
+    private static int readCount(ByteBuffer buffer) throws DataConversionException {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining()) {
+            throw new DataConversionException(new IllegalValueException("Invalid count: " + count));
+        }
+        return count;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) throws DataConversionException {
+        byte[] bytes = new byte[readCount(buffer)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeDateTime(DataOutputStream out, LocalDateTime dateTime) throws IOException {
+        out.writeLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+    }
+
+    private static LocalDateTime readDateTime(ByteBuffer buffer) {
+        return LocalDateTime.ofEpochSecond(buffer.getLong(), 0, ZoneOffset.UTC);
+    }
+
+    private static Recurrence readRecurrence(ByteBuffer buffer) throws DataConversionException {
+        int ordinal = buffer.get() & 0xFF;
+        if (ordinal >= recurrences.length) {
+            throw new DataConversionException(new IllegalValueException("Invalid recurrence: " + ordinal));
+        }
+        return recurrences[ordinal];
+    }
+}
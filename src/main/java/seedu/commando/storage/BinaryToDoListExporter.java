@@ -0,0 +1,25 @@
+package seedu.commando.storage;
+
+import seedu.commando.model.todo.ReadOnlyToDoList;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+//@@author A0139697H
+
+/**
+ * Exports to-do lists in the binary format of {@link BinaryFileStorage}.
+ */
+class BinaryToDoListExporter implements ToDoListExporter {
+
+    @Override
+    public String getFileExtension() {
+        return BinaryFileStorage.FILE_EXTENSION;
+    }
+
+    @Override
+    public void export(ReadOnlyToDoList toDoList, OutputStream out) throws IOException {
+        // The checksum at the end is over the whole file, so it is not streamed
+        out.write(BinaryFileStorage.convertDataToBinary(toDoList));
+    }
+}
@@ -0,0 +1,120 @@
+package seedu.commando.storage;
+
+import seedu.commando.commons.core.LogsCenter;
+import seedu.commando.commons.exceptions.DataConversionException;
+import seedu.commando.commons.exceptions.IllegalValueException;
+import seedu.commando.commons.util.AtomicFileWriter;
+import seedu.commando.model.todo.ReadOnlyToDoList;
+import seedu.commando.model.todo.ToDoList;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+//@@author A0139697H
+
+/**
+ * A class to access to-do list data stored as a binary file on the hard disk, see {@link BinaryFileStorage}.
+ */
+public class BinaryToDoListStorage implements FileToDoListStorage {
+    private static final Logger logger = LogsCenter.getLogger(BinaryToDoListStorage.class);
+    private String filePath;
+
+    public BinaryToDoListStorage(String filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public String getToDoListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public void setToDoListFilePath(String path) {
+        assert path != null;
+
+        this.filePath = path;
+    }
+
+    @Override
+    public Optional<ReadOnlyToDoList> readToDoList() throws DataConversionException, IOException {
+        return readToDoList(filePath);
+    }
+
+    /**
+     * Reads the to-do list data at {@param filePath}.
+     * If the file is missing or not in the correct format, the previous version of it kept as backup is read instead.
+     * @param filePath location to read the to-do list. Must be non-null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyToDoList> readToDoList(String filePath) throws DataConversionException, IOException {
+        assert filePath != null;
+
+        File toDoListFile = new File(filePath);
+        File backupFile = AtomicFileWriter.getBackupFile(toDoListFile);
+
+        if (!toDoListFile.exists()) {
+            // The app may have exited while the file was being replaced
+            if (backupFile.exists()) {
+                logger.warning("To-do list data file " + toDoListFile + " not found, using backup " + backupFile);
+                return Optional.of(readToDoListFile(backupFile));
+            }
+
+            logger.info("To-do list data file " + toDoListFile + " not found");
+            return Optional.empty();
+        } else {
+            logger.info("Using to-do list data file " + toDoListFile);
+        }
+
+        try {
+            return Optional.of(readToDoListFile(toDoListFile));
+        } catch (DataConversionException exception) {
+            if (!backupFile.exists()) {
+                throw exception;
+            }
+
+            logger.warning("To-do list data file " + toDoListFile + " not in the correct format, using backup "
+                + backupFile);
+
+            try {
+                return Optional.of(readToDoListFile(backupFile));
+            } catch (DataConversionException backupException) {
+                throw exception;
+            }
+        }
+    }
+
+    @Override
+    public void saveToDoList(ReadOnlyToDoList toDoList) throws IOException {
+        saveToDoList(toDoList, filePath);
+    }
+
+    /**
+     * Saves the to-do list data to {@param filePath}
+     * @param toDoList to-do list to save. Must be non-null
+     * @param filePath location to save the to-do list. Must be non-null
+     */
+    @Override
+    public void saveToDoList(ReadOnlyToDoList toDoList, String filePath) throws IOException {
+        assert toDoList != null;
+        assert filePath != null;
+
+        BinaryFileStorage.saveDataToFile(new File(filePath), toDoList);
+    }
+
+    @Override
+    public byte[] convertToDoList(ReadOnlyToDoList toDoList, String filePath) throws IOException {
+        return BinaryFileStorage.convertDataToBinary(toDoList);
+    }
+
+    private ToDoList readToDoListFile(File file) throws DataConversionException, FileNotFoundException {
+        try {
+            return BinaryFileStorage.loadDataFromSaveFile(file);
+        } catch (IllegalValueException exception) {
+            throw new DataConversionException(exception);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package seedu.commando.storage;
+
+import seedu.commando.commons.core.LogsCenter;
+import seedu.commando.commons.exceptions.DataConversionException;
+import seedu.commando.model.todo.ReadOnlyToDoList;
+import seedu.commando.model.todo.ToDoListChange;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+//@@author A0139697H
+
+/**
+ * Wraps a {@link ToDoListStorage}, deferring saves of the to-do list to the next {@link #checkpoint()},
+ * where only the latest to-do list submitted is saved, in a single write.
+ * Saves to other files than the to-do list file are not deferred.
+ *
+ * The to-do lists submitted are kept until then, so they should not change unless they are the current
+ * to-do list, e.g. the model's to-do list when it is only changed on the thread saving it.
+ */
+public class CheckpointedToDoListStorage implements ToDoListStorage {
+    private static final Logger logger = LogsCenter.getLogger(CheckpointedToDoListStorage.class);
+
+    private final ToDoListStorage storage;
+
+    // Latest to-do list submitted since the last checkpoint, null if there is none
+    private ReadOnlyToDoList unsavedToDoList;
+    private int unsavedSavesCount;
+
+    public CheckpointedToDoListStorage(ToDoListStorage storage) {
+        assert storage != null;
+        this.storage = storage;
+    }
+
+    /**
+     * Saves the latest to-do list submitted since the last checkpoint, if any, to the to-do list file.
+     *
+     * @throws IOException if there was any problem writing to the file, in which case it is still unsaved
+     */
+    public void checkpoint() throws IOException {
+        if (unsavedToDoList == null) {
+            return;
+        }
+
+        logger.info("Saving the latest of " + unsavedSavesCount + " saves at checkpoint");
+        storage.saveToDoList(unsavedToDoList);
+
+        unsavedToDoList = null;
+        unsavedSavesCount = 0;
+    }
+
+    /**
+     * Returns whether any save has been deferred since the last checkpoint.
+     */
+    public boolean hasUnsavedChanges() {
+        return unsavedToDoList != null;
+    }
+
+    @Override
+    public String getToDoListFilePath() {
+        return storage.getToDoListFilePath();
+    }
+
+    /**
+     * Saves any deferred save to the current file first, as it was for that file.
+     */
+    @Override
+    public void setToDoListFilePath(String path) {
+        try {
+            checkpoint();
+        } catch (IOException exception) {
+            logger.warning("Failed to save to-do list before changing its file path, saving to the new file path");
+        }
+
+        storage.setToDoListFilePath(path);
+    }
+
+    @Override
+    public Optional<ReadOnlyToDoList> readToDoList() throws DataConversionException, IOException {
+        return readToDoList(getToDoListFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyToDoList> readToDoList(String filePath) throws DataConversionException, IOException {
+        // The file would not have the deferred saves
+        if (unsavedToDoList != null && filePath.equals(getToDoListFilePath())) {
+            return Optional.of(unsavedToDoList);
+        }
+
+        return storage.readToDoList(filePath);
+    }
+
+    @Override
+    public void saveToDoList(ReadOnlyToDoList toDoList) throws IOException {
+        saveToDoList(toDoList, getToDoListFilePath());
+    }
+
+    @Override
+    public void saveToDoList(ReadOnlyToDoList toDoList, String filePath) throws IOException {
+        assert toDoList != null && filePath != null;
+
+        if (!filePath.equals(getToDoListFilePath())) {
+            storage.saveToDoList(toDoList, filePath);
+            return;
+        }
+
+        unsavedToDoList = toDoList;
+        unsavedSavesCount++;
+    }
+
+    /**
+     * Deferred as a save of the whole to-do list, as the changes are saved together at the next checkpoint.
+     */
+    @Override
+    public void saveToDoListChanges(List<ToDoListChange> changes, ReadOnlyToDoList toDoList) throws IOException {
+        saveToDoList(toDoList);
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.commando.storage;
+
+import seedu.commando.model.todo.DateRange;
+import seedu.commando.model.todo.ReadOnlyToDo;
+import seedu.commando.model.todo.ReadOnlyToDoList;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+//@@author A0139697H
+
+/**
+ * Exports to-do lists in CSV as in RFC 4180, with a header row and a row per to-do.
+ * Datetimes are in ISO-8601, missing values are empty, and tags are separated by spaces.
+ */
+class CsvToDoListExporter implements ToDoListExporter {
+    private static final String LINE_BREAK = "\r\n";
+    private static final List<String> HEADER = Arrays.asList("title", "dueDate", "dueDateRecurrence",
+        "dateRangeStart", "dateRangeEnd", "dateRangeRecurrence", "dateCreated", "dateFinished", "tags");
+
+    @Override
+    public String getFileExtension() {
+        return ".csv";
+    }
+
+    @Override
+    public void export(ReadOnlyToDoList toDoList, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        writeRow(writer, HEADER);
+        for (ReadOnlyToDo toDo : toDoList.getToDos()) {
+            writeRow(writer, getFields(toDo));
+        }
+
+        writer.flush();
+    }
+
+    private static List<String> getFields(ReadOnlyToDo toDo) {
+        String dueDate = "";
+        String dueDateRecurrence = "";
+        if (toDo.getDueDate().isPresent()) {
+            dueDate = formatDateTime(toDo.getDueDate().get().value);
+            dueDateRecurrence = toDo.getDueDate().get().recurrence.toString();
+        }
+
+        String dateRangeStart = "";
+        String dateRangeEnd = "";
+        String dateRangeRecurrence = "";
+        if (toDo.getDateRange().isPresent()) {
+            DateRange dateRange = toDo.getDateRange().get();
+            dateRangeStart = formatDateTime(dateRange.startDate);
+            dateRangeEnd = formatDateTime(dateRange.endDate);
+            dateRangeRecurrence = dateRange.recurrence.toString();
+        }
+
+        String dateFinished = toDo.getDateFinished().map(CsvToDoListExporter::formatDateTime).orElse("");
+        String tags = toDo.getTags().stream().map(tag -> tag.value).sorted().collect(Collectors.joining(" "));
+
+        return Arrays.asList(toDo.getTitle().value, dueDate, dueDateRecurrence, dateRangeStart, dateRangeEnd,
+            dateRangeRecurrence, formatDateTime(toDo.getDateCreated()), dateFinished, tags);
+    }
+
+    private static void writeRow(Writer writer, List<String> fields) throws IOException {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escape(fields.get(i)));
+        }
+        writer.write(LINE_BREAK);
+    }
+
+    /**
+     * Quotes {@param field} if it has a comma, quote or line break, doubling its quotes.
+     */
+    static String escape(String field) {
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0
+            && field.indexOf('\r') < 0) {
+            return field;
+        }
+
+        return '"' + field.replace("\"", "\"\"") + '"';
+    }
+
+    private static String formatDateTime(LocalDateTime dateTime) {
+        return dateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    }
+}
@@ -0,0 +1,23 @@
+package seedu.commando.storage;
+
+import seedu.commando.model.todo.ReadOnlyToDoList;
+
+import java.io.IOException;
+
+//@@author A0139697H
+
+/**
+ * Represents a storage that saves the whole {@link seedu.commando.model.todo.ToDoList} as a file,
+ * replacing it atomically with {@link seedu.commando.commons.util.AtomicFileWriter}.
+ */
+public interface FileToDoListStorage extends ToDoListStorage {
+
+    /**
+     * Returns the bytes {@param toDoList} would be saved as at {@param filePath},
+     * so they can be computed separately from writing them.
+     * @param toDoList cannot be null.
+     * @param filePath cannot be null.
+     * @throws IOException if there was any problem converting the to-do list.
+     */
+    byte[] convertToDoList(ReadOnlyToDoList toDoList, String filePath) throws IOException;
+}
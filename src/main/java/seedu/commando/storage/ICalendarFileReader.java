@@ -0,0 +1,515 @@
+package seedu.commando.storage;
+
+import com.google.common.io.CountingInputStream;
+import seedu.commando.commons.core.AppClock;
+import seedu.commando.commons.exceptions.DataConversionException;
+import seedu.commando.commons.exceptions.IllegalValueException;
+import seedu.commando.model.todo.DateRange;
+import seedu.commando.model.todo.DueDate;
+import seedu.commando.model.todo.Recurrence;
+import seedu.commando.model.todo.Tag;
+import seedu.commando.model.todo.Title;
+import seedu.commando.model.todo.ToDo;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.DoubleSupplier;
+
+//@@author A0139697H
+
+/**
+ * Reads to-dos from iCalendar files as in RFC 5545, e.g. calendars exported from other applications.
+ * The file is streamed a line at a time, and only the properties of the entry being read are kept in memory.
+ *
+ * VEVENTs are read as events, with a date range from DTSTART to DTEND or DURATION, and VTODOs as tasks,
+ * with their DUE date if any, finished if they are COMPLETED. SUMMARY is the title, CATEGORIES are the tags
+ * and CREATED the date created. Datetimes in UTC or with a TZID are converted to local time. All-day dates
+ * end at 23:59, as dates without times do in commands.
+ *
+ * Only the frequency of an RRULE is kept, as recurrences of to-dos have no interval or end. RRULEs that cannot
+ * be kept that way, with an INTERVAL other than 1, a COUNT, or several values for a BYxxx part, e.g. several
+ * days of the week, are reported as invalid. An RRULE with an UNTIL in the past is read as its first occurrence
+ * only, so a series that is over does not recur from now on.
+ * Other components, e.g. VTIMEZONE and VALARM, and other properties are skipped.
+ */
+public class ICalendarFileReader {
+    public static final String FILE_EXTENSION = ".ics";
+
+    private static final LocalTime END_OF_DAY = LocalTime.of(23, 59);
+    private static final DateTimeFormatter dateFormatter = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private static final String EVENT = "VEVENT";
+    private static final String TASK = "VTODO";
+
+    /**
+     * Returns true if the file at {@param filePath} should be read as iCalendar.
+     */
+    public static boolean isICalendarFile(String filePath) {
+        return filePath.toLowerCase().endsWith(FILE_EXTENSION);
+    }
+
+    /**
+     * Reads the entries in the file one at a time, passing each to-do to {@param handler} as soon as
+     * its entry is read. Entries that are not valid to-dos are skipped, and described to {@param invalidEntryHandler}.
+     *
+     * @throws DataConversionException if the file is not an iCalendar file
+     * @throws IllegalValueException   if thrown by {@param handler}
+     */
+    public static void streamDataFromFile(File file, ToDoHandler handler, Consumer<String> invalidEntryHandler)
+        throws DataConversionException, IllegalValueException, FileNotFoundException {
+        assert handler != null && invalidEntryHandler != null;
+
+        if (!file.isFile()) {
+            throw new FileNotFoundException("File not found: " + file.getAbsolutePath());
+        }
+
+        try (CountingInputStream in = new CountingInputStream(new FileInputStream(file))) {
+            long size = Math.max(1, file.length());
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+
+            // Bytes read ahead into buffers are counted as read too
+            readEach(reader, handler, invalidEntryHandler, () -> Math.min(1, (double) in.getCount() / size));
+        } catch (FileNotFoundException exception) {
+            throw exception;
+        } catch (IOException exception) {
+            throw new DataConversionException(exception);
+        }
+    }
+
+    /**
+     * Reads the entries from {@param reader}, as in {@link #streamDataFromFile(File, ToDoHandler, Consumer)}.
+     *
+     * @param progress returns the fraction of the input read so far
+     */
+    static void readEach(BufferedReader reader, ToDoHandler handler, Consumer<String> invalidEntryHandler,
+                         DoubleSupplier progress) throws IOException, DataConversionException, IllegalValueException {
+        String nextLine = reader.readLine();
+        int nextLineNumber = 1;
+
+        boolean isCalendarFound = false;
+        int skippedDepth = 0; // depth in components being skipped
+        Entry entry = null;
+        int entriesCount = 0;
+
+        while (nextLine != null) {
+            // Unfold lines, continued on the next lines starting with whitespace
+            StringBuilder line = new StringBuilder(nextLine);
+            int lineNumber = nextLineNumber;
+            nextLine = reader.readLine();
+            nextLineNumber++;
+            while (nextLine != null && (nextLine.startsWith(" ") || nextLine.startsWith("\t"))) {
+                line.append(nextLine, 1, nextLine.length());
+                nextLine = reader.readLine();
+                nextLineNumber++;
+            }
+
+            if (line.toString().trim().isEmpty()) {
+                continue;
+            }
+
+            Property property = Property.parse(line.toString());
+
+            if (!isCalendarFound) {
+                if (property == null || !property.isBegin("VCALENDAR")) {
+                    throw new DataConversionException(
+                        new IllegalValueException("iCalendar file should begin with BEGIN:VCALENDAR"));
+                }
+                isCalendarFound = true;
+                continue;
+            }
+
+            if (property == null) {
+                if (entry != null) {
+                    entry.invalidLine = lineNumber;
+                }
+                continue;
+            }
+
+            if (skippedDepth > 0) {
+                if (property.name.equals("BEGIN")) {
+                    skippedDepth++;
+                } else if (property.name.equals("END")) {
+                    skippedDepth--;
+                }
+            } else if (property.name.equals("BEGIN")) {
+                if (entry == null && (property.isBegin(EVENT) || property.isBegin(TASK))) {
+                    entriesCount++;
+                    entry = new Entry(property.value.toUpperCase(), entriesCount, lineNumber);
+                } else {
+                    skippedDepth = 1;
+                }
+            } else if (entry != null && property.name.equals("END")) {
+                try {
+                    handler.handle(entry.toModelType(), progress.getAsDouble());
+                } catch (InvalidEntryException exception) {
+                    invalidEntryHandler.accept(entry.describe(exception.getMessage()));
+                }
+                entry = null;
+            } else if (entry != null) {
+                entry.add(property);
+            }
+        }
+
+        if (!isCalendarFound) {
+            throw new DataConversionException(new IllegalValueException("iCalendar file is empty"));
+        }
+    }
+
+    /**
+     * Unescapes an iCalendar TEXT value.
+     */
+    static String unescapeText(String text) {
+        StringBuilder unescaped = new StringBuilder(text.length());
+
+        for (int i = 0; i < text.length(); i++) {
+            char character = text.charAt(i);
+            if (character == '\\' && i + 1 < text.length()) {
+                char escaped = text.charAt(++i);
+                unescaped.append(escaped == 'n' || escaped == 'N' ? '\n' : escaped);
+            } else {
+                unescaped.append(character);
+            }
+        }
+
+        return unescaped.toString();
+    }
+
+    /**
+     * Splits an iCalendar list of TEXT values at its unescaped commas, unescaping each value.
+     */
+    private static List<String> splitTextList(String text) {
+        List<String> values = new ArrayList<>();
+        int start = 0;
+
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\\') {
+                i++;
+            } else if (text.charAt(i) == ',') {
+                values.add(unescapeText(text.substring(start, i)));
+                start = i + 1;
+            }
+        }
+        values.add(unescapeText(text.substring(start)));
+
+        return values;
+    }
+
+    /**
+     * Indicates an entry that is not a valid to-do.
+     */
+    private static class InvalidEntryException extends Exception {
+        InvalidEntryException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * A content line, with its name and parameters in upper case.
+     */
+    private static class Property {
+        final String name;
+        final Map<String, String> parameters = new HashMap<>();
+        final String value;
+
+        private Property(String name, String value) {
+            this.name = name;
+            this.value = value;
+        }
+
+        /**
+         * Parses {@param line} as "name *(;param=value):value", with parameter values possibly quoted.
+         *
+         * @return the property, or null if {@param line} is not a content line
+         */
+        static Property parse(String line) {
+            List<String> parts = new ArrayList<>();
+            int start = 0;
+            boolean isQuoted = false;
+
+            for (int i = 0; i < line.length(); i++) {
+                char character = line.charAt(i);
+                if (character == '"') {
+                    isQuoted = !isQuoted;
+                } else if (!isQuoted && (character == ';' || character == ':')) {
+                    parts.add(line.substring(start, i));
+                    start = i + 1;
+
+                    if (character == ':') {
+                        Property property = new Property(parts.get(0).trim().toUpperCase(), line.substring(start));
+                        for (String parameter : parts.subList(1, parts.size())) {
+                            int equals = parameter.indexOf('=');
+                            if (equals > 0) {
+                                property.parameters.put(parameter.substring(0, equals).toUpperCase(),
+                                    parameter.substring(equals + 1).replace("\"", ""));
+                            }
+                        }
+                        return property.name.isEmpty() ? null : property;
+                    }
+                }
+            }
+
+            return null;
+        }
+
+        boolean isBegin(String component) {
+            return name.equals("BEGIN") && value.trim().equalsIgnoreCase(component);
+        }
+
+        boolean isDate() {
+            return "DATE".equalsIgnoreCase(parameters.get("VALUE")) || value.trim().length() == 8;
+        }
+
+        /**
+         * Parses the value as a date, or a datetime converted to local time.
+         */
+        LocalDateTime getDateTime() throws InvalidEntryException {
+            String dateTime = value.trim();
+
+            try {
+                if (isDate()) {
+                    return LocalDate.parse(dateTime, dateFormatter).atStartOfDay();
+                }
+
+                if (dateTime.endsWith("Z")) {
+                    return LocalDateTime.parse(dateTime.substring(0, dateTime.length() - 1), dateTimeFormatter)
+                        .atOffset(ZoneOffset.UTC).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+                }
+
+                LocalDateTime localDateTime = LocalDateTime.parse(dateTime, dateTimeFormatter);
+                String timeZone = parameters.get("TZID");
+                return timeZone == null ? localDateTime : convertToLocal(localDateTime, timeZone);
+            } catch (DateTimeParseException exception) {
+                throw new InvalidEntryException("invalid " + name + ": " + value);
+            }
+        }
+
+        /**
+         * Converts {@param dateTime} in {@param timeZone} to local time, or keeps it as is if the time zone is
+         * not known, e.g. defined in a VTIMEZONE.
+         */
+        private static LocalDateTime convertToLocal(LocalDateTime dateTime, String timeZone) {
+            try {
+                return dateTime.atZone(ZoneId.of(timeZone)).withZoneSameInstant(ZoneId.systemDefault())
+                    .toLocalDateTime();
+            } catch (DateTimeException exception) {
+                return dateTime;
+            }
+        }
+    }
+
+    /**
+     * The properties of a VEVENT or VTODO being read.
+     */
+    private static class Entry {
+        final String component;
+        final int index;
+        final int lineNumber;
+        final Map<String, Property> properties = new HashMap<>();
+        final Set<Tag> tags = new HashSet<>();
+        Integer invalidLine;
+
+        Entry(String component, int index, int lineNumber) {
+            this.component = component;
+            this.index = index;
+            this.lineNumber = lineNumber;
+        }
+
+        void add(Property property) {
+            if (property.name.equals("CATEGORIES")) {
+                for (String category : splitTextList(property.value)) {
+                    if (!category.trim().isEmpty()) {
+                        tags.add(new Tag(category));
+                    }
+                }
+            } else {
+                properties.putIfAbsent(property.name, property);
+            }
+        }
+
+        String describe(String message) {
+            return component + " " + index + " at line " + lineNumber + ": " + message;
+        }
+
+        ToDo toModelType() throws InvalidEntryException {
+            if (invalidLine != null) {
+                throw new InvalidEntryException("invalid content line " + invalidLine);
+            }
+
+            Property summary = properties.get("SUMMARY");
+            if (summary == null || unescapeText(summary.value).trim().isEmpty()) {
+                throw new InvalidEntryException("missing SUMMARY");
+            }
+
+            // Titles are a single line
+            ToDo toDo = new ToDo(new Title(unescapeText(summary.value).replaceAll("\\s*\\R\\s*", " ")));
+
+            try {
+                if (component.equals(EVENT)) {
+                    toDo.setDateRange(getDateRange());
+                } else {
+                    setDueDateAndFinished(toDo);
+                }
+            } catch (IllegalValueException exception) {
+                throw new InvalidEntryException(exception.getMessage().replace("\n", " "));
+            }
+
+            toDo.setTags(tags);
+
+            if (properties.containsKey("CREATED")) {
+                toDo.setDateCreated(properties.get("CREATED").getDateTime());
+            }
+
+            return toDo;
+        }
+
+        private DateRange getDateRange() throws InvalidEntryException, IllegalValueException {
+            Property start = properties.get("DTSTART");
+            if (start == null) {
+                throw new InvalidEntryException("missing DTSTART");
+            }
+
+            LocalDateTime startDate = start.getDateTime();
+            LocalDateTime endDate;
+
+            if (properties.containsKey("DTEND")) {
+                Property end = properties.get("DTEND");
+                endDate = end.getDateTime();
+                if (end.isDate()) {
+                    // The end date of all-day events is exclusive
+                    endDate = endDate.minusDays(1).with(END_OF_DAY);
+                }
+            } else if (properties.containsKey("DURATION")) {
+                endDate = startDate.plus(parseDuration(properties.get("DURATION").value));
+                if (start.isDate()) {
+                    endDate = endDate.minusDays(1).with(END_OF_DAY);
+                }
+            } else {
+                endDate = start.isDate() ? startDate.with(END_OF_DAY) : startDate;
+            }
+
+            // An all-day event ends on the day it starts at the earliest
+            if (start.isDate() && endDate.isBefore(startDate)) {
+                endDate = startDate.with(END_OF_DAY);
+            }
+
+            return new DateRange(startDate, endDate, getRecurrence());
+        }
+
+        private void setDueDateAndFinished(ToDo toDo) throws InvalidEntryException {
+            Property due = properties.get("DUE");
+            if (due != null) {
+                LocalDateTime dueDate = due.getDateTime();
+                toDo.setDueDate(new DueDate(due.isDate() ? dueDate.with(END_OF_DAY) : dueDate, getRecurrence()));
+            }
+
+            Property status = properties.get("STATUS");
+            Property completed = properties.get("COMPLETED");
+            if (completed != null) {
+                toDo.setDateFinished(completed.getDateTime());
+            } else if (status != null && status.value.trim().equalsIgnoreCase("COMPLETED")) {
+                toDo.setIsFinished(true);
+            }
+        }
+
+        private Recurrence getRecurrence() throws InvalidEntryException {
+            Property rule = properties.get("RRULE");
+            if (rule == null) {
+                return Recurrence.None;
+            }
+
+            Map<String, String> parts = new HashMap<>();
+            for (String part : rule.value.trim().split(";")) {
+                int equals = part.indexOf('=');
+                if (equals > 0) {
+                    parts.put(part.substring(0, equals).toUpperCase(), part.substring(equals + 1).toUpperCase());
+                }
+            }
+
+            if (parts.containsKey("INTERVAL") && !parts.get("INTERVAL").equals("1")) {
+                throw new InvalidEntryException("unsupported RRULE interval: " + rule.value);
+            }
+
+            if (parts.containsKey("COUNT")) {
+                throw new InvalidEntryException("unsupported RRULE count: " + rule.value);
+            }
+
+            for (Map.Entry<String, String> part : parts.entrySet()) {
+                if (part.getKey().startsWith("BY") && part.getValue().contains(",")) {
+                    throw new InvalidEntryException("unsupported RRULE " + part.getKey() + ": " + rule.value);
+                }
+            }
+
+            Recurrence recurrence;
+            String frequency = parts.getOrDefault("FREQ", "");
+            switch (frequency) {
+            case "DAILY":
+                recurrence = Recurrence.Daily;
+                break;
+            case "WEEKLY":
+                recurrence = Recurrence.Weekly;
+                break;
+            case "MONTHLY":
+                recurrence = Recurrence.Monthly;
+                break;
+            case "YEARLY":
+                recurrence = Recurrence.Yearly;
+                break;
+            default:
+                throw new InvalidEntryException("unsupported RRULE frequency: " + rule.value);
+            }
+
+            // A series that is over would otherwise be advanced to recur from now on
+            if (parts.containsKey("UNTIL")
+                && new Property("UNTIL", parts.get("UNTIL")).getDateTime().isBefore(AppClock.now())) {
+                return Recurrence.None;
+            }
+
+            return recurrence;
+        }
+
+        /**
+         * Parses an iCalendar duration, e.g. "PT1H30M" or "P1W".
+         */
+        private static Duration parseDuration(String value) throws InvalidEntryException {
+            String duration = value.trim().toUpperCase();
+
+            try {
+                boolean isNegative = duration.startsWith("-");
+                duration = duration.replaceFirst("^[+-]", "");
+
+                Duration parsed;
+                if (duration.matches("P\\d+W")) {
+                    parsed = Duration.ofDays(7 * Long.parseLong(duration.substring(1, duration.length() - 1)));
+                } else {
+                    parsed = Duration.parse(duration);
+                }
+
+                return isNegative ? parsed.negated() : parsed;
+            } catch (DateTimeParseException | NumberFormatException exception) {
+                throw new InvalidEntryException("invalid DURATION: " + value);
+            }
+        }
+    }
+}
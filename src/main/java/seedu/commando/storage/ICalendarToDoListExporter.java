@@ -0,0 +1,164 @@
+package seedu.commando.storage;
+
+import seedu.commando.model.todo.DateRange;
+import seedu.commando.model.todo.ReadOnlyToDo;
+import seedu.commando.model.todo.ReadOnlyToDoList;
+import seedu.commando.model.todo.Recurrence;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.stream.Collectors;
+
+//@@author A0139697H
+
+/**
+ * Exports to-do lists in iCalendar as in RFC 5545. Events, to-dos with a date range, are exported as VEVENTs,
+ * and tasks as VTODOs, with their due date if any. Recurrences are exported as RRULEs, from the date range start
+ * or the due date, and tags as CATEGORIES.
+ *
+ * Dates of to-dos are in local time, so they are written as floating times, and dates of creation and finishing
+ * are converted to UTC, as iCalendar requires. Monthly and yearly recurrences from days some months do not have,
+ * e.g. the 31st, recur on the last day of those months here, but are skipped in those months in iCalendar.
+ */
+class ICalendarToDoListExporter implements ToDoListExporter {
+    private static final String LINE_BREAK = "\r\n";
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final DateTimeFormatter localDateTimeFormatter = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter utcDateTimeFormatter = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+
+    @Override
+    public String getFileExtension() {
+        return ".ics";
+    }
+
+    @Override
+    public void export(ReadOnlyToDoList toDoList, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        String timestamp = formatUtcDateTime(LocalDateTime.now());
+
+        writeLine(writer, "BEGIN:VCALENDAR");
+        writeLine(writer, "VERSION:2.0");
+        writeLine(writer, "PRODID:-//CommanDo//CommanDo//EN");
+        for (ReadOnlyToDo toDo : toDoList.getToDos()) {
+            writeToDo(writer, toDo, timestamp);
+        }
+        writeLine(writer, "END:VCALENDAR");
+
+        writer.flush();
+    }
+
+    private static void writeToDo(Writer writer, ReadOnlyToDo toDo, String timestamp) throws IOException {
+        String component = toDo.getDateRange().isPresent() ? "VEVENT" : "VTODO";
+
+        writeLine(writer, "BEGIN:" + component);
+        writeLine(writer, "UID:" + getUid(toDo));
+        writeLine(writer, "DTSTAMP:" + timestamp);
+        writeLine(writer, "CREATED:" + formatUtcDateTime(toDo.getDateCreated()));
+        writeLine(writer, "SUMMARY:" + escapeText(toDo.getTitle().value));
+
+        if (toDo.getDateRange().isPresent()) {
+            DateRange dateRange = toDo.getDateRange().get();
+            writeLine(writer, "DTSTART:" + dateRange.startDate.format(localDateTimeFormatter));
+            writeLine(writer, "DTEND:" + dateRange.endDate.format(localDateTimeFormatter));
+            writeRecurrence(writer, dateRange.recurrence);
+        } else {
+            if (toDo.getDueDate().isPresent()) {
+                writeLine(writer, "DUE:" + toDo.getDueDate().get().value.format(localDateTimeFormatter));
+                writeRecurrence(writer, toDo.getDueDate().get().recurrence);
+            }
+
+            if (toDo.getDateFinished().isPresent()) {
+                writeLine(writer, "STATUS:COMPLETED");
+                writeLine(writer, "COMPLETED:" + formatUtcDateTime(toDo.getDateFinished().get()));
+            } else {
+                writeLine(writer, "STATUS:NEEDS-ACTION");
+            }
+        }
+
+        if (!toDo.getTags().isEmpty()) {
+            writeLine(writer, "CATEGORIES:" + toDo.getTags().stream()
+                .map(tag -> escapeText(tag.value)).sorted().collect(Collectors.joining(",")));
+        }
+
+        writeLine(writer, "END:" + component);
+    }
+
+    private static void writeRecurrence(Writer writer, Recurrence recurrence) throws IOException {
+        if (recurrence != Recurrence.None) {
+            writeLine(writer, "RRULE:" + getRecurrenceRule(recurrence));
+        }
+    }
+
+    /**
+     * Returns the RRULE value for {@param recurrence}, asserted not {@link Recurrence#None}.
+     */
+    static String getRecurrenceRule(Recurrence recurrence) {
+        switch (recurrence) {
+        case Daily:
+            return "FREQ=DAILY";
+        case Weekly:
+            return "FREQ=WEEKLY";
+        case Monthly:
+            return "FREQ=MONTHLY";
+        case Yearly:
+            return "FREQ=YEARLY";
+        default:
+            assert false : "A to-do without recurrence has no recurrence rule";
+            return "";
+        }
+    }
+
+    /**
+     * Returns a UID that is the same whenever the to-do is exported, from its ID, even after it is edited.
+     */
+    private static String getUid(ReadOnlyToDo toDo) {
+        return String.format("%016x@commando", toDo.getId());
+    }
+
+    private static String formatUtcDateTime(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC)
+            .format(utcDateTimeFormatter);
+    }
+
+    /**
+     * Escapes {@param text} as an iCalendar TEXT value.
+     */
+    static String escapeText(String text) {
+        return text.replace("\\", "\\\\").replace(";", "\\;").replace(",", "\\,")
+            .replace("\r\n", "\\n").replace("\n", "\\n").replace("\r", "\\n");
+    }
+
+    /**
+     * Writes {@param line}, folded into lines of at most {@link #MAX_LINE_OCTETS} octets in UTF-8,
+     * without splitting any character.
+     */
+    static void writeLine(Writer writer, String line) throws IOException {
+        int octets = 0;
+
+        for (int i = 0; i < line.length(); ) {
+            int codePoint = line.codePointAt(i);
+            int charCount = Character.charCount(codePoint);
+            int codePointOctets = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+
+            if (octets + codePointOctets > MAX_LINE_OCTETS) {
+                // Continuation lines start with a space, which counts towards their length
+                writer.write(LINE_BREAK + " ");
+                octets = 1;
+            }
+
+            writer.write(line, i, charCount);
+            octets += codePointOctets;
+            i += charCount;
+        }
+
+        writer.write(LINE_BREAK);
+    }
+}
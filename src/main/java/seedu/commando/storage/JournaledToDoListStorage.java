@@ -0,0 +1,409 @@
+package seedu.commando.storage;
+
+import seedu.commando.commons.core.Config;
+import seedu.commando.commons.core.LogsCenter;
+import seedu.commando.commons.exceptions.DataConversionException;
+import seedu.commando.commons.exceptions.IllegalValueException;
+import seedu.commando.commons.util.AtomicFileWriter;
+import seedu.commando.model.todo.BinaryToDoCodec;
+import seedu.commando.model.todo.ImmutableToDoList;
+import seedu.commando.model.todo.ReadOnlyToDo;
+import seedu.commando.model.todo.ReadOnlyToDoList;
+import seedu.commando.model.todo.ToDoList;
+import seedu.commando.model.todo.ToDoListChange;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+//@@author A0139697H
+
+/**
+ * A to-do list storage that saves changes to the to-do list as records appended to a journal file,
+ * instead of saving the whole to-do list each time.
+ *
+ * The whole to-do list is saved as a snapshot at the file path, with a {@link FileToDoListStorage},
+ * and the journal is at the file path with {@link #JOURNAL_FILE_EXTENSION} appended.
+ * Each record in the journal is its length, a CRC32 checksum and a change encoded by {@link BinaryToDoCodec}.
+ * After {@link Config#JournalCompactionThreshold} changes, a new snapshot is written in the background
+ * and the changes in it are dropped from the journal.
+ *
+ * Lists with fewer than {@link Config#JournalMinToDos} to-dos are cheap to save whole, so they are
+ * saved as a snapshot instead, which keeps the file at the file path complete.
+ *
+ * Reading loads the snapshot and replays the journal on it. Replaying is lenient, so changes already in
+ * the snapshot (e.g. if the app exited during compaction) are skipped, and a truncated or corrupted tail
+ * of the journal (e.g. if the app exited while appending) is ignored and overwritten by the next change.
+ *
+ * If appending changes fails, the journal is missing them, so the next save is a whole snapshot instead,
+ * like saving the whole to-do list each time would recover on the next save.
+ */
+public class JournaledToDoListStorage implements ToDoListStorage {
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledToDoListStorage.class);
+    private static final int RECORD_HEADER_LENGTH = 8;
+
+    private final FileToDoListStorage snapshotStorage;
+    private final int compactionThreshold;
+    private final int minToDos;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "To-do list journal compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Length of the valid records and number of records in the journal at the file path, -1 if unknown
+    private long journalLength = -1;
+    private int journalRecordsCount;
+
+    // Incremented whenever a snapshot is saved or the file path changes, so outdated compactions are skipped
+    private long snapshotGeneration;
+    private boolean isCompacting;
+
+    // Whether changes failed to be appended to the journal since the last snapshot
+    private boolean isJournalMissingChanges;
+
+    public JournaledToDoListStorage(String filePath) {
+        this(new MultiFormatToDoListStorage(filePath), Config.JournalCompactionThreshold, Config.JournalMinToDos);
+    }
+
+    /**
+     * @param snapshotStorage     storage for the snapshots of the to-do list, whose file path is used
+     * @param compactionThreshold number of changes in the journal before a new snapshot is saved, asserted positive
+     * @param minToDos            number of to-dos in the to-do list before changes are saved to the journal
+     */
+    public JournaledToDoListStorage(FileToDoListStorage snapshotStorage, int compactionThreshold, int minToDos) {
+        assert snapshotStorage != null && compactionThreshold > 0 && minToDos >= 0;
+
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+        this.minToDos = minToDos;
+    }
+
+    @Override
+    public synchronized String getToDoListFilePath() {
+        return snapshotStorage.getToDoListFilePath();
+    }
+
+    @Override
+    public synchronized void setToDoListFilePath(String path) {
+        assert path != null;
+
+        snapshotStorage.setToDoListFilePath(path);
+        journalLength = -1;
+        journalRecordsCount = 0;
+        snapshotGeneration++;
+    }
+
+    @Override
+    public Optional<ReadOnlyToDoList> readToDoList() throws DataConversionException, IOException {
+        return readToDoList(getToDoListFilePath());
+    }
+
+    /**
+     * Reads the snapshot at {@param filePath} and replays its journal on it.
+     *
+     * @return an optional of the to-do list, empty if neither the snapshot nor the journal exist
+     */
+    @Override
+    public synchronized Optional<ReadOnlyToDoList> readToDoList(String filePath)
+        throws DataConversionException, IOException {
+        assert filePath != null;
+
+        Optional<ReadOnlyToDoList> snapshot = snapshotStorage.readToDoList(filePath);
+        File journalFile = getJournalFile(filePath);
+
+        if (!journalFile.exists()) {
+            return snapshot;
+        }
+
+        ToDoList toDoList = snapshot.isPresent() ? new ToDoList(snapshot.get()) : new ToDoList();
+        JournalScan scan = scanJournal(journalFile, toDoList);
+        logger.info("Replayed " + scan.recordsCount + " changes from journal " + journalFile);
+
+        if (filePath.equals(getToDoListFilePath())) {
+            journalLength = scan.validLength;
+            journalRecordsCount = scan.recordsCount;
+        }
+
+        return Optional.of(toDoList);
+    }
+
+    @Override
+    public void saveToDoList(ReadOnlyToDoList toDoList) throws IOException {
+        saveToDoList(toDoList, getToDoListFilePath());
+    }
+
+    /**
+     * Saves the whole to-do list as a snapshot at {@param filePath}.
+     * If it is the file path of the storage, its journal is cleared.
+     */
+    @Override
+    public synchronized void saveToDoList(ReadOnlyToDoList toDoList, String filePath) throws IOException {
+        assert toDoList != null && filePath != null;
+
+        snapshotStorage.saveToDoList(toDoList, filePath);
+
+        if (filePath.equals(getToDoListFilePath())) {
+            snapshotGeneration++;
+            Files.deleteIfExists(getJournalFile(filePath).toPath());
+            journalLength = 0;
+            journalRecordsCount = 0;
+            isJournalMissingChanges = false;
+        }
+    }
+
+    /**
+     * Appends changes to the journal, and compacts the journal in the background if it has enough changes.
+     * If there is no snapshot yet, the to-do list is small, or earlier changes failed to be appended,
+     * the whole to-do list is saved as the snapshot instead.
+     */
+    @Override
+    public synchronized void saveToDoListChanges(List<ToDoListChange> changes, ReadOnlyToDoList toDoList)
+        throws IOException {
+        assert changes != null && toDoList != null;
+
+        // Changes can only be replayed on a snapshot, so save one first if there is none
+        File snapshotFile = new File(getToDoListFilePath());
+        if (!snapshotFile.exists() || snapshotFile.length() == 0 || toDoList.getToDos().size() < minToDos
+            || isJournalMissingChanges) {
+            saveToDoList(toDoList);
+            return;
+        }
+
+        try {
+            appendToJournal(changes);
+        } catch (IOException | RuntimeException exception) {
+            // Later changes can depend on these, so they cannot be appended after a gap
+            isJournalMissingChanges = true;
+            throw exception;
+        }
+
+        if (journalRecordsCount >= compactionThreshold && !isCompacting) {
+            scheduleCompaction(toDoList);
+        }
+    }
+
+    /**
+     * Waits for any compaction in the background to finish.
+     */
+    void awaitCompaction() throws InterruptedException {
+        try {
+            compactor.submit(() -> { }).get();
+        } catch (ExecutionException exception) {
+            assert false : "Empty task should not fail";
+        }
+    }
+
+    private void appendToJournal(List<ToDoListChange> changes) throws IOException {
+        // Encode all the records first, so they are written at once
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        DataOutputStream recordsOut = new DataOutputStream(records);
+        for (ToDoListChange change : changes) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            BinaryToDoCodec.writeToDoListChange(new DataOutputStream(bytes), change);
+            byte[] payload = bytes.toByteArray();
+
+            CRC32 checksum = new CRC32();
+            checksum.update(payload);
+
+            recordsOut.writeInt(payload.length);
+            recordsOut.writeInt((int) checksum.getValue());
+            recordsOut.write(payload);
+        }
+
+        File journalFile = getJournalFile(getToDoListFilePath());
+
+        // Find where the valid records end, so a truncated tail is overwritten
+        if (journalLength < 0) {
+            JournalScan scan = journalFile.exists() ? scanJournal(journalFile, null) : new JournalScan(0, 0);
+            journalLength = scan.validLength;
+            journalRecordsCount = scan.recordsCount;
+        }
+
+        try (RandomAccessFile journal = new RandomAccessFile(journalFile, "rw")) {
+            journal.seek(journalLength);
+            journal.write(records.toByteArray());
+
+            journalLength = journal.getFilePointer();
+            journal.setLength(journalLength);
+
+            // Force the changes to disk, once for all of them
+            journal.getFD().sync();
+        }
+
+        journalRecordsCount += changes.size();
+    }
+
+    /**
+     * Saves a copy of {@param toDoList} as a snapshot in the background, then drops the changes
+     * that were in the journal up to now, which the snapshot includes.
+     */
+    private void scheduleCompaction(ReadOnlyToDoList toDoList) {
+        ImmutableToDoList snapshot = ImmutableToDoList.of(toDoList);
+        String filePath = getToDoListFilePath();
+        long generation = snapshotGeneration;
+        long compactedLength = journalLength;
+        int compactedRecordsCount = journalRecordsCount;
+
+        isCompacting = true;
+        compactor.execute(() -> compact(snapshot, filePath, generation, compactedLength, compactedRecordsCount));
+    }
+
+    private void compact(ImmutableToDoList snapshot, String filePath, long generation,
+                         long compactedLength, int compactedRecordsCount) {
+        try {
+            // Convert the snapshot first, without blocking changes from being appended
+            byte[] snapshotData = snapshotStorage.convertToDoList(snapshot, filePath);
+
+            synchronized (this) {
+                if (generation != snapshotGeneration) {
+                    logger.fine("Skipping outdated compaction of " + filePath);
+                    return;
+                }
+
+                AtomicFileWriter.forFile(new File(filePath)).write(snapshotData);
+                dropJournalHead(getJournalFile(filePath), compactedLength);
+                journalRecordsCount -= compactedRecordsCount;
+                snapshotGeneration++;
+            }
+
+            logger.info("Compacted " + compactedRecordsCount + " changes from journal into " + filePath);
+        } catch (IOException exception) {
+            logger.warning("Unable to compact journal of " + filePath + ": " + exception.getMessage());
+        } finally {
+            synchronized (this) {
+                isCompacting = false;
+            }
+        }
+    }
+
+    /**
+     * Removes the first {@param length} bytes of the journal, keeping the records after them.
+     * If the app exits before this, the records removed are skipped when replayed on the new snapshot.
+     */
+    private void dropJournalHead(File journalFile, long length) throws IOException {
+        File tempFile = AtomicFileWriter.getTempFile(journalFile);
+        byte[] tail = new byte[(int) (journalLength - length)];
+
+        try (RandomAccessFile journal = new RandomAccessFile(journalFile, "r")) {
+            journal.seek(length);
+            journal.readFully(tail);
+        }
+
+        try (FileOutputStream out = new FileOutputStream(tempFile)) {
+            out.write(tail);
+            out.getFD().sync();
+        }
+
+        Files.move(tempFile.toPath(), journalFile.toPath(),
+            StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        journalLength -= length;
+    }
+
+    /**
+     * Reads the valid records in a journal, replaying them on {@param toDoList} if it is non-null.
+     * Stops at the first record that is truncated or fails its checksum.
+     */
+    private JournalScan scanJournal(File journalFile, ToDoList toDoList) throws IOException {
+        long fileLength = journalFile.length();
+        long offset = 0;
+        int recordsCount = 0;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(journalFile)))) {
+            while (fileLength - offset >= RECORD_HEADER_LENGTH) {
+                int length = in.readInt();
+                int expectedChecksum = in.readInt();
+
+                if (length < 0 || length > fileLength - offset - RECORD_HEADER_LENGTH) {
+                    break;
+                }
+
+                byte[] payload = new byte[length];
+                in.readFully(payload);
+
+                CRC32 checksum = new CRC32();
+                checksum.update(payload);
+                if ((int) checksum.getValue() != expectedChecksum) {
+                    break;
+                }
+
+                ToDoListChange change;
+                try {
+                    change = BinaryToDoCodec.readToDoListChange(new DataInputStream(new ByteArrayInputStream(payload)));
+                } catch (IOException exception) {
+                    break;
+                }
+
+                if (toDoList != null) {
+                    replayChange(toDoList, change);
+                }
+
+                offset += RECORD_HEADER_LENGTH + length;
+                recordsCount++;
+            }
+        }
+
+        if (offset < fileLength) {
+            logger.warning("Ignoring " + (fileLength - offset) + " bytes of truncated or corrupted records at the end of "
+                + journalFile);
+        }
+
+        return new JournalScan(offset, recordsCount);
+    }
+
+    /**
+     * Applies a change to {@param toDoList}, skipping deleted to-dos that are not found
+     * and added to-dos that already exist.
+     * Deleted to-dos are found by ID first, as recurring dates read now can have advanced differently
+     * from when the change was made.
+     */
+    private void replayChange(ToDoList toDoList, ToDoListChange change) {
+        for (ReadOnlyToDo toDo : change.getDeletedToDos().getToDos()) {
+            try {
+                toDoList.remove(toDoList.findById(toDo.getId()).orElse(toDo));
+            } catch (IllegalValueException exception) {
+                logger.fine("Skipping deletion of to-do not found: " + toDo);
+            }
+        }
+
+        for (ReadOnlyToDo toDo : change.getAddedToDos().getToDos()) {
+            try {
+                toDoList.add(toDo);
+            } catch (IllegalValueException exception) {
+                logger.fine("Skipping addition of to-do that already exists: " + toDo);
+            }
+        }
+    }
+
+    private File getJournalFile(String filePath) {
+        return new File(filePath + JOURNAL_FILE_EXTENSION);
+    }
+
+    private static class JournalScan {
+        final long validLength;
+        final int recordsCount;
+
+        JournalScan(long validLength, int recordsCount) {
+            this.validLength = validLength;
+            this.recordsCount = recordsCount;
+        }
+    }
+}
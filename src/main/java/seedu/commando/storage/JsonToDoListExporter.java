@@ -0,0 +1,88 @@
+package seedu.commando.storage;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import seedu.commando.model.todo.DateRange;
+import seedu.commando.model.todo.ReadOnlyToDo;
+import seedu.commando.model.todo.ReadOnlyToDoList;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.stream.Collectors;
+
+//@@author A0139697H
+
+/**
+ * Exports to-do lists in JSON, writing each to-do with Jackson's streaming generator.
+ * The fields are named as in XML, with datetimes in ISO-8601 and the tags as an array, e.g.
+ * {@code {"toDos": [{"title": "...", "dueDate": "2016-10-07T12:30:00", "dueDateRecurrence": "None", ...}]}}.
+ */
+public class JsonToDoListExporter implements ToDoListExporter {
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    @Override
+    public String getFileExtension() {
+        return ".json";
+    }
+
+    @Override
+    public void export(ReadOnlyToDoList toDoList, OutputStream out) throws IOException {
+        JsonGenerator json = jsonFactory.createGenerator(out, JsonEncoding.UTF8);
+        json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        json.useDefaultPrettyPrinter();
+
+        json.writeStartObject();
+        json.writeArrayFieldStart("toDos");
+        for (ReadOnlyToDo toDo : toDoList.getToDos()) {
+            writeToDo(json, toDo);
+        }
+        json.writeEndArray();
+        json.writeEndObject();
+
+        json.close();
+    }
+
+    /**
+     * Writes {@param toDo} as a JSON object, as in exported to-do lists, e.g. to embed it in other JSON documents.
+     */
+    public static void writeToDo(JsonGenerator json, ReadOnlyToDo toDo) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("title", toDo.getTitle().value);
+
+        if (toDo.getDueDate().isPresent()) {
+            json.writeStringField("dueDate", formatDateTime(toDo.getDueDate().get().value));
+            json.writeStringField("dueDateRecurrence", toDo.getDueDate().get().recurrence.toString());
+        }
+
+        if (toDo.getDateRange().isPresent()) {
+            DateRange dateRange = toDo.getDateRange().get();
+            json.writeStringField("dateRangeStart", formatDateTime(dateRange.startDate));
+            json.writeStringField("dateRangeEnd", formatDateTime(dateRange.endDate));
+            json.writeStringField("dateRangeRecurrence", dateRange.recurrence.toString());
+        }
+
+        json.writeStringField("dateCreated", formatDateTime(toDo.getDateCreated()));
+
+        if (toDo.getDateFinished().isPresent()) {
+            json.writeStringField("dateFinished", formatDateTime(toDo.getDateFinished().get()));
+        }
+
+        json.writeArrayFieldStart("tags");
+        for (String tag : toDo.getTags().stream().map(tag -> tag.value).sorted().collect(Collectors.toList())) {
+            json.writeString(tag);
+        }
+        json.writeEndArray();
+
+        // As a string, as JSON numbers are not precise beyond 53 bits in many parsers
+        json.writeStringField("id", Long.toString(toDo.getId()));
+
+        json.writeEndObject();
+    }
+
+    private static String formatDateTime(LocalDateTime dateTime) {
+        return dateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.commando.storage;
+
+import seedu.commando.commons.exceptions.DataConversionException;
+import seedu.commando.model.todo.ReadOnlyToDoList;
+
+import java.io.IOException;
+import java.util.Optional;
+
+//@@author A0139697H
+
+/**
+ * A to-do list storage that stores the to-do list in the binary format of {@link BinaryToDoListStorage}
+ * if the file path ends with {@link BinaryFileStorage#FILE_EXTENSION}, and in XML with {@link XmlToDoListStorage}
+ * otherwise. Changing the file path to one with another extension converts the to-do list on its next save.
+ */
+public class MultiFormatToDoListStorage implements FileToDoListStorage {
+    private final XmlToDoListStorage xmlStorage;
+    private final BinaryToDoListStorage binaryStorage;
+    private String filePath;
+
+    public MultiFormatToDoListStorage(String filePath) {
+        this.filePath = filePath;
+        this.xmlStorage = new XmlToDoListStorage(filePath);
+        this.binaryStorage = new BinaryToDoListStorage(filePath);
+    }
+
+    @Override
+    public String getToDoListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public void setToDoListFilePath(String path) {
+        assert path != null;
+
+        filePath = path;
+        xmlStorage.setToDoListFilePath(path);
+        binaryStorage.setToDoListFilePath(path);
+    }
+
+    @Override
+    public Optional<ReadOnlyToDoList> readToDoList() throws DataConversionException, IOException {
+        return readToDoList(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyToDoList> readToDoList(String filePath) throws DataConversionException, IOException {
+        assert filePath != null;
+
+        return getStorage(filePath).readToDoList(filePath);
+    }
+
+    @Override
+    public void saveToDoList(ReadOnlyToDoList toDoList) throws IOException {
+        saveToDoList(toDoList, filePath);
+    }
+
+    @Override
+    public void saveToDoList(ReadOnlyToDoList toDoList, String filePath) throws IOException {
+        assert toDoList != null && filePath != null;
+
+        getStorage(filePath).saveToDoList(toDoList, filePath);
+    }
+
+    @Override
+    public byte[] convertToDoList(ReadOnlyToDoList toDoList, String filePath) throws IOException {
+        assert toDoList != null && filePath != null;
+
+        return getStorage(filePath).convertToDoList(toDoList, filePath);
+    }
+
+    private FileToDoListStorage getStorage(String filePath) {
+        return BinaryFileStorage.isBinaryFile(filePath) ? binaryStorage : xmlStorage;
+    }
+}
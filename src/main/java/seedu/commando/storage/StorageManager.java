@@ -6,8 +6,10 @@ import seedu.commando.commons.events.storage.ToDoListSavedEvent;
 import seedu.commando.commons.exceptions.DataConversionException;
 import seedu.commando.model.UserPrefs;
 import seedu.commando.model.todo.ReadOnlyToDoList;
+import seedu.commando.model.todo.ToDoListChange;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 //@@author A0142230B
@@ -21,7 +23,7 @@ public class StorageManager extends ComponentManager implements Storage {
     private UserPrefsStorage userPrefsStorage;
 
     public StorageManager(String toDoListFilePath, String userPrefsFilePath) {
-        this(new XmlToDoListStorage(toDoListFilePath), new JsonUserPrefsStorage(userPrefsFilePath));
+        this(new JournaledToDoListStorage(toDoListFilePath), new JsonUserPrefsStorage(userPrefsFilePath));
     }
 
     public StorageManager(ToDoListStorage toDoListStorage, UserPrefsStorage userPrefsStorage) {
@@ -81,6 +83,16 @@ public class StorageManager extends ComponentManager implements Storage {
         raise(new ToDoListSavedEvent(filePath)); // post event that to-do list has been saved to the file system
     }
 
+    //@@author A0139697H
+    @Override
+    public void saveToDoListChanges(List<ToDoListChange> changes, ReadOnlyToDoList toDoList) throws IOException {
+        logger.fine("Attempting to save " + changes.size() + " changes to data file: "
+            + toDoListStorage.getToDoListFilePath());
+        toDoListStorage.saveToDoListChanges(changes, toDoList);
+        raise(new ToDoListSavedEvent(toDoListStorage.getToDoListFilePath()));
+    }
+
+    //@@author A0142230B
 	@Override
 	public void setToDoListFilePath(String path) {
 		logger.info("Change the to-do list file path to " + path);
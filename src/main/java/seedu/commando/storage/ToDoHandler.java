@@ -0,0 +1,17 @@
+package seedu.commando.storage;
+
+import seedu.commando.commons.exceptions.IllegalValueException;
+import seedu.commando.model.todo.ToDo;
+
+//@@author A0139697H
+
+/**
+ * Handles each to-do streamed from a file, as soon as it is read.
+ */
+@FunctionalInterface
+public interface ToDoHandler {
+    /**
+     * @param progress fraction of the file read so far, from 0 to 1
+     */
+    void handle(ToDo toDo, double progress) throws IllegalValueException;
+}
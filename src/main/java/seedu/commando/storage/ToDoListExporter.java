@@ -0,0 +1,30 @@
+package seedu.commando.storage;
+
+import seedu.commando.model.todo.ReadOnlyToDoList;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+//@@author A0139697H
+
+/**
+ * Writes a to-do list in a format for exporting, chosen by the extension of the file exported to.
+ * Exporters are found with {@link ToDoListExporters#forFilePath(String)}. More exporters can be added
+ * with {@link ToDoListExporters#register(ToDoListExporter)}, or as services on the classpath
+ * with {@link java.util.ServiceLoader}.
+ */
+public interface ToDoListExporter {
+
+    /**
+     * Returns the extension of files in this format, including the dot, e.g. ".json".
+     */
+    String getFileExtension();
+
+    /**
+     * Writes {@param toDoList} to {@param out}, one to-do at a time, without closing it.
+     * The to-do list must not change while it is being written.
+     *
+     * @throws IOException if there was any problem writing
+     */
+    void export(ReadOnlyToDoList toDoList, OutputStream out) throws IOException;
+}
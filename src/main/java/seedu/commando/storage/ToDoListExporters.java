@@ -0,0 +1,60 @@
+package seedu.commando.storage;
+
+import seedu.commando.commons.core.LogsCenter;
+
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Logger;
+
+//@@author A0139697H
+
+/**
+ * The registry of {@link ToDoListExporter}s. Files without the extension of any exporter are exported in XML,
+ * the format of the to-do list file.
+ */
+public class ToDoListExporters {
+    private static final Logger logger = LogsCenter.getLogger(ToDoListExporters.class);
+
+    private static final ToDoListExporter defaultExporter = new XmlToDoListExporter();
+    private static final List<ToDoListExporter> exporters = new CopyOnWriteArrayList<>();
+
+    static {
+        register(defaultExporter);
+        register(new BinaryToDoListExporter());
+        register(new JsonToDoListExporter());
+        register(new CsvToDoListExporter());
+        register(new ICalendarToDoListExporter());
+
+        for (ToDoListExporter exporter : ServiceLoader.load(ToDoListExporter.class)) {
+            logger.info("Found exporter for " + exporter.getFileExtension() + " files: " + exporter.getClass());
+            register(exporter);
+        }
+    }
+
+    /**
+     * Registers {@param exporter} for files with its extension, replacing any exporter registered for them before.
+     */
+    public static void register(ToDoListExporter exporter) {
+        assert exporter != null && exporter.getFileExtension().startsWith(".");
+
+        // Latest first, so it is found before any it replaces
+        exporters.add(0, exporter);
+    }
+
+    /**
+     * Returns the exporter for the file at {@param filePath}, by its extension, ignoring case.
+     */
+    public static ToDoListExporter forFilePath(String filePath) {
+        assert filePath != null;
+
+        String lowerCaseFilePath = filePath.toLowerCase();
+        for (ToDoListExporter exporter : exporters) {
+            if (lowerCaseFilePath.endsWith(exporter.getFileExtension().toLowerCase())) {
+                return exporter;
+            }
+        }
+
+        return defaultExporter;
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.commando.storage;
+
+import seedu.commando.commons.exceptions.DataConversionException;
+import seedu.commando.commons.exceptions.IllegalValueException;
+
+import java.io.File;
+import java.io.IOException;
+
+//@@author A0139697H
+
+/**
+ * Converts to-do list files between XML, the format for importing and exporting, and the binary format
+ * of {@link BinaryFileStorage}. Both store the same fields at the same precision, so converting either way
+ * and back gives the same to-do list.
+ */
+public class ToDoListFileConverter {
+
+    /**
+     * Converts the to-do list in XML at {@param xmlFile} to the binary format at {@param binaryFile}.
+     *
+     * @throws DataConversionException if the XML file is not in the correct format
+     * @throws IllegalValueException   if the to-dos in the XML file are not a valid to-do list
+     */
+    public static void convertXmlToBinary(File xmlFile, File binaryFile)
+        throws DataConversionException, IllegalValueException, IOException {
+        assert xmlFile != null && binaryFile != null;
+
+        BinaryFileStorage.saveDataToFile(binaryFile, XmlFileStorage.loadDataFromSaveFile(xmlFile));
+    }
+
+    /**
+     * Converts the to-do list in the binary format at {@param binaryFile} to XML at {@param xmlFile}.
+     *
+     * @throws DataConversionException if the binary file is not in the correct format
+     * @throws IllegalValueException   if the to-dos in the binary file are not a valid to-do list
+     */
+    public static void convertBinaryToXml(File binaryFile, File xmlFile)
+        throws DataConversionException, IllegalValueException, IOException {
+        assert binaryFile != null && xmlFile != null;
+
+        XmlFileStorage.saveDataToFile(xmlFile, BinaryFileStorage.loadDataFromSaveFile(binaryFile));
+    }
+}
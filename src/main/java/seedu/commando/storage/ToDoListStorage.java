@@ -3,8 +3,10 @@ package seedu.commando.storage;
 import seedu.commando.commons.exceptions.DataConversionException;
 import seedu.commando.model.todo.ReadOnlyToDoList;
 import seedu.commando.model.todo.ToDoList;
+import seedu.commando.model.todo.ToDoListChange;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
 //@@author A0142230B
 /**
@@ -47,4 +49,17 @@ public interface ToDoListStorage {
      */
     void saveToDoList(ReadOnlyToDoList toDoList, String filePath) throws IOException;
 
+    //@@author A0139697H
+    /**
+     * Saves changes to the to-do list to the storage, in order,
+     * where {@param toDoList} is the to-do list after the changes.
+     * By default, saves the whole to-do list.
+     * @param changes cannot be null.
+     * @param toDoList cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void saveToDoListChanges(List<ToDoListChange> changes, ReadOnlyToDoList toDoList) throws IOException {
+        saveToDoList(toDoList);
+    }
+
 }
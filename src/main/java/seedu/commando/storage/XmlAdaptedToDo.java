@@ -7,6 +7,8 @@ import seedu.commando.model.todo.*;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -43,12 +45,39 @@ class XmlAdaptedToDo {
     @XmlElement
     private Set<String> tagged;
 
+    //@@author A0139697H
+    // Optional, as to-dos saved before they had IDs do not have it
+    @XmlElement
+    private String id;
+
+    //@@author A0142230B
+
     /**
      * No-arg constructor for JAXB use.
      */
     public XmlAdaptedToDo() {
     }
 
+    //@@author A0139697H
+    /**
+     * Constructs from the values of the elements of a to-do in XML, any of which may be null if missing.
+     */
+    XmlAdaptedToDo(String title, String dueDate, String dateRangeStart, String dateRangeEnd, String dateCreated,
+                   String dateFinished, String dateRangeRecurrence, String dueDateRecurrence, Set<String> tagged,
+                   String id) {
+        this.title = title;
+        this.dueDate = dueDate;
+        this.dateRangeStart = dateRangeStart;
+        this.dateRangeEnd = dateRangeEnd;
+        this.dateCreated = dateCreated;
+        this.dateFinished = dateFinished;
+        this.dateRangeRecurrence = dateRangeRecurrence;
+        this.dueDateRecurrence = dueDateRecurrence;
+        this.tagged = tagged;
+        this.id = id;
+    }
+
+    //@@author A0142230B
     /**
      * Converts a given to-do into this class for JAXB use.
      */
@@ -72,17 +101,53 @@ class XmlAdaptedToDo {
 
         dateCreated = stringifyDateTime(toDo.getDateCreated());
         tagged = toDo.getTags().stream().map(tag -> tag.value).collect(Collectors.toSet());
+
+        //@@author A0139697H
+        id = Long.toString(toDo.getId());
     }
 
+    //@@author A0142230B
+
     /**
      * Converts this jaxb-friendly adapted ToDo object into the model's to-do
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted ToDo
      */
     public ToDo toModelType() throws IllegalValueException {
+        List<String> invalidValues = new ArrayList<>();
+        ToDo todo = toModelType(invalidValues);
+
+        // invalid values, log them for debugging
+        invalidValues.forEach(logger::warning);
+
+        return todo;
+    }
+
+    //@@author A0139697H
+    /**
+     * Converts this jaxb-friendly adapted ToDo object into the model's to-do, ignoring invalid values
+     * and adding a message for each to {@param invalidValues}, so they can be reported together.
+     *
+     * @throws IllegalValueException if the title is missing, or there were any data constraints violated
+     */
+    ToDo toModelType(List<String> invalidValues) throws IllegalValueException {
+        if (this.title == null) {
+            throw new IllegalValueException("Missing title");
+        }
+
+        //@@author A0142230B
         final Title title = new Title(this.title);
-        ToDo todo = new ToDo(title);
+        //@@author A0139697H
+        // Without a valid ID, the to-do is created with a new ID
+        ToDo todo;
+        try {
+            todo = id != null ? new ToDo(title, Long.parseLong(id)) : new ToDo(title);
+        } catch (NumberFormatException exception) {
+            invalidValues.add("Unable to parse ID: " + id);
+            todo = new ToDo(title);
+        }
 
+        //@@author A0142230B
         if (this.tagged != null) {
             final Set<Tag> toDoTags = this.tagged.stream().map(Tag::new).collect(Collectors.toSet());
 
@@ -94,11 +159,10 @@ class XmlAdaptedToDo {
             try {
                 todo.setDueDate(new DueDate(
                     parseDateTime(dueDate),
-                    parseRecurrence(dueDateRecurrence)
+                    parseRecurrence(dueDateRecurrence, invalidValues)
                 ));
             } catch (DateTimeParseException exception) {
-                // invalid due date, log it for debugging
-                logger.warning("Unable to parse due date: " + dueDate);
+                invalidValues.add("Unable to parse due date: " + dueDate);
             }
         }
 
@@ -108,11 +172,10 @@ class XmlAdaptedToDo {
                 todo.setDateRange(new DateRange(
                     parseDateTime(dateRangeStart),
                     parseDateTime(dateRangeEnd),
-                    parseRecurrence(dateRangeRecurrence)
+                    parseRecurrence(dateRangeRecurrence, invalidValues)
                 ));
             } catch (DateTimeParseException exception) {
-                // invalid date range, log it for debugging
-                logger.warning("Unable to parse date range: " + dateRangeStart + " - " + dateRangeEnd);
+                invalidValues.add("Unable to parse date range: " + dateRangeStart + " - " + dateRangeEnd);
             }
         }
 
@@ -121,8 +184,7 @@ class XmlAdaptedToDo {
             try {
                 todo.setDateFinished(parseDateTime(dateFinished));
             } catch (DateTimeParseException exception) {
-                // invalid date finished, log it for debugging
-                logger.warning("Unable to parse date finished: " + dateFinished);
+                invalidValues.add("Unable to parse date finished: " + dateFinished);
             }
         }
 
@@ -131,22 +193,20 @@ class XmlAdaptedToDo {
             try {
                 todo.setDateCreated(parseDateTime(dateCreated));
             } catch (DateTimeParseException exception) {
-                // invalid date created, log it for debugging
-                logger.warning("Unable to parse date created: " + dateCreated);
+                invalidValues.add("Unable to parse date created: " + dateCreated);
             }
         }
 
         return todo;
     }
 
-    private static Recurrence parseRecurrence(String recurrenceString) {
+    private static Recurrence parseRecurrence(String recurrenceString, List<String> invalidValues) {
         Recurrence validRecurrence = Recurrence.None;
         if (recurrenceString != null) {
             try {
                 validRecurrence = Recurrence.valueOf(recurrenceString);
             } catch (IllegalArgumentException exception) {
-                // invalid recurrence, log it for debugging
-                logger.warning("Unable to parse recurrence: " + recurrenceString);
+                invalidValues.add("Unable to parse recurrence: " + recurrenceString);
             }
         }
 
@@ -163,7 +223,7 @@ class XmlAdaptedToDo {
         }
     }
 
-    private static String stringifyDateTime(LocalDateTime localDateTime) {
+    static String stringifyDateTime(LocalDateTime localDateTime) {
        if (localDateTime.equals(LocalDateTime.MAX)) {
            return MaxDateString;
        } else if (localDateTime.equals(LocalDateTime.MIN)) {
@@ -0,0 +1,174 @@
+package seedu.commando.storage;
+
+import seedu.commando.commons.core.LogsCenter;
+import seedu.commando.commons.exceptions.IllegalValueException;
+import seedu.commando.model.todo.ToDo;
+import seedu.commando.model.todo.ToDoList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.logging.Logger;
+
+//@@author A0139697H
+
+/**
+ * Converts {@link XmlAdaptedToDo} records to a to-do list, in chunks on the common fork-join pool,
+ * so records can be added while earlier ones are being converted, e.g. as they are read from a file.
+ * The to-dos are in the same order as the records.
+ *
+ * Instead of failing at the first invalid record, all invalid records are reported together,
+ * and the invalid values ignored in records are logged together.
+ */
+class XmlAdaptedToDoConverter {
+    private static final Logger logger = LogsCenter.getLogger(XmlAdaptedToDoConverter.class);
+
+    static final int CHUNK_SIZE = 1024;
+    static final int MAX_REPORTED_MESSAGES = 20;
+
+    private final boolean isParallel = Runtime.getRuntime().availableProcessors() > 1;
+    private final List<ForkJoinTask<ChunkResult>> convertedChunks = new ArrayList<>();
+    private List<XmlAdaptedToDo> chunk = new ArrayList<>();
+    private int recordsCount;
+
+    /**
+     * Converts {@param records} to a to-do list.
+     *
+     * @see #finish()
+     */
+    static ToDoList convert(List<XmlAdaptedToDo> records) throws IllegalValueException {
+        XmlAdaptedToDoConverter converter = new XmlAdaptedToDoConverter();
+        records.forEach(converter::add);
+        return converter.finish();
+    }
+
+    /**
+     * Adds the next record to convert, starting to convert its chunk if it is full.
+     */
+    void add(XmlAdaptedToDo record) {
+        assert record != null;
+
+        chunk.add(record);
+        recordsCount++;
+
+        if (chunk.size() == CHUNK_SIZE) {
+            List<XmlAdaptedToDo> fullChunk = chunk;
+            int startIndex = recordsCount - CHUNK_SIZE;
+            ForkJoinTask<ChunkResult> convertedChunk = ForkJoinTask.adapt(() -> convertChunk(fullChunk, startIndex));
+
+            // With a single core, converting in the background only adds switching between threads
+            if (isParallel) {
+                ForkJoinPool.commonPool().execute(convertedChunk);
+            } else {
+                convertedChunk.invoke();
+            }
+
+            convertedChunks.add(convertedChunk);
+            chunk = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Waits for all records added to be converted, and returns them as a to-do list.
+     *
+     * @throws IllegalValueException listing every record that is invalid or a duplicate of an earlier one
+     */
+    ToDoList finish() throws IllegalValueException {
+        // The last chunk is converted here, which is all of them for small lists
+        List<ChunkResult> results = new ArrayList<>();
+        for (ForkJoinTask<ChunkResult> convertedChunk : convertedChunks) {
+            results.add(convertedChunk.join());
+        }
+        results.add(convertChunk(chunk, recordsCount - chunk.size()));
+
+        ToDoList toDoList = new ToDoList();
+        List<String> invalidRecords = new ArrayList<>();
+        List<String> invalidValues = new ArrayList<>();
+
+        for (ChunkResult result : results) {
+            invalidRecords.addAll(result.invalidRecords);
+            invalidValues.addAll(result.invalidValues);
+
+            for (int i = 0; i < result.toDos.size(); i++) {
+                ToDo toDo = result.toDos.get(i);
+                if (toDo == null) {
+                    continue;
+                }
+
+                try {
+                    toDoList.add(toDo);
+                } catch (IllegalValueException exception) {
+                    invalidRecords.add(describeRecord(result.startIndex + i, exception.getMessage()));
+                }
+            }
+        }
+
+        if (!invalidValues.isEmpty()) {
+            logger.warning("Ignored " + invalidValues.size() + " invalid values in to-dos: "
+                + summarize(invalidValues));
+        }
+
+        if (!invalidRecords.isEmpty()) {
+            throw new IllegalValueException(invalidRecords.size() + " invalid to-dos: " + summarize(invalidRecords));
+        }
+
+        return toDoList;
+    }
+
+    private static ChunkResult convertChunk(List<XmlAdaptedToDo> records, int startIndex) {
+        ChunkResult result = new ChunkResult(startIndex);
+
+        for (int i = 0; i < records.size(); i++) {
+            List<String> invalidValues = new ArrayList<>();
+
+            try {
+                result.toDos.add(records.get(i).toModelType(invalidValues));
+            } catch (IllegalValueException exception) {
+                result.toDos.add(null);
+                result.invalidRecords.add(describeRecord(startIndex + i, exception.getMessage()));
+            }
+
+            for (String invalidValue : invalidValues) {
+                result.invalidValues.add(describeRecord(startIndex + i, invalidValue));
+            }
+        }
+
+        return result;
+    }
+
+    static String describeRecord(int index, String message) {
+        return "to-do " + (index + 1) + ": " + message;
+    }
+
+    private static String summarize(List<String> messages) {
+        return summarize(messages, messages.size());
+    }
+
+    /**
+     * Joins the first {@link #MAX_REPORTED_MESSAGES} of {@param messages}, out of {@param count} messages
+     * in all, which can be more than were kept.
+     */
+    static String summarize(List<String> messages, int count) {
+        int reportedCount = Math.min(messages.size(), MAX_REPORTED_MESSAGES);
+        String summary = String.join("; ", messages.subList(0, reportedCount));
+        if (count > reportedCount) {
+            summary += "; and " + (count - reportedCount) + " more";
+        }
+        return summary;
+    }
+
+    /**
+     * The to-dos converted from a chunk of records, with null for invalid records.
+     */
+    private static class ChunkResult {
+        final int startIndex;
+        final List<ToDo> toDos = new ArrayList<>();
+        final List<String> invalidRecords = new ArrayList<>();
+        final List<String> invalidValues = new ArrayList<>();
+
+        ChunkResult(int startIndex) {
+            this.startIndex = startIndex;
+        }
+    }
+}
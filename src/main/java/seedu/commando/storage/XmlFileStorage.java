@@ -1,36 +1,118 @@
 package seedu.commando.storage;
 
+import com.google.common.io.CountingInputStream;
+import seedu.commando.commons.core.LogsCenter;
 import seedu.commando.commons.exceptions.DataConversionException;
-import seedu.commando.commons.util.XmlUtil;
+import seedu.commando.commons.exceptions.IllegalValueException;
+import seedu.commando.commons.util.AtomicFileWriter;
+import seedu.commando.model.todo.ReadOnlyToDoList;
+import seedu.commando.model.todo.ToDo;
+import seedu.commando.model.todo.ToDoList;
 
-import javax.xml.bind.JAXBException;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
 //@@author A0142230B
 /**
  * Stores ToDoList data in an XML file
  */
 public class XmlFileStorage {
+    private static final Logger logger = LogsCenter.getLogger(XmlFileStorage.class);
+
+    //@@author A0139697H
     /**
      * Saves the given toDoList data to the specified file.
      */
-    public static void saveDataToFile(File file, XmlSerializableToDoList toDoList)
-            throws FileNotFoundException {
-        try {
-            XmlUtil.saveDataToFile(file, toDoList);
-        } catch (JAXBException e) {
-            assert false : "Unexpected exception " + e.getMessage();
+    public static void saveDataToFile(File file, ReadOnlyToDoList toDoList) throws IOException {
+        // Replace the file atomically, so a crash while saving does not corrupt it
+        AtomicFileWriter.forFile(file).write(convertDataToXml(toDoList));
+    }
+
+    /**
+     * Returns the toDoList data in XML, as it would be saved to a file.
+     */
+    public static byte[] convertDataToXml(ReadOnlyToDoList toDoList) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        XmlToDoListStreamCodec.write(toDoList, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Returns toDoList in the file, streaming each to-do from the XML as it is read.
+     *
+     * @throws DataConversionException if the file is not in the correct format
+     * @throws IllegalValueException   if the to-dos in the file are not a valid to-do list
+     */
+    public static ToDoList loadDataFromSaveFile(File file)
+        throws DataConversionException, IllegalValueException, FileNotFoundException {
+        if (!file.isFile()) {
+            throw new FileNotFoundException("File not found: " + file.getAbsolutePath());
+        }
+
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            return XmlToDoListStreamCodec.read(in);
+        } catch (FileNotFoundException exception) {
+            throw exception;
+        } catch (IOException exception) {
+            throw new DataConversionException(exception);
         }
     }
 
     /**
-     * Returns toDoList in the file or an empty toDoList
+     * Reads the to-dos in the file one at a time, passing each to {@param handler} as soon as it is read,
+     * so the to-dos in the file are never all in memory at once.
+     * Invalid values in to-dos are logged and ignored, as in {@link #loadDataFromSaveFile(File)}.
+     *
+     * @throws DataConversionException if the file is not in the correct format
+     * @throws IllegalValueException   if a to-do in the file is invalid, or if thrown by {@param handler}
      */
-    public static XmlSerializableToDoList loadDataFromSaveFile(File file)
-        throws DataConversionException, FileNotFoundException {
-        try {
-            return XmlUtil.getDataFromFile(file, XmlSerializableToDoList.class);
-        } catch (JAXBException exception) {
+    public static void streamDataFromSaveFile(File file, ToDoHandler handler)
+        throws DataConversionException, IllegalValueException, FileNotFoundException {
+        assert handler != null;
+
+        if (!file.isFile()) {
+            throw new FileNotFoundException("File not found: " + file.getAbsolutePath());
+        }
+
+        try (CountingInputStream in = new CountingInputStream(new FileInputStream(file))) {
+            long size = Math.max(1, file.length());
+
+            // Only the first few invalid values are kept to be logged, as a file can have any number of them
+            List<String> reportedInvalidValues = new ArrayList<>();
+            AtomicInteger invalidValuesCount = new AtomicInteger();
+            AtomicInteger recordsCount = new AtomicInteger();
+
+            XmlToDoListStreamCodec.readEach(new BufferedInputStream(in), record -> {
+                List<String> invalidValues = new ArrayList<>();
+                ToDo toDo = record.toModelType(invalidValues);
+                int index = recordsCount.getAndIncrement();
+
+                invalidValuesCount.addAndGet(invalidValues.size());
+                for (String invalidValue : invalidValues) {
+                    if (reportedInvalidValues.size() < XmlAdaptedToDoConverter.MAX_REPORTED_MESSAGES) {
+                        reportedInvalidValues.add(XmlAdaptedToDoConverter.describeRecord(index, invalidValue));
+                    }
+                }
+
+                // Bytes read ahead into buffers are counted as read too
+                handler.handle(toDo, Math.min(1, (double) in.getCount() / size));
+            });
+
+            if (invalidValuesCount.get() > 0) {
+                logger.warning("Ignored " + invalidValuesCount.get() + " invalid values in to-dos: "
+                    + XmlAdaptedToDoConverter.summarize(reportedInvalidValues, invalidValuesCount.get()));
+            }
+        } catch (FileNotFoundException exception) {
+            throw exception;
+        } catch (IOException exception) {
             throw new DataConversionException(exception);
         }
     }
@@ -2,7 +2,6 @@ package seedu.commando.storage;
 
 import seedu.commando.commons.exceptions.IllegalValueException;
 import seedu.commando.model.todo.ReadOnlyToDoList;
-import seedu.commando.model.todo.ToDoList;
 
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
@@ -32,13 +31,13 @@ public class XmlSerializableToDoList {
         this.toDos.addAll(toDos.getToDos().stream().map(XmlAdaptedToDo::new).collect(Collectors.toList()));
     }
 
+    //@@author A0139697H
+    /**
+     * Converts the to-dos in parallel, see {@link XmlAdaptedToDoConverter}.
+     *
+     * @throws IllegalValueException listing every to-do that is invalid or a duplicate
+     */
     public ReadOnlyToDoList getToDos() throws IllegalValueException {
-        ToDoList toDoList = new ToDoList();
-
-        for (XmlAdaptedToDo xmlAdaptedToDo : toDos) {
-            toDoList.add(xmlAdaptedToDo.toModelType());
-        }
-
-        return toDoList;
+        return XmlAdaptedToDoConverter.convert(toDos);
     }
 }
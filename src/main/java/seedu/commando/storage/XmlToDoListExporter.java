@@ -0,0 +1,24 @@
+package seedu.commando.storage;
+
+import seedu.commando.model.todo.ReadOnlyToDoList;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+//@@author A0139697H
+
+/**
+ * Exports to-do lists in XML, the same as the to-do list file, so they can be imported again.
+ */
+class XmlToDoListExporter implements ToDoListExporter {
+
+    @Override
+    public String getFileExtension() {
+        return ".xml";
+    }
+
+    @Override
+    public void export(ReadOnlyToDoList toDoList, OutputStream out) throws IOException {
+        XmlToDoListStreamCodec.write(toDoList, out);
+    }
+}
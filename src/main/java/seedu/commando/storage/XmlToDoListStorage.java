@@ -3,7 +3,7 @@ package seedu.commando.storage;
 import seedu.commando.commons.core.LogsCenter;
 import seedu.commando.commons.exceptions.DataConversionException;
 import seedu.commando.commons.exceptions.IllegalValueException;
-import seedu.commando.commons.util.FileUtil;
+import seedu.commando.commons.util.AtomicFileWriter;
 import seedu.commando.model.todo.ReadOnlyToDoList;
 import seedu.commando.model.todo.ToDoList;
 
@@ -16,7 +16,7 @@ import java.util.logging.Logger;
 /**
  * A class to access to-do list data stored as an xml file on the hard disk.
  */
-public class XmlToDoListStorage implements ToDoListStorage {
+public class XmlToDoListStorage implements FileToDoListStorage {
     private static final Logger logger = LogsCenter.getLogger(XmlToDoListStorage.class);
     private String filePath;
 
@@ -28,8 +28,10 @@ public class XmlToDoListStorage implements ToDoListStorage {
         return filePath;
     }
 
+    //@@author A0139697H
     /**
-     * Reads the to-do list data at {@param filePath}
+     * Reads the to-do list data at {@param filePath}.
+     * If the file is missing or not in the correct format, the previous version of it kept as backup is read instead.
      * @param filePath location to read the to-do list. Must be non-null
      * @throws DataConversionException if the file is not in the correct format.
      */
@@ -37,25 +39,48 @@ public class XmlToDoListStorage implements ToDoListStorage {
         assert filePath != null;
 
         File toDoListFile = new File(filePath);
+        File backupFile = AtomicFileWriter.getBackupFile(toDoListFile);
 
         if (!toDoListFile.exists()) {
+            // The app may have exited while the file was being replaced
+            if (backupFile.exists()) {
+                logger.warning("To-do list data file " + toDoListFile + " not found, using backup " + backupFile);
+                return Optional.of(readToDoListFile(backupFile));
+            }
+
             logger.info("To-do list data file "  + toDoListFile + " not found");
             return Optional.empty();
         } else {
             logger.info("Using to-do list data file " + toDoListFile);
         }
 
-        XmlSerializableToDoList xmlToDoList = XmlFileStorage.loadDataFromSaveFile(new File(filePath));
-
         try {
-            ToDoList toDoList = new ToDoList(xmlToDoList.getToDos());
-            return Optional.of(toDoList);
+            return Optional.of(readToDoListFile(toDoListFile));
+        } catch (DataConversionException exception) {
+            if (!backupFile.exists()) {
+                throw exception;
+            }
+
+            logger.warning("To-do list data file " + toDoListFile + " not in the correct format, using backup "
+                + backupFile);
+
+            try {
+                return Optional.of(readToDoListFile(backupFile));
+            } catch (DataConversionException backupException) {
+                throw exception;
+            }
+        }
+    }
 
+    private ToDoList readToDoListFile(File file) throws DataConversionException, FileNotFoundException {
+        try {
+            return XmlFileStorage.loadDataFromSaveFile(file);
         } catch (IllegalValueException exception) {
             throw new DataConversionException(exception);
         }
     }
 
+    //@@author A0142230B
     /**
      * Saves the to-do list data to {@param filePath}
      * @param toDoList to-do list to save. Must be non-null
@@ -66,8 +91,7 @@ public class XmlToDoListStorage implements ToDoListStorage {
         assert filePath != null;
 
         File file = new File(filePath);
-        FileUtil.createIfMissing(file);
-        XmlFileStorage.saveDataToFile(file, new XmlSerializableToDoList(toDoList));
+        XmlFileStorage.saveDataToFile(file, toDoList);
     }
 
     /**
@@ -89,6 +113,13 @@ public class XmlToDoListStorage implements ToDoListStorage {
         saveToDoList(toDoList, filePath);
     }
 
+    //@@author A0139697H
+    @Override
+    public byte[] convertToDoList(ReadOnlyToDoList toDoList, String filePath) throws IOException {
+        return XmlFileStorage.convertDataToXml(toDoList);
+    }
+
+    //@@author A0142230B
 	@Override
 	public void setToDoListFilePath(String path) {
 		assert path != null;
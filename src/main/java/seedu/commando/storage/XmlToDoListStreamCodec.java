@@ -0,0 +1,277 @@
+package seedu.commando.storage;
+
+import seedu.commando.commons.exceptions.DataConversionException;
+import seedu.commando.commons.exceptions.IllegalValueException;
+import seedu.commando.model.todo.DateRange;
+import seedu.commando.model.todo.ReadOnlyToDo;
+import seedu.commando.model.todo.ReadOnlyToDoList;
+import seedu.commando.model.todo.ToDoList;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+//@@author A0139697H
+
+/**
+ * Reads and writes to-do lists in the XML format of {@link XmlSerializableToDoList} with StAX,
+ * streaming each to-do from and to XML, instead of building the whole {@link XmlSerializableToDoList} first.
+ *
+ * Writing gives the same bytes as JAXB, and reading gives the same to-dos as JAXB and
+ * {@link XmlAdaptedToDo#toModelType()}, where invalid values are logged and ignored.
+ */
+class XmlToDoListStreamCodec {
+    private static final String HEADER = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+    private static final String INDENT = "    ";
+    private static final String ROOT = "todolist";
+    private static final String TO_DO = "toDos";
+    private static final String TITLE = "title";
+    private static final String DUE_DATE = "dueDate";
+    private static final String DATE_RANGE_START = "dateRangeStart";
+    private static final String DATE_RANGE_END = "dateRangeEnd";
+    private static final String DATE_CREATED = "dateCreated";
+    private static final String DATE_FINISHED = "dateFinished";
+    private static final String DATE_RANGE_RECURRENCE = "dateRangeRecurrence";
+    private static final String DUE_DATE_RECURRENCE = "dueDateRecurrence";
+    private static final String TAGGED = "tagged";
+    private static final String ID = "id";
+
+    private static final XMLInputFactory inputFactory = createInputFactory();
+    private static final XMLOutputFactory outputFactory = XMLOutputFactory.newInstance();
+
+    /**
+     * Writes {@param toDoList} as XML to {@param out}, formatted as JAXB does.
+     */
+    static void write(ReadOnlyToDoList toDoList, OutputStream out) throws IOException {
+        assert toDoList != null && out != null;
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(HEADER);
+
+        try {
+            XMLStreamWriter xml = outputFactory.createXMLStreamWriter(writer);
+
+            if (toDoList.getToDos().isEmpty()) {
+                xml.writeEmptyElement(ROOT);
+            } else {
+                xml.writeStartElement(ROOT);
+                for (ReadOnlyToDo toDo : toDoList.getToDos()) {
+                    writeToDo(xml, toDo);
+                }
+                xml.writeCharacters("\n");
+                xml.writeEndElement();
+            }
+
+            xml.writeCharacters("\n");
+            xml.flush();
+            xml.close();
+        } catch (XMLStreamException exception) {
+            throw new IOException("Unable to write to-do list as XML", exception);
+        }
+
+        writer.flush();
+    }
+
+    /**
+     * Reads a to-do list in XML from {@param in}.
+     * The to-dos are converted in parallel with {@link XmlAdaptedToDoConverter} as they are read.
+     *
+     * @throws DataConversionException if the XML is not in the correct format
+     * @throws IllegalValueException   if the to-dos read are not a valid to-do list, e.g. there are duplicates
+     */
+    static ToDoList read(InputStream in) throws DataConversionException, IllegalValueException {
+        assert in != null;
+
+        XmlAdaptedToDoConverter converter = new XmlAdaptedToDoConverter();
+        readEach(in, converter::add);
+        return converter.finish();
+    }
+
+    /**
+     * Reads the to-do records in XML from {@param in} one at a time, passing each to {@param handler}
+     * as soon as it is read, so no more than one record is kept in memory.
+     *
+     * @throws DataConversionException if the XML is not in the correct format
+     * @throws IllegalValueException   if thrown by {@param handler}
+     */
+    static void readEach(InputStream in, RecordHandler handler) throws DataConversionException, IllegalValueException {
+        assert in != null && handler != null;
+
+        try {
+            XMLStreamReader xml = inputFactory.createXMLStreamReader(in);
+
+            if (xml.nextTag() != XMLStreamConstants.START_ELEMENT || !xml.getLocalName().equals(ROOT)) {
+                throw new DataConversionException(new IllegalValueException("Root element should be " + ROOT));
+            }
+
+            while (xml.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                if (xml.getLocalName().equals(TO_DO)) {
+                    handler.handle(readToDo(xml));
+                } else {
+                    skipElement(xml);
+                }
+            }
+
+            xml.close();
+        } catch (XMLStreamException exception) {
+            throw new DataConversionException(exception);
+        }
+    }
+
+    /**
+     * Handles each to-do record read by {@link #readEach(InputStream, RecordHandler)}.
+     */
+    @FunctionalInterface
+    interface RecordHandler {
+        void handle(XmlAdaptedToDo record) throws IllegalValueException;
+    }
+
+    private static void writeToDo(XMLStreamWriter xml, ReadOnlyToDo toDo) throws XMLStreamException {
+        xml.writeCharacters("\n" + INDENT);
+        xml.writeStartElement(TO_DO);
+
+        writeField(xml, TITLE, toDo.getTitle().value);
+
+        if (toDo.getDueDate().isPresent()) {
+            writeField(xml, DUE_DATE, XmlAdaptedToDo.stringifyDateTime(toDo.getDueDate().get().value));
+        }
+
+        if (toDo.getDateRange().isPresent()) {
+            DateRange dateRange = toDo.getDateRange().get();
+            writeField(xml, DATE_RANGE_START, XmlAdaptedToDo.stringifyDateTime(dateRange.startDate));
+            writeField(xml, DATE_RANGE_END, XmlAdaptedToDo.stringifyDateTime(dateRange.endDate));
+        }
+
+        writeField(xml, DATE_CREATED, XmlAdaptedToDo.stringifyDateTime(toDo.getDateCreated()));
+
+        if (toDo.getDateFinished().isPresent()) {
+            writeField(xml, DATE_FINISHED, XmlAdaptedToDo.stringifyDateTime(toDo.getDateFinished().get()));
+        }
+
+        if (toDo.getDateRange().isPresent()) {
+            writeField(xml, DATE_RANGE_RECURRENCE, toDo.getDateRange().get().recurrence.toString());
+        }
+
+        if (toDo.getDueDate().isPresent()) {
+            writeField(xml, DUE_DATE_RECURRENCE, toDo.getDueDate().get().recurrence.toString());
+        }
+
+        // Tags in the same order as JAXB writes the set of tags in XmlAdaptedToDo
+        if (!toDo.getTags().isEmpty()) {
+            Set<String> tagged = toDo.getTags().stream().map(tag -> tag.value).collect(Collectors.toSet());
+            for (String tag : tagged) {
+                writeField(xml, TAGGED, tag);
+            }
+        }
+
+        writeField(xml, ID, Long.toString(toDo.getId()));
+
+        xml.writeCharacters("\n" + INDENT);
+        xml.writeEndElement();
+    }
+
+    private static void writeField(XMLStreamWriter xml, String name, String value) throws XMLStreamException {
+        xml.writeCharacters("\n" + INDENT + INDENT);
+        xml.writeStartElement(name);
+        xml.writeCharacters(value);
+        xml.writeEndElement();
+    }
+
+    /**
+     * Reads the to-do at the current start element, and moves to its end element.
+     */
+    private static XmlAdaptedToDo readToDo(XMLStreamReader xml) throws XMLStreamException {
+        String title = null;
+        String dueDate = null;
+        String dateRangeStart = null;
+        String dateRangeEnd = null;
+        String dateCreated = null;
+        String dateFinished = null;
+        String dateRangeRecurrence = null;
+        String dueDateRecurrence = null;
+        Set<String> tagged = null;
+        String id = null;
+
+        while (xml.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (xml.getLocalName()) {
+            case TITLE:
+                title = xml.getElementText();
+                break;
+            case DUE_DATE:
+                dueDate = xml.getElementText();
+                break;
+            case DATE_RANGE_START:
+                dateRangeStart = xml.getElementText();
+                break;
+            case DATE_RANGE_END:
+                dateRangeEnd = xml.getElementText();
+                break;
+            case DATE_CREATED:
+                dateCreated = xml.getElementText();
+                break;
+            case DATE_FINISHED:
+                dateFinished = xml.getElementText();
+                break;
+            case DATE_RANGE_RECURRENCE:
+                dateRangeRecurrence = xml.getElementText();
+                break;
+            case DUE_DATE_RECURRENCE:
+                dueDateRecurrence = xml.getElementText();
+                break;
+            case TAGGED:
+                if (tagged == null) {
+                    tagged = new HashSet<>();
+                }
+                tagged.add(xml.getElementText());
+                break;
+            case ID:
+                id = xml.getElementText();
+                break;
+            default:
+                skipElement(xml);
+            }
+        }
+
+        return new XmlAdaptedToDo(title, dueDate, dateRangeStart, dateRangeEnd, dateCreated, dateFinished,
+            dateRangeRecurrence, dueDateRecurrence, tagged, id);
+    }
+
+    /**
+     * Skips the element at the current start element, including its children, and moves to its end element.
+     */
+    private static void skipElement(XMLStreamReader xml) throws XMLStreamException {
+        int depth = 1;
+
+        while (depth > 0) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+
+        // The file is data only, so do not resolve DTDs or external entities
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+
+        return factory;
+    }
+}
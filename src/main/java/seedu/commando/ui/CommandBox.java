@@ -1,5 +1,6 @@
 package seedu.commando.ui;
 
+import com.google.common.eventbus.Subscribe;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
@@ -8,11 +9,14 @@ import javafx.scene.control.TextField;
 import javafx.scene.layout.AnchorPane;
 import javafx.stage.Stage;
 import seedu.commando.commons.core.LogsCenter;
+import seedu.commando.commons.events.logic.QueuedCommandsExecutedEvent;
 import seedu.commando.commons.util.FxViewUtil;
+import seedu.commando.commons.util.StringUtil;
 import seedu.commando.logic.Logic;
 import seedu.commando.logic.commands.CommandResult;
 
 import java.util.ArrayList;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
 public class CommandBox extends UiPart {
@@ -82,24 +86,72 @@ public class CommandBox extends UiPart {
          * #handleIncorrectCommandAttempted}
          */
         setStyleToIndicateCorrectCommand();
-        mostRecentResult = logic.execute(previousCommandTest);
 
-        // If invalid input given, keep the text
+        //@@author A0139697H
+        // Commands run off the JavaFX thread, so typing is not blocked meanwhile
+        String commandText = previousCommandTest;
+        logic.submit(commandText).whenComplete((result, exception) -> Platform.runLater(() -> {
+            if (exception != null) {
+                Throwable cause = exception instanceof CompletionException ? exception.getCause() : exception;
+                logger.severe("Command failed: " + StringUtil.getDetails(cause));
+                showResult(commandText, new CommandResult("Failed to run command: " + cause, true));
+            } else {
+                showResult(commandText, result);
+            }
+        }));
+    }
+
+    private void showResult(String commandText, CommandResult result) {
+        mostRecentResult = result;
+
+        // If invalid input given, keep the text, unless the next command is being typed
         if (mostRecentResult.hasError()) {
             setStyleToIndicateIncorrectCommand();
-            restoreCommandText();
-            setCaretAtEndOfText();
-            commandHistoryPointer = commandHistory.size() - 1;
+            if (commandTextField.getText().isEmpty()) {
+                commandTextField.setText(commandText);
+                setCaretAtEndOfText();
+                commandHistoryPointer = commandHistory.size() - 1;
+            }
         }
 
         changeResultDisplayMessage(mostRecentResult.getFeedback());
         logger.info("Result: " + mostRecentResult.getFeedback());
     }
+    //@@author
 
     protected void changeResultDisplayMessage(String message) {
         resultDisplay.postMessage(message);
     }
 
+    //@@author A0139697H
+    /**
+     * Shows the results of the commands entered while the to-do list was loading, once they have run.
+     */
+    @Subscribe
+    public void handleQueuedCommandsExecutedEvent(QueuedCommandsExecutedEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        FxViewUtil.runOnFxThread(() -> showQueuedCommandResults(event));
+    }
+
+    private void showQueuedCommandResults(QueuedCommandsExecutedEvent event) {
+        StringBuilder feedback = new StringBuilder();
+        boolean hasError = false;
+        for (int i = 0; i < event.commandTexts.size(); i++) {
+            CommandResult result = event.results.get(i);
+            feedback.append(i == 0 ? "" : "\n").append(">> ").append(event.commandTexts.get(i))
+                .append("\n").append(result.getFeedback());
+            hasError |= result.hasError();
+        }
+
+        resultDisplay.getResultDisplayArea().getStyleClass().remove("error-result");
+        if (hasError) {
+            resultDisplay.getResultDisplayArea().getStyleClass().add("error-result");
+        }
+
+        changeResultDisplayMessage(feedback.toString());
+    }
+    //@@author
+
     // @@author A0139080J
     /**
      * This and the next method: Switches through a list of commands, invalid or
@@ -150,13 +202,6 @@ public class CommandBox extends UiPart {
         commandTextField.setText("");
     }
 
-    /**
-     * Restores the command box text to the previously entered command
-     */
-    private void restoreCommandText() {
-        commandTextField.setText(previousCommandTest);
-    }
-
     /**
      * Sets the command box style to indicate an error
      */
@@ -2,6 +2,7 @@ package seedu.commando.ui;
 
 import com.google.common.eventbus.Subscribe;
 
+import javafx.application.Platform;
 import javafx.event.EventHandler;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
@@ -464,6 +465,13 @@ public class MainWindow extends UiPart {
     public void handleToDoListSavedEvent(ToDoListSavedEvent event) {
         logger.info(
                 LogsCenter.getEventHandlingLogMessage(event, "Setting last updated status to " + LocalDateTime.now()));
-        statusBarFooter.setSyncStatus(LocalDateTime.now());
+        LocalDateTime savedTime = LocalDateTime.now();
+
+        // The to-do list may be saved on a writer thread, but UI can only be updated on the JavaFX thread
+        if (Platform.isFxApplicationThread()) {
+            statusBarFooter.setSyncStatus(savedTime);
+        } else {
+            Platform.runLater(() -> statusBarFooter.setSyncStatus(savedTime));
+        }
     }
 }
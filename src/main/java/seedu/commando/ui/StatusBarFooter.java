@@ -1,5 +1,6 @@
 package seedu.commando.ui;
 
+import com.google.common.eventbus.Subscribe;
 import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
@@ -7,6 +8,9 @@ import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.GridPane;
 import javafx.stage.Stage;
 import org.controlsfx.control.StatusBar;
+import seedu.commando.commons.events.logic.ToDoListImportProgressEvent;
+import seedu.commando.commons.events.storage.ToDoListExportFailedEvent;
+import seedu.commando.commons.events.storage.ToDoListExportedEvent;
 import seedu.commando.commons.util.FxViewUtil;
 
 import java.time.LocalDateTime;
@@ -56,7 +60,9 @@ public class StatusBarFooter extends UiPart {
 
         // Update save location when required
         updateSaveLocation(saveLocation.getValue());
-        saveLocation.addListener((observable, oldValue, newValue) -> updateSaveLocation(saveLocation.getValue()));
+        // The save location is changed on the logic thread
+        saveLocation.addListener((observable, oldValue, newValue) ->
+            FxViewUtil.runOnFxThread(() -> updateSaveLocation(newValue)));
     }
 
     private void updateSaveLocation(String saveLocation) {
@@ -67,6 +73,35 @@ public class StatusBarFooter extends UiPart {
         this.syncStatus.setText("Last Updated: " + dateFormatter.format(dateTime));
     }
 
+    //@@author A0139697H
+    /**
+     * Shows the progress of an import in the sync status, until it is done.
+     */
+    @Subscribe
+    public void handleToDoListImportProgressEvent(ToDoListImportProgressEvent event) {
+        FxViewUtil.runOnFxThread(() -> {
+            if (event.progress < 1) {
+                syncStatus.setProgress(event.progress);
+                syncStatus.setText("Importing: " + event.toDosRead + " to-dos read");
+            } else {
+                syncStatus.setProgress(0);
+                syncStatus.setText("Imported " + event.toDosRead + " to-dos");
+            }
+        });
+    }
+
+    @Subscribe
+    public void handleToDoListExportedEvent(ToDoListExportedEvent event) {
+        FxViewUtil.runOnFxThread(() -> syncStatus.setText("Exported " + event.toDosCount + " to-dos to "
+            + event.filePath + " (" + event.getThroughput() + " to-dos/s)"));
+    }
+
+    @Subscribe
+    public void handleToDoListExportFailedEvent(ToDoListExportFailedEvent event) {
+        FxViewUtil.runOnFxThread(() -> syncStatus.setText("Failed to export to " + event.filePath));
+    }
+    //@@author
+
     private void addSyncStatus() {
         this.syncStatus = new StatusBar();
         FxViewUtil.applyAnchorBoundaryParameters(syncStatus, 0.0, 0.0, 0.0, 0.0);
@@ -11,7 +11,9 @@ import seedu.commando.commons.core.ComponentManager;
 import seedu.commando.commons.core.Config;
 import seedu.commando.commons.core.LogsCenter;
 import seedu.commando.commons.events.storage.DataSavingExceptionEvent;
+import seedu.commando.commons.events.storage.ToDoListExportFailedEvent;
 import seedu.commando.commons.events.logic.ShowHelpRequestEvent;
+import seedu.commando.commons.util.FxViewUtil;
 import seedu.commando.commons.util.StringUtil;
 import seedu.commando.logic.Logic;
 import seedu.commando.model.UserPrefs;
@@ -100,12 +102,22 @@ public class UiManager extends ComponentManager implements Ui {
     @Subscribe
     private void handleDataSavingExceptionEvent(DataSavingExceptionEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        showFileOperationAlertAndWait("Could not save data", "Could not save data to file", event.exception);
+        FxViewUtil.runOnFxThread(() ->
+            showFileOperationAlertAndWait("Could not save data", "Could not save data to file", event.exception));
     }
 
+    //@@author A0139697H
+    @Subscribe
+    private void handleToDoListExportFailedEvent(ToDoListExportFailedEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        FxViewUtil.runOnFxThread(() -> showFileOperationAlertAndWait("Could not export data",
+            "Could not export data to " + event.filePath, event.exception));
+    }
+
+    //@@author
     @Subscribe
     private void handleShowHelpEvent(ShowHelpRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        mainWindow.showHelpAtAnchor(event.getAnchor());
+        FxViewUtil.runOnFxThread(() -> mainWindow.showHelpAtAnchor(event.getAnchor()));
     }
 }
@@ -40,6 +40,12 @@ public class TestApp extends MainApp {
         saveUserPrefs();
     }
 
+    // Load the to-do list before the window is shown, so tests start with all of it
+    @Override
+    protected boolean isLoadingProgressively() {
+        return false;
+    }
+
     @Override
     protected UserPrefs initPrefs(Storage storage) {
         UserPrefs userPrefs = super.initPrefs(storage);
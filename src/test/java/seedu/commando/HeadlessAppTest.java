@@ -0,0 +1,98 @@
+package seedu.commando;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.commando.commons.core.EventsCenter;
+import seedu.commando.logic.LogicManager;
+import seedu.commando.model.ModelManager;
+import seedu.commando.model.UserPrefs;
+import seedu.commando.model.todo.ReadOnlyToDoList;
+import seedu.commando.storage.CheckpointedToDoListStorage;
+import seedu.commando.storage.JsonUserPrefsStorage;
+import seedu.commando.storage.StorageManager;
+import seedu.commando.storage.XmlToDoListStorage;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+//@@author A0139697H
+public class HeadlessAppTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File toDoListFile;
+    private CheckpointedToDoListStorage toDoListStorage;
+    private LogicManager logic;
+    private int savesCount;
+
+    @Before
+    public void setUp() {
+        toDoListFile = new File(folder.getRoot(), "toDoList.xml");
+        toDoListStorage = new CheckpointedToDoListStorage(new XmlToDoListStorage(toDoListFile.getPath()) {
+            @Override
+            public void saveToDoList(ReadOnlyToDoList toDoList, String filePath) throws IOException {
+                savesCount++;
+                super.saveToDoList(toDoList, filePath);
+            }
+        });
+        StorageManager storage = new StorageManager(toDoListStorage,
+            new JsonUserPrefsStorage(new File(folder.getRoot(), "prefs.json").getPath()));
+        logic = new LogicManager(new ModelManager(), storage, new UserPrefs());
+    }
+
+    @After
+    public void tearDown() {
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void run_script_feedbackPrintedAndSavedOnceAtEnd() throws Exception {
+        String script = "add title 1\n"
+            + "# comment\n"
+            + "\n"
+            + "add title 2\n"
+            + "unknownCommand\n"
+            + "exit\n"
+            + "add title 3\n";
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        int errorsCount = new HeadlessApp(logic, toDoListStorage, 0)
+            .run(new BufferedReader(new StringReader(script)), new PrintStream(output, true));
+
+        assertEquals(1, errorsCount);
+        String printed = output.toString();
+        assertTrue(printed, printed.contains(">> add title 2"));
+        assertTrue(printed, printed.contains(">> unknownCommand"));
+        assertFalse(printed, printed.contains("comment"));
+        assertFalse(printed, printed.contains("title 3"));
+
+        ReadOnlyToDoList saved = new XmlToDoListStorage(toDoListFile.getPath()).readToDoList().get();
+        assertEquals(2, saved.getToDos().size());
+        assertFalse(toDoListStorage.hasUnsavedChanges());
+        assertEquals(1, savesCount);
+    }
+
+    @Test
+    public void run_checkpointInterval_savedAtCheckpointsAndEnd() throws Exception {
+        String script = "add title 1\nadd title 2\nadd title 3\nadd title 4\nadd title 5\n";
+
+        new HeadlessApp(logic, toDoListStorage, 2)
+            .run(new BufferedReader(new StringReader(script)), new PrintStream(new ByteArrayOutputStream()));
+
+        assertEquals(3, savesCount);
+        assertEquals(5, new XmlToDoListStorage(toDoListFile.getPath()).readToDoList().get().getToDos().size());
+    }
+}
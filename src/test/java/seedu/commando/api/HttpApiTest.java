@@ -0,0 +1,252 @@
+package seedu.commando.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.io.ByteStreams;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.commando.commons.core.EventsCenter;
+import seedu.commando.commons.util.FileUtil;
+import seedu.commando.logic.LogicManager;
+import seedu.commando.model.ModelManager;
+import seedu.commando.model.UserPrefs;
+import seedu.commando.testutil.StorageStub;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+//@@author A0139697H
+public class HttpApiTest {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private LogicManager logic;
+    private HttpApi api;
+
+    @Before
+    public void setUp() throws IOException {
+        logic = new LogicManager(new ModelManager(), new StorageStub(), new UserPrefs(), true);
+        api = new HttpApi(logic, 0);
+        api.start();
+    }
+
+    @After
+    public void tearDown() {
+        api.stop();
+        logic.stop();
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void postCommands_thenGetUiToDos_paginated() throws Exception {
+        for (int i = 1; i <= 5; i++) {
+            JsonNode result = readJson(request("POST", "/commands", "add task " + i), 200);
+            assertEquals("add task " + i, result.get("command").asText());
+            assertFalse(result.get("hasError").asBoolean());
+        }
+        long version = logic.getSnapshot().version;
+
+        // Commands with errors do not change the model, so its version stays the same
+        assertTrue(readJson(request("POST", "/commands", "unknownCommand"), 200).get("hasError").asBoolean());
+
+        HttpURLConnection connection = request("GET", "/ui-todos?offset=1&limit=2", null);
+        JsonNode page = readJson(connection, 200);
+
+        assertEquals("\"" + version + "\"", connection.getHeaderField("ETag"));
+        assertEquals(5, page.get("total").asInt());
+        assertEquals(1, page.get("offset").asInt());
+        assertEquals(2, page.get("uiToDos").size());
+        assertEquals(2, page.get("uiToDos").get(0).get("index").asInt());
+        assertEquals(3, page.get("uiToDos").get(1).get("index").asInt());
+        assertFalse(page.get("uiToDos").get(0).get("isEvent").asBoolean());
+        assertTrue(page.get("uiToDos").get(0).get("toDo").has("title"));
+    }
+
+    @Test
+    public void getToDos_toDoListAsJson() throws Exception {
+        readJson(request("POST", "/commands", "add task #tag"), 200);
+        readJson(request("POST", "/commands", "add event from 10 Oct 2100 10am to 11am"), 200);
+
+        JsonNode toDos = readJson(request("GET", "/todos", null), 200).get("toDos");
+
+        assertEquals(2, toDos.size());
+        assertEquals("task", toDos.get(0).get("title").asText());
+        assertEquals("tag", toDos.get(0).get("tags").get(0).asText());
+        assertEquals("2100-10-10T10:00:00", toDos.get(1).get("dateRangeStart").asText());
+    }
+
+    @Test
+    public void invalidRequests_errors() throws Exception {
+        assertTrue(readJson(request("GET", "/commands", null), 405).has("error"));
+        assertTrue(readJson(request("POST", "/todos", ""), 405).has("error"));
+        assertTrue(readJson(request("GET", "/todos/1", null), 404).has("error"));
+        assertTrue(readJson(request("GET", "/ui-todos?limit=abc", null), 400).has("error"));
+        assertTrue(readJson(request("GET", "/ui-todos?limit=" + (HttpApi.MAX_LIMIT + 1), null), 400).has("error"));
+    }
+
+    @Test
+    public void getToDos_concurrentWithCommands_consistentSnapshots() throws Exception {
+        int commandsCount = 30;
+        ExecutorService readers = Executors.newFixedThreadPool(3);
+        List<Future<?>> reads = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++) {
+            reads.add(readers.submit(() -> {
+                long lastVersion = -1;
+                int lastSize = 0;
+                while (lastSize < commandsCount) {
+                    HttpURLConnection connection = request("GET", "/todos", null);
+                    JsonNode toDos = readJson(connection, 200).get("toDos");
+                    long version = Long.parseLong(connection.getHeaderField("ETag").replace("\"", ""));
+
+                    // Each snapshot has the to-dos of all the adds before it, in order
+                    assertTrue(version >= lastVersion);
+                    assertTrue(toDos.size() >= lastSize);
+                    for (int j = 0; j < toDos.size(); j++) {
+                        assertEquals("task " + j, toDos.get(j).get("title").asText());
+                    }
+
+                    lastVersion = version;
+                    lastSize = toDos.size();
+                }
+                return null;
+            }));
+        }
+
+        for (int i = 0; i < commandsCount; i++) {
+            readJson(request("POST", "/commands", "add task " + i), 200);
+        }
+
+        for (Future<?> read : reads) {
+            read.get(10, TimeUnit.SECONDS);
+        }
+        readers.shutdown();
+    }
+
+    @Test
+    public void requests_withoutValidToken_unauthorized() throws Exception {
+        HttpURLConnection connection = request("POST", "/commands", "clear", null);
+        assertTrue(readJson(connection, 401).has("error"));
+        assertEquals("Bearer", connection.getHeaderField("WWW-Authenticate"));
+
+        assertTrue(readJson(request("GET", "/todos", null, "Bearer wrong"), 401).has("error"));
+        assertTrue(readJson(request("GET", "/todos", null, api.getToken()), 401).has("error"));
+    }
+
+    @Test
+    public void requests_withOtherHost_forbidden() throws Exception {
+        // e.g. from a page on a domain rebound to the loopback address
+        assertEquals(403, rawRequest("GET /todos", "Host: attacker.example:" + api.getPort()));
+        assertEquals(403, rawRequest("GET /todos", "Host: 127.0.0.1"));
+        assertEquals(403, rawRequest("GET /todos", "Host: localhost:" + (api.getPort() + 1)));
+        assertEquals(403, rawRequest("GET /todos"));
+
+        assertEquals(200, rawRequest("GET /todos", "Host: localhost:" + api.getPort()));
+    }
+
+    @Test
+    public void requests_withOrigin_forbidden() throws Exception {
+        // e.g. a cross-origin POST from a web page, sent without a preflight
+        assertEquals(403, rawRequest("POST /commands", "Host: 127.0.0.1:" + api.getPort(),
+            "Origin: https://attacker.example", "Content-Type: text/plain"));
+        assertEquals(403, rawRequest("GET /todos", "Host: 127.0.0.1:" + api.getPort(), "Origin: null"));
+        assertEquals(0, logic.getSnapshot().toDoList.getToDos().size());
+    }
+
+    @Test
+    public void writeToken_ownerOnlyFile_deletedOnStop() throws Exception {
+        File tokenFile = folder.newFolder().toPath().resolve("api-token").toFile();
+        api.writeToken(tokenFile);
+
+        assertEquals(api.getToken(), FileUtil.readFromFile(tokenFile));
+        assertFalse(api.getToken().isEmpty());
+        HttpApi otherApi = new HttpApi(logic, 0);
+        assertFalse(api.getToken().equals(otherApi.getToken()));
+        otherApi.stop();
+
+        api.stop();
+        assertFalse(tokenFile.exists());
+    }
+
+    private HttpURLConnection request(String method, String path, String body) throws IOException {
+        return request(method, path, body, HttpApi.AUTHORIZATION_SCHEME + api.getToken());
+    }
+
+    private HttpURLConnection request(String method, String path, String body, String authorization)
+        throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://127.0.0.1:" + api.getPort() + path)
+            .openConnection();
+        connection.setRequestMethod(method);
+        if (authorization != null) {
+            connection.setRequestProperty("Authorization", authorization);
+        }
+
+        if (body != null) {
+            connection.setDoOutput(true);
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        return connection;
+    }
+
+    /**
+     * Sends a request with the valid token and exactly {@param headers} otherwise,
+     * which {@link HttpURLConnection} would not send as is, e.g. {@code Host} and {@code Origin}.
+     *
+     * @param requestLine method and path, e.g. {@code GET /todos}
+     * @return status of the response
+     */
+    private int rawRequest(String requestLine, String... headers) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), api.getPort())) {
+            StringBuilder request = new StringBuilder(requestLine + " HTTP/1.1\r\n");
+            for (String header : headers) {
+                request.append(header).append("\r\n");
+            }
+            request.append("Authorization: " + HttpApi.AUTHORIZATION_SCHEME + api.getToken() + "\r\n")
+                .append("Content-Length: 0\r\n")
+                .append("Connection: close\r\n\r\n");
+            socket.getOutputStream().write(request.toString().getBytes(StandardCharsets.US_ASCII));
+
+            // e.g. "HTTP/1.1 403 Forbidden"
+            String statusLine = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII)).readLine();
+            return Integer.parseInt(statusLine.split(" ")[1]);
+        }
+    }
+
+    private JsonNode readJson(HttpURLConnection connection, int expectedStatus) throws IOException {
+        assertEquals(expectedStatus, connection.getResponseCode());
+        assertTrue(connection.getContentType().startsWith("application/json"));
+
+        try (InputStream in = expectedStatus < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            return objectMapper.readTree(new String(ByteStreams.toByteArray(in), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package seedu.commando.commons.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+//@@author A0139697H
+
+public class AtomicFileWriterTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File file;
+
+    @Before
+    public void setUp() {
+        file = new File(folder.getRoot(), "dir/data.xml");
+    }
+
+    @Test
+    public void write_missingFile_createdWithoutBackup() throws IOException {
+        AtomicFileWriter.forFile(file).write(bytes("first"));
+
+        assertEquals("first", read(file));
+        assertFalse(AtomicFileWriter.getBackupFile(file).exists());
+        assertFalse(AtomicFileWriter.getTempFile(file).exists());
+    }
+
+    @Test
+    public void write_existingFile_previousContentKeptAsBackup() throws IOException {
+        AtomicFileWriter.forFile(file).write(bytes("first"));
+        AtomicFileWriter.forFile(file).write(bytes("second"));
+        AtomicFileWriter.forFile(file).write(bytes("third"));
+
+        assertEquals("third", read(file));
+        assertEquals("second", read(AtomicFileWriter.getBackupFile(file)));
+    }
+
+    @Test
+    public void forFile_samePath_sameWriter() {
+        assertSame(AtomicFileWriter.forFile(file), AtomicFileWriter.forFile(new File(file.getPath())));
+    }
+
+    @Test
+    public void write_concurrentWrites_groupCommitted() throws Exception {
+        CountDownLatch isFirstCommitStarted = new CountDownLatch(1);
+        CountDownLatch canFirstCommitFinish = new CountDownLatch(1);
+        AtomicInteger commitsCount = new AtomicInteger();
+        CountDownLatch areWritesQueued = new CountDownLatch(6);
+
+        AtomicFileWriter writer = new AtomicFileWriter(file) {
+            @Override
+            protected void onWriteQueued() {
+                areWritesQueued.countDown();
+            }
+
+            @Override
+            protected void writeTempFile(Path tempPath, byte[] content) throws IOException {
+                if (commitsCount.incrementAndGet() == 1) {
+                    isFirstCommitStarted.countDown();
+                    await(canFirstCommitFinish);
+                }
+                super.writeTempFile(tempPath, content);
+            }
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        List<Future<?>> writes = new ArrayList<>();
+        writes.add(executor.submit(() -> write(writer, "first")));
+        await(isFirstCommitStarted);
+
+        // These all wait for the first commit, then are committed together
+        for (int i = 0; i < 5; i++) {
+            writes.add(executor.submit(() -> write(writer, "later")));
+        }
+        await(areWritesQueued);
+        canFirstCommitFinish.countDown();
+
+        for (Future<?> write : writes) {
+            write.get(5, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(2, commitsCount.get());
+        assertEquals("later", read(file));
+        assertEquals("first", read(AtomicFileWriter.getBackupFile(file)));
+    }
+
+    @Test
+    public void write_commitFails_previousContentKept() throws IOException {
+        AtomicFileWriter.forFile(file).write(bytes("first"));
+
+        AtomicFileWriter writer = new AtomicFileWriter(file) {
+            @Override
+            protected void replace(Path tempPath, Path path) throws IOException {
+                throw new IOException("Rename failed");
+            }
+        };
+
+        try {
+            writer.write(bytes("second"));
+            assertTrue("Write should fail", false);
+        } catch (IOException exception) {
+            assertEquals("Rename failed", exception.getMessage());
+        }
+
+        assertArrayEquals(bytes("first"), Files.readAllBytes(file.toPath()));
+    }
+
+    private void write(AtomicFileWriter writer, String content) {
+        try {
+            writer.write(bytes(content));
+        } catch (IOException exception) {
+            throw new AssertionError(exception);
+        }
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException exception) {
+            throw new AssertionError(exception);
+        }
+    }
+
+    private byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String read(File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.commando.commons.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+//@@author A0139697H
+
+public class CompressedBitmapTest {
+    @Test
+    public void add_newAndExisting_cardinalityCorrect() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+
+        assertTrue(bitmap.add(5));
+        assertFalse(bitmap.add(5));
+        assertTrue(bitmap.add(70000));
+        assertTrue(bitmap.contains(5));
+        assertTrue(bitmap.contains(70000));
+        assertFalse(bitmap.contains(6));
+        assertEquals(2, bitmap.getCardinality());
+        assertArrayEquals(new int[]{ 5, 70000 }, bitmap.toArray());
+    }
+
+    @Test
+    public void remove_existingAndNonExisting_cardinalityCorrect() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        bitmap.add(1);
+        bitmap.add(65536);
+
+        assertTrue(bitmap.remove(65536));
+        assertFalse(bitmap.remove(65536));
+        assertFalse(bitmap.remove(2));
+        assertEquals(1, bitmap.getCardinality());
+        assertArrayEquals(new int[]{ 1 }, bitmap.toArray());
+    }
+
+    @Test
+    public void addAndRemove_denseChunk_sameAsTreeSet() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        TreeSet<Integer> expected = new TreeSet<>();
+
+        // Enough values in one chunk to switch between sorted array and bitmap
+        for (int i = 0; i < 10000; i += 2) {
+            bitmap.add(i);
+            expected.add(i);
+        }
+        for (int i = 0; i < 10000; i += 3) {
+            assertEquals(expected.remove(i), bitmap.remove(i));
+        }
+
+        assertEquals(expected.size(), bitmap.getCardinality());
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), bitmap.toArray());
+    }
+
+    @Test
+    public void and_randomBitmaps_sameAsTreeSetIntersection() {
+        Random random = new Random(2103);
+        CompressedBitmap bitmap1 = new CompressedBitmap();
+        CompressedBitmap bitmap2 = new CompressedBitmap();
+        TreeSet<Integer> set1 = new TreeSet<>();
+        TreeSet<Integer> set2 = new TreeSet<>();
+
+        // Dense in the first chunk, sparse in the others
+        for (int i = 0; i < 20000; i++) {
+            int value1 = i < 10000 ? random.nextInt(20000) : random.nextInt(1000000);
+            int value2 = i < 10000 ? random.nextInt(20000) : random.nextInt(1000000);
+            bitmap1.add(value1);
+            set1.add(value1);
+            bitmap2.add(value2);
+            set2.add(value2);
+        }
+
+        set1.retainAll(set2);
+        CompressedBitmap intersection = bitmap1.and(bitmap2);
+
+        assertEquals(set1.size(), intersection.getCardinality());
+        assertArrayEquals(set1.stream().mapToInt(Integer::intValue).toArray(), intersection.toArray());
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.commando.commons.util;
 
+import org.junit.Assume;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -9,6 +10,9 @@ import seedu.commando.commons.util.FileUtil;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
 
 import static org.junit.Assert.assertEquals;
 
@@ -63,4 +67,18 @@ public class FileUtilTest {
         assertEquals(jsonSerializable.getListOfLocalDateTimes(), JsonSerializable.getListTestValues());
         assertEquals(jsonSerializable.getMapOfIntegerToString(), JsonSerializable.getHashMapTestValues());
     }
+
+    //@@author A0139697H
+    @Test
+    public void createOwnerOnlyFile_existingFile_replacedAndOwnerOnly() throws IOException {
+        File file = new File(folder.getRoot(), "private/token");
+        FileUtil.createOwnerOnlyFile(file);
+        FileUtil.writeToFile(file, "secret");
+
+        FileUtil.createOwnerOnlyFile(file);
+
+        assertEquals("", FileUtil.readFromFile(file));
+        Assume.assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+        assertEquals(PosixFilePermissions.fromString("rw-------"), Files.getPosixFilePermissions(file.toPath()));
+    }
 }
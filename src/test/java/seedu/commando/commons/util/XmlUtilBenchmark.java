@@ -0,0 +1,33 @@
+package seedu.commando.commons.util;
+
+import seedu.commando.testutil.Benchmark;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.Marshaller;
+import java.io.File;
+
+//@@author A0139697H
+
+/**
+ * Benchmarks the overhead of each save with {@link XmlUtil#saveDataToFile(File, Object)}, comparing a new
+ * JAXB context and marshaller per save, as before they were cached, against the cached ones.
+ * Saves a small object, so the time is mostly overhead. Not a test, run with {@code main}.
+ */
+public class XmlUtilBenchmark {
+    private static final int WARMUP_RUNS = 50;
+    private static final int MEASURED_RUNS = 200;
+
+    public static void main(String[] args) throws Exception {
+        File file = File.createTempFile("XmlUtilBenchmark", ".xml");
+        file.deleteOnExit();
+        XmlSerializable data = new XmlSerializable();
+
+        new Benchmark(WARMUP_RUNS, MEASURED_RUNS).compare("save",
+            "new context", () -> {
+                Marshaller m = JAXBContext.newInstance(data.getClass()).createMarshaller();
+                m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+                m.marshal(data, file);
+            },
+            "cached context", () -> XmlUtil.saveDataToFile(file, data));
+    }
+}
@@ -12,8 +12,14 @@ import javax.xml.bind.JAXBException;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 public class XmlUtilTest {
     @Rule
@@ -86,4 +92,32 @@ public class XmlUtilTest {
 
         assertEquals(XmlSerializable.XML_STRING_REPRESENTATION, FileUtil.readFromFile(file));
     }
+
+    //@@author A0139697H
+    @Test
+    public void getContext_sameClass_sameContext() throws JAXBException {
+        assertSame(XmlUtil.getContext(XmlSerializable.class), XmlUtil.getContext(XmlSerializable.class));
+    }
+
+    @Test
+    public void saveAndGetData_repeatedOnManyThreads_sameData() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<XmlSerializable>> results = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < 20; i++) {
+                File file = folder.newFile();
+                results.add(executor.submit(() -> {
+                    XmlUtil.saveDataToFile(file, new XmlSerializable());
+                    return XmlUtil.getDataFromFile(file, XmlSerializable.class);
+                }));
+            }
+
+            for (Future<XmlSerializable> result : results) {
+                assertEquals(new XmlSerializable(), result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
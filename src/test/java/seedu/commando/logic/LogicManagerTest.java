@@ -3,25 +3,42 @@ package seedu.commando.logic;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import javafx.collections.ListChangeListener;
 import org.mockito.Mockito;
 import seedu.commando.commons.core.EventsCenter;
 import seedu.commando.commons.core.Messages;
+import seedu.commando.commons.events.logic.QueuedCommandsExecutedEvent;
 import seedu.commando.commons.events.model.ToDoListChangedEvent;
 import seedu.commando.commons.events.storage.DataSavingExceptionEvent;
+import seedu.commando.commons.exceptions.IllegalValueException;
 import seedu.commando.logic.commands.CommandResult;
 import seedu.commando.model.Model;
 import seedu.commando.model.ModelManager;
 import seedu.commando.model.UserPrefs;
+import seedu.commando.model.todo.ReadOnlyToDo;
 import seedu.commando.model.todo.ToDoList;
+import seedu.commando.model.ui.UiToDo;
+import seedu.commando.testutil.ToDoBuilder;
 import seedu.commando.storage.Storage;
 import seedu.commando.storage.StorageManager;
 import seedu.commando.testutil.EventsCollector;
 import seedu.commando.testutil.StorageStub;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 //@@author A0139697H
 /**
@@ -96,4 +113,127 @@ public class LogicManagerTest {
         assertTrue(eventsCollector.hasCollectedEvent(DataSavingExceptionEvent.class));
     }
 
+    @Test
+    public void execute_loading_commandQueued() throws Exception {
+        Model model = new ModelManager();
+        logic = new LogicManager(model, new StorageStub(), new UserPrefs(), false, true);
+
+        CommandResult result = logic.execute("add title");
+
+        assertFalse(result.hasError());
+        assertEquals(String.format(Messages.COMMAND_QUEUED_WHILE_LOADING, "add title"), result.getFeedback());
+        assertTrue(model.getToDoList().getToDos().isEmpty());
+    }
+
+    @Test
+    public void finishLoading_queuedCommands_executedAfterLoadedToDos() throws Exception {
+        Model model = new ModelManager();
+        logic = new LogicManager(model, new StorageStub(), new UserPrefs(), false, true);
+        logic.execute("add title 2");
+        logic.execute("unknownCommand");
+
+        model.addLoadedToDos(new ToDoList().add(new ToDoBuilder("title 1").build()));
+        logic.finishLoading();
+
+        assertEquals(2, model.getToDoList().getToDos().size());
+        assertEquals("title 2", model.getToDoList().getToDos().get(1).getTitle().value);
+
+        QueuedCommandsExecutedEvent event = eventsCollector.getCollectedEvent(QueuedCommandsExecutedEvent.class).get();
+        assertEquals(2, event.results.size());
+        assertFalse(event.results.get(0).hasError());
+        assertTrue(event.results.get(1).hasError());
+
+        // Commands are executed directly once loaded
+        assertFalse(logic.execute("add title 3").getFeedback().startsWith("Still loading"));
+        assertEquals(3, model.getToDoList().getToDos().size());
+    }
+
+    @Test
+    public void addLoadedToDos_duplicateToDos_completedExceptionally() throws Exception {
+        Model model = new ModelManager();
+        logic = new LogicManager(model, new StorageStub(), new UserPrefs(), false, true);
+        logic.addLoadedToDos(new ToDoList().add(new ToDoBuilder("title").build())).get();
+
+        try {
+            logic.addLoadedToDos(new ToDoList().add(new ToDoBuilder("title").build())).get();
+            fail();
+        } catch (ExecutionException exception) {
+            assertTrue(exception.getCause() instanceof IllegalValueException);
+        }
+    }
+
+    @Test
+    public void abortLoading_queuedCommands_executedWithoutSavingPartlyLoaded() throws Exception {
+        Model model = new ModelManager();
+        logic = new LogicManager(model, new StorageStub(), new UserPrefs(), false, true);
+        logic.execute("unknownCommand");
+        eventsCollector.reset();
+
+        model.addLoadedToDos(new ToDoList().add(new ToDoBuilder("title 1").build()));
+        logic.abortLoading();
+
+        assertFalse(eventsCollector.hasCollectedEvent(StorageStub.ToDoListSavedEvent.class));
+        assertEquals(1, eventsCollector.getCollectedEvent(QueuedCommandsExecutedEvent.class).get().results.size());
+    }
+
+    @Test
+    public void submit_inBackground_runInOrderOnLogicThread() throws Exception {
+        Model model = new ModelManager();
+        logic = new LogicManager(model, new StorageStub(), new UserPrefs(), true);
+
+        Set<String> threadNames = new HashSet<>();
+        model.getToDoList().getToDos().addListener((ListChangeListener<ReadOnlyToDo>) change ->
+            threadNames.add(Thread.currentThread().getName()));
+
+        List<CompletableFuture<CommandResult>> results = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            results.add(logic.submit("add title " + i));
+        }
+        results.get(results.size() - 1).get(5, TimeUnit.SECONDS);
+        logic.stop();
+
+        for (CompletableFuture<CommandResult> result : results) {
+            assertTrue(result.isDone());
+            assertFalse(result.get().hasError());
+        }
+        for (int i = 0; i < 50; i++) {
+            assertEquals("title " + i, model.getToDoList().getToDos().get(i).getTitle().value);
+        }
+        assertEquals(Collections.singleton("Logic"), threadNames);
+    }
+
+    @Test
+    public void submit_inBackground_uiToDosPublishedOnceForEachCommand() throws Exception {
+        Model model = new ModelManager();
+        logic = new LogicManager(model, new StorageStub(), new UserPrefs(), true);
+
+        int[] changesCount = new int[1];
+        logic.getUiTasks().addListener((ListChangeListener<UiToDo>) change -> changesCount[0]++);
+
+        String[] commandTexts = {
+            "add task 1", "add task 2", "add task 3 by 10 Oct 2100", "add event from 10 Oct 2100 to 11 Oct 2100",
+            "finish 2", "delete 3", "find task", "undo", "edit 1 edited task", "clear", "undo", "list"
+        };
+        for (String commandText : commandTexts) {
+            int previousChangesCount = changesCount[0];
+            assertFalse(commandText, logic.submit(commandText).get(5, TimeUnit.SECONDS).hasError());
+
+            assertTrue(commandText, changesCount[0] - previousChangesCount <= 1);
+            assertSameUiToDos(model.getUiEvents(), logic.getUiEvents());
+            assertSameUiToDos(model.getUiTasks(), logic.getUiTasks());
+        }
+        logic.stop();
+    }
+
+    /**
+     * Asserts the UI to-dos published are copies of the model's UI to-dos, with the same values.
+     */
+    private void assertSameUiToDos(List<UiToDo> expected, List<UiToDo> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertNotSame(expected.get(i), actual.get(i));
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+
 }
@@ -3,12 +3,14 @@ package seedu.commando.logic;
 import seedu.commando.commons.core.UnmodifiableObservableList;
 import seedu.commando.commons.exceptions.IllegalValueException;
 import seedu.commando.model.Model;
+import seedu.commando.model.ModelSnapshot;
 import seedu.commando.model.todo.DateRange;
 import seedu.commando.model.todo.ReadOnlyToDoList;
 import seedu.commando.model.todo.Tag;
 import seedu.commando.model.todo.ToDoListChange;
 import seedu.commando.model.ui.UiToDo;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -22,6 +24,17 @@ public class ModelStub implements Model {
     @Override
     public void changeToDoList(ToDoListChange change) throws IllegalValueException {}
 
+    @Override
+    public void addLoadedToDos(ReadOnlyToDoList toDos) throws IllegalValueException {}
+
+    @Override
+    public ModelSnapshot getSnapshot() {
+        return null;
+    }
+
+    @Override
+    public void close() {}
+
     @Override
     public boolean undoToDoList() {
         return false;
@@ -47,6 +60,11 @@ public class ModelStub implements Model {
         return null;
     }
 
+    @Override
+    public Map<String, Integer> getTagCounts() {
+        return null;
+    }
+
     @Override
     public void clearUiToDoListFilter(FILTER_MODE filterMode) {}
 
@@ -0,0 +1,213 @@
+package seedu.commando.logic;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.commando.commons.exceptions.DataConversionException;
+import seedu.commando.commons.exceptions.IllegalValueException;
+import seedu.commando.model.todo.ImmutableToDoList;
+import seedu.commando.model.todo.ReadOnlyToDoList;
+import seedu.commando.model.todo.ToDoList;
+import seedu.commando.model.todo.ToDoListChange;
+import seedu.commando.storage.JsonUserPrefsStorage;
+import seedu.commando.storage.StorageManager;
+import seedu.commando.storage.ToDoListStorage;
+import seedu.commando.testutil.ToDoBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+//@@author A0139697H
+public class ToDoListSaverTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private RecordingToDoListStorage toDoListStorage;
+    private StorageManager storage;
+    private List<Exception> exceptions;
+    private ToDoListSaver saver;
+
+    @Before
+    public void setUp() throws IOException {
+        toDoListStorage = new RecordingToDoListStorage();
+        storage = new StorageManager(toDoListStorage, new JsonUserPrefsStorage(folder.newFile().getPath()));
+        exceptions = new CopyOnWriteArrayList<>();
+    }
+
+    @After
+    public void tearDown() {
+        if (saver != null) {
+            saver.stop();
+        }
+    }
+
+    @Test
+    public void submitChange_notInBackground_savedImmediately() throws IllegalValueException {
+        saver = new ToDoListSaver(storage, exceptions::add);
+        ToDoListChange change = createChange("title");
+
+        saver.submitChange(change, change.getAddedToDos());
+
+        assertEquals(1, toDoListStorage.saves.size());
+        assertEquals(1, toDoListStorage.saves.get(0).changes.size());
+    }
+
+    @Test
+    public void submitChange_burst_coalescedIntoOneSave() throws IllegalValueException {
+        saver = new ToDoListSaver(storage, exceptions::add, 10000, 10000);
+        List<ToDoListChange> changes = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++) {
+            ToDoListChange change = createChange("title" + i);
+            changes.add(change);
+            saver.submitChange(change, change.getAddedToDos());
+        }
+
+        assertTrue(toDoListStorage.saves.isEmpty());
+        saver.flush();
+
+        assertEquals(1, toDoListStorage.saves.size());
+        assertEquals(changes, toDoListStorage.saves.get(0).changes);
+    }
+
+    @Test
+    public void submitToDoList_afterChanges_onlyLatestToDoListSaved() throws IllegalValueException {
+        saver = new ToDoListSaver(storage, exceptions::add, 10000, 10000);
+        ToDoListChange change = createChange("title1");
+        ReadOnlyToDoList toDoList = ImmutableToDoList.of(new ToDoList().add(new ToDoBuilder("title2").build()));
+
+        saver.submitChange(change, change.getAddedToDos());
+        saver.submitToDoList(toDoList);
+        saver.flush();
+
+        assertEquals(1, toDoListStorage.saves.size());
+        assertTrue(toDoListStorage.saves.get(0).isFullSave);
+        assertSame(toDoList, toDoListStorage.saves.get(0).toDoList);
+    }
+
+    @Test
+    public void submitChange_continuousSubmits_savedWithinMaxLatency() throws Exception {
+        saver = new ToDoListSaver(storage, exceptions::add, 50, 200);
+
+        // Keep submitting within the delay, so only the max latency makes it save
+        long startTime = System.currentTimeMillis();
+        while (toDoListStorage.saves.isEmpty() && System.currentTimeMillis() - startTime < 5000) {
+            ToDoListChange change = createChange("title");
+            saver.submitChange(change, change.getAddedToDos());
+            Thread.sleep(10);
+        }
+
+        assertEquals(1, toDoListStorage.saves.size());
+    }
+
+    @Test
+    public void submitChange_savingFails_errorHandled() throws IllegalValueException {
+        saver = new ToDoListSaver(storage, exceptions::add, 0, 0);
+        toDoListStorage.isFailing = true;
+        ToDoListChange change = createChange("title");
+
+        saver.submitChange(change, change.getAddedToDos());
+        saver.flush();
+
+        assertEquals(1, exceptions.size());
+    }
+
+    @Test(timeout = 10000)
+    public void stop_storageThrowsUncheckedException_errorHandledAndStopped() throws IllegalValueException {
+        saver = new ToDoListSaver(storage, exceptions::add, 0, 0);
+        toDoListStorage.uncheckedException = new IllegalStateException("Codec failed");
+        ToDoListChange change = createChange("title1");
+
+        saver.submitChange(change, change.getAddedToDos());
+        saver.flush();
+        assertEquals(1, exceptions.size());
+        assertSame(toDoListStorage.uncheckedException, exceptions.get(0));
+
+        // The writer thread keeps saving
+        toDoListStorage.uncheckedException = null;
+        change = createChange("title2");
+        saver.submitChange(change, change.getAddedToDos());
+        saver.stop();
+        saver = null;
+
+        assertEquals(1, toDoListStorage.saves.size());
+    }
+
+    private ToDoListChange createChange(String title) throws IllegalValueException {
+        return new ToDoListChange(
+            ImmutableToDoList.of(new ToDoList().add(new ToDoBuilder(title).build())),
+            ImmutableToDoList.empty()
+        );
+    }
+
+    private static class Save {
+        final List<ToDoListChange> changes;
+        final ReadOnlyToDoList toDoList;
+        final boolean isFullSave;
+
+        Save(List<ToDoListChange> changes, ReadOnlyToDoList toDoList, boolean isFullSave) {
+            this.changes = changes;
+            this.toDoList = toDoList;
+            this.isFullSave = isFullSave;
+        }
+    }
+
+    private static class RecordingToDoListStorage implements ToDoListStorage {
+        final List<Save> saves = new CopyOnWriteArrayList<>();
+        volatile boolean isFailing;
+        volatile RuntimeException uncheckedException;
+
+        @Override
+        public String getToDoListFilePath() {
+            return "";
+        }
+
+        @Override
+        public void setToDoListFilePath(String path) {}
+
+        @Override
+        public Optional<ReadOnlyToDoList> readToDoList() throws DataConversionException, IOException {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<ReadOnlyToDoList> readToDoList(String filePath) throws DataConversionException, IOException {
+            return Optional.empty();
+        }
+
+        @Override
+        public void saveToDoList(ReadOnlyToDoList toDoList) throws IOException {
+            saveToDoList(toDoList, "");
+        }
+
+        @Override
+        public void saveToDoList(ReadOnlyToDoList toDoList, String filePath) throws IOException {
+            save(new Save(new ArrayList<>(), toDoList, true));
+        }
+
+        @Override
+        public void saveToDoListChanges(List<ToDoListChange> changes, ReadOnlyToDoList toDoList) throws IOException {
+            save(new Save(changes, toDoList, false));
+        }
+
+        private void save(Save save) throws IOException {
+            if (isFailing) {
+                throw new IOException("Saving failed");
+            }
+            if (uncheckedException != null) {
+                throw uncheckedException;
+            }
+            saves.add(save);
+        }
+    }
+}
@@ -9,6 +9,8 @@ import org.junit.rules.TemporaryFolder;
 import seedu.commando.commons.core.EventsCenter;
 import seedu.commando.commons.core.Messages;
 import seedu.commando.commons.events.logic.ToDoListFilePathChangeRequestEvent;
+import seedu.commando.commons.events.storage.ToDoListExportFailedEvent;
+import seedu.commando.commons.events.storage.ToDoListExportedEvent;
 import seedu.commando.commons.events.storage.ToDoListSavedEvent;
 import seedu.commando.logic.Logic;
 import seedu.commando.logic.LogicManager;
@@ -22,7 +24,10 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 import static org.junit.Assert.*;
 //@@author A0142230B
@@ -113,4 +118,40 @@ public class ExportCommandTest {
         assertEquals(String.format(Messages.EXPORT_COMMAND, filePath), result.getFeedback());
         assertTrue(Arrays.equals(Files.readAllBytes(toDoListFile.toPath()), Files.readAllBytes(Paths.get(filePath))));
     }
+
+    //@@author A0139697H
+    @Test
+    public void execute_exportICalendar_exportedInICalendar() throws IOException {
+        String filePath = folder.getRoot() + "/test.ics";
+
+        logic.execute("add test 1 by 7 oct 2016 12:30 weekly");
+        CommandResult result = logic.execute("export " + filePath);
+        assertFalse(result.hasError());
+
+        String ics = new String(Files.readAllBytes(Paths.get(filePath)), "UTF-8");
+        assertTrue(ics.contains("SUMMARY:test 1\r\n"));
+        assertTrue(ics.contains("DUE:20161007T123000\r\nRRULE:FREQ=WEEKLY\r\n"));
+        assertTrue(eventsCollector.hasCollectedEvent(ToDoListExportedEvent.class));
+    }
+
+    @Test
+    public void execute_exportFailsInBackground_exportFailedEventRaised() throws Exception {
+        // A file in place of the parent directory fails the export
+        String filePath = folder.newFile().getPath() + "/test.xml";
+        List<Runnable> backgroundTasks = new ArrayList<>();
+        ExportCommand command = new ExportCommand(filePath, false);
+        command.setModel(new ModelManager());
+        command.setEventsCenter(EventsCenter.getInstance());
+        command.setBackgroundExecutor(backgroundTasks::add);
+
+        CommandResult result = command.execute();
+        assertFalse(result.hasError());
+        assertEquals(String.format(Messages.EXPORT_COMMAND, filePath), result.getFeedback());
+
+        backgroundTasks.forEach(Runnable::run);
+        Optional<ToDoListExportFailedEvent> event = eventsCollector.getCollectedEvent(ToDoListExportFailedEvent.class);
+        assertTrue(event.isPresent());
+        assertEquals(filePath, event.get().filePath);
+        assertFalse(eventsCollector.hasCollectedEvent(ToDoListExportedEvent.class));
+    }
 }
@@ -17,6 +17,7 @@ import org.junit.rules.TemporaryFolder;
 
 import seedu.commando.commons.core.EventsCenter;
 import seedu.commando.commons.core.Messages;
+import seedu.commando.commons.events.logic.ToDoListImportProgressEvent;
 import seedu.commando.logic.Logic;
 import seedu.commando.logic.LogicManager;
 import seedu.commando.model.Model;
@@ -105,4 +106,59 @@ public class ImportCommandTest {
         assertTrue(wasToDoListChangedEventPosted(eventsCollector));
         assertTrue(logic.getToDoList().getToDos().size() == 2);
     }
+
+    //@@author A0139697H
+    @Test
+    public void execute_importMerge_newToDosAddedAsOneChange() throws IOException {
+        String exportFilePath = folder.getRoot() + "/test.xml";
+
+        logic.execute("add test1");
+        logic.execute("add test2 #tag");
+        logic.execute("export " + exportFilePath);
+        logic.execute("clear");
+        logic.execute("add test2 #tag");
+        logic.execute("add test3");
+
+        CommandResult result = logic.execute("import " + exportFilePath + " merge");
+        assertFalse(result.hasError());
+        assertEquals(String.format(Messages.IMPORT_COMMAND_MERGED, exportFilePath, 1, 1), result.getFeedback());
+        assertEquals(3, logic.getToDoList().getToDos().size());
+
+        ToDoListImportProgressEvent event = eventsCollector.getCollectedEvent(ToDoListImportProgressEvent.class).get();
+        assertEquals(2, event.toDosRead);
+        assertEquals(1, event.progress, 0);
+
+        logic.execute("undo");
+        assertEquals(2, logic.getToDoList().getToDos().size());
+    }
+
+    @Test
+    public void execute_importICalendar_validEntriesAdded() throws IOException {
+        File file = folder.newFile("calendar.ics");
+        Files.write(file.toPath(), String.join("\r\n", "BEGIN:VCALENDAR",
+            "BEGIN:VEVENT", "SUMMARY:event", "DTSTART:20161007T090000", "DTEND:20161007T100000", "END:VEVENT",
+            "BEGIN:VTODO", "SUMMARY:task", "DUE:20161008T090000", "END:VTODO",
+            "BEGIN:VTODO", "DUE:20161008T090000", "END:VTODO",
+            "END:VCALENDAR").getBytes(Charset.forName("UTF-8")));
+
+        CommandResult result = logic.execute("import " + file.getPath());
+        assertFalse(result.hasError());
+        assertEquals(String.format(Messages.IMPORT_COMMAND_MERGED, file.getPath(), 2, 0) + "\n"
+            + String.format(Messages.IMPORT_COMMAND_INVALID_ENTRIES, 1, "VTODO 3 at line 11: missing SUMMARY"),
+            result.getFeedback());
+        assertEquals(2, logic.getToDoList().getToDos().size());
+
+        logic.execute("undo");
+        assertEquals(0, logic.getToDoList().getToDos().size());
+    }
+
+    @Test
+    public void execute_importMergeInvalidData_error() throws IOException {
+        File temp = folder.newFile();
+        Files.write(temp.toPath(), "somewrongdata".getBytes(Charset.forName("UTF-8")));
+
+        CommandResult result = logic.execute("import " + temp.getPath() + " merge");
+        assertTrue(result.hasError());
+        assertEquals(String.format(Messages.IMPORT_COMMAND_INVALID_DATA, temp.getPath()), result.getFeedback());
+    }
 }
@@ -1,19 +1,40 @@
 package seedu.commando.model;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import seedu.commando.commons.core.LogsCenter;
 import seedu.commando.commons.exceptions.IllegalValueException;
+import seedu.commando.model.todo.DateRange;
+import seedu.commando.model.todo.DueDate;
+import seedu.commando.model.todo.ImmutableToDo;
+import seedu.commando.model.todo.ImmutableToDoList;
+import seedu.commando.model.todo.ReadOnlyToDo;
+import seedu.commando.model.todo.Recurrence;
+import seedu.commando.model.todo.Title;
 import seedu.commando.model.todo.ToDo;
 import seedu.commando.model.todo.ToDoList;
 import seedu.commando.model.todo.ToDoListChange;
 import seedu.commando.testutil.ToDoBuilder;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 //@@author A0139697H
@@ -80,6 +101,12 @@ public class ModelManagerTest {
         );
     }
 
+    @After
+    public void tearDown() {
+        // Deletes the history spilled to disk by tests with many changes
+        modelManager.close();
+    }
+
     @Test
     public void getToDoList_setup_containsAllToDos() {
         assertEquals(modelManager.getToDoList(), toDoList);
@@ -129,6 +156,15 @@ public class ModelManagerTest {
         assertTrue(modelManager.getToDoList().getToDos().size() == 0);
     }
 
+    @Test
+    public void addLoadedToDos_thenUndo_loadedToDosKept() throws IllegalValueException {
+        modelManager.addLoadedToDos(new ToDoList().add(toDoList2Item1));
+
+        assertTrue(modelManager.getToDoList().contains(toDoList2Item1));
+        assertFalse(modelManager.undoToDoList());
+        assertTrue(modelManager.getToDoList().contains(toDoList2Item1));
+    }
+
     @Test
     public void undoToDoList_once_undone() throws IllegalValueException {
         modelManager.changeToDoList(toDoListChangeAdd1);
@@ -191,6 +227,22 @@ public class ModelManagerTest {
         assertTrue(modelManager.getToDoList().contains(toDoList2Item1));
     }
 
+    @Test
+    public void changeToDoList_toDoWithUsedId_newIdKeptOnRedo() throws IllegalValueException {
+        // e.g. importing a to-do exported before it was edited
+        ToDo toDo = new ToDo(toDoListItem1).setTitle(new Title("other title"));
+        modelManager.changeToDoList(new ToDoListChange(new ToDoList().add(toDo), new ToDoList()));
+
+        ReadOnlyToDo addedToDo = findToDo("other title");
+        assertNotEquals(toDoListItem1.getId(), addedToDo.getId());
+        assertTrue(modelManager.getUiTasks().stream()
+            .anyMatch(uiToDo -> uiToDo.getId() == addedToDo.getId() && uiToDo.isNew()));
+
+        assertTrue(modelManager.undoToDoList());
+        assertTrue(modelManager.redoToDoList());
+        assertEquals(addedToDo.getId(), findToDo("other title").getId());
+    }
+
     @Test
     public void redoToDoList_undoChangeRedo_noAction() throws IllegalValueException {
         modelManager.changeToDoList(toDoListChangeAdd1);
@@ -204,4 +256,205 @@ public class ModelManagerTest {
         assertFalse(modelManager.getToDoList().contains(toDoList2Item1));
         assertFalse(modelManager.getToDoList().contains(toDoListItem1));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void getSnapshot_eachChange_versionIncremented() throws IllegalValueException {
+        ModelSnapshot snapshot = modelManager.getSnapshot();
+
+        modelManager.changeToDoList(toDoListChangeAdd1);
+        ModelSnapshot snapshotAfterAdd = modelManager.getSnapshot();
+        assertEquals(snapshot.version + 1, snapshotAfterAdd.version);
+        assertTrue(snapshotAfterAdd.toDoList.contains(toDoList2Item1));
+        assertFalse(snapshot.toDoList.contains(toDoList2Item1));
+
+        assertTrue(modelManager.undoToDoList());
+        assertEquals(snapshot.version + 2, modelManager.getSnapshot().version);
+        assertFalse(modelManager.getSnapshot().toDoList.contains(toDoList2Item1));
+
+        assertTrue(modelManager.redoToDoList());
+        assertEquals(snapshot.version + 3, modelManager.getSnapshot().version);
+
+        // No change, so no new snapshot
+        assertFalse(modelManager.redoToDoList());
+        assertEquals(snapshot.version + 3, modelManager.getSnapshot().version);
+    }
+
+    @Test
+    public void getSnapshot_concurrentWithChanges_consistent() throws Exception {
+        final int changesCount = 1000;
+        final int readersCount = 4;
+
+        ModelSnapshot initialSnapshot = modelManager.getSnapshot();
+        int initialToDosCount = initialSnapshot.toDoList.getToDos().size();
+        int hiddenToDosCount = initialToDosCount - initialSnapshot.getUiToDosCount();
+
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> readers = new ArrayList<>();
+
+        for (int i = 0; i < readersCount; i++) {
+            Thread reader = new Thread(() -> {
+                long lastVersion = -1;
+                Map<ReadOnlyToDo, DateRange> dateRanges = new IdentityHashMap<>();
+                Map<ReadOnlyToDo, DueDate> dueDates = new IdentityHashMap<>();
+                try {
+                    while (isWriting.get()) {
+                        ModelSnapshot snapshot = modelManager.getSnapshot();
+                        assertTrue(snapshot.version >= lastVersion);
+                        lastVersion = snapshot.version;
+
+                        // Each snapshot has the to-dos added by exactly its number of changes
+                        int addedCount = snapshot.toDoList.getToDos().size() - initialToDosCount;
+                        assertEquals(snapshot.version - initialSnapshot.version, addedCount);
+                        assertEquals(snapshot.toDoList.getToDos().size() - hiddenToDosCount,
+                            snapshot.getUiToDosCount());
+
+                        Set<String> titles = snapshot.toDoList.getToDos().stream()
+                            .map(toDo -> toDo.getTitle().value)
+                            .collect(Collectors.toSet());
+                        for (int j = 1; j <= addedCount; j++) {
+                            assertTrue(titles.contains("stress " + j));
+                        }
+
+                        // Recurring dates are advanced when copied, never as they are read,
+                        // so a copy has the same dates in every snapshot it is in
+                        for (ReadOnlyToDo toDo : snapshot.toDoList.getToDos()) {
+                            if (toDo.getDateRange().isPresent()) {
+                                DateRange dateRange = toDo.getDateRange().get();
+                                assertSame(dateRanges.computeIfAbsent(toDo, key -> dateRange), dateRange);
+                                if (toDo.getTitle().value.startsWith("stress ")) {
+                                    assertEquals(dateRange.startDate.plusHours(2), dateRange.endDate);
+                                }
+                            }
+                            if (toDo.getDueDate().isPresent()) {
+                                DueDate dueDate = toDo.getDueDate().get();
+                                assertSame(dueDates.computeIfAbsent(toDo, key -> dueDate), dueDate);
+                            }
+                            toDo.getDateFinished();
+                        }
+                    }
+                } catch (Throwable throwable) {
+                    failure.compareAndSet(null, throwable);
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+
+        // Each change logs the whole UI to-do list, which would flood the log files
+        Logger logger = LogsCenter.getLogger(ModelManager.class);
+        Level logLevel = logger.getLevel();
+        logger.setLevel(Level.WARNING);
+
+        try {
+            for (int i = 1; i <= changesCount; i++) {
+                modelManager.changeToDoList(new ToDoListChange(
+                    new ToDoList().add(buildStressToDo(i)),
+                    new ToDoList()
+                ));
+            }
+        } finally {
+            logger.setLevel(logLevel);
+            isWriting.set(false);
+            for (Thread reader : readers) {
+                reader.join();
+            }
+        }
+
+        if (failure.get() != null) {
+            throw new AssertionError("Reader saw an inconsistent snapshot", failure.get());
+        }
+        assertEquals(initialSnapshot.version + changesCount, modelManager.getSnapshot().version);
+        assertEquals(initialToDosCount + changesCount, modelManager.getSnapshot().toDoList.getToDos().size());
+
+    }
+
+    @Test
+    public void getSnapshot_changesAcrossChunks_sameToDosAsModel() throws IllegalValueException {
+        List<ReadOnlyToDo> added = new ArrayList<>();
+        for (int i = 1; i <= 300; i++) {
+            added.add(buildStressToDo(i));
+        }
+        modelManager.changeToDoList(new ToDoListChange(ImmutableToDoList.wrap(added), new ToDoList()));
+        assertSnapshotSameAsModel();
+
+        // Deletes runs of to-dos spanning chunks, and single to-dos, then edits some
+        List<ReadOnlyToDo> toDos = modelManager.getToDoList().getToDos();
+        modelManager.changeToDoList(new ToDoListChange(new ToDoList(),
+            ImmutableToDoList.wrap(new ArrayList<>(toDos.subList(50, 250)))));
+        assertSnapshotSameAsModel();
+
+        modelManager.changeToDoList(new ToDoListChange(new ToDoList(), new ToDoList().add(toDos.get(0))));
+        assertSnapshotSameAsModel();
+
+        ReadOnlyToDo toDoToEdit = toDos.get(toDos.size() / 2);
+        ReadOnlyToDo unchangedCopy = modelManager.getSnapshot().toDoList.getToDos().get(0);
+        modelManager.changeToDoList(new ToDoListChange(
+            new ToDoList().add(new ToDo(toDoToEdit).setTitle(new Title("edited"))),
+            new ToDoList().add(toDoToEdit)));
+        assertSnapshotSameAsModel();
+        assertSame(unchangedCopy, modelManager.getSnapshot().toDoList.getToDos().get(0));
+
+        assertTrue(modelManager.undoToDoList());
+        assertTrue(modelManager.undoToDoList());
+        assertTrue(modelManager.undoToDoList());
+        assertSnapshotSameAsModel();
+    }
+
+    @Test
+    public void getSnapshot_recurringToDos_advancedWhenCopied() throws IllegalValueException {
+        LocalDateTime date = now.minusYears(10);
+        modelManager.changeToDoList(new ToDoListChange(
+            new ToDoList()
+                .add(new ToDoBuilder("event").withDateRange(date, date.plusHours(1), Recurrence.Daily).build()),
+            new ToDoList()
+        ));
+
+        // Copies are immutable, so reads never advance their dates
+        for (ReadOnlyToDo toDo : modelManager.getSnapshot().toDoList.getToDos()) {
+            assertTrue(toDo instanceof ImmutableToDo);
+            if (toDo.getDateRange().isPresent() && toDo.getDateRange().get().recurrence == Recurrence.Daily) {
+                assertTrue(toDo.getDateRange().get().endDate.isAfter(now));
+            }
+        }
+    }
+
+    private void assertSnapshotSameAsModel() {
+        List<ReadOnlyToDo> toDos = modelManager.getToDoList().getToDos();
+        List<ReadOnlyToDo> copies = modelManager.getSnapshot().toDoList.getToDos();
+
+        assertEquals(toDos.size(), copies.size());
+        for (int i = 0; i < toDos.size(); i++) {
+            assertEquals(toDos.get(i).getId(), copies.get(i).getId());
+            assertTrue(copies.get(i).isSameStateAs(toDos.get(i)));
+        }
+    }
+
+    /**
+     * Every few to-dos recur daily, from years ago or ending in the current minute,
+     * so their recurring dates are advanced as they are copied.
+     */
+    private ToDo buildStressToDo(int i) {
+        ToDoBuilder builder = new ToDoBuilder("stress " + i);
+        LocalDateTime date = now.minusYears(5).withHour(10).withMinute(0).plusMinutes(i);
+        LocalDateTime soon = LocalDateTime.now();
+
+        if (i % 10 == 0) {
+            builder.withDateRange(date, date.plusHours(2), Recurrence.Daily);
+        } else if (i % 10 == 3) {
+            builder.withDateRange(soon.minusHours(2), soon, Recurrence.Daily);
+        } else if (i % 10 == 5) {
+            builder.withDueDate(date, Recurrence.Daily);
+        } else if (i % 10 == 7) {
+            builder.withDueDate(soon, Recurrence.Daily);
+        }
+
+        return builder.build();
+    }
+
+    private ReadOnlyToDo findToDo(String title) {
+        return modelManager.getToDoList().getToDos().stream()
+            .filter(toDo -> toDo.getTitle().value.equals(title))
+            .findFirst().get();
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.commando.model;
+
+import seedu.commando.commons.core.EventsCenter;
+import seedu.commando.commons.core.LogsCenter;
+import seedu.commando.model.todo.ImmutableToDo;
+import seedu.commando.model.todo.ReadOnlyToDo;
+import seedu.commando.model.todo.ToDoList;
+import seedu.commando.model.todo.ToDoListChange;
+import seedu.commando.model.ui.UiToDo;
+import seedu.commando.testutil.Benchmark;
+import seedu.commando.testutil.ToDoBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+
+//@@author A0139697H
+
+/**
+ * Benchmarks a change to a model of 10k and 100k to-dos with its snapshot, comparing the previous snapshots,
+ * which copied a reference to every to-do and a new {@link UiToDo} for every shown to-do,
+ * against {@link ModelSnapshotter}, which only copies the chunks of to-dos that changed.
+ * The previous snapshots are measured as the change followed by the copies they made,
+ * so they include the chunks copied now, which are few.
+ * Not a test, run with {@code main}.
+ */
+public class ModelSnapshotterBenchmark {
+    private static final int[] SIZES = { 10_000, 100_000 };
+    private static final int WARMUP_RUNS = 20;
+    private static final int MEASURED_RUNS = 50;
+
+    public static void main(String[] args) throws Exception {
+        // Each change logs the whole UI to-do list, and posts events that are logged
+        LogsCenter.getLogger(ModelManager.class).setLevel(Level.WARNING);
+        LogsCenter.getLogger(EventsCenter.class).setLevel(Level.WARNING);
+
+        Benchmark benchmark = new Benchmark(WARMUP_RUNS, MEASURED_RUNS);
+
+        for (int size : SIZES) {
+            ToDoList toDoList = new ToDoList();
+            LocalDateTime dueDate = LocalDateTime.of(2099, 1, 1, 0, 0);
+            for (int i = 0; i < size; i++) {
+                toDoList.add(new ToDoBuilder("to-do " + i).withDueDate(dueDate.plusMinutes(i)).build());
+            }
+            ModelManager modelManager = new ModelManager(toDoList);
+
+            // Copies of every to-do are kept, as before, so only references and UI to-dos are copied
+            Map<ReadOnlyToDo, ImmutableToDo> copies = new IdentityHashMap<>();
+
+            benchmark.compare(String.format("%,d to-dos, add and undo", size),
+                "copying every to-do", () -> {
+                    addAndUndo(modelManager);
+                    copyEveryToDo(modelManager, copies);
+                    copyEveryToDo(modelManager, copies);
+                },
+                "copying changed chunks", () -> addAndUndo(modelManager));
+        }
+    }
+
+    private static void addAndUndo(ModelManager modelManager) throws Exception {
+        modelManager.changeToDoList(new ToDoListChange(
+            new ToDoList().add(new ToDoBuilder("added").build()), new ToDoList()));
+        modelManager.undoToDoList();
+    }
+
+    /**
+     * How snapshots were copied before, with a reference to every to-do and a new UI to-do for every shown to-do.
+     */
+    private static void copyEveryToDo(Model model, Map<ReadOnlyToDo, ImmutableToDo> copies) {
+        List<ReadOnlyToDo> toDos = new ArrayList<>(model.getToDoList().getToDos().size());
+        for (ReadOnlyToDo toDo : model.getToDoList().getToDos()) {
+            toDos.add(copies.computeIfAbsent(toDo, ImmutableToDo::of));
+        }
+
+        copyUiToDos(model.getUiEvents(), copies);
+        copyUiToDos(model.getUiTasks(), copies);
+    }
+
+    private static void copyUiToDos(List<UiToDo> uiToDos, Map<ReadOnlyToDo, ImmutableToDo> copies) {
+        List<UiToDo> uiToDoCopies = new ArrayList<>(uiToDos.size());
+        for (UiToDo uiToDo : uiToDos) {
+            uiToDoCopies.add(new UiToDo(copies.computeIfAbsent(uiToDo.getToDo(), ImmutableToDo::of),
+                uiToDo.getIndex(), uiToDo.isNew()));
+        }
+    }
+}
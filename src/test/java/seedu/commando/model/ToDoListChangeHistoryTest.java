@@ -0,0 +1,170 @@
+package seedu.commando.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.commando.commons.exceptions.IllegalValueException;
+import seedu.commando.model.todo.Recurrence;
+import seedu.commando.model.todo.ToDoList;
+import seedu.commando.model.todo.ToDoListChange;
+import seedu.commando.testutil.ToDoBuilder;
+
+//@@author A0139697H
+public class ToDoListChangeHistoryTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private ToDoListChange getChange(int index) throws IllegalValueException {
+        return new ToDoListChange(
+            new ToDoList().add(new ToDoBuilder("title" + index)
+                .withDateRange(LocalDateTime.of(2016, 1, 1, 10, 0), LocalDateTime.of(2016, 1, 1, 12, 0),
+                    Recurrence.Weekly)
+                .withTags("tag" + index)
+                .build()),
+            new ToDoList().add(new ToDoBuilder("old title" + index)
+                .withDueDate(LocalDateTime.of(2016, 2, 1, 10, 0))
+                .finish(LocalDateTime.of(2016, 2, 2, 10, 0))
+                .build())
+        );
+    }
+
+    @Test
+    public void push_overMaxChanges_spillsOldest() throws IllegalValueException {
+        ToDoListChangeHistory history = new ToDoListChangeHistory(3, Long.MAX_VALUE, folder.getRoot());
+
+        for (int i = 0; i < 10; i++) {
+            history.push(getChange(i));
+        }
+
+        assertEquals(10, history.size());
+        assertEquals(7, history.getSpilledCount());
+    }
+
+    @Test
+    public void push_overMaxBytes_keepsMostRecentInMemory() throws IllegalValueException {
+        ToDoListChangeHistory history = new ToDoListChangeHistory(100, 1, folder.getRoot());
+
+        for (int i = 0; i < 5; i++) {
+            history.push(getChange(i));
+        }
+
+        assertEquals(5, history.size());
+        assertEquals(4, history.getSpilledCount());
+        assertTrue(history.getMemoryUsage() > 0);
+    }
+
+    @Test
+    public void pop_spilledChanges_readsBackInOrder() throws IllegalValueException {
+        ToDoListChangeHistory history = new ToDoListChangeHistory(2, Long.MAX_VALUE, folder.getRoot());
+
+        for (int i = 0; i < 6; i++) {
+            history.push(getChange(i));
+        }
+
+        for (int i = 5; i >= 0; i--) {
+            Optional<ToDoListChange> change = history.pop();
+            assertTrue(change.isPresent());
+            assertEquals(getChange(i), change.get());
+        }
+
+        assertTrue(history.isEmpty());
+        assertFalse(history.pop().isPresent());
+    }
+
+    @Test
+    public void pop_afterPushingOnSpilled_readsBackInOrder() throws IllegalValueException {
+        ToDoListChangeHistory history = new ToDoListChangeHistory(1, Long.MAX_VALUE, folder.getRoot());
+
+        history.push(getChange(0));
+        history.push(getChange(1));
+        history.push(getChange(2));
+        assertEquals(getChange(2), history.pop().get());
+        assertEquals(getChange(1), history.pop().get());
+        history.push(getChange(3));
+        history.push(getChange(4));
+
+        assertEquals(getChange(4), history.pop().get());
+        assertEquals(getChange(3), history.pop().get());
+        assertEquals(getChange(0), history.pop().get());
+        assertTrue(history.isEmpty());
+    }
+
+    @Test
+    public void clear_spilledChanges_empty() throws IllegalValueException {
+        ToDoListChangeHistory history = new ToDoListChangeHistory(1, Long.MAX_VALUE, folder.getRoot());
+
+        history.push(getChange(0));
+        history.push(getChange(1));
+        history.clear();
+
+        assertTrue(history.isEmpty());
+        assertEquals(0, history.getSpilledCount());
+        assertEquals(0, history.getMemoryUsage());
+        assertFalse(history.pop().isPresent());
+    }
+
+    @Test
+    public void push_spilled_ownerOnlyJournalInDirectory() throws IllegalValueException, IOException {
+        ToDoListChangeHistory history = new ToDoListChangeHistory(1, Long.MAX_VALUE, folder.getRoot());
+
+        history.push(getChange(0));
+        history.push(getChange(1));
+
+        File[] journals = folder.getRoot().listFiles();
+        assertEquals(1, journals.length);
+        Assume.assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+        assertEquals(PosixFilePermissions.fromString("rw-------"), Files.getPosixFilePermissions(journals[0].toPath()));
+    }
+
+    @Test
+    public void close_spilledChanges_journalDeleted() throws IllegalValueException {
+        ToDoListChangeHistory history = new ToDoListChangeHistory(1, Long.MAX_VALUE, folder.getRoot());
+
+        history.push(getChange(0));
+        history.push(getChange(1));
+        history.close();
+
+        assertTrue(history.isEmpty());
+        assertEquals(0, folder.getRoot().listFiles().length);
+
+        // Can still be used after, with a new journal
+        history.push(getChange(2));
+        history.push(getChange(3));
+        assertEquals(getChange(3), history.pop().get());
+        assertEquals(getChange(2), history.pop().get());
+    }
+
+    @Test
+    public void deleteLeftoverJournals_journalsNotInUse_deleted() throws IllegalValueException, IOException {
+        ToDoListChangeHistory history = new ToDoListChangeHistory(1, Long.MAX_VALUE, folder.getRoot());
+        history.push(getChange(0));
+        history.push(getChange(1));
+
+        // e.g. left behind by a crash
+        File leftover = folder.newFile("history-0123456789abcdef.journal");
+        File otherFile = folder.newFile("todos.xml");
+
+        assertEquals(1, ToDoListChangeHistory.deleteLeftoverJournals(folder.getRoot()));
+        assertFalse(leftover.exists());
+        assertTrue(otherFile.exists());
+
+        // The journal in use is kept
+        assertEquals(2, folder.getRoot().listFiles().length);
+        assertEquals(getChange(1), history.pop().get());
+        assertEquals(getChange(0), history.pop().get());
+    }
+}
@@ -1,12 +1,15 @@
 package seedu.commando.model;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.time.LocalDateTime;
 
 import org.junit.Test;
 
 import seedu.commando.commons.exceptions.IllegalValueException;
+import seedu.commando.model.todo.ImmutableToDoList;
 import seedu.commando.model.todo.ReadOnlyToDo;
 import seedu.commando.model.todo.ToDoList;
 import seedu.commando.model.todo.ToDoListChange;
@@ -41,4 +44,26 @@ public class ToDoListChangeTest {
         assertEquals(todoListEventTest1.hashCode(), todoListEventTest2.hashCode());
         assertEquals(todoListEventTest1.toString(), todoListEventTest2.toString());
     }
+
+    @Test
+    public void getReverseChange_twice_sharesToDoLists() throws IllegalValueException {
+        ToDoListChange change = new ToDoListChange(
+            new ToDoList().add(new ToDoBuilder("title1").build()),
+            new ToDoList().add(new ToDoBuilder("title2").build())
+        );
+
+        ToDoListChange reverseChange = change.getReverseChange();
+        assertSame(change.getAddedToDos(), reverseChange.getDeletedToDos());
+        assertSame(change.getDeletedToDos(), reverseChange.getAddedToDos());
+        assertEquals(change, reverseChange.getReverseChange());
+    }
+
+    @Test
+    public void constructor_immutableToDoLists_notCopied() throws IllegalValueException {
+        ImmutableToDoList addedToDos = ImmutableToDoList.of(new ToDoList().add(new ToDoBuilder("title1").build()));
+        ToDoListChange change = new ToDoListChange(addedToDos, ImmutableToDoList.empty());
+
+        assertSame(addedToDos, change.getAddedToDos());
+        assertTrue(change.getAddedToDos().contains(new ToDoBuilder("title1").build()));
+    }
 }
@@ -0,0 +1,79 @@
+package seedu.commando.model.todo;
+
+import seedu.commando.commons.exceptions.IllegalValueException;
+import seedu.commando.testutil.Benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+//@@author A0139697H
+
+/**
+ * Benchmarks advancing decade-old recurring to-dos to the current date, comparing the previous loop
+ * of {@link Recurrence#getNextDate(LocalDateTime)} against {@link ToDo#getDateRange()}, for 10k to-dos.
+ * Not a test, run with {@code main}.
+ */
+public class RecurrenceBenchmark {
+    private static final int SIZE = 10_000;
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 5;
+    private static final Recurrence[] RECURRENCES = {
+        Recurrence.Daily, Recurrence.Weekly, Recurrence.Monthly, Recurrence.Yearly
+    };
+
+    public static void main(String[] args) throws Exception {
+        List<DateRange> dateRanges = generateDateRanges(SIZE, new Random(SIZE));
+        LocalDateTime now = LocalDateTime.now();
+
+        // Sanity check that both give the same date ranges
+        for (DateRange dateRange : dateRanges) {
+            DateRange expected = advanceByLoop(dateRange, now);
+            DateRange actual = new ToDo(new Title("title")).setDateRange(dateRange).getDateRange().get();
+            if (!expected.equals(actual)) {
+                throw new AssertionError("Date ranges differ for " + dateRange + ": " + expected + ", " + actual);
+            }
+        }
+
+        new Benchmark(WARMUP_RUNS, MEASURED_RUNS).compare(String.format("%,d recurring to-dos", SIZE),
+            "loop", () -> dateRanges.forEach(dateRange -> advanceByLoop(dateRange, now)),
+            "closed form", () -> dateRanges.forEach(dateRange ->
+                new ToDo(new Title("title")).setDateRange(dateRange).getDateRange()));
+    }
+
+    /**
+     * Date ranges of an hour or two within a day, starting around 10 years ago.
+     * Within a day, so months clamping the start and end dates differently do not invert them.
+     */
+    private static List<DateRange> generateDateRanges(int size, Random random) throws IllegalValueException {
+        LocalDateTime base = LocalDateTime.now().minusYears(10).toLocalDate().atStartOfDay();
+        List<DateRange> dateRanges = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            LocalDateTime startDate = base.plusDays(random.nextInt(365)).plusMinutes(random.nextInt(20 * 60));
+            dateRanges.add(new DateRange(startDate, startDate.plusHours(1 + random.nextInt(2)),
+                RECURRENCES[i % RECURRENCES.length]));
+        }
+
+        return dateRanges;
+    }
+
+    /**
+     * How date ranges were advanced before, one recurrence at a time.
+     */
+    private static DateRange advanceByLoop(DateRange dateRange, LocalDateTime dateUntil) {
+        LocalDateTime startDate = dateRange.startDate;
+        LocalDateTime endDate = dateRange.endDate;
+        while (!endDate.isAfter(dateUntil)) {
+            startDate = dateRange.recurrence.getNextDate(startDate);
+            endDate = dateRange.recurrence.getNextDate(endDate);
+        }
+
+        try {
+            return new DateRange(startDate, endDate, dateRange.recurrence);
+        } catch (IllegalValueException exception) {
+            throw new AssertionError(exception);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.commando.model.todo;
+
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+//@@author A0139697H
+public class RecurrenceTest {
+    private static final Recurrence[] RECURRENCES = {
+        Recurrence.Daily, Recurrence.Weekly, Recurrence.Monthly, Recurrence.Yearly
+    };
+
+    @Test
+    public void getNextDate_monthlyFromEndOfMonth_staysClamped() {
+        LocalDateTime date = LocalDateTime.of(2015, 1, 31, 10, 0);
+
+        assertEquals(LocalDateTime.of(2015, 2, 28, 10, 0), Recurrence.Monthly.getNextDate(date, 1));
+        assertEquals(LocalDateTime.of(2015, 3, 28, 10, 0), Recurrence.Monthly.getNextDate(date, 2));
+        assertEquals(LocalDateTime.of(2025, 1, 28, 10, 0), Recurrence.Monthly.getNextDate(date, 120));
+    }
+
+    @Test
+    public void getNextDate_monthlyWithoutFebruary_clampedTo30() {
+        LocalDateTime date = LocalDateTime.of(2016, 3, 31, 10, 0);
+
+        assertEquals(LocalDateTime.of(2016, 5, 30, 10, 0), Recurrence.Monthly.getNextDate(date, 2));
+        assertEquals(LocalDateTime.of(2017, 1, 30, 10, 0), Recurrence.Monthly.getNextDate(date, 10));
+        assertEquals(LocalDateTime.of(2017, 2, 28, 10, 0), Recurrence.Monthly.getNextDate(date, 11));
+    }
+
+    @Test
+    public void getNextDate_yearlyFromLeapDay_staysClamped() {
+        LocalDateTime date = LocalDateTime.of(2016, 2, 29, 10, 0);
+
+        assertEquals(date, Recurrence.Yearly.getNextDate(date, 0));
+        assertEquals(LocalDateTime.of(2017, 2, 28, 10, 0), Recurrence.Yearly.getNextDate(date, 1));
+        assertEquals(LocalDateTime.of(2020, 2, 28, 10, 0), Recurrence.Yearly.getNextDate(date, 4));
+    }
+
+    @Test
+    public void getCountUntilAfter_dateAfter_zero() {
+        LocalDateTime date = LocalDateTime.of(2016, 2, 29, 10, 0);
+
+        for (Recurrence recurrence : RECURRENCES) {
+            assertEquals(0, recurrence.getCountUntilAfter(date, date.minusSeconds(1)));
+            assertEquals(1, recurrence.getCountUntilAfter(date, date));
+        }
+    }
+
+    @Test
+    public void getNextDateAndCountUntilAfter_randomDates_sameAsIterating() {
+        Random random = new Random(25);
+        LocalDateTime base = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+        for (int i = 0; i < 2000; i++) {
+            // Biased towards the ends of months, where dates are clamped
+            LocalDateTime date = base.plusMonths(random.nextInt(400));
+            date = date.withDayOfMonth(Math.max(1, date.toLocalDate().lengthOfMonth() - random.nextInt(5)))
+                .plusMinutes(random.nextInt(24 * 60));
+            LocalDateTime dateUntil = date.plusMinutes(random.nextInt(15 * 365 * 24 * 60) - 24 * 60);
+
+            for (Recurrence recurrence : RECURRENCES) {
+                long expectedCount = 0;
+                LocalDateTime expectedDate = date;
+                while (!expectedDate.isAfter(dateUntil)) {
+                    expectedDate = recurrence.getNextDate(expectedDate);
+                    expectedCount++;
+                }
+
+                String message = recurrence + " from " + date + " until " + dateUntil;
+                assertEquals(message, expectedCount, recurrence.getCountUntilAfter(date, dateUntil));
+                assertEquals(message, expectedDate, recurrence.getNextDate(date, expectedCount));
+            }
+        }
+    }
+}
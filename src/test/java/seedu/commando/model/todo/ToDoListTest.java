@@ -1,5 +1,6 @@
 package seedu.commando.model.todo;
 
+import javafx.collections.ListChangeListener;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -9,10 +10,17 @@ import seedu.commando.commons.exceptions.IllegalValueException;
 import seedu.commando.testutil.ToDoBuilder;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 //@@author A0139697H
 public class ToDoListTest {
@@ -92,4 +100,192 @@ public class ToDoListTest {
         toDoList.remove(toDoListItem1);
         assertFalse(toDoList.getToDos().contains(toDoListItem1));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void contains_similarToDo_true() throws IllegalValueException {
+        ReadOnlyToDo similarToDo = new ToDoBuilder("title 2").withTags("tag2", "tag1")
+            .withDueDate(LocalDateTime.of(2016, 5, 1, 20, 1)).build();
+
+        assertTrue(toDoList.contains(similarToDo));
+        assertFalse(toDoList.contains(new ToDoBuilder("title 2").build()));
+    }
+
+    @Test
+    public void contains_afterRemoval_false() throws IllegalValueException {
+        toDoList.remove(new ToDoList().add(new ToDo(toDoListItem2)));
+        assertFalse(toDoList.contains(toDoListItem2));
+        assertTrue(toDoList.contains(toDoListItem1));
+    }
+
+    @Test
+    public void contains_afterReset_tracksNewToDos() {
+        toDoList.reset(toDoList2.getToDos());
+        assertFalse(toDoList.contains(toDoListItem1));
+        assertTrue(toDoList.contains(toDoList2Item1));
+    }
+
+    @Test
+    public void contains_recurringDateRangeAdvanced_true() throws IllegalValueException {
+        ToDo recurringToDo = new ToDoBuilder("recurring")
+            .withDateRange(LocalDateTime.of(2016, 3, 1, 20, 1), LocalDateTime.of(2016, 3, 1, 21, 1),
+                Recurrence.Weekly)
+            .build();
+        ToDo copy = new ToDo(recurringToDo);
+
+        toDoList.add(recurringToDo);
+
+        // Both to-dos are advanced to the same date range when compared
+        assertTrue(toDoList.contains(copy));
+    }
+
+    @Test
+    public void add_duplicateInList_exception() throws IllegalValueException {
+        exception.expect(IllegalValueException.class);
+        toDoList.add(new ToDoList().add(toDoList2Item1).add(new ToDo(toDoListItem1)));
+    }
+
+    @Test
+    public void remove_nonExistentToDo_exception() throws IllegalValueException {
+        exception.expect(IllegalValueException.class);
+        toDoList.remove(toDoList2Item1);
+    }
+
+    @Test
+    public void change_editToDo_listenersCalledOnce() throws IllegalValueException {
+        List<ListChangeListener.Change<? extends ReadOnlyToDo>> changes = new ArrayList<>();
+        toDoList.getToDos().addListener((ListChangeListener<ReadOnlyToDo>) changes::add);
+
+        toDoList.change(new ToDoList().add(toDoListItem1), toDoList2);
+
+        assertEquals(1, changes.size());
+        assertFalse(toDoList.contains(toDoListItem1));
+        assertTrue(toDoList.contains(toDoList2Item1));
+        assertTrue(toDoList.contains(toDoListItem2));
+    }
+
+    @Test
+    public void change_addSimilarToRemovedToDo_changed() throws IllegalValueException {
+        toDoList.change(new ToDoList().add(toDoListItem1), new ToDoList().add(new ToDo(toDoListItem1)));
+
+        assertEquals(2, toDoList.getToDos().size());
+        assertTrue(toDoList.contains(toDoListItem1));
+    }
+
+    @Test
+    public void change_addDuplicate_unchangedAndListenersNotCalled() throws IllegalValueException {
+        List<ListChangeListener.Change<? extends ReadOnlyToDo>> changes = new ArrayList<>();
+        toDoList.getToDos().addListener((ListChangeListener<ReadOnlyToDo>) changes::add);
+
+        try {
+            toDoList.change(new ToDoList().add(toDoListItem1), new ToDoList().add(new ToDo(toDoListItem2)));
+            fail();
+        } catch (IllegalValueException exception) {
+            assertTrue(changes.isEmpty());
+            assertTrue(toDoList.contains(toDoListItem1));
+            assertEquals(2, toDoList.getToDos().size());
+        }
+    }
+
+    @Test
+    public void change_toDoChangedAfter_listenersCalledWithUpdate() throws IllegalValueException {
+        ToDo toDo = new ToDo(toDoList2Item1);
+        toDoList.change(new ToDoList(), new ToDoList().add(toDo));
+
+        List<Boolean> wereUpdated = new ArrayList<>();
+        toDoList.getToDos().addListener((ListChangeListener<ReadOnlyToDo>) change -> {
+            while (change.next()) {
+                wereUpdated.add(change.wasUpdated());
+            }
+        });
+
+        toDo.setTitle(new Title("changed title"));
+
+        assertEquals(Collections.singletonList(true), wereUpdated);
+    }
+
+    @Test
+    public void change_editedToDo_idKept() throws IllegalValueException {
+        ToDo editedToDo = new ToDo(toDoListItem1).setTitle(new Title("edited title"));
+        toDoList.change(new ToDoList().add(toDoListItem1), new ToDoList().add(editedToDo));
+
+        assertSame(editedToDo, toDoList.getToDos().get(1));
+        assertEquals(toDoListItem1.getId(), editedToDo.getId());
+    }
+
+    @Test
+    public void add_toDoWithUsedId_copiedWithNewId() throws IllegalValueException {
+        ToDo toDo = new ToDo(toDoListItem1).setTitle(new Title("other title"));
+        long id = toDo.getId();
+        toDoList.add(toDo);
+
+        // The to-do itself is unchanged, as it can be shared, e.g. with the undo history
+        ReadOnlyToDo addedToDo = toDoList.getToDos().get(2);
+        assertEquals(id, toDo.getId());
+        assertNotSame(toDo, addedToDo);
+        assertTrue(addedToDo.isSameStateAs(toDo));
+        assertNotEquals(toDoListItem1.getId(), addedToDo.getId());
+    }
+
+    @Test
+    public void add_immutableToDoWithUsedId_copiedWithNewId() throws IllegalValueException {
+        ImmutableToDo toDo = ImmutableToDo.of(new ToDo(toDoListItem1).setTitle(new Title("other title")));
+        toDoList.add(toDo);
+
+        ReadOnlyToDo addedToDo = toDoList.getToDos().get(2);
+        assertTrue(addedToDo.isSameStateAs(toDo));
+        assertNotEquals(toDoListItem1.getId(), addedToDo.getId());
+    }
+
+    @Test
+    public void withUniqueIds_idsNotUsed_sameChange() throws IllegalValueException {
+        ToDo editedToDo = new ToDo(toDoListItem1).setTitle(new Title("edited title"));
+        ToDoListChange change = new ToDoListChange(new ToDoList().add(editedToDo), new ToDoList().add(toDoListItem1));
+
+        assertSame(change, toDoList.withUniqueIds(change));
+    }
+
+    @Test
+    public void withUniqueIds_idUsed_changeWithCopy() throws IllegalValueException {
+        ToDo toDo = new ToDo(toDoListItem1).setTitle(new Title("other title"));
+        ToDoListChange change = new ToDoListChange(new ToDoList().add(toDo), new ToDoList());
+        ReadOnlyToDo toDoInChange = change.getAddedToDos().getToDos().get(0);
+
+        ToDoListChange changeWithUniqueIds = toDoList.withUniqueIds(change);
+        ReadOnlyToDo copiedToDo = changeWithUniqueIds.getAddedToDos().getToDos().get(0);
+        assertEquals(toDoListItem1.getId(), toDoInChange.getId());
+        assertNotEquals(toDoListItem1.getId(), copiedToDo.getId());
+        assertSame(change.getDeletedToDos(), changeWithUniqueIds.getDeletedToDos());
+
+        // Applied as is, as its IDs are no longer used
+        toDoList.change(changeWithUniqueIds.getDeletedToDos(), changeWithUniqueIds.getAddedToDos());
+        assertSame(copiedToDo, toDoList.getToDos().get(2));
+    }
+
+    @Test
+    public void findById_idInList_found() {
+        assertSame(toDoListItem2, toDoList.findById(toDoListItem2.getId()).get());
+    }
+
+    @Test
+    public void findById_toDoEdited_editedToDoFound() throws IllegalValueException {
+        ToDo editedToDo = new ToDo(toDoListItem1).setTitle(new Title("edited title"));
+        toDoList.change(new ToDoList().add(toDoListItem1), new ToDoList().add(editedToDo));
+
+        assertSame(editedToDo, toDoList.findById(toDoListItem1.getId()).get());
+    }
+
+    @Test
+    public void findById_toDoRemoved_notFound() throws IllegalValueException {
+        toDoList.remove(toDoListItem1);
+
+        assertFalse(toDoList.findById(toDoListItem1.getId()).isPresent());
+    }
+
+    @Test
+    public void reset_toDos_idsKept() {
+        ToDoList copied = new ToDoList(toDoList);
+
+        assertEquals(toDoListItem1.getId(), copied.getToDos().get(0).getId());
+        assertEquals(toDoListItem2.getId(), copied.getToDos().get(1).getId());
+    }
+}
@@ -269,4 +269,35 @@ public class ToDoTest {
         toDo.setDateFinished(LocalDateTime.now().plusYears(1));
         assertTrue(changes.size() == 8);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void ToDo_copyConstructor_sameId() {
+        ToDo copy = new ToDo(toDo);
+        assertEquals(toDo.getId(), copy.getId());
+
+        copy.setTitle(new Title("edited title"));
+        assertEquals(toDo.getId(), copy.getId());
+    }
+
+    @Test
+    public void ToDo_new_differentIds() {
+        assertNotEquals(toDo.getId(), new ToDo(new Title("title")).getId());
+    }
+
+    @Test
+    public void getDateRange_decadeOldMonthlyRecurrence_advancedAsIterating() throws IllegalValueException {
+        LocalDateTime startDate = LocalDateTime.of(2006, 1, 31, 10, 0);
+        LocalDateTime endDate = LocalDateTime.of(2006, 1, 31, 12, 0);
+        toDo.setDateRange(new DateRange(startDate, endDate, Recurrence.Monthly));
+
+        LocalDateTime now = LocalDateTime.now();
+        while (!endDate.isAfter(now)) {
+            startDate = Recurrence.Monthly.getNextDate(startDate);
+            endDate = Recurrence.Monthly.getNextDate(endDate);
+        }
+
+        DateRange dateRange = toDo.getDateRange().get();
+        assertEquals(startDate, dateRange.startDate);
+        assertEquals(endDate, dateRange.endDate);
+    }
+}
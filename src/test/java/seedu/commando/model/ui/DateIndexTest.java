@@ -0,0 +1,109 @@
+package seedu.commando.model.ui;
+
+import org.junit.Before;
+import org.junit.Test;
+import seedu.commando.commons.exceptions.IllegalValueException;
+import seedu.commando.model.todo.DateRange;
+import seedu.commando.model.todo.ReadOnlyToDo;
+import seedu.commando.model.todo.Recurrence;
+import seedu.commando.model.todo.ToDoList;
+import seedu.commando.testutil.ToDoBuilder;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+//@@author A0139697H
+public class DateIndexTest {
+    private static final LocalDateTime BASE = LocalDateTime.of(2016, 10, 10, 12, 0);
+
+    private ToDoList toDoList;
+    private DateIndex dateIndex;
+
+    @Before
+    public void setUp() {
+        toDoList = new ToDoList();
+        dateIndex = new DateIndex();
+        dateIndex.attach(toDoList.getToDos());
+    }
+
+    @Test
+    public void findEvents_overlappingDateRanges_found() throws IllegalValueException {
+        ReadOnlyToDo startsWithin = buildEvent("starts within", BASE.plusHours(1), BASE.plusDays(5));
+        ReadOnlyToDo endsWithin = buildEvent("ends within", BASE.minusDays(5), BASE.plusHours(1));
+        ReadOnlyToDo covers = buildEvent("covers", BASE.minusDays(5), BASE.plusDays(5));
+        ReadOnlyToDo endsAtStart = buildEvent("ends at start", BASE.minusDays(1), BASE);
+        ReadOnlyToDo before = buildEvent("before", BASE.minusDays(2), BASE.minusDays(1));
+        ReadOnlyToDo after = buildEvent("after", BASE.plusDays(2), BASE.plusDays(3));
+
+        toDoList.add(startsWithin).add(endsWithin).add(covers).add(endsAtStart).add(before).add(after);
+
+        List<ReadOnlyToDo> events = dateIndex.findEvents(new DateRange(BASE, BASE.plusDays(1)));
+
+        assertEquals(4, events.size());
+        for (ReadOnlyToDo toDo : Arrays.asList(startsWithin, endsWithin, covers, endsAtStart)) {
+            assertTrue(events.stream().anyMatch(toDo::isSimilar));
+        }
+    }
+
+    @Test
+    public void findTasks_dueDatesWithinInclusive_foundInOrder() throws IllegalValueException {
+        toDoList.add(new ToDoBuilder("at end").withDueDate(BASE.plusDays(1)).build())
+            .add(new ToDoBuilder("at start").withDueDate(BASE).build())
+            .add(new ToDoBuilder("after").withDueDate(BASE.plusDays(1).plusMinutes(1)).build())
+            .add(new ToDoBuilder("no due date").build());
+
+        List<ReadOnlyToDo> tasks = dateIndex.findTasks(new DateRange(BASE, BASE.plusDays(1)));
+
+        assertEquals(2, tasks.size());
+        assertEquals("at start", tasks.get(0).getTitle().value);
+        assertEquals("at end", tasks.get(1).getTitle().value);
+    }
+
+    @Test
+    public void findEvents_removedFromList_notFound() throws IllegalValueException {
+        ReadOnlyToDo event = buildEvent("event", BASE, BASE.plusHours(1));
+        toDoList.add(event);
+        toDoList.remove(event);
+
+        assertEquals(Collections.emptyList(), dateIndex.findEvents(new DateRange(BASE, BASE.plusDays(1))));
+    }
+
+    @Test
+    public void findEvents_recurringDateRangeOver_foundAtNextOccurrence() throws IllegalValueException {
+        LocalDateTime lastWeek = LocalDateTime.now().minusWeeks(1).withSecond(0).withNano(0);
+        toDoList.add(new ToDoBuilder("weekly")
+            .withDateRange(lastWeek, lastWeek.plusHours(1), Recurrence.Weekly)
+            .build());
+
+        assertEquals(Collections.emptyList(),
+            dateIndex.findEvents(new DateRange(lastWeek, lastWeek.plusHours(1))));
+        assertEquals(1,
+            dateIndex.findEvents(new DateRange(lastWeek.plusWeeks(1), lastWeek.plusWeeks(1).plusHours(1))).size());
+    }
+
+    @Test
+    public void findEvents_manyEvents_sameAsScan() throws IllegalValueException {
+        for (int i = 0; i < 200; i++) {
+            LocalDateTime start = BASE.plusHours((i * 37) % 500);
+            toDoList.add(buildEvent("event " + i, start, start.plusHours((i * 13) % 50)));
+        }
+
+        DateRange dateRange = new DateRange(BASE.plusHours(100), BASE.plusHours(150));
+        long expectedCount = toDoList.getToDos().stream()
+            .filter(toDo -> !toDo.getDateRange().get().startDate.isAfter(dateRange.endDate)
+                && !toDo.getDateRange().get().endDate.isBefore(dateRange.startDate))
+            .count();
+
+        assertEquals(expectedCount, dateIndex.findEvents(dateRange).size());
+    }
+
+    private ReadOnlyToDo buildEvent(String title, LocalDateTime start, LocalDateTime end)
+        throws IllegalValueException {
+        return new ToDoBuilder(title).withDateRange(start, end).build();
+    }
+}
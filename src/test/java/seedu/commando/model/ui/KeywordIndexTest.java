@@ -0,0 +1,78 @@
+package seedu.commando.model.ui;
+
+import org.junit.Before;
+import org.junit.Test;
+import seedu.commando.commons.exceptions.IllegalValueException;
+import seedu.commando.commons.util.StringUtil;
+import seedu.commando.model.todo.ReadOnlyToDo;
+import seedu.commando.model.todo.ToDoList;
+import seedu.commando.testutil.ToDoBuilder;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+//@@author A0139697H
+public class KeywordIndexTest {
+    private ToDoList toDoList;
+    private KeywordIndex keywordIndex;
+
+    @Before
+    public void setUp() throws IllegalValueException {
+        toDoList = new ToDoList()
+            .add(new ToDoBuilder("Buy Groceries").withTags("Errands").build())
+            .add(new ToDoBuilder("Finish CS2103 project").withTags("school", "urgent").build())
+            .add(new ToDoBuilder("Go for a run").build())
+            .add(new ToDoBuilder("Buy running shoes").withTags("shopping").build());
+
+        keywordIndex = new KeywordIndex();
+        keywordIndex.attach(toDoList.getToDos());
+    }
+
+    @Test
+    public void findCandidates_keywords_sameAsSubstringIgnoreCase() {
+        for (String keyword : Arrays.asList("b", "BUY", "run", "runn", "unning", "roc", "cs2103", "rrand",
+            "oo", "shoe", "school", "xyz", "gro", "Project")) {
+            Set<ReadOnlyToDo> candidates = keywordIndex.findCandidates(Collections.singleton(keyword)).get();
+
+            for (ReadOnlyToDo toDo : toDoList.getToDos()) {
+                boolean isMatch = StringUtil.substringIgnoreCase(toDo.getTitle().value, keyword)
+                    || toDo.getTags().stream().anyMatch(tag -> StringUtil.substringIgnoreCase(tag.value, keyword));
+
+                // All matches have to be candidates
+                if (isMatch) {
+                    assertTrue(keyword + " should match " + toDo, candidates.contains(toDo));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void findCandidates_multipleKeywords_intersected() {
+        Set<ReadOnlyToDo> candidates = keywordIndex.findCandidates(new HashSet<>(Arrays.asList("buy", "run"))).get();
+
+        assertEquals(1, candidates.size());
+        assertEquals("Buy running shoes", candidates.iterator().next().getTitle().value);
+    }
+
+    @Test
+    public void findCandidates_whitespaceKeyword_notLookedUp() {
+        assertFalse(keywordIndex.findCandidates(Collections.singleton("buy running")).isPresent());
+        assertFalse(keywordIndex.findCandidates(Collections.singleton("")).isPresent());
+    }
+
+    @Test
+    public void findCandidates_afterRemoval_notFound() throws IllegalValueException {
+        toDoList.remove(new ToDoBuilder("Go for a run").build());
+
+        Optional<Set<ReadOnlyToDo>> candidates = keywordIndex.findCandidates(Collections.singleton("go"));
+        assertTrue(candidates.isPresent());
+        assertTrue(candidates.get().isEmpty());
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.commando.model.ui;
+
+import org.junit.Before;
+import org.junit.Test;
+import seedu.commando.commons.exceptions.IllegalValueException;
+import seedu.commando.model.todo.ReadOnlyToDo;
+import seedu.commando.model.todo.Tag;
+import seedu.commando.model.todo.ToDoList;
+import seedu.commando.testutil.ToDoBuilder;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+//@@author A0139697H
+public class TagIndexTest {
+    private ToDoList toDoList;
+    private TagIndex tagIndex;
+
+    @Before
+    public void setUp() throws IllegalValueException {
+        toDoList = new ToDoList()
+            .add(new ToDoBuilder("title1").withTags("School", "urgent").build())
+            .add(new ToDoBuilder("title2").withTags("school").build())
+            .add(new ToDoBuilder("title3").withTags("home", "urgent").build())
+            .add(new ToDoBuilder("title4").build());
+
+        tagIndex = new TagIndex();
+        tagIndex.attach(toDoList.getToDos());
+    }
+
+    @Test
+    public void findToDos_oneTagIgnoringCase_found() {
+        Set<ReadOnlyToDo> toDos = tagIndex.findToDos(Collections.singleton(new Tag("SCHOOL")));
+
+        assertEquals(2, toDos.size());
+    }
+
+    @Test
+    public void findToDos_multipleTags_intersected() {
+        Set<ReadOnlyToDo> toDos = tagIndex.findToDos(new HashSet<>(Arrays.asList(new Tag("school"), new Tag("urgent"))));
+
+        assertEquals(1, toDos.size());
+        assertEquals("title1", toDos.iterator().next().getTitle().value);
+    }
+
+    @Test
+    public void findToDos_nonExistentTag_empty() {
+        assertTrue(tagIndex.findToDos(Collections.singleton(new Tag("work"))).isEmpty());
+    }
+
+    @Test
+    public void getTagCounts_afterRemovalAndAddition_updated() throws IllegalValueException {
+        toDoList.remove(new ToDoBuilder("title2").withTags("school").build());
+        toDoList.add(new ToDoBuilder("title5").withTags("work", "Urgent").build());
+
+        Map<String, Integer> tagCounts = tagIndex.getTagCounts();
+
+        assertEquals(4, tagCounts.size());
+        assertEquals(Integer.valueOf(1), tagCounts.get("school"));
+        assertEquals(Integer.valueOf(3), tagCounts.get("urgent"));
+        assertEquals(Integer.valueOf(1), tagCounts.get("home"));
+        assertEquals(Integer.valueOf(1), tagCounts.get("work"));
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.commando.model.ui;
+
+import seedu.commando.commons.exceptions.IllegalValueException;
+import seedu.commando.model.todo.ReadOnlyToDo;
+import seedu.commando.testutil.Benchmark;
+import seedu.commando.testutil.ToDoBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+//@@author A0139697H
+
+/**
+ * Benchmarks sorting to-dos for the UI, comparing the previous three passes of {@link List#sort}
+ * against {@link UiModel#sortToDos(List, boolean)}, at 10k and 100k to-dos.
+ * Not a test, run with {@code main}.
+ */
+public class UiModelSortBenchmark {
+    private static final int[] SIZES = { 10_000, 100_000 };
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASURED_RUNS = 10;
+
+    public static void main(String[] args) throws Exception {
+        Benchmark benchmark = new Benchmark(WARMUP_RUNS, MEASURED_RUNS);
+
+        for (int size : SIZES) {
+            List<ReadOnlyToDo> tasks = generateTasks(size, new Random(size));
+
+            // Sort keys break ties by ID, which the stable passes keep if the tasks are in ID order
+            tasks.sort(Comparator.comparingLong(ReadOnlyToDo::getId));
+
+            // Sanity check that both give the same order
+            List<ReadOnlyToDo> expected = sortInThreePasses(tasks);
+            List<UiModel.SortKey> actual = UiModel.sortToDos(tasks, false);
+            for (int i = 0; i < size; i++) {
+                if (expected.get(i) != actual.get(i).toDo) {
+                    throw new AssertionError("Orders differ at position " + i);
+                }
+            }
+
+            benchmark.compare(String.format("%,d to-dos", size),
+                "three passes", () -> sortInThreePasses(tasks),
+                "single pass", () -> UiModel.sortToDos(tasks, false));
+        }
+    }
+
+    private static List<ReadOnlyToDo> generateTasks(int size, Random random) throws IllegalValueException {
+        LocalDateTime base = LocalDateTime.of(2016, 1, 1, 0, 0);
+        List<ReadOnlyToDo> tasks = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            ToDoBuilder builder = new ToDoBuilder("task " + i)
+                .created(base.minusMinutes(random.nextInt(100_000)));
+
+            if (random.nextInt(3) > 0) {
+                builder.withDueDate(base.plusHours(random.nextInt(10_000)));
+            }
+
+            if (random.nextInt(4) == 0) {
+                builder.finish(base.minusHours(random.nextInt(1_000)));
+            }
+
+            tasks.add(builder.build());
+        }
+
+        return tasks;
+    }
+
+    /**
+     * How tasks were sorted before, by created date, then due date, then finished date.
+     */
+    private static List<ReadOnlyToDo> sortInThreePasses(List<ReadOnlyToDo> toDos) {
+        List<ReadOnlyToDo> tasks = new ArrayList<>(toDos);
+
+        tasks.sort((task1, task2) -> task2.getDateCreated().compareTo(task1.getDateCreated()));
+
+        tasks.sort((task1, task2) -> {
+            LocalDateTime date1 = task1.getDueDate().isPresent() ?
+                task1.getDueDate().get().value : LocalDateTime.MAX;
+            LocalDateTime date2 = task2.getDueDate().isPresent() ?
+                task2.getDueDate().get().value : LocalDateTime.MAX;
+            return date1.compareTo(date2);
+        });
+
+        tasks.sort((task1, task2) -> task2.getDateFinished().orElse(LocalDateTime.MAX)
+            .compareTo(task1.getDateFinished().orElse(LocalDateTime.MAX)));
+
+        return tasks;
+    }
+}
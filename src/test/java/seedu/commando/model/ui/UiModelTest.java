@@ -1,17 +1,32 @@
 package seedu.commando.model.ui;
 
 import edu.emory.mathcs.backport.java.util.Collections;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import seedu.commando.commons.core.AppClock;
 import seedu.commando.commons.exceptions.IllegalValueException;
 import seedu.commando.model.Model;
 import seedu.commando.model.ToDoListManager;
+import seedu.commando.model.todo.DateRange;
+import seedu.commando.model.todo.ReadOnlyToDo;
 import seedu.commando.model.todo.ReadOnlyToDoList;
+import seedu.commando.model.todo.Recurrence;
 import seedu.commando.model.todo.ToDoList;
+import seedu.commando.model.todo.ToDoListChange;
+import seedu.commando.testutil.ToDoBuilder;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static seedu.commando.testutil.ToDoBuilder.*;
 
 //@@author A0139697H
@@ -94,4 +109,251 @@ public class UiModelTest {
         assertEquals(TaskOldFinished, tasks.get(0));
         assertEquals(TaskOlderFinished, tasks.get(1));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void changeToDoList_addAndDeleteToDos_sameAsRefiltered() throws IllegalValueException {
+        ReadOnlyToDo task = new ToDoBuilder("new task")
+            .withDueDate(LocalDateTime.of(2016, 6, 1, 12, 0))
+            .build();
+        ReadOnlyToDo event = new ToDoBuilder("new event")
+            .withDateRange(LocalDateTime.of(2016, 6, 1, 12, 0), LocalDateTime.of(2016, 6, 1, 14, 0))
+            .build();
+
+        toDoListManager.changeToDoList(new ToDoListChange(
+            new ToDoList().add(task).add(event),
+            new ToDoList().add(TaskOldDueUnfinishedNewCreated).add(EventNewRangeUnfinishedOldCreated)
+        ));
+
+        assertSameAsRefiltered();
+
+        toDoListManager.undoToDoList();
+        assertSameAsRefiltered();
+
+        toDoListManager.redoToDoList();
+        assertSameAsRefiltered();
+    }
+
+    @Test
+    public void changeToDoList_addTask_eventsKept() throws IllegalValueException {
+        List<UiToDo> events = new ArrayList<>(uiModel.getEvents());
+
+        toDoListManager.changeToDoList(new ToDoListChange(
+            new ToDoList().add(new ToDoBuilder("new task").build()),
+            new ToDoList()
+        ));
+
+        assertEquals(events.size(), uiModel.getEvents().size());
+        for (int i = 0; i < events.size(); i++) {
+            assertSame(events.get(i), uiModel.getEvents().get(i));
+        }
+    }
+
+    @Test
+    public void changeToDoList_twice_onlyLastAddedNew() throws IllegalValueException {
+        toDoListManager.changeToDoList(new ToDoListChange(
+            new ToDoList().add(new ToDoBuilder("new task 1").build()),
+            new ToDoList()
+        ));
+        toDoListManager.changeToDoList(new ToDoListChange(
+            new ToDoList().add(new ToDoBuilder("new task 2").build()),
+            new ToDoList()
+        ));
+
+        assertTrue(uiModel.getTasks().stream().anyMatch(
+            uiToDo -> uiToDo.getTitle().value.equals("new task 2") && uiToDo.isNew()));
+        assertFalse(uiModel.getTasks().stream().anyMatch(
+            uiToDo -> uiToDo.getTitle().value.equals("new task 1") && uiToDo.isNew()));
+        assertSameAsRefiltered();
+    }
+
+    @Test
+    public void changeToDoList_editToDo_refreshedOnce() throws IllegalValueException {
+        int refreshesCount = uiModel.getRefreshesCount();
+
+        uiModel.changeToDoList(() -> {
+            toDoListManager.changeToDoList(new ToDoListChange(
+                new ToDoList().add(new ToDoBuilder("edited task").build()),
+                new ToDoList().add(TaskOldDueUnfinishedNewCreated)
+            ));
+            return null;
+        }, Model.FILTER_MODE.UNFINISHED);
+
+        assertEquals(refreshesCount + 1, uiModel.getRefreshesCount());
+        assertSameAsRefiltered();
+    }
+
+    @Test
+    public void changeToDoList_filteredByKeyword_refreshedOnceAndFilterCleared() throws IllegalValueException {
+        uiModel.setToDoListFilter(Collections.singleton("Old"), Collections.emptySet(), Model.FILTER_MODE.ALL);
+        int refreshesCount = uiModel.getRefreshesCount();
+
+        uiModel.changeToDoList(() -> {
+            toDoListManager.changeToDoList(new ToDoListChange(
+                new ToDoList().add(new ToDoBuilder("new task").build()),
+                new ToDoList().add(TaskOldDueUnfinishedNewCreated)
+            ));
+            return null;
+        }, Model.FILTER_MODE.UNFINISHED);
+
+        assertEquals(refreshesCount + 1, uiModel.getRefreshesCount());
+        assertSameAsRefiltered();
+    }
+
+    @Test
+    public void changeToDoList_undoRedoInFinishedMode_refreshedOnceEach() throws IllegalValueException {
+        toDoListManager.changeToDoList(new ToDoListChange(
+            new ToDoList().add(new ToDoBuilder("new task").build()),
+            new ToDoList()
+        ));
+
+        uiModel.setToDoListFilter(Collections.emptySet(), Collections.emptySet(), Model.FILTER_MODE.FINISHED);
+        int refreshesCount = uiModel.getRefreshesCount();
+        assertTrue(uiModel.changeToDoList(toDoListManager::undoToDoList, Model.FILTER_MODE.UNFINISHED));
+        assertEquals(refreshesCount + 1, uiModel.getRefreshesCount());
+        assertSameAsRefiltered();
+
+        uiModel.setToDoListFilter(Collections.emptySet(), Collections.emptySet(), Model.FILTER_MODE.FINISHED);
+        refreshesCount = uiModel.getRefreshesCount();
+        assertTrue(uiModel.changeToDoList(toDoListManager::redoToDoList, Model.FILTER_MODE.UNFINISHED));
+        assertEquals(refreshesCount + 1, uiModel.getRefreshesCount());
+        assertSameAsRefiltered();
+    }
+
+    @Test
+    public void changeToDoList_failedInFinishedMode_notRefreshedAndFilterKept() {
+        uiModel.setToDoListFilter(Collections.emptySet(), Collections.emptySet(), Model.FILTER_MODE.FINISHED);
+        List<UiToDo> tasks = new ArrayList<>(uiModel.getTasks());
+        int refreshesCount = uiModel.getRefreshesCount();
+
+        try {
+            uiModel.changeToDoList(() -> {
+                toDoListManager.changeToDoList(new ToDoListChange(
+                    new ToDoList().add(TaskOldFinished),
+                    new ToDoList()
+                ));
+                return null;
+            }, Model.FILTER_MODE.UNFINISHED);
+            fail();
+        } catch (IllegalValueException exception) {
+            assertEquals(refreshesCount, uiModel.getRefreshesCount());
+            assertEquals(tasks, uiModel.getTasks());
+        }
+    }
+
+    @Test
+    public void clearToDoListFilter_eventOverLaterInDay_refiltered() throws IllegalValueException {
+        setClock(LocalDateTime.of(2030, 6, 1, 10, 0));
+        ReadOnlyToDo earlierEvent = new ToDoBuilder("earlier event")
+            .withDateRange(LocalDateTime.of(2030, 6, 1, 10, 30), LocalDateTime.of(2030, 6, 1, 11, 0))
+            .build();
+        ReadOnlyToDo laterEvent = new ToDoBuilder("later event")
+            .withDateRange(LocalDateTime.of(2030, 6, 1, 10, 45), LocalDateTime.of(2030, 6, 1, 12, 0))
+            .build();
+        toDoListManager = new ToDoListManager(new ToDoList().add(earlierEvent).add(laterEvent));
+        uiModel = new UiModel(toDoListManager);
+        uiModel.clearToDoListFilter(Model.FILTER_MODE.FINISHED);
+        uiModel.clearToDoListFilter(Model.FILTER_MODE.UNFINISHED);
+        assertEquals(earlierEvent, uiModel.getEvents().get(0));
+
+        // On the same day, after the earlier event is over, it is sorted after the unfinished event
+        setClock(LocalDateTime.of(2030, 6, 1, 11, 30));
+        uiModel.clearToDoListFilter(Model.FILTER_MODE.UNFINISHED);
+        assertEquals(2, uiModel.getEvents().size());
+        assertEquals(laterEvent, uiModel.getEvents().get(0));
+        assertEquals(earlierEvent, uiModel.getEvents().get(1));
+
+        // and recalled as finished
+        uiModel.clearToDoListFilter(Model.FILTER_MODE.FINISHED);
+        assertEquals(1, uiModel.getEvents().size());
+        assertEquals(earlierEvent, uiModel.getEvents().get(0));
+    }
+
+    @Test
+    public void changeToDoList_eventOverSinceFiltered_refiltered() throws IllegalValueException {
+        setClock(LocalDateTime.of(2030, 6, 1, 10, 0));
+        ReadOnlyToDo earlierEvent = new ToDoBuilder("earlier event")
+            .withDateRange(LocalDateTime.of(2030, 6, 1, 10, 30), LocalDateTime.of(2030, 6, 1, 11, 0))
+            .build();
+        ReadOnlyToDo laterEvent = new ToDoBuilder("later event")
+            .withDateRange(LocalDateTime.of(2030, 6, 1, 10, 45), LocalDateTime.of(2030, 6, 1, 12, 0))
+            .build();
+        toDoListManager = new ToDoListManager(new ToDoList().add(earlierEvent).add(laterEvent));
+        uiModel = new UiModel(toDoListManager);
+
+        setClock(LocalDateTime.of(2030, 6, 1, 11, 30));
+        uiModel.changeToDoList(() -> {
+            toDoListManager.changeToDoList(new ToDoListChange(
+                new ToDoList().add(new ToDoBuilder("task").build()), new ToDoList()));
+            return null;
+        }, Model.FILTER_MODE.UNFINISHED);
+
+        assertEquals(laterEvent, uiModel.getEvents().get(0));
+        assertEquals(earlierEvent, uiModel.getEvents().get(1));
+        assertSameAsRefiltered();
+    }
+
+    @Test
+    public void setToDoListFilter_keywordWithEqualSortKeys_sameOrderAsUnfiltered() throws IllegalValueException {
+        LocalDateTime dateCreated = LocalDateTime.of(2016, 1, 1, 0, 0);
+        ToDoList toDoList = new ToDoList();
+        for (int i = 0; i < 50; i++) {
+            toDoList.add(new ToDoBuilder("same key " + i).created(dateCreated).build());
+        }
+        uiModel = new UiModel(new ToDoListManager(toDoList));
+        List<UiToDo> unfilteredTasks = new ArrayList<>(uiModel.getTasks());
+
+        uiModel.setToDoListFilter(Collections.singleton("key"), Collections.emptySet(), Model.FILTER_MODE.ALL);
+
+        assertEquals(unfilteredTasks, uiModel.getTasks());
+    }
+
+    @Test
+    public void setToDoListFilter_dateRangeWithAdvancedRecurringEvents_sameOrderAsUnfiltered()
+        throws IllegalValueException {
+        setClock(LocalDateTime.of(2030, 6, 1, 10, 0));
+        LocalDateTime dateCreated = LocalDateTime.of(2016, 1, 1, 0, 0);
+        LocalDateTime startDate = LocalDateTime.of(2030, 6, 8, 12, 0);
+        ToDoList toDoList = new ToDoList();
+        for (int i = 0; i < 20; i++) {
+            // Recurring events advance onto the same dates as the others, after those were indexed
+            ToDoBuilder builder = new ToDoBuilder("same key " + i).created(dateCreated);
+            toDoList.add(i % 2 == 0
+                ? builder.withDateRange(startDate, startDate.plusHours(1)).build()
+                : builder.withDateRange(startDate.minusWeeks(1), startDate.minusWeeks(1).plusHours(1),
+                Recurrence.Weekly).build());
+        }
+        uiModel = new UiModel(new ToDoListManager(toDoList));
+
+        setClock(LocalDateTime.of(2030, 6, 2, 10, 0));
+        uiModel.clearToDoListFilter(Model.FILTER_MODE.ALL);
+        List<UiToDo> unfilteredEvents = new ArrayList<>(uiModel.getEvents());
+        uiModel.setToDoListFilter(new DateRange(startDate.minusDays(1), startDate.plusDays(1)));
+
+        assertEquals(20, unfilteredEvents.size());
+        assertEquals(unfilteredEvents, uiModel.getEvents());
+    }
+
+    @After
+    public void tearDown() {
+        AppClock.reset();
+    }
+
+    private static void setClock(LocalDateTime dateTime) {
+        ZoneId zone = ZoneId.systemDefault();
+        AppClock.setClock(Clock.fixed(dateTime.atZone(zone).toInstant(), zone));
+    }
+
+    /**
+     * Asserts the UI to-dos, updated incrementally, are the same as when filtered from scratch.
+     */
+    private void assertSameAsRefiltered() {
+        UiModel refilteredUiModel = new UiModel(toDoListManager);
+
+        assertEquals(refilteredUiModel.getEvents(), uiModel.getEvents());
+        assertEquals(refilteredUiModel.getTasks(), uiModel.getTasks());
+
+        for (int i = 1; i <= uiModel.getEvents().size() + uiModel.getTasks().size(); i++) {
+            assertEquals(refilteredUiModel.getToDoAtIndex(i), uiModel.getToDoAtIndex(i));
+        }
+    }
+}
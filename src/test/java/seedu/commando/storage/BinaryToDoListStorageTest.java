@@ -0,0 +1,209 @@
+package seedu.commando.storage;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.commando.commons.exceptions.DataConversionException;
+import seedu.commando.commons.exceptions.IllegalValueException;
+import seedu.commando.model.todo.ReadOnlyToDo;
+import seedu.commando.model.todo.ReadOnlyToDoList;
+import seedu.commando.model.todo.Recurrence;
+import seedu.commando.model.todo.Tag;
+import seedu.commando.model.todo.ToDoList;
+import seedu.commando.testutil.ToDoBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.zip.CRC32;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+//@@author A0139697H
+public class BinaryToDoListStorageTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File file;
+    private BinaryToDoListStorage storage;
+
+    @Before
+    public void setUp() {
+        file = new File(folder.getRoot(), "toDoList" + BinaryFileStorage.FILE_EXTENSION);
+        storage = new BinaryToDoListStorage(file.getPath());
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readToDoList().isPresent());
+    }
+
+    @Test
+    public void readAndSaveToDoList_noModifications() throws Exception {
+        ToDoList original = getSample();
+
+        storage.saveToDoList(original);
+
+        assertEquals(original, new ToDoList(storage.readToDoList().get()));
+    }
+
+    @Test
+    public void readThenSaveToDoList_sameFile_replaced() throws Exception {
+        ToDoList original = getSample();
+        storage.saveToDoList(original);
+        ReadOnlyToDoList loaded = storage.readToDoList().get();
+
+        // The file is not held open or mapped after loading, so it can be replaced, e.g. on Windows
+        ToDoList changed = new ToDoList(loaded).add(new ToDoBuilder("new to-do").build());
+        storage.saveToDoList(changed);
+        storage.saveToDoList(original);
+
+        assertEquals(original, new ToDoList(storage.readToDoList().get()));
+    }
+
+    @Test
+    public void readAndSaveToDoList_emptyToDoList() throws Exception {
+        storage.saveToDoList(new ToDoList());
+
+        assertTrue(storage.readToDoList().get().getToDos().isEmpty());
+    }
+
+    @Test
+    public void readToDoList_sameTags_tagsShared() throws Exception {
+        storage.saveToDoList(new ToDoList()
+            .add(new ToDoBuilder("title1").withTags("shared").build())
+            .add(new ToDoBuilder("title2").withTags("shared", "other").build()));
+
+        ReadOnlyToDoList readBack = storage.readToDoList().get();
+
+        Tag first = readBack.getToDos().get(0).getTags().iterator().next();
+        Tag second = readBack.getToDos().get(1).getTags().stream()
+            .filter(tag -> tag.value.equals("shared")).findFirst().get();
+        assertSame(first, second);
+    }
+
+    @Test
+    public void readToDoList_corruptedFile_exceptionThrown() throws Exception {
+        storage.saveToDoList(getSample());
+        byte[] bytes = Files.readAllBytes(file.toPath());
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(file.toPath(), bytes);
+
+        thrown.expect(DataConversionException.class);
+        storage.readToDoList();
+    }
+
+    @Test
+    public void readToDoList_xmlFile_exceptionThrown() throws Exception {
+        XmlFileStorage.saveDataToFile(file, getSample());
+
+        thrown.expect(DataConversionException.class);
+        storage.readToDoList();
+    }
+
+    @Test
+    public void readToDoList_corruptedFileWithBackup_backupRead() throws Exception {
+        ToDoList previous = getSample();
+        storage.saveToDoList(previous);
+        storage.saveToDoList(new ToDoList().add(new ToDoBuilder("next").build()));
+
+        Files.write(file.toPath(), new byte[] { 1, 2, 3 });
+
+        assertEquals(previous, new ToDoList(storage.readToDoList().get()));
+    }
+
+    @Test
+    public void multiFormatStorage_binaryExtension_savedInBinary() throws Exception {
+        File xmlFile = new File(folder.getRoot(), "toDoList.xml");
+        MultiFormatToDoListStorage multiFormatStorage = new MultiFormatToDoListStorage(xmlFile.getPath());
+        ToDoList toDoList = getSample();
+
+        multiFormatStorage.saveToDoList(toDoList);
+        multiFormatStorage.setToDoListFilePath(file.getPath());
+        multiFormatStorage.saveToDoList(toDoList);
+
+        assertEquals(toDoList, XmlFileStorage.loadDataFromSaveFile(xmlFile));
+        assertEquals(toDoList, BinaryFileStorage.loadDataFromSaveFile(file));
+        assertEquals(toDoList, new ToDoList(multiFormatStorage.readToDoList().get()));
+    }
+
+    @Test
+    public void saveToDoList_nullToDoList_assertionFailure() throws IOException {
+        thrown.expect(AssertionError.class);
+        storage.saveToDoList(null);
+    }
+
+    @Test
+    public void readAndSaveToDoList_idsKept() throws Exception {
+        ToDoList original = getSample();
+
+        storage.saveToDoList(original);
+        ReadOnlyToDoList readBack = storage.readToDoList().get();
+
+        for (int i = 0; i < original.getToDos().size(); i++) {
+            assertEquals(original.getToDos().get(i).getId(), readBack.getToDos().get(i).getId());
+        }
+    }
+
+    @Test
+    public void readData_versionWithoutIds_read() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(BinaryFileStorage.MAGIC);
+        out.writeShort(BinaryFileStorage.VERSION_WITHOUT_IDS);
+        out.writeInt(0); // tags
+        out.writeInt(1); // to-dos
+        out.writeByte(0); // flags
+        byte[] title = "title".getBytes(StandardCharsets.UTF_8);
+        out.writeInt(title.length);
+        out.write(title);
+        out.writeLong(LocalDateTime.of(2016, 1, 1, 8, 0).toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(0); // tags of to-do
+
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes.toByteArray());
+        out.writeInt((int) checksum.getValue());
+
+        ToDoList toDoList = BinaryFileStorage.readData(ByteBuffer.wrap(bytes.toByteArray()));
+
+        assertEquals(1, toDoList.getToDos().size());
+        assertEquals("title", toDoList.getToDos().get(0).getTitle().value);
+        assertEquals(LocalDateTime.of(2016, 1, 1, 8, 0), toDoList.getToDos().get(0).getDateCreated());
+    }
+
+    private static ToDoList getSample() throws IllegalValueException {
+        ReadOnlyToDo event = new ToDoBuilder("event é中")
+            .withTags("tag1", "tag2")
+            .withDateRange(LocalDateTime.of(2016, 3, 1, 20, 1), LocalDateTime.of(2016, 4, 1, 20, 1),
+                Recurrence.Monthly)
+            .created(LocalDateTime.of(2016, 1, 1, 8, 0))
+            .build();
+
+        return new ToDoList()
+            .add(event)
+            .add(new ToDoBuilder("task")
+                .withTags("tag2")
+                .withDueDate(LocalDateTime.of(2016, 5, 1, 20, 1), Recurrence.Weekly)
+                .created(LocalDateTime.of(2016, 1, 2, 8, 0))
+                .finish(LocalDateTime.of(2016, 5, 2, 9, 30))
+                .build())
+            .add(new ToDoBuilder("plain")
+                .created(LocalDateTime.of(2016, 1, 3, 8, 0))
+                .build());
+    }
+}
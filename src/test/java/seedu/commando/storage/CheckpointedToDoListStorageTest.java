@@ -0,0 +1,71 @@
+package seedu.commando.storage;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.commando.model.todo.ToDoList;
+import seedu.commando.testutil.ToDoBuilder;
+
+import java.io.File;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+//@@author A0139697H
+public class CheckpointedToDoListStorageTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File toDoListFile;
+    private CheckpointedToDoListStorage storage;
+
+    @Before
+    public void setUp() {
+        toDoListFile = new File(folder.getRoot(), "toDoList.xml");
+        storage = new CheckpointedToDoListStorage(new XmlToDoListStorage(toDoListFile.getPath()));
+    }
+
+    @Test
+    public void saveToDoList_beforeCheckpoint_notWritten() throws Exception {
+        storage.saveToDoList(new ToDoList().add(new ToDoBuilder("title 1").build()));
+        ToDoList toDoList = new ToDoList().add(new ToDoBuilder("title 2").build());
+        storage.saveToDoListChanges(Collections.emptyList(), toDoList);
+
+        assertFalse(toDoListFile.exists());
+        assertTrue(storage.hasUnsavedChanges());
+        assertEquals(toDoList, storage.readToDoList().get());
+
+        storage.checkpoint();
+
+        assertFalse(storage.hasUnsavedChanges());
+        assertEquals(toDoList, new XmlToDoListStorage(toDoListFile.getPath()).readToDoList().get());
+    }
+
+    @Test
+    public void saveToDoList_otherFile_writtenImmediately() throws Exception {
+        File otherFile = new File(folder.getRoot(), "other.xml");
+        ToDoList toDoList = new ToDoList().add(new ToDoBuilder("title").build());
+
+        storage.saveToDoList(toDoList, otherFile.getPath());
+
+        assertTrue(otherFile.exists());
+        assertFalse(storage.hasUnsavedChanges());
+    }
+
+    @Test
+    public void setToDoListFilePath_unsavedChanges_savedToPreviousFile() throws Exception {
+        File newFile = new File(folder.getRoot(), "new.xml");
+        ToDoList toDoList = new ToDoList().add(new ToDoBuilder("title").build());
+        storage.saveToDoList(toDoList);
+
+        storage.setToDoListFilePath(newFile.getPath());
+
+        assertEquals(toDoList, new XmlToDoListStorage(toDoListFile.getPath()).readToDoList().get());
+        assertFalse(newFile.exists());
+    }
+}
@@ -0,0 +1,211 @@
+package seedu.commando.storage;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.commando.commons.exceptions.IllegalValueException;
+import seedu.commando.commons.util.AtomicFileWriter;
+import seedu.commando.model.todo.ReadOnlyToDoList;
+import seedu.commando.model.todo.ToDoList;
+import seedu.commando.model.todo.ToDoListChange;
+import seedu.commando.testutil.ToDoBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+//@@author A0139697H
+
+/**
+ * Kills saves of the to-do list at random byte offsets, and checks that the to-do list read afterwards
+ * is either the one before or after the save.
+ */
+public class CrashRecoveryTest {
+    private static final int CRASHES_COUNT = 50;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final Random random = new Random(2103);
+    private File file;
+
+    @Before
+    public void setUp() {
+        file = new File(folder.getRoot(), "toDoList.xml");
+    }
+
+    @Test
+    public void saveToDoList_crashAtRandomOffset_previousOrNewToDoListRead() throws Exception {
+        for (int i = 0; i < CRASHES_COUNT; i++) {
+            ToDoList previous = createToDoList("previous" + i, 1 + random.nextInt(5));
+            ToDoList next = createToDoList("next" + i, 1 + random.nextInt(5));
+            new XmlToDoListStorage(file.getPath()).saveToDoList(previous);
+
+            byte[] nextXml = XmlFileStorage.convertDataToXml(next);
+
+            // Offsets past the content crash after the temporary file is written, before or after the backup
+            int crashOffset = random.nextInt(nextXml.length + 2);
+            try {
+                new CrashingWriter(file, crashOffset).write(nextXml);
+            } catch (Crash crash) {
+                // The app was killed here
+            }
+
+            ReadOnlyToDoList read = readToDoList();
+            assertTrue("Crash at offset " + crashOffset + " of " + nextXml.length + " lost the to-do list",
+                read.equals(previous) || read.equals(next));
+        }
+    }
+
+    @Test
+    public void saveToDoList_crashWithoutRename_previousToDoListRead() throws Exception {
+        ToDoList previous = createToDoList("previous", 3);
+        new XmlToDoListStorage(file.getPath()).saveToDoList(previous);
+        byte[] nextXml = XmlFileStorage.convertDataToXml(createToDoList("next", 3));
+
+        try {
+            new CrashingWriter(file, nextXml.length + 1).write(nextXml);
+        } catch (Crash crash) {
+            // The app was killed here
+        }
+
+        assertEquals(previous, readToDoList());
+    }
+
+    @Test
+    public void readToDoList_corruptedFileWithBackup_backupRead() throws Exception {
+        ToDoList previous = createToDoList("previous", 2);
+        XmlToDoListStorage storage = new XmlToDoListStorage(file.getPath());
+        storage.saveToDoList(previous);
+        storage.saveToDoList(createToDoList("next", 2));
+
+        // As if the file was written directly and the app was killed halfway
+        try (RandomAccessFile corrupted = new RandomAccessFile(file, "rw")) {
+            corrupted.setLength(corrupted.length() / 2);
+        }
+
+        assertEquals(previous, readToDoList());
+    }
+
+    @Test
+    public void saveToDoListChanges_crashAtRandomOffset_savedChangesReplayed() throws Exception {
+        File journalFile = new File(file.getPath() + JournaledToDoListStorage.JOURNAL_FILE_EXTENSION);
+        JournaledToDoListStorage storage =
+            new JournaledToDoListStorage(new XmlToDoListStorage(file.getPath()), 1000, 0);
+        ToDoList toDoList = createToDoList("title", 2);
+        storage.saveToDoList(toDoList);
+
+        // Remember the journal length and to-do list after each change
+        List<Long> lengths = new ArrayList<>();
+        List<ToDoList> toDoLists = new ArrayList<>();
+        lengths.add(0L);
+        toDoLists.add(new ToDoList(toDoList));
+
+        for (int i = 0; i < 20; i++) {
+            ToDoList added = new ToDoList().add(new ToDoBuilder("added" + i).build());
+            toDoList.add(added);
+            storage.saveToDoListChanges(Collections.singletonList(new ToDoListChange(added, new ToDoList())),
+                toDoList);
+            lengths.add(journalFile.length());
+            toDoLists.add(new ToDoList(toDoList));
+        }
+
+        byte[] journal = Files.readAllBytes(journalFile.toPath());
+
+        for (int i = 0; i < CRASHES_COUNT; i++) {
+            // The journal is appended sequentially, so a crash at an offset leaves the bytes before it
+            int crashOffset = random.nextInt(journal.length + 1);
+            Files.write(journalFile.toPath(), Arrays.copyOf(journal, crashOffset));
+
+            int savedChangesCount = 0;
+            while (savedChangesCount + 1 < lengths.size() && lengths.get(savedChangesCount + 1) <= crashOffset) {
+                savedChangesCount++;
+            }
+
+            Optional<ReadOnlyToDoList> read = new JournaledToDoListStorage(
+                new XmlToDoListStorage(file.getPath()), 1000, 0).readToDoList();
+            assertEquals(toDoLists.get(savedChangesCount), new ToDoList(read.get()));
+        }
+    }
+
+    private ReadOnlyToDoList readToDoList() throws Exception {
+        return new ToDoList(new XmlToDoListStorage(file.getPath()).readToDoList().get());
+    }
+
+    private ToDoList createToDoList(String titlePrefix, int size) throws IllegalValueException {
+        ToDoList toDoList = new ToDoList();
+        for (int i = 0; i < size; i++) {
+            toDoList.add(new ToDoBuilder(titlePrefix + " " + i).build());
+        }
+        return toDoList;
+    }
+
+    /**
+     * Thrown where the app is killed.
+     */
+    private static class Crash extends RuntimeException {
+    }
+
+    /**
+     * Kills the app after {@code crashOffset} bytes of the temporary file are written,
+     * or at the step after writing it, for offsets past its length.
+     */
+    private static class CrashingWriter extends AtomicFileWriter {
+        private final int crashOffset;
+        private int contentLength;
+
+        CrashingWriter(File file, int crashOffset) {
+            super(file);
+            this.crashOffset = crashOffset;
+        }
+
+        @Override
+        protected void writeTempFile(Path tempPath, byte[] content) throws IOException {
+            contentLength = content.length;
+
+            if (crashOffset < content.length) {
+                try (FileChannel channel = FileChannel.open(tempPath,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                    channel.write(ByteBuffer.wrap(content, 0, crashOffset));
+                }
+                throw new Crash();
+            }
+
+            super.writeTempFile(tempPath, content);
+        }
+
+        @Override
+        protected void backUp(Path path, Path backupPath) throws IOException {
+            if (crashOffset == contentLength) {
+                throw new Crash();
+            }
+
+            super.backUp(path, backupPath);
+        }
+
+        @Override
+        protected void replace(Path tempPath, Path path) throws IOException {
+            if (crashOffset == contentLength + 1) {
+                throw new Crash();
+            }
+
+            super.replace(tempPath, path);
+        }
+    }
+}
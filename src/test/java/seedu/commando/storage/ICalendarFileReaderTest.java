@@ -0,0 +1,230 @@
+package seedu.commando.storage;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.commando.commons.exceptions.DataConversionException;
+import seedu.commando.model.todo.DateRange;
+import seedu.commando.model.todo.ReadOnlyToDo;
+import seedu.commando.model.todo.Recurrence;
+import seedu.commando.model.todo.Tag;
+import seedu.commando.model.todo.ToDoList;
+import seedu.commando.testutil.ToDoBuilder;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+//@@author A0139697H
+public class ICalendarFileReaderTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final List<ReadOnlyToDo> toDos = new ArrayList<>();
+    private final List<String> invalidEntries = new ArrayList<>();
+
+    @Test
+    public void read_eventsAndTasks_toDos() throws Exception {
+        read("BEGIN:VCALENDAR",
+            "VERSION:2.0",
+            "BEGIN:VTIMEZONE",
+            "TZID:Custom",
+            "BEGIN:STANDARD",
+            "DTSTART:19700101T000000",
+            "END:STANDARD",
+            "END:VTIMEZONE",
+            "BEGIN:VEVENT",
+            "UID:1",
+            "SUMMARY:team\\, meeting",
+            "DTSTART;TZID=Custom:20161007T090000",
+            "DTEND;TZID=Custom:20161007T100000",
+            "RRULE:FREQ=WEEKLY;BYDAY=FR",
+            "CATEGORIES:work,team",
+            "BEGIN:VALARM",
+            "ACTION:DISPLAY",
+            "SUMMARY:not the title",
+            "END:VALARM",
+            "END:VEVENT",
+            "BEGIN:VEVENT",
+            "SUMMARY:holiday",
+            "DTSTART;VALUE=DATE:20161224",
+            "DTEND;VALUE=DATE:20161226",
+            "END:VEVENT",
+            "BEGIN:VTODO",
+            "SUMMARY:a long title that is folded",
+            "  over two lines",
+            "DUE:20161010T120000Z",
+            "STATUS:NEEDS-ACTION",
+            "CREATED:20160101T000000",
+            "END:VTODO",
+            "BEGIN:VTODO",
+            "SUMMARY:done",
+            "COMPLETED:20161001T080000",
+            "END:VTODO",
+            "END:VCALENDAR");
+
+        assertTrue(invalidEntries.isEmpty());
+        assertEquals(4, toDos.size());
+
+        ReadOnlyToDo meeting = toDos.get(0);
+        assertEquals("team, meeting", meeting.getTitle().value);
+        assertEquals(Recurrence.Weekly, meeting.getDateRange().get().recurrence);
+        assertEquals(new HashSet<>(Arrays.asList(new Tag("work"), new Tag("team"))), meeting.getTags());
+
+        assertEquals(new DateRange(LocalDateTime.of(2016, 12, 24, 0, 0), LocalDateTime.of(2016, 12, 25, 23, 59)),
+            toDos.get(1).getDateRange().get());
+
+        ReadOnlyToDo task = toDos.get(2);
+        assertEquals("a long title that is folded over two lines", task.getTitle().value);
+        assertEquals(LocalDateTime.of(2016, 10, 10, 12, 0).atOffset(ZoneOffset.UTC)
+            .atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime(), task.getDueDate().get().value);
+        assertFalse(task.isFinished());
+        assertEquals(LocalDateTime.of(2016, 1, 1, 0, 0), task.getDateCreated());
+
+        assertEquals(LocalDateTime.of(2016, 10, 1, 8, 0), toDos.get(3).getDateFinished().get());
+    }
+
+    @Test
+    public void read_invalidEntries_skippedAndReported() throws Exception {
+        read("BEGIN:VCALENDAR",
+            "BEGIN:VEVENT",
+            "DTSTART:20161007T090000",
+            "END:VEVENT",
+            "BEGIN:VEVENT",
+            "SUMMARY:ends before it starts",
+            "DTSTART:20161007T090000",
+            "DTEND:20161006T090000",
+            "END:VEVENT",
+            "BEGIN:VEVENT",
+            "SUMMARY:every 2 weeks",
+            "DTSTART:20161007T090000",
+            "RRULE:FREQ=WEEKLY;INTERVAL=2",
+            "END:VEVENT",
+            "BEGIN:VTODO",
+            "SUMMARY:bad date",
+            "DUE:tomorrow",
+            "END:VTODO",
+            "BEGIN:VTODO",
+            "SUMMARY:valid",
+            "END:VTODO",
+            "END:VCALENDAR");
+
+        assertEquals(1, toDos.size());
+        assertEquals("valid", toDos.get(0).getTitle().value);
+        assertEquals(4, invalidEntries.size());
+        assertEquals("VEVENT 1 at line 2: missing SUMMARY", invalidEntries.get(0));
+        assertTrue(invalidEntries.get(2).contains("INTERVAL=2"));
+        assertEquals("VTODO 4 at line 15: invalid DUE: tomorrow", invalidEntries.get(3));
+    }
+
+    @Test
+    public void read_unsupportedRecurrences_skippedAndReported() throws Exception {
+        read("BEGIN:VCALENDAR",
+            "BEGIN:VEVENT",
+            "SUMMARY:several days a week",
+            "DTSTART:20161007T090000",
+            "RRULE:FREQ=WEEKLY;BYDAY=MO,WE,FR",
+            "END:VEVENT",
+            "BEGIN:VEVENT",
+            "SUMMARY:several days a month",
+            "DTSTART:20161001T090000",
+            "RRULE:FREQ=MONTHLY;BYMONTHDAY=1,15",
+            "END:VEVENT",
+            "BEGIN:VTODO",
+            "SUMMARY:ten times",
+            "DUE:20161007T090000",
+            "RRULE:FREQ=DAILY;COUNT=10",
+            "END:VTODO",
+            "END:VCALENDAR");
+
+        assertTrue(toDos.isEmpty());
+        assertEquals(3, invalidEntries.size());
+        assertTrue(invalidEntries.get(0).contains("BYDAY=MO,WE,FR"));
+        assertTrue(invalidEntries.get(1).contains("BYMONTHDAY=1,15"));
+        assertTrue(invalidEntries.get(2).contains("COUNT=10"));
+    }
+
+    @Test
+    public void read_recurrenceUntilPast_firstOccurrenceOnly() throws Exception {
+        read("BEGIN:VCALENDAR",
+            "BEGIN:VEVENT",
+            "SUMMARY:old meetings",
+            "DTSTART:20101007T090000",
+            "DTEND:20101007T100000",
+            "RRULE:FREQ=WEEKLY;BYDAY=TH;UNTIL=20111231T000000Z",
+            "END:VEVENT",
+            "BEGIN:VTODO",
+            "SUMMARY:old task",
+            "DUE;VALUE=DATE:20101007",
+            "RRULE:FREQ=DAILY;UNTIL=20101010",
+            "END:VTODO",
+            "END:VCALENDAR");
+
+        assertTrue(invalidEntries.isEmpty());
+        DateRange dateRange = toDos.get(0).getDateRange().get();
+        assertEquals(Recurrence.None, dateRange.recurrence);
+        assertEquals(LocalDateTime.of(2010, 10, 7, 9, 0), dateRange.startDate);
+        assertEquals(Recurrence.None, toDos.get(1).getDueDate().get().recurrence);
+    }
+
+    @Test
+    public void read_recurrenceUntilFuture_recurring() throws Exception {
+        read("BEGIN:VCALENDAR",
+            "BEGIN:VEVENT",
+            "SUMMARY:meetings",
+            "DTSTART:20161007T090000",
+            "DTEND:20161007T100000",
+            "RRULE:FREQ=WEEKLY;UNTIL=20991231T000000",
+            "END:VEVENT",
+            "END:VCALENDAR");
+
+        assertTrue(invalidEntries.isEmpty());
+        assertEquals(Recurrence.Weekly, toDos.get(0).getDateRange().get().recurrence);
+    }
+
+    @Test
+    public void read_notICalendar_exceptionThrown() throws Exception {
+        thrown.expect(DataConversionException.class);
+        read("<?xml version=\"1.0\"?>");
+    }
+
+    @Test
+    public void exportThenRead_similarToDos() throws Exception {
+        ToDoList toDoList = new ToDoList()
+            .add(new ToDoBuilder("event; with, escapes\\")
+                .withDateRange(LocalDateTime.of(2016, 3, 1, 20, 1), LocalDateTime.of(2016, 3, 1, 22, 0),
+                    Recurrence.Monthly)
+                .withTags("tag1", "tag 2")
+                .build())
+            .add(new ToDoBuilder("task").withDueDate(LocalDateTime.of(2016, 5, 1, 20, 1), Recurrence.Yearly).build())
+            .add(new ToDoBuilder("plain").build());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new ICalendarToDoListExporter().export(toDoList, out);
+
+        read(new String(out.toByteArray(), StandardCharsets.UTF_8));
+
+        assertTrue(invalidEntries.isEmpty());
+        assertEquals(3, toDos.size());
+        for (int i = 0; i < toDos.size(); i++) {
+            assertTrue(toDos.get(i).isSimilar(toDoList.getToDos().get(i)));
+        }
+    }
+
+    private void read(String... lines) throws Exception {
+        BufferedReader reader = new BufferedReader(new StringReader(String.join("\r\n", lines)));
+        ICalendarFileReader.readEach(reader, (toDo, progress) -> toDos.add(toDo), invalidEntries::add, () -> 0);
+    }
+}
@@ -0,0 +1,233 @@
+package seedu.commando.storage;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.commando.commons.exceptions.IllegalValueException;
+import seedu.commando.model.todo.DateRange;
+import seedu.commando.model.todo.ReadOnlyToDoList;
+import seedu.commando.model.todo.Recurrence;
+import seedu.commando.model.todo.Title;
+import seedu.commando.model.todo.ToDo;
+import seedu.commando.model.todo.ToDoList;
+import seedu.commando.model.todo.ToDoListChange;
+import seedu.commando.testutil.ToDoBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+//@@author A0139697H
+public class JournaledToDoListStorageTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private String filePath;
+    private File journalFile;
+    private ToDoList toDoList;
+
+    @Before
+    public void setUp() throws IOException, IllegalValueException {
+        filePath = new File(folder.getRoot(), "toDoList.xml").getPath();
+        journalFile = new File(filePath + JournaledToDoListStorage.JOURNAL_FILE_EXTENSION);
+        toDoList = new ToDoList()
+            .add(new ToDoBuilder("title1").build())
+            .add(new ToDoBuilder("title2").build());
+    }
+
+    @Test
+    public void readToDoList_changesSaved_changesReplayed() throws Exception {
+        JournaledToDoListStorage storage = createStorage(100);
+        storage.saveToDoList(toDoList);
+
+        addToDo(storage, "title3");
+        deleteToDo(storage, "title1");
+
+        assertTrue(journalFile.exists());
+        assertEquals(toDoList, readWithNewStorage());
+    }
+
+    @Test
+    public void saveToDoListChange_noSnapshot_snapshotSaved() throws Exception {
+        JournaledToDoListStorage storage = createStorage(100);
+        toDoList = new ToDoList();
+
+        addToDo(storage, "title1");
+
+        assertFalse(journalFile.exists());
+        assertEquals(toDoList, new XmlToDoListStorage(filePath).readToDoList().get());
+    }
+
+    @Test
+    public void saveToDoListChange_smallToDoList_snapshotSaved() throws Exception {
+        JournaledToDoListStorage storage = new JournaledToDoListStorage(new XmlToDoListStorage(filePath), 100, 4);
+        storage.saveToDoList(toDoList);
+
+        addToDo(storage, "title3");
+        assertFalse(journalFile.exists());
+
+        addToDo(storage, "title4");
+        assertTrue(journalFile.exists());
+        assertEquals(toDoList, readWithNewStorage());
+    }
+
+    @Test
+    public void saveToDoListChanges_multipleChanges_allReplayed() throws Exception {
+        JournaledToDoListStorage storage = createStorage(100);
+        storage.saveToDoList(toDoList);
+
+        ToDoList added = new ToDoList().add(new ToDoBuilder("title3").build());
+        ToDoList deleted = new ToDoList().add(new ToDoBuilder("title1").build());
+        toDoList.add(added).remove(deleted);
+        storage.saveToDoListChanges(Arrays.asList(
+            new ToDoListChange(added, new ToDoList()),
+            new ToDoListChange(new ToDoList(), deleted)
+        ), toDoList);
+
+        assertEquals(toDoList, readWithNewStorage());
+    }
+
+    @Test
+    public void readToDoList_truncatedJournal_validChangesReplayed() throws Exception {
+        JournaledToDoListStorage storage = createStorage(100);
+        storage.saveToDoList(toDoList);
+
+        addToDo(storage, "title3");
+        ToDoList expected = new ToDoList(toDoList);
+        long validLength = journalFile.length();
+        addToDo(storage, "title4");
+
+        // Cut the last change off halfway, as if the app exited while appending it
+        try (RandomAccessFile journal = new RandomAccessFile(journalFile, "rw")) {
+            journal.setLength(validLength + (journal.length() - validLength) / 2);
+        }
+
+        assertEquals(expected, readWithNewStorage());
+    }
+
+    @Test
+    public void saveToDoListChange_afterTruncatedJournal_tailOverwritten() throws Exception {
+        JournaledToDoListStorage storage = createStorage(100);
+        storage.saveToDoList(toDoList);
+        addToDo(storage, "title3");
+
+        try (RandomAccessFile journal = new RandomAccessFile(journalFile, "rw")) {
+            journal.setLength(journal.length() - 1);
+        }
+
+        // Reading finds where the valid changes end, and the next change is appended there
+        JournaledToDoListStorage newStorage = createStorage(100);
+        toDoList = new ToDoList(newStorage.readToDoList().get());
+        addToDo(newStorage, "title4");
+
+        assertEquals(toDoList, readWithNewStorage());
+    }
+
+    @Test
+    public void saveToDoListChange_thresholdReached_journalCompacted() throws Exception {
+        JournaledToDoListStorage storage = createStorage(3);
+        storage.saveToDoList(toDoList);
+
+        addToDo(storage, "title3");
+        addToDo(storage, "title4");
+        addToDo(storage, "title5");
+        storage.awaitCompaction();
+
+        assertEquals(0, journalFile.length());
+        assertEquals(toDoList, new XmlToDoListStorage(filePath).readToDoList().get());
+
+        addToDo(storage, "title6");
+
+        assertTrue(journalFile.length() > 0);
+        assertEquals(toDoList, readWithNewStorage());
+    }
+
+    @Test
+    public void saveToDoList_afterChanges_journalCleared() throws Exception {
+        JournaledToDoListStorage storage = createStorage(100);
+        storage.saveToDoList(toDoList);
+        addToDo(storage, "title3");
+        assertTrue(journalFile.exists());
+
+        storage.saveToDoList(toDoList);
+
+        assertFalse(journalFile.exists());
+        assertEquals(toDoList, readWithNewStorage());
+    }
+
+    @Test
+    public void saveToDoListChange_afterFailedAppend_snapshotSaved() throws Exception {
+        JournaledToDoListStorage storage = createStorage(100);
+        storage.saveToDoList(toDoList);
+
+        // A directory in place of the journal fails the append
+        assertTrue(journalFile.mkdir());
+        try {
+            addToDo(storage, "title3");
+            fail();
+        } catch (IOException exception) {
+            // expected
+        }
+        assertTrue(journalFile.delete());
+
+        addToDo(storage, "title4");
+
+        assertFalse(journalFile.exists());
+        assertEquals(toDoList, readWithNewStorage());
+    }
+
+    @Test
+    public void readToDoList_recurringToDoEditedWithOtherDates_replayedById() throws Exception {
+        LocalDateTime startDate = LocalDateTime.of(2099, 1, 1, 10, 0);
+        ToDo recurringToDo = new ToDoBuilder("recurring")
+            .withDateRange(startDate, startDate.plusHours(1), Recurrence.Weekly).build();
+        toDoList.add(recurringToDo);
+        JournaledToDoListStorage storage = createStorage(100);
+        storage.saveToDoList(toDoList);
+
+        // Edited when its dates were read a week later than they are now, e.g. after it advanced
+        ToDo advancedToDo = new ToDo(recurringToDo).setDateRange(
+            new DateRange(startDate.plusWeeks(1), startDate.plusWeeks(1).plusHours(1), Recurrence.Weekly));
+        ToDo editedToDo = new ToDo(advancedToDo).setTitle(new Title("edited"));
+        ToDoListChange change = new ToDoListChange(new ToDoList().add(editedToDo), new ToDoList().add(advancedToDo));
+        toDoList.change(new ToDoList().add(recurringToDo), new ToDoList().add(editedToDo));
+        storage.saveToDoListChanges(Collections.singletonList(change), toDoList);
+
+        ReadOnlyToDoList readToDoList = readWithNewStorage();
+        assertEquals(toDoList, readToDoList);
+        assertEquals(recurringToDo.getId(), readToDoList.getToDos().get(2).getId());
+    }
+
+    private JournaledToDoListStorage createStorage(int compactionThreshold) {
+        return new JournaledToDoListStorage(new XmlToDoListStorage(filePath), compactionThreshold, 0);
+    }
+
+    private ReadOnlyToDoList readWithNewStorage() throws Exception {
+        Optional<ReadOnlyToDoList> readToDoList = createStorage(100).readToDoList();
+        assertTrue(readToDoList.isPresent());
+        return new ToDoList(readToDoList.get());
+    }
+
+    private void addToDo(JournaledToDoListStorage storage, String title) throws Exception {
+        ToDoList added = new ToDoList().add(new ToDoBuilder(title).build());
+        toDoList.add(added);
+        storage.saveToDoListChanges(Collections.singletonList(new ToDoListChange(added, new ToDoList())), toDoList);
+    }
+
+    private void deleteToDo(JournaledToDoListStorage storage, String title) throws Exception {
+        ToDoList deleted = new ToDoList().add(new ToDoBuilder(title).build());
+        toDoList.remove(deleted);
+        storage.saveToDoListChanges(Collections.singletonList(new ToDoListChange(new ToDoList(), deleted)), toDoList);
+    }
+}
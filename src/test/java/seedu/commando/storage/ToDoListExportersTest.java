@@ -0,0 +1,136 @@
+package seedu.commando.storage;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import seedu.commando.model.todo.ReadOnlyToDoList;
+import seedu.commando.model.todo.Recurrence;
+import seedu.commando.model.todo.ToDoList;
+import seedu.commando.testutil.ToDoBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+//@@author A0139697H
+public class ToDoListExportersTest {
+
+    @Test
+    public void forFilePath_extensions_matchingExporter() {
+        assertEquals(".json", ToDoListExporters.forFilePath("data/toDoList.JSON").getFileExtension());
+        assertEquals(".csv", ToDoListExporters.forFilePath("toDoList.csv").getFileExtension());
+        assertEquals(".ics", ToDoListExporters.forFilePath("toDoList.ics").getFileExtension());
+        assertEquals(".bin", ToDoListExporters.forFilePath("toDoList.bin").getFileExtension());
+        assertEquals(".xml", ToDoListExporters.forFilePath("toDoList").getFileExtension());
+    }
+
+    @Test
+    public void exportXml_sameAsToDoListFile() throws Exception {
+        ToDoList toDoList = getSample();
+
+        assertArrayEquals(XmlFileStorage.convertDataToXml(toDoList), export("toDoList.xml", toDoList));
+    }
+
+    @Test
+    public void exportJson_readBack_sameFields() throws Exception {
+        JsonNode toDos = new ObjectMapper().readTree(export("toDoList.json", getSample())).get("toDos");
+
+        assertEquals(4, toDos.size());
+        assertEquals("event, \"quoted\"", toDos.get(0).get("title").asText());
+        assertEquals("2016-03-01T20:01:00", toDos.get(0).get("dateRangeStart").asText());
+        assertEquals("None", toDos.get(0).get("dateRangeRecurrence").asText());
+        assertEquals("Weekly", toDos.get(2).get("dueDateRecurrence").asText());
+        assertEquals("tag1", toDos.get(0).get("tags").get(0).asText());
+        assertEquals("2016-05-01T20:01:00", toDos.get(1).get("dueDate").asText());
+        assertEquals("2016-05-02T09:30:00", toDos.get(1).get("dateFinished").asText());
+        assertFalse(toDos.get(3).has("dueDate"));
+    }
+
+    @Test
+    public void exportCsv_specialCharacters_quoted() throws Exception {
+        String csv = new String(export("toDoList.csv", getSample()), StandardCharsets.UTF_8);
+        String[] rows = csv.split("\r\n");
+
+        assertEquals(5, rows.length);
+        assertEquals("title,dueDate,dueDateRecurrence,dateRangeStart,dateRangeEnd,dateRangeRecurrence,"
+            + "dateCreated,dateFinished,tags", rows[0]);
+        assertEquals("\"event, \"\"quoted\"\"\",,,2016-03-01T20:01:00,2016-04-01T20:01:00,None,"
+            + "2016-01-01T08:00:00,2016-04-01T20:01:00,tag1 tag2", rows[1]);
+        assertEquals("plain,,,,,,2016-01-03T08:00:00,,", rows[4]);
+    }
+
+    @Test
+    public void exportICalendar_toDos_eventsAndTasksWithRecurrenceRules() throws Exception {
+        String ics = new String(export("toDoList.ics", getSample()), StandardCharsets.UTF_8);
+
+        assertTrue(ics.startsWith("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n"));
+        assertTrue(ics.endsWith("END:VCALENDAR\r\n"));
+        assertTrue(ics.contains("BEGIN:VEVENT\r\n"));
+        assertTrue(ics.contains("SUMMARY:event\\, \"quoted\"\r\n"));
+        assertTrue(ics.contains("DTSTART:20160301T200100\r\nDTEND:20160401T200100\r\nCATEGORIES:tag1,tag2\r\n"));
+        assertTrue(ics.contains("DUE:20160501T200100\r\nSTATUS:COMPLETED\r\n"));
+        assertTrue(ics.contains("DUE:20160501T200100\r\nRRULE:FREQ=WEEKLY\r\nSTATUS:NEEDS-ACTION\r\n"));
+        assertTrue(ics.contains("SUMMARY:plain\r\nSTATUS:NEEDS-ACTION\r\n"));
+        assertEquals(3, ics.split("BEGIN:VTODO").length - 1);
+    }
+
+    @Test
+    public void getRecurrenceRule_allRecurrences() {
+        assertEquals("FREQ=DAILY", ICalendarToDoListExporter.getRecurrenceRule(Recurrence.Daily));
+        assertEquals("FREQ=WEEKLY", ICalendarToDoListExporter.getRecurrenceRule(Recurrence.Weekly));
+        assertEquals("FREQ=MONTHLY", ICalendarToDoListExporter.getRecurrenceRule(Recurrence.Monthly));
+        assertEquals("FREQ=YEARLY", ICalendarToDoListExporter.getRecurrenceRule(Recurrence.Yearly));
+    }
+
+    @Test
+    public void writeLine_longLine_foldedWithoutSplittingCharacters() throws IOException {
+        StringWriter writer = new StringWriter();
+        String line = "SUMMARY:" + new String(new char[60]).replace("\0", "中");
+
+        ICalendarToDoListExporter.writeLine(writer, line);
+
+        String[] lines = writer.toString().split("\r\n");
+        assertEquals(3, lines.length);
+        for (String folded : lines) {
+            assertTrue(folded.getBytes(StandardCharsets.UTF_8).length <= 75);
+        }
+        assertTrue(lines[1].startsWith(" "));
+        assertEquals(line, lines[0] + lines[1].substring(1) + lines[2].substring(1));
+    }
+
+    private static byte[] export(String filePath, ReadOnlyToDoList toDoList) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ToDoListExporters.forFilePath(filePath).export(toDoList, out);
+        return out.toByteArray();
+    }
+
+    private static ToDoList getSample() throws Exception {
+        return new ToDoList()
+            .add(new ToDoBuilder("event, \"quoted\"")
+                .withTags("tag2", "tag1")
+                .withDateRange(LocalDateTime.of(2016, 3, 1, 20, 1), LocalDateTime.of(2016, 4, 1, 20, 1))
+                .created(LocalDateTime.of(2016, 1, 1, 8, 0))
+                .build())
+            .add(new ToDoBuilder("task")
+                .withDueDate(LocalDateTime.of(2016, 5, 1, 20, 1))
+                .created(LocalDateTime.of(2016, 1, 2, 8, 0))
+                .finish(LocalDateTime.of(2016, 5, 2, 9, 30))
+                .build())
+            .add(new ToDoBuilder("weekly")
+                .withDueDate(LocalDateTime.of(2016, 5, 1, 20, 1), Recurrence.Weekly)
+                .created(LocalDateTime.of(2016, 1, 4, 8, 0))
+                .build())
+            .add(new ToDoBuilder("plain")
+                .created(LocalDateTime.of(2016, 1, 3, 8, 0))
+                .build());
+    }
+}
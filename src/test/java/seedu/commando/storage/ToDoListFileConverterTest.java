@@ -0,0 +1,76 @@
+package seedu.commando.storage;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.commando.model.todo.Recurrence;
+import seedu.commando.model.todo.ToDoList;
+import seedu.commando.testutil.ToDoBuilder;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+//@@author A0139697H
+public class ToDoListFileConverterTest {
+    private static final String TEST_DATA_FOLDER = "./src/test/data/XmlToDoListStorageTest/";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void convertXmlToBinaryAndBack_sameXml() throws Exception {
+        File xmlFile = folder.newFile("toDoList.xml");
+        File binaryFile = new File(folder.getRoot(), "toDoList.bin");
+        File convertedXmlFile = new File(folder.getRoot(), "converted.xml");
+
+        ToDoList toDoList = new ToDoList()
+            .add(new ToDoBuilder("escaped & <title>").withTags("a", "b&c").build())
+            .add(new ToDoBuilder("due")
+                .withDueDate(LocalDateTime.of(2016, 10, 7, 12, 30), Recurrence.Yearly)
+                .finish(LocalDateTime.of(2016, 10, 8, 9, 0))
+                .build())
+            .add(new ToDoBuilder("event")
+                .withDateRange(LocalDateTime.of(2016, 10, 7, 9, 0), LocalDateTime.of(2016, 10, 7, 10, 0),
+                    Recurrence.Daily)
+                .withTags("a")
+                .build());
+        XmlFileStorage.saveDataToFile(xmlFile, toDoList);
+
+        ToDoListFileConverter.convertXmlToBinary(xmlFile, binaryFile);
+        ToDoListFileConverter.convertBinaryToXml(binaryFile, convertedXmlFile);
+
+        assertArrayEquals(Files.readAllBytes(xmlFile.toPath()), Files.readAllBytes(convertedXmlFile.toPath()));
+    }
+
+    @Test
+    public void convertBinaryToXmlAndBack_sameBinary() throws Exception {
+        File xmlFile = new File(folder.getRoot(), "toDoList.xml");
+        File binaryFile = new File(folder.getRoot(), "toDoList.bin");
+        File convertedBinaryFile = new File(folder.getRoot(), "converted.bin");
+
+        ToDoList toDoList = new ToDoList()
+            .add(new ToDoBuilder("title").withTags("tag").created(LocalDateTime.of(2016, 1, 1, 0, 0, 1)).build());
+        BinaryFileStorage.saveDataToFile(binaryFile, toDoList);
+
+        ToDoListFileConverter.convertBinaryToXml(binaryFile, xmlFile);
+        ToDoListFileConverter.convertXmlToBinary(xmlFile, convertedBinaryFile);
+
+        assertArrayEquals(Files.readAllBytes(binaryFile.toPath()), Files.readAllBytes(convertedBinaryFile.toPath()));
+        assertEquals(toDoList, BinaryFileStorage.loadDataFromSaveFile(convertedBinaryFile));
+    }
+
+    @Test
+    public void convertXmlToBinary_sampleData_sameToDoList() throws Exception {
+        File xmlFile = new File(TEST_DATA_FOLDER + "InvalidDataFormats.xml");
+        File binaryFile = new File(folder.getRoot(), "toDoList.bin");
+
+        ToDoListFileConverter.convertXmlToBinary(xmlFile, binaryFile);
+
+        assertEquals(XmlFileStorage.loadDataFromSaveFile(xmlFile), BinaryFileStorage.loadDataFromSaveFile(binaryFile));
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.commando.storage;
+
+import org.junit.Test;
+
+import seedu.commando.commons.exceptions.IllegalValueException;
+import seedu.commando.model.todo.ToDoList;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+//@@author A0139697H
+public class XmlAdaptedToDoConverterTest {
+
+    @Test
+    public void convert_manyChunks_sameOrder() throws Exception {
+        List<XmlAdaptedToDo> records = new ArrayList<>();
+        int size = XmlAdaptedToDoConverter.CHUNK_SIZE * 5 + 7;
+        for (int i = 0; i < size; i++) {
+            records.add(createRecord("title " + i, "2016-10-07 12:30:00"));
+        }
+
+        ToDoList toDoList = XmlAdaptedToDoConverter.convert(records);
+
+        assertEquals(size, toDoList.getToDos().size());
+        for (int i = 0; i < size; i++) {
+            assertEquals("title " + i, toDoList.getToDos().get(i).getTitle().value);
+            assertEquals(LocalDateTime.of(2016, 10, 7, 12, 30), toDoList.getToDos().get(i).getDueDate().get().value);
+        }
+    }
+
+    @Test
+    public void convert_invalidValues_ignored() throws Exception {
+        ToDoList toDoList = XmlAdaptedToDoConverter.convert(Collections.singletonList(
+            createRecord("title", "not a date")));
+
+        assertEquals(1, toDoList.getToDos().size());
+        assertFalse(toDoList.getToDos().get(0).getDueDate().isPresent());
+    }
+
+    @Test
+    public void summarize_moreMessagesThanKept_countReported() {
+        List<String> messages = new ArrayList<>();
+        for (int i = 0; i < XmlAdaptedToDoConverter.MAX_REPORTED_MESSAGES; i++) {
+            messages.add("message " + i);
+        }
+
+        String summary = XmlAdaptedToDoConverter.summarize(messages,
+            XmlAdaptedToDoConverter.MAX_REPORTED_MESSAGES + 1000);
+
+        assertTrue(summary.startsWith("message 0; message 1; "));
+        assertTrue(summary.endsWith("; and 1000 more"));
+    }
+
+    @Test
+    public void convert_invalidRecords_allReported() {
+        List<XmlAdaptedToDo> records = new ArrayList<>();
+        for (int i = 0; i < XmlAdaptedToDoConverter.CHUNK_SIZE * 2; i++) {
+            records.add(createRecord("title " + i, null));
+        }
+        records.set(2, createRecord(null, null));
+        records.set(XmlAdaptedToDoConverter.CHUNK_SIZE + 5, createRecord(null, null));
+        records.add(createRecord("title 0", null));
+
+        try {
+            XmlAdaptedToDoConverter.convert(records);
+            fail("Invalid records should not be converted");
+        } catch (IllegalValueException exception) {
+            String message = exception.getMessage();
+            assertTrue(message, message.startsWith("3 invalid to-dos"));
+            assertTrue(message, message.contains("to-do 3: "));
+            assertTrue(message, message.contains("to-do " + (XmlAdaptedToDoConverter.CHUNK_SIZE + 6) + ": "));
+            assertTrue(message, message.contains("to-do " + records.size() + ": "));
+        }
+    }
+
+    private XmlAdaptedToDo createRecord(String title, String dueDate) {
+        return new XmlAdaptedToDo(title, dueDate, null, null, "2016-01-01 00:00:00", null, null, null, null, null);
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.commando.storage;
+
+import seedu.commando.commons.util.XmlUtil;
+import seedu.commando.model.todo.Recurrence;
+import seedu.commando.model.todo.ToDoList;
+import seedu.commando.testutil.Benchmark;
+import seedu.commando.testutil.ToDoBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Random;
+
+//@@author A0139697H
+
+/**
+ * Benchmarks loading and saving to-do lists in XML, comparing JAXB against {@link XmlToDoListStreamCodec},
+ * at 100k to-dos. Memory is measured as bytes allocated by the loading thread.
+ * Not a test, run with {@code main}.
+ */
+public class XmlToDoListStreamCodecBenchmark {
+    private static final int SIZE = 100_000;
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 5;
+
+    public static void main(String[] args) throws Exception {
+        ToDoList toDoList = generateToDoList(SIZE, new Random(SIZE));
+        byte[] xml = XmlUtil.convertDataToXml(new XmlSerializableToDoList(toDoList));
+
+        // Sanity check that both give the same bytes and to-dos
+        if (!Arrays.equals(xml, writeWithStax(toDoList))) {
+            throw new AssertionError("Written XML differs");
+        }
+        if (!readWithJaxb(xml).equals(readWithStax(xml))) {
+            throw new AssertionError("Read to-do lists differ");
+        }
+
+        Benchmark benchmark = new Benchmark(WARMUP_RUNS, MEASURED_RUNS);
+        String size = String.format("%,d to-dos, %,d bytes of XML", SIZE, xml.length);
+        benchmark.compare("load " + size,
+            "JAXB", () -> readWithJaxb(xml),
+            "StAX", () -> readWithStax(xml));
+        benchmark.compare("save " + size,
+            "JAXB", () -> XmlUtil.convertDataToXml(new XmlSerializableToDoList(toDoList)),
+            "StAX", () -> writeWithStax(toDoList));
+    }
+
+    private static ToDoList readWithJaxb(byte[] xml) throws Exception {
+        XmlSerializableToDoList xmlToDoList = (XmlSerializableToDoList) XmlUtil
+            .getContext(XmlSerializableToDoList.class).createUnmarshaller().unmarshal(new ByteArrayInputStream(xml));
+        return new ToDoList(xmlToDoList.getToDos());
+    }
+
+    private static ToDoList readWithStax(byte[] xml) throws Exception {
+        return XmlToDoListStreamCodec.read(new ByteArrayInputStream(xml));
+    }
+
+    private static byte[] writeWithStax(ToDoList toDoList) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        XmlToDoListStreamCodec.write(toDoList, out);
+        return out.toByteArray();
+    }
+
+    private static ToDoList generateToDoList(int size, Random random) throws Exception {
+        LocalDateTime start = LocalDateTime.of(2016, 1, 1, 0, 0);
+        ToDoList toDoList = new ToDoList();
+
+        for (int i = 0; i < size; i++) {
+            ToDoBuilder builder = new ToDoBuilder("to-do " + i)
+                .withTags("tag" + random.nextInt(20), "tag" + random.nextInt(20))
+                .created(start.minusMinutes(random.nextInt(100000)));
+
+            if (random.nextBoolean()) {
+                builder.withDueDate(start.plusMinutes(random.nextInt(500000)), Recurrence.None);
+            } else {
+                LocalDateTime startDate = start.plusMinutes(random.nextInt(500000));
+                builder.withDateRange(startDate, startDate.plusHours(1 + random.nextInt(5)));
+            }
+
+            if (random.nextInt(3) == 0) {
+                builder.finish(start.plusMinutes(random.nextInt(500000)));
+            }
+
+            toDoList.add(builder.build());
+        }
+
+        return toDoList;
+    }
+}
@@ -0,0 +1,177 @@
+package seedu.commando.storage;
+
+import org.junit.Test;
+
+import seedu.commando.commons.exceptions.DataConversionException;
+import seedu.commando.commons.util.XmlUtil;
+import seedu.commando.model.todo.Recurrence;
+import seedu.commando.model.todo.ToDoList;
+import seedu.commando.testutil.ToDoBuilder;
+
+import javax.xml.bind.JAXBContext;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+//@@author A0139697H
+public class XmlToDoListStreamCodecTest {
+    private static final String TEST_DATA_FOLDER = "./src/test/data/XmlToDoListStorageTest/";
+
+    @Test
+    public void write_toDoList_sameAsJaxb() throws Exception {
+        ToDoList toDoList = new ToDoList()
+            .add(new ToDoBuilder("plain").build())
+            .add(new ToDoBuilder("escaped & <tags> \"quoted\" 'single' é中")
+                .withTags("a&b", "<c>", "d", "e", "f")
+                .build())
+            .add(new ToDoBuilder("due")
+                .withDueDate(LocalDateTime.of(2016, 10, 7, 12, 30), Recurrence.Weekly)
+                .finish(LocalDateTime.of(2016, 10, 8, 9, 0))
+                .build())
+            .add(new ToDoBuilder("event")
+                .withDateRange(LocalDateTime.of(2016, 10, 7, 9, 0), LocalDateTime.of(2016, 10, 7, 10, 0))
+                .withTags("tag")
+                .build());
+
+        assertArrayEquals(XmlUtil.convertDataToXml(new XmlSerializableToDoList(toDoList)), write(toDoList));
+    }
+
+    @Test
+    public void write_emptyToDoList_sameAsJaxb() throws Exception {
+        ToDoList toDoList = new ToDoList();
+
+        assertArrayEquals(XmlUtil.convertDataToXml(new XmlSerializableToDoList(toDoList)), write(toDoList));
+    }
+
+    @Test
+    public void read_writtenByJaxb_sameAsJaxb() throws Exception {
+        ToDoList toDoList = new ToDoList()
+            .add(new ToDoBuilder("title1").withTags("tag1", "tag2").build())
+            .add(new ToDoBuilder("title2")
+                .withDateRange(LocalDateTime.of(2016, 1, 1, 9, 0), LocalDateTime.of(2016, 1, 1, 10, 0),
+                    Recurrence.Monthly)
+                .build());
+        byte[] xml = XmlUtil.convertDataToXml(new XmlSerializableToDoList(toDoList));
+
+        assertEquals(readWithJaxb(new ByteArrayInputStream(xml)), read(xml));
+    }
+
+    @Test
+    public void read_invalidDateFormats_sameAsJaxb() throws Exception {
+        String filePath = TEST_DATA_FOLDER + "InvalidDataFormats.xml";
+
+        try (InputStream jaxbIn = new FileInputStream(filePath); InputStream in = new FileInputStream(filePath)) {
+            ToDoList toDoList = XmlToDoListStreamCodec.read(in);
+
+            assertEquals(2, toDoList.getToDos().size());
+            assertEquals(readWithJaxb(jaxbIn), toDoList);
+        }
+    }
+
+    @Test
+    public void read_unknownElements_skipped() throws Exception {
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
+            + "<todolist>\n"
+            + "    <unknown><nested>value</nested></unknown>\n"
+            + "    <toDos>\n"
+            + "        <!-- comment -->\n"
+            + "        <title>title</title>\n"
+            + "        <unknown><nested/></unknown>\n"
+            + "        <tagged>tag</tagged>\n"
+            + "    </toDos>\n"
+            + "</todolist>\n";
+
+        ToDoList toDoList = read(xml.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(1, toDoList.getToDos().size());
+        assertEquals("title", toDoList.getToDos().get(0).getTitle().value);
+        assertEquals(1, toDoList.getToDos().get(0).getTags().size());
+    }
+
+    @Test(expected = DataConversionException.class)
+    public void read_notXmlFormat_exceptionThrown() throws Exception {
+        try (InputStream in = new FileInputStream(TEST_DATA_FOLDER + "NotXmlFormat.xml")) {
+            XmlToDoListStreamCodec.read(in);
+        }
+    }
+
+    @Test(expected = DataConversionException.class)
+    public void read_wrongRootElement_exceptionThrown() throws Exception {
+        read("<addressbook></addressbook>".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void readAndWrite_toDoList_noModifications() throws Exception {
+        ToDoList toDoList = new ToDoList()
+            .add(new ToDoBuilder("title1").withTags("tag1").build())
+            .add(new ToDoBuilder("title2")
+                .withDueDate(LocalDateTime.of(2016, 10, 7, 12, 30))
+                .build());
+
+        ToDoList readBack = read(write(toDoList));
+
+        assertTrue(toDoList.isSimilar(readBack));
+        assertFalse(readBack.getToDos().get(1).getDateRange().isPresent());
+    }
+
+    private byte[] write(ToDoList toDoList) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        XmlToDoListStreamCodec.write(toDoList, out);
+        return out.toByteArray();
+    }
+
+    private ToDoList read(byte[] xml) throws Exception {
+        return XmlToDoListStreamCodec.read(new ByteArrayInputStream(xml));
+    }
+
+    private ToDoList readWithJaxb(InputStream in) throws Exception {
+        XmlSerializableToDoList xmlToDoList = (XmlSerializableToDoList) JAXBContext
+            .newInstance(XmlSerializableToDoList.class).createUnmarshaller().unmarshal(in);
+        return new ToDoList(xmlToDoList.getToDos());
+    }
+
+    @Test
+    public void readAndWrite_toDoList_idsKept() throws Exception {
+        ToDoList toDoList = new ToDoList()
+            .add(new ToDoBuilder("title1").build())
+            .add(new ToDoBuilder("title2").build());
+
+        ToDoList readBack = read(write(toDoList));
+
+        assertEquals(toDoList.getToDos().get(0).getId(), readBack.getToDos().get(0).getId());
+        assertEquals(toDoList.getToDos().get(1).getId(), readBack.getToDos().get(1).getId());
+    }
+
+    @Test
+    public void read_missingOrInvalidIds_newIds() throws Exception {
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
+            + "<todolist>\n"
+            + "    <toDos>\n"
+            + "        <title>title1</title>\n"
+            + "    </toDos>\n"
+            + "    <toDos>\n"
+            + "        <title>title2</title>\n"
+            + "        <id>not a number</id>\n"
+            + "    </toDos>\n"
+            + "    <toDos>\n"
+            + "        <title>title3</title>\n"
+            + "        <id>-42</id>\n"
+            + "    </toDos>\n"
+            + "</todolist>\n";
+
+        ToDoList toDoList = read(xml.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(3, toDoList.getToDos().size());
+        assertNotEquals(toDoList.getToDos().get(0).getId(), toDoList.getToDos().get(1).getId());
+        assertEquals(-42, toDoList.getToDos().get(2).getId());
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.commando.testutil;
+
+import java.lang.management.ManagementFactory;
+
+//@@author A0139697H
+
+/**
+ * Times code before and after an optimization, for the benchmarks under src/test.
+ * The benchmarks are run with their {@code main} methods, not as tests, so they are kept out of the test run.
+ */
+public class Benchmark {
+    private final int warmupRuns;
+    private final int measuredRuns;
+
+    /**
+     * Code to measure, whose result is ignored.
+     */
+    @FunctionalInterface
+    public interface Code {
+        void run() throws Exception;
+    }
+
+    /**
+     * Average time and memory allocated per run of some code.
+     */
+    private static class Result {
+        private final double millis;
+        private final double megabytesAllocated;
+
+        private Result(double millis, double megabytesAllocated) {
+            this.millis = millis;
+            this.megabytesAllocated = megabytesAllocated;
+        }
+    }
+
+    /**
+     * @param warmupRuns   times code is run before it is measured, so it is compiled
+     * @param measuredRuns times code is run to average its time and memory allocated over
+     */
+    public Benchmark(int warmupRuns, int measuredRuns) {
+        assert warmupRuns >= 0 && measuredRuns > 0;
+
+        this.warmupRuns = warmupRuns;
+        this.measuredRuns = measuredRuns;
+    }
+
+    /**
+     * Measures {@param before} and {@param after}, then prints both results and the speedup
+     * on a line starting with {@param label}.
+     */
+    public void compare(String label, String beforeName, Code before, String afterName, Code after)
+        throws Exception {
+        Result beforeResult = measure(before);
+        Result afterResult = measure(after);
+
+        System.out.printf("%s: %s %.3f ms, %.1f MB allocated; %s %.3f ms, %.1f MB allocated (%.1fx faster)%n",
+            label, beforeName, beforeResult.millis, beforeResult.megabytesAllocated,
+            afterName, afterResult.millis, afterResult.megabytesAllocated,
+            beforeResult.millis / afterResult.millis);
+    }
+
+    /**
+     * Runs {@param code} for the warm-up runs, then measures it over the measured runs.
+     * Memory allocated is counted for the current thread only.
+     */
+    private Result measure(Code code) throws Exception {
+        for (int i = 0; i < warmupRuns; i++) {
+            code.run();
+        }
+
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long startBytes = threads.getThreadAllocatedBytes(threadId);
+        long startTime = System.nanoTime();
+        for (int i = 0; i < measuredRuns; i++) {
+            code.run();
+        }
+        long totalNanos = System.nanoTime() - startTime;
+        long totalBytes = threads.getThreadAllocatedBytes(threadId) - startBytes;
+
+        return new Result(totalNanos / 1e6 / measuredRuns, totalBytes / 1024.0 / 1024.0 / measuredRuns);
+    }
+}